@@ -22,6 +22,8 @@ package org.apache.airavata.api.server.handler;
 import org.apache.airavata.accountprovisioning.*;
 import org.apache.airavata.api.Airavata;
 import org.apache.airavata.api.airavata_apiConstants;
+import org.apache.airavata.api.server.listener.StatusChangeSubscriptions;
+import org.apache.airavata.api.server.listener.WaitingReadsExceededException;
 import org.apache.airavata.common.utils.ThriftClientPool;
 import org.apache.airavata.common.exception.AiravataException;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
@@ -65,6 +67,7 @@ import org.apache.airavata.model.group.ResourceType;
 import org.apache.airavata.model.job.JobModel;
 import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
 import org.apache.airavata.model.messaging.event.ExperimentSubmitEvent;
+import org.apache.airavata.model.messaging.event.Message;
 import org.apache.airavata.model.messaging.event.MessageType;
 import org.apache.airavata.model.scheduling.ComputationalResourceSchedulingModel;
 import org.apache.airavata.model.security.AuthzToken;
@@ -93,6 +96,7 @@ public class AiravataServerHandler implements Airavata.Iface {
     private static final Logger logger = LoggerFactory.getLogger(AiravataServerHandler.class);
     private Publisher statusPublisher;
     private Publisher experimentPublisher;
+    private StatusChangeSubscriptions statusChangeSubscriptions;
 
     private ThriftClientPool<SharingRegistryService.Client> sharingClientPool;
     private ThriftClientPool<RegistryService.Client> registryClientPool;
@@ -124,6 +128,9 @@ public class AiravataServerHandler implements Airavata.Iface {
 
             initSharingRegistry();
             postInitDefaultGateway();
+
+            statusChangeSubscriptions = new StatusChangeSubscriptions(this::getExperimentOwner);
+            MessagingFactory.getSubscriber(statusChangeSubscriptions, Collections.singletonList("#"), Type.STATUS);
         } catch (ApplicationSettingsException e) {
             logger.error("Error occured while reading airavata-server properties..", e);
         } catch (AiravataException e) {
@@ -1768,6 +1775,98 @@ public class AiravataServerHandler implements Airavata.Iface {
         }
     }
 
+    @Override
+    @SecurityCheck
+    public String getLatestGatewayStatusChangeId(AuthzToken authzToken, String gatewayId) throws InvalidRequestException,
+            AiravataClientException, AiravataSystemException, AuthorizationException, TException {
+        checkStatusChangeGateway(authzToken, gatewayId);
+        return statusChangeSubscriptions.getLatestGatewayChangeId(gatewayId);
+    }
+
+    /**
+     * Status changes are read from the status exchange by {@link StatusChangeSubscriptions}. Waiting for a change
+     * holds a server thread, so the wait time and the number of waiting reads are capped there.
+     */
+    @Override
+    @SecurityCheck
+    public List<Message> getGatewayStatusChanges(AuthzToken authzToken, String gatewayId, String afterStatusChangeId,
+                                                 int maxChanges, int waitTimeMillis) throws InvalidRequestException,
+            AiravataClientException, AiravataSystemException, AuthorizationException, TException {
+        checkStatusChangeGateway(authzToken, gatewayId);
+        try {
+            return statusChangeSubscriptions.readGatewayChanges(gatewayId, afterStatusChangeId, maxChanges, waitTimeMillis);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        } catch (WaitingReadsExceededException e) {
+            throw waitingReadsExceeded(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Interrupted while waiting for status changes of gateway " + gatewayId);
+            throw exception;
+        }
+    }
+
+    @Override
+    @SecurityCheck
+    public String getLatestUserStatusChangeId(AuthzToken authzToken, String gatewayId) throws InvalidRequestException,
+            AiravataClientException, AiravataSystemException, AuthorizationException, TException {
+        checkStatusChangeGateway(authzToken, gatewayId);
+        String userName = authzToken.getClaimsMap().get(Constants.USER_NAME);
+        return statusChangeSubscriptions.getLatestUserChangeId(gatewayId, userName);
+    }
+
+    @Override
+    @SecurityCheck
+    public List<Message> getUserStatusChanges(AuthzToken authzToken, String gatewayId, String afterStatusChangeId,
+                                              int maxChanges, int waitTimeMillis) throws InvalidRequestException,
+            AiravataClientException, AiravataSystemException, AuthorizationException, TException {
+        checkStatusChangeGateway(authzToken, gatewayId);
+        String userName = authzToken.getClaimsMap().get(Constants.USER_NAME);
+        try {
+            return statusChangeSubscriptions.readUserChanges(gatewayId, userName, afterStatusChangeId, maxChanges,
+                    waitTimeMillis);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        } catch (WaitingReadsExceededException e) {
+            throw waitingReadsExceeded(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            AiravataSystemException exception = new AiravataSystemException();
+            exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+            exception.setMessage("Interrupted while waiting for status changes of user " + userName);
+            throw exception;
+        }
+    }
+
+    private AiravataSystemException waitingReadsExceeded(WaitingReadsExceededException e) {
+        logger.debug(e.getMessage());
+        AiravataSystemException exception = new AiravataSystemException();
+        exception.setAiravataErrorType(AiravataErrorType.INTERNAL_ERROR);
+        exception.setMessage(e.getMessage());
+        return exception;
+    }
+
+    private void checkStatusChangeGateway(AuthzToken authzToken, String gatewayId) throws AuthorizationException {
+        if (!gatewayId.equals(authzToken.getClaimsMap().get(Constants.GATEWAY_ID))) {
+            throw new AuthorizationException("User does not have permission to access this resource");
+        }
+    }
+
+    private String getExperimentOwner(String airavataExperimentId) {
+        RegistryService.Client regClient = registryClientPool.getResource();
+        try {
+            String owner = regClient.getExperiment(airavataExperimentId).getUserName();
+            registryClientPool.returnResource(regClient);
+            return owner;
+        } catch (Exception e) {
+            logger.error(airavataExperimentId, "Error while retrieving the owner of the experiment", e);
+            registryClientPool.returnBrokenResource(regClient);
+            return null;
+        }
+    }
+
 
     /**
      * Launch a previously created and configured experiment. Airavata Server will then start processing the request and appropriate
@@ -0,0 +1,108 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.api.server.listener;
+
+import org.apache.airavata.model.messaging.event.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded, in memory log of the status changes of a gateway or of a user. The id of a status change is made of the
+ * epoch of the log and a sequence number, so a client can continue reading right after the last change it has seen
+ * as long as that change is still retained, and an id handed out before the log was recreated is never mistaken for
+ * one of the new log.
+ */
+public class StatusChangeLog {
+
+    private final String epoch;
+    private final Message[] changes;
+    // sequence number of the latest change, the change with sequence number n is at changes[n % changes.length]
+    private long latestSequence;
+
+    public StatusChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity of a status change log should be positive");
+        }
+        this.changes = new Message[capacity];
+        this.epoch = Long.toString(System.currentTimeMillis(), 36) + Integer.toString(ThreadLocalRandom.current().nextInt(1 << 20), 36);
+    }
+
+    /**
+     * Appends a status change and wakes up the readers waiting for one. The messageId of the appended change is
+     * replaced with its status change id.
+     */
+    public synchronized void append(Message change) {
+        latestSequence++;
+        change.setMessageId(toId(latestSequence));
+        changes[(int) (latestSequence % changes.length)] = change;
+        notifyAll();
+    }
+
+    public synchronized String getLatestId() {
+        return toId(latestSequence);
+    }
+
+    /**
+     * Returns at most <code>maxChanges</code> status changes made after the one with the given id, waiting at most
+     * <code>waitTimeMillis</code> if there is none yet
+     *
+     * @throws IllegalArgumentException if the id was not handed out by this log or the changes after it are no longer
+     *                                  retained
+     */
+    public synchronized List<Message> read(String afterId, int maxChanges, long waitTimeMillis) throws InterruptedException {
+        long afterSequence = toSequence(afterId);
+        long deadline = System.currentTimeMillis() + waitTimeMillis;
+        long remaining = waitTimeMillis;
+        while (afterSequence == latestSequence && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        // checked after waiting as the changes after the id may have been overwritten meanwhile
+        if (latestSequence - afterSequence > changes.length) {
+            throw new IllegalArgumentException("Status changes after " + afterId + " are no longer retained");
+        }
+
+        List<Message> result = new ArrayList<>();
+        for (long sequence = afterSequence + 1; sequence <= latestSequence && result.size() < maxChanges; sequence++) {
+            result.add(changes[(int) (sequence % changes.length)]);
+        }
+        return result;
+    }
+
+    private String toId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long toSequence(String id) {
+        if (id != null && id.startsWith(epoch + "-")) {
+            try {
+                long sequence = Long.parseLong(id.substring(epoch.length() + 1));
+                if (sequence >= 0 && sequence <= latestSequence) {
+                    return sequence;
+                }
+            } catch (NumberFormatException e) {
+                // handled below
+            }
+        }
+        throw new IllegalArgumentException("Unknown status change id " + id);
+    }
+}
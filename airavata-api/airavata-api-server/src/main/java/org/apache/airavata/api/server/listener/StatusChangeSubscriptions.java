@@ -0,0 +1,236 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.api.server.listener;
+
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.messaging.core.MessageContext;
+import org.apache.airavata.messaging.core.MessageHandler;
+import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.JobStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.Message;
+import org.apache.airavata.model.messaging.event.MessageLevel;
+import org.apache.airavata.model.messaging.event.ProcessStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.TaskStatusChangeEvent;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Keeps the experiment, process, task and job status changes received from the status exchange in a
+ * {@link StatusChangeLog} per gateway, and per user for the users reading their own status changes, so that clients
+ * can wait for status changes instead of polling every experiment.
+ * <p>
+ * Readers are throttled, each read returns a bounded number of changes, waits a bounded time and only a bounded
+ * number of reads wait at the same time since every waiting read holds an API server thread. A read which finds no
+ * change and can not wait is rejected with a {@link WaitingReadsExceededException}, so the client backs off instead of
+ * reading again right away.
+ */
+public class StatusChangeSubscriptions implements MessageHandler {
+    private final static Logger logger = LoggerFactory.getLogger(StatusChangeSubscriptions.class);
+
+    private static final String RETAINED_CHANGES = "apiserver.status.changes.retained";
+    private static final String MAX_USER_LOGS = "apiserver.status.changes.max.user.streams";
+    private static final String MAX_CHANGES_PER_READ = "apiserver.status.changes.max.per.read";
+    private static final String MAX_WAIT_TIME = "apiserver.status.changes.max.wait.ms";
+    private static final String MAX_WAITING_READS = "apiserver.status.changes.max.waiting.reads";
+    private static final int MAX_CACHED_OWNERS = 10000;
+
+    private final int retainedChanges;
+    private final int maxChangesPerRead;
+    private final long maxWaitTimeMillis;
+    private final Semaphore waitingReads;
+    private final Function<String, String> experimentOwnerResolver;
+
+    private final Map<String, StatusChangeLog> gatewayLogs = new ConcurrentHashMap<>();
+    // keyed by gateway id and user name
+    private final Map<String, StatusChangeLog> userLogs = new ConcurrentHashMap<>();
+    // user logs in the order they were read, the least recently read logs are dropped
+    private final Map<String, StatusChangeLog> userLogReads;
+    private final Map<String, String> experimentOwners = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED_OWNERS;
+        }
+    };
+
+    /**
+     * @param experimentOwnerResolver returns the user name of the owner of an experiment, or null if it can not be
+     *                                found. Only called for experiments of users reading their own status changes.
+     */
+    public StatusChangeSubscriptions(Function<String, String> experimentOwnerResolver) {
+        this.experimentOwnerResolver = experimentOwnerResolver;
+        this.retainedChanges = Integer.parseInt(ServerSettings.getSetting(RETAINED_CHANGES, "10000"));
+        this.maxChangesPerRead = Integer.parseInt(ServerSettings.getSetting(MAX_CHANGES_PER_READ, "1000"));
+        this.maxWaitTimeMillis = Long.parseLong(ServerSettings.getSetting(MAX_WAIT_TIME, "30000"));
+        this.waitingReads = new Semaphore(Integer.parseInt(ServerSettings.getSetting(MAX_WAITING_READS, "20")));
+        int maxUserLogs = Integer.parseInt(ServerSettings.getSetting(MAX_USER_LOGS, "1000"));
+        this.userLogReads = new LinkedHashMap<String, StatusChangeLog>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StatusChangeLog> eldest) {
+                if (size() > maxUserLogs) {
+                    userLogs.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void onMessage(MessageContext messageContext) {
+        String experimentId;
+        switch (messageContext.getType()) {
+            case EXPERIMENT:
+                experimentId = ((ExperimentStatusChangeEvent) messageContext.getEvent()).getExperimentId();
+                break;
+            case PROCESS:
+                experimentId = ((ProcessStatusChangeEvent) messageContext.getEvent()).getProcessIdentity().getExperimentId();
+                break;
+            case TASK:
+                experimentId = ((TaskStatusChangeEvent) messageContext.getEvent()).getTaskIdentity().getExperimentId();
+                break;
+            case JOB:
+                experimentId = ((JobStatusChangeEvent) messageContext.getEvent()).getJobIdentity().getExperimentId();
+                break;
+            default:
+                return;
+        }
+
+        String gatewayId = messageContext.getGatewayId();
+        try {
+            Message change = new Message();
+            change.setEvent(ThriftUtils.serializeThriftObject(messageContext.getEvent()));
+            change.setMessageType(messageContext.getType());
+            change.setMessageLevel(MessageLevel.INFO);
+            if (messageContext.getUpdatedTime() != null) {
+                change.setUpdatedTime(messageContext.getUpdatedTime().getTime());
+            }
+            getGatewayLog(gatewayId).append(change);
+
+            StatusChangeLog userLog = getUserLogOfExperiment(gatewayId, experimentId);
+            if (userLog != null) {
+                userLog.append(change.deepCopy());
+            }
+        } catch (TException e) {
+            logger.error("Failed to record the " + messageContext.getType() + " status change " +
+                    messageContext.getMessageId() + " of experiment " + experimentId, e);
+        }
+    }
+
+    public String getLatestGatewayChangeId(String gatewayId) {
+        return getGatewayLog(gatewayId).getLatestId();
+    }
+
+    public String getLatestUserChangeId(String gatewayId, String userName) {
+        return getUserLog(gatewayId, userName).getLatestId();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the status changes after the given id are no longer retained
+     */
+    public List<Message> readGatewayChanges(String gatewayId, String afterId, int maxChanges, long waitTimeMillis)
+            throws InterruptedException, WaitingReadsExceededException {
+        return read(getGatewayLog(gatewayId), afterId, maxChanges, waitTimeMillis);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the status changes after the given id are no longer retained
+     */
+    public List<Message> readUserChanges(String gatewayId, String userName, String afterId, int maxChanges,
+                                         long waitTimeMillis) throws InterruptedException, WaitingReadsExceededException {
+        StatusChangeLog userLog;
+        synchronized (userLogReads) {
+            userLog = userLogReads.get(userLogKey(gatewayId, userName));
+        }
+        if (userLog == null) {
+            throw new IllegalArgumentException("Status changes after " + afterId + " are no longer retained");
+        }
+        return read(userLog, afterId, maxChanges, waitTimeMillis);
+    }
+
+    private List<Message> read(StatusChangeLog log, String afterId, int maxChanges, long waitTimeMillis)
+            throws InterruptedException, WaitingReadsExceededException {
+        int changes = Math.max(1, Math.min(maxChanges, maxChangesPerRead));
+        if (waitTimeMillis <= 0) {
+            return log.read(afterId, changes, 0);
+        }
+        if (!waitingReads.tryAcquire()) {
+            // the changes already there are returned without waiting
+            List<Message> result = log.read(afterId, changes, 0);
+            if (result.isEmpty()) {
+                // a waiting read returns within maxWaitTimeMillis, the jitter spreads the retries of the rejected reads
+                long backoff = Math.max(100, maxWaitTimeMillis / 10);
+                throw new WaitingReadsExceededException(backoff + ThreadLocalRandom.current().nextLong(backoff));
+            }
+            return result;
+        }
+        try {
+            return log.read(afterId, changes, Math.min(waitTimeMillis, maxWaitTimeMillis));
+        } finally {
+            waitingReads.release();
+        }
+    }
+
+    private StatusChangeLog getGatewayLog(String gatewayId) {
+        return gatewayLogs.computeIfAbsent(gatewayId, id -> new StatusChangeLog(retainedChanges));
+    }
+
+    private StatusChangeLog getUserLog(String gatewayId, String userName) {
+        String key = userLogKey(gatewayId, userName);
+        synchronized (userLogReads) {
+            StatusChangeLog userLog = userLogs.computeIfAbsent(key, k -> new StatusChangeLog(retainedChanges));
+            userLogReads.put(key, userLog);
+            return userLog;
+        }
+    }
+
+    private StatusChangeLog getUserLogOfExperiment(String gatewayId, String experimentId) {
+        if (userLogs.isEmpty()) {
+            return null;
+        }
+        String owner;
+        synchronized (experimentOwners) {
+            owner = experimentOwners.get(experimentId);
+        }
+        if (owner == null) {
+            owner = experimentOwnerResolver.apply(experimentId);
+            if (owner == null) {
+                return null;
+            }
+            synchronized (experimentOwners) {
+                experimentOwners.put(experimentId, owner);
+            }
+        }
+        return userLogs.get(userLogKey(gatewayId, owner));
+    }
+
+    private static String userLogKey(String gatewayId, String userName) {
+        return gatewayId + "/" + userName;
+    }
+}
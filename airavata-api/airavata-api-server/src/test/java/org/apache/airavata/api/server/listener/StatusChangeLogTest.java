@@ -0,0 +1,130 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.api.server.listener;
+
+import org.apache.airavata.model.messaging.event.Message;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class StatusChangeLogTest {
+
+    @Test
+    public void testIdsAreMadeOfEpochAndSequence() throws Exception {
+        StatusChangeLog log = new StatusChangeLog(10);
+        String start = log.getLatestId();
+        Assert.assertTrue(start.endsWith("-0"));
+
+        log.append(change("a"));
+        log.append(change("b"));
+        String epoch = start.substring(0, start.length() - 1);
+        Assert.assertEquals(epoch + "2", log.getLatestId());
+
+        List<Message> changes = log.read(start, 10, 0);
+        Assert.assertEquals(Arrays.asList(epoch + "1", epoch + "2"),
+                changes.stream().map(Message::getMessageId).collect(Collectors.toList()));
+        Assert.assertTrue(log.read(log.getLatestId(), 10, 0).isEmpty());
+    }
+
+    @Test
+    public void testReadIsLimitedAndContinuesFromLastId() throws Exception {
+        StatusChangeLog log = new StatusChangeLog(10);
+        String start = log.getLatestId();
+        for (int i = 0; i < 5; i++) {
+            log.append(change("c" + i));
+        }
+
+        List<Message> first = log.read(start, 3, 0);
+        Assert.assertEquals(Arrays.asList("c0", "c1", "c2"), events(first));
+        List<Message> second = log.read(first.get(2).getMessageId(), 3, 0);
+        Assert.assertEquals(Arrays.asList("c3", "c4"), events(second));
+    }
+
+    @Test
+    public void testOverwrittenChangesAreNoLongerRetained() throws Exception {
+        StatusChangeLog log = new StatusChangeLog(3);
+        String start = log.getLatestId();
+        log.append(change("c0"));
+        String afterFirst = log.getLatestId();
+        for (int i = 1; i < 4; i++) {
+            log.append(change("c" + i));
+        }
+
+        try {
+            log.read(start, 10, 0);
+            Assert.fail("The first change was overwritten");
+        } catch (IllegalArgumentException expected) {
+        }
+        Assert.assertEquals(Arrays.asList("c1", "c2", "c3"), events(log.read(afterFirst, 10, 0)));
+    }
+
+    @Test
+    public void testRejectsIdsOfOtherLogs() throws Exception {
+        StatusChangeLog log = new StatusChangeLog(3);
+        StatusChangeLog other = new StatusChangeLog(3);
+        other.append(change("c0"));
+
+        for (String id : new String[]{other.getLatestId(), log.getLatestId() + "1", "unknown", null}) {
+            try {
+                log.read(id, 10, 0);
+                Assert.fail("The id " + id + " was not handed out by the log");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testWaitingReadWakesUpOnAppend() throws Exception {
+        StatusChangeLog log = new StatusChangeLog(3);
+        String start = log.getLatestId();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Message>> read = executor.submit(() -> log.read(start, 10, 10000));
+            Thread.sleep(100);
+            Assert.assertFalse(read.isDone());
+
+            log.append(change("c0"));
+            Assert.assertEquals(Arrays.asList("c0"), events(read.get(5, TimeUnit.SECONDS)));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long startTime = System.currentTimeMillis();
+        Assert.assertTrue(log.read(log.getLatestId(), 10, 100).isEmpty());
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 100);
+    }
+
+    static Message change(String event) {
+        Message change = new Message();
+        change.setEvent(event.getBytes());
+        return change;
+    }
+
+    static List<String> events(List<Message> changes) {
+        return changes.stream().map(change -> new String(change.getEvent())).collect(Collectors.toList());
+    }
+}
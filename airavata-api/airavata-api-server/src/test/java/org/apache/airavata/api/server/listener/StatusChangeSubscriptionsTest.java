@@ -0,0 +1,164 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.api.server.listener;
+
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.messaging.core.MessageContext;
+import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.Message;
+import org.apache.airavata.model.messaging.event.MessageType;
+import org.apache.airavata.model.status.ExperimentState;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class StatusChangeSubscriptionsTest {
+
+    private final Map<String, String> experimentOwners = new HashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private StatusChangeSubscriptions subscriptions;
+
+    @Before
+    public void setUp() {
+        System.setProperty("apiserver.status.changes.retained", "3");
+        System.setProperty("apiserver.status.changes.max.user.streams", "2");
+        System.setProperty("apiserver.status.changes.max.waiting.reads", "1");
+        System.setProperty("apiserver.status.changes.max.wait.ms", "1000");
+        subscriptions = new StatusChangeSubscriptions(experimentOwners::get);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        System.clearProperty("apiserver.status.changes.retained");
+        System.clearProperty("apiserver.status.changes.max.user.streams");
+        System.clearProperty("apiserver.status.changes.max.waiting.reads");
+        System.clearProperty("apiserver.status.changes.max.wait.ms");
+    }
+
+    @Test
+    public void testGatewayAndUserChanges() throws Exception {
+        experimentOwners.put("exp1", "alice");
+        experimentOwners.put("exp2", "bob");
+        String gatewayStart = subscriptions.getLatestGatewayChangeId("gateway");
+        String aliceStart = subscriptions.getLatestUserChangeId("gateway", "alice");
+
+        publish("gateway", "exp1", ExperimentState.LAUNCHED);
+        publish("gateway", "exp2", ExperimentState.LAUNCHED);
+        publish("otherGateway", "exp3", ExperimentState.LAUNCHED);
+
+        Assert.assertEquals(Arrays.asList("exp1", "exp2"),
+                experiments(subscriptions.readGatewayChanges("gateway", gatewayStart, 10, 0)));
+        List<Message> aliceChanges = subscriptions.readUserChanges("gateway", "alice", aliceStart, 10, 0);
+        Assert.assertEquals(Arrays.asList("exp1"), experiments(aliceChanges));
+        Assert.assertEquals(MessageType.EXPERIMENT, aliceChanges.get(0).getMessageType());
+        // ids of the user and of the gateway are not interchangeable
+        try {
+            subscriptions.readUserChanges("gateway", "alice", gatewayStart, 10, 0);
+            Assert.fail("A gateway status change id should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testOverwrittenChangesExpire() throws Exception {
+        String start = subscriptions.getLatestGatewayChangeId("gateway");
+        for (int i = 0; i < 4; i++) {
+            publish("gateway", "exp" + i, ExperimentState.LAUNCHED);
+        }
+        try {
+            subscriptions.readGatewayChanges("gateway", start, 10, 0);
+            Assert.fail("The first change was overwritten");
+        } catch (IllegalArgumentException expected) {
+        }
+        String latest = subscriptions.getLatestGatewayChangeId("gateway");
+        Assert.assertTrue(subscriptions.readGatewayChanges("gateway", latest, 10, 0).isEmpty());
+    }
+
+    @Test
+    public void testLeastRecentlyReadUserLogsExpire() throws Exception {
+        String aliceStart = subscriptions.getLatestUserChangeId("gateway", "alice");
+        subscriptions.getLatestUserChangeId("gateway", "bob");
+        subscriptions.getLatestUserChangeId("gateway", "carol");
+
+        try {
+            subscriptions.readUserChanges("gateway", "alice", aliceStart, 10, 0);
+            Assert.fail("Only the logs of the two most recently read users are kept");
+        } catch (IllegalArgumentException expected) {
+        }
+        String bobStart = subscriptions.getLatestUserChangeId("gateway", "bob");
+        Assert.assertTrue(subscriptions.readUserChanges("gateway", "bob", bobStart, 10, 0).isEmpty());
+    }
+
+    @Test
+    public void testRejectsReadsBeyondWaitingReadLimit() throws Exception {
+        String start = subscriptions.getLatestGatewayChangeId("gateway");
+        Future<List<Message>> waiting = executor.submit(() -> subscriptions.readGatewayChanges("gateway", start, 10, 5000));
+        Thread.sleep(200);
+        Assert.assertFalse(waiting.isDone());
+
+        try {
+            subscriptions.readGatewayChanges("gateway", start, 10, 5000);
+            Assert.fail("Only one read may wait");
+        } catch (WaitingReadsExceededException e) {
+            // a tenth to a fifth of the maximum wait time
+            Assert.assertTrue(e.getRetryAfterMillis() >= 100 && e.getRetryAfterMillis() < 200);
+        }
+        // reads which do not wait are not limited
+        Assert.assertTrue(subscriptions.readGatewayChanges("gateway", start, 10, 0).isEmpty());
+
+        publish("gateway", "exp1", ExperimentState.LAUNCHED);
+        Assert.assertEquals(Arrays.asList("exp1"), experiments(waiting.get(5, TimeUnit.SECONDS)));
+
+        // the changes already there are returned even when the waiting reads are used up
+        Future<List<Message>> nextWaiting = executor.submit(() -> subscriptions.readGatewayChanges("gateway",
+                subscriptions.getLatestGatewayChangeId("gateway"), 10, 5000));
+        Thread.sleep(200);
+        Assert.assertEquals(Arrays.asList("exp1"), experiments(subscriptions.readGatewayChanges("gateway", start, 10, 5000)));
+        publish("gateway", "exp2", ExperimentState.COMPLETED);
+        Assert.assertEquals(Arrays.asList("exp2"), experiments(nextWaiting.get(5, TimeUnit.SECONDS)));
+    }
+
+    private void publish(String gatewayId, String experimentId, ExperimentState state) {
+        ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent(state, experimentId, gatewayId);
+        subscriptions.onMessage(new MessageContext(event, MessageType.EXPERIMENT, "message-" + experimentId, gatewayId));
+    }
+
+    private static List<String> experiments(List<Message> changes) throws Exception {
+        List<String> experiments = new ArrayList<>();
+        for (Message change : changes) {
+            ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent();
+            ThriftUtils.createThriftFromBytes(change.getEvent(), event);
+            experiments.add(event.getExperimentId());
+        }
+        return experiments;
+    }
+}
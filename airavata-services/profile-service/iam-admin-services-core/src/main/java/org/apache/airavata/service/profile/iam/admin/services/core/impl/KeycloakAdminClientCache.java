@@ -0,0 +1,234 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.service.profile.iam.admin.services.core.impl;
+
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.model.credential.store.PasswordCredential;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.KeyStore;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Keeps one Keycloak admin client per server, realm and admin credential. A cached client keeps its HTTP
+ * connection pool and its admin token; the token is refreshed by the client's token manager once it is within
+ * {@code iam.server.admin.client.token.min.validity.seconds} of expiring, so the password grant only happens when
+ * a client is first created or its refresh token has expired.
+ *
+ * Clients not used for {@code iam.server.admin.client.idle.timeout.ms} are closed, as is the least recently used
+ * client once more than {@code iam.server.admin.client.cache.size} are cached.
+ */
+public class KeycloakAdminClientCache {
+
+    private final static Logger logger = LoggerFactory.getLogger(KeycloakAdminClientCache.class);
+
+    private static KeycloakAdminClientCache instance;
+
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long minTokenValiditySeconds;
+    private final int connectionPoolSize;
+    private final boolean useTrustStore;
+
+    private final LinkedHashMap<ClientKey, CachedClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+    private KeyStore trustStore;
+    private long createdClients;
+
+    public static synchronized KeycloakAdminClientCache getInstance() {
+        if (instance == null) {
+            instance = new KeycloakAdminClientCache(
+                    Integer.parseInt(ServerSettings.getSetting("iam.server.admin.client.cache.size", "50")),
+                    Long.parseLong(ServerSettings.getSetting("iam.server.admin.client.idle.timeout.ms", "1800000")),
+                    Long.parseLong(ServerSettings.getSetting("iam.server.admin.client.token.min.validity.seconds", "60")),
+                    Integer.parseInt(ServerSettings.getSetting("iam.server.admin.client.connection.pool.size", "10")),
+                    true);
+        }
+        return instance;
+    }
+
+    /**
+     * @param useTrustStore whether to load the Airavata trust store for TLS connections to the IAM server
+     */
+    public KeycloakAdminClientCache(int maxSize, long idleTimeoutMillis, long minTokenValiditySeconds,
+                                    int connectionPoolSize, boolean useTrustStore) {
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.minTokenValiditySeconds = minTokenValiditySeconds;
+        this.connectionPoolSize = connectionPoolSize;
+        this.useTrustStore = useTrustStore;
+    }
+
+    /**
+     * Gives the cached admin client of the realm for the given credentials, creating it if needed. Callers must not
+     * close the returned client.
+     */
+    public synchronized Keycloak getClient(String adminUrl, String realm, PasswordCredential adminPasswordCreds) {
+        evictIdleClients();
+
+        ClientKey key = new ClientKey(adminUrl, realm, adminPasswordCreds.getLoginUserName(),
+                adminPasswordCreds.getPassword());
+        CachedClient cached = clients.get(key);
+        if (cached == null) {
+            cached = new CachedClient(createClient(key));
+            clients.put(key, cached);
+            createdClients++;
+            logger.debug("Created Keycloak admin client for realm " + realm + ", " + clients.size() + " cached");
+
+            Iterator<CachedClient> eldest = clients.values().iterator();
+            while (clients.size() > maxSize && eldest.hasNext()) {
+                CachedClient evicted = eldest.next();
+                eldest.remove();
+                evicted.client.close();
+            }
+        }
+        cached.lastUsed = System.currentTimeMillis();
+        return cached.client;
+    }
+
+    /**
+     * Closes and forgets the client of the realm for the given credentials, e.g. after the IAM server rejected it.
+     */
+    public synchronized void invalidate(String adminUrl, String realm, PasswordCredential adminPasswordCreds) {
+        CachedClient cached = clients.remove(new ClientKey(adminUrl, realm, adminPasswordCreds.getLoginUserName(),
+                adminPasswordCreds.getPassword()));
+        if (cached != null) {
+            cached.client.close();
+        }
+    }
+
+    public synchronized void close() {
+        for (CachedClient cached : clients.values()) {
+            cached.client.close();
+        }
+        clients.clear();
+    }
+
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    public synchronized long getCreatedClients() {
+        return createdClients;
+    }
+
+    private void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        Iterator<CachedClient> iterator = clients.values().iterator();
+        while (iterator.hasNext()) {
+            CachedClient cached = iterator.next();
+            if (now - cached.lastUsed > idleTimeoutMillis) {
+                iterator.remove();
+                cached.client.close();
+            }
+        }
+    }
+
+    private Keycloak createClient(ClientKey key) {
+        ResteasyClientBuilder builder = new ResteasyClientBuilder().connectionPoolSize(connectionPoolSize);
+        if (useTrustStore) {
+            builder.trustStore(getTrustStore());
+        }
+        ResteasyClient resteasyClient = builder.build();
+        Keycloak client = KeycloakBuilder.builder()
+                .serverUrl(key.adminUrl)
+                .realm(key.realm)
+                .username(key.username)
+                .password(key.password)
+                .clientId("admin-cli")
+                .resteasyClient(resteasyClient)
+                .build();
+        client.tokenManager().setMinTokenValidity(minTokenValiditySeconds);
+        return client;
+    }
+
+    private KeyStore getTrustStore() {
+        if (trustStore == null) {
+            trustStore = loadKeyStore();
+        }
+        return trustStore;
+    }
+
+    private static KeyStore loadKeyStore() {
+
+        FileInputStream fis = null;
+        try {
+            fis = new java.io.FileInputStream(ServerSettings.getTrustStorePath());
+            KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
+            ks.load(fis, ServerSettings.getTrustStorePassword().toCharArray());
+            return ks;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to load trust store KeyStore instance", e);
+        } finally {
+            if (fis != null) {
+                try {
+                    fis.close();
+                } catch (IOException e) {
+                    logger.error("Failed to close trust store FileInputStream", e);
+                }
+            }
+        }
+    }
+
+    private static class CachedClient {
+        private final Keycloak client;
+        private long lastUsed;
+
+        private CachedClient(Keycloak client) {
+            this.client = client;
+        }
+    }
+
+    private static class ClientKey {
+        private final String adminUrl;
+        private final String realm;
+        private final String username;
+        private final String password;
+
+        private ClientKey(String adminUrl, String realm, String username, String password) {
+            this.adminUrl = adminUrl;
+            this.realm = realm;
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ClientKey that = (ClientKey) o;
+            return Objects.equals(adminUrl, that.adminUrl) && Objects.equals(realm, that.realm)
+                    && Objects.equals(username, that.username) && Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(adminUrl, realm, username, password);
+        }
+    }
+}
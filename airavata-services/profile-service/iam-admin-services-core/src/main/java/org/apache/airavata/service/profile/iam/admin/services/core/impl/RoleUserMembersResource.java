@@ -0,0 +1,46 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.service.profile.iam.admin.services.core.impl;
+
+import org.keycloak.representations.idm.UserRepresentation;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import java.util.List;
+
+/**
+ * The realm role user members endpoint of the Keycloak admin REST API, which the bundled admin client does not
+ * expose. Used through {@link org.keycloak.admin.client.Keycloak#proxy(Class, java.net.URI)} relative to
+ * {@code <server url>/admin/realms}.
+ */
+public interface RoleUserMembersResource {
+
+    @GET
+    @Path("{realm}/roles/{role-name}/users")
+    @Produces(MediaType.APPLICATION_JSON)
+    List<UserRepresentation> getRoleUserMembers(@PathParam("realm") String realm,
+                                                @PathParam("role-name") String roleName,
+                                                @QueryParam("first") Integer first,
+                                                @QueryParam("max") Integer max);
+}
@@ -27,20 +27,16 @@ import org.apache.airavata.model.user.UserProfile;
 import org.apache.airavata.model.workspace.Gateway;
 import org.apache.airavata.service.profile.iam.admin.services.core.interfaces.TenantManagementInterface;
 import org.apache.airavata.service.profile.iam.admin.services.cpi.exception.IamAdminServicesException;
-import org.jboss.resteasy.client.jaxrs.ResteasyClient;
-import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
 import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.KeycloakBuilder;
 import org.keycloak.admin.client.resource.RoleResource;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.representations.idm.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Response;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.security.KeyStore;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -49,43 +45,25 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
 
     private final static Logger logger = LoggerFactory.getLogger(TenantManagementKeycloakImpl.class);
 
+    private static final int USER_BATCH_SIZE = 100;
+
     private String superAdminRealmId = "master";
 
-    private static Keycloak getClient(String adminUrl, String realm, PasswordCredential AdminPasswordCreds) {
-
-        ResteasyClient resteasyClient = new ResteasyClientBuilder()
-                .connectionPoolSize(10)
-                .trustStore(loadKeyStore())
-                .build();
-        return KeycloakBuilder.builder()
-                .serverUrl(adminUrl)
-                .realm(realm)
-                .username(AdminPasswordCreds.getLoginUserName())
-                .password(AdminPasswordCreds.getPassword())
-                .clientId("admin-cli")
-                .resteasyClient(resteasyClient)
-                .build();
+    private final KeycloakAdminClientCache clientCache;
+
+    public TenantManagementKeycloakImpl() {
+        this(KeycloakAdminClientCache.getInstance());
     }
 
-    private static KeyStore loadKeyStore() {
+    public TenantManagementKeycloakImpl(KeycloakAdminClientCache clientCache) {
+        this.clientCache = clientCache;
+    }
 
-        FileInputStream fis = null;
-        try {
-            fis = new java.io.FileInputStream(ServerSettings.getTrustStorePath());
-            KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
-            ks.load(fis, ServerSettings.getTrustStorePassword().toCharArray());
-            return ks;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load trust store KeyStore instance", e);
-        } finally {
-            if (fis != null) {
-                try {
-                    fis.close();
-                } catch (IOException e) {
-                    logger.error("Failed to close trust store FileInputStream", e);
-                }
-            }
-        }
+    /**
+     * Gives the cached admin client of the realm. The client is shared, so callers must not close it.
+     */
+    private Keycloak getClient(String realm, PasswordCredential adminPasswordCreds) throws ApplicationSettingsException {
+        return clientCache.getClient(ServerSettings.getIamServerUrl(), realm, adminPasswordCreds);
     }
 
     @Override
@@ -93,7 +71,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
         Keycloak client = null;
         try {
             // get client
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), this.superAdminRealmId, isSuperAdminPasswordCreds);
+            client = getClient(this.superAdminRealmId, isSuperAdminPasswordCreds);
             // create realm
             RealmRepresentation newRealmDetails = new RealmRepresentation();
             newRealmDetails.setEnabled(true);
@@ -119,10 +97,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error creating Realm in Keycloak Server, reason: " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -158,7 +132,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public boolean createTenantAdminAccount(PasswordCredential isSuperAdminPasswordCreds, Gateway gatewayDetails, String tenantAdminPassword) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), this.superAdminRealmId, isSuperAdminPasswordCreds);
+            client = getClient(this.superAdminRealmId, isSuperAdminPasswordCreds);
             UserRepresentation user = new UserRepresentation();
             user.setUsername(gatewayDetails.getIdentityServerUserName());
             user.setFirstName(gatewayDetails.getGatewayAdminFirstName());
@@ -209,10 +183,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error creating Realm Admin Account in keycloak server, reason: " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -220,7 +190,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public Gateway configureClient(PasswordCredential isSuperAdminPasswordCreds, Gateway gatewayDetails) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), this.superAdminRealmId, isSuperAdminPasswordCreds);
+            client = getClient(this.superAdminRealmId, isSuperAdminPasswordCreds);
             ClientRepresentation pgaClient = new ClientRepresentation();
             pgaClient.setName("pga");
             pgaClient.setClientId("pga");
@@ -269,10 +239,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -280,7 +246,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public boolean createUser(PasswordCredential realmAdminCreds, String tenantId, String username, String emailAddress, String firstName, String lastName, String newPassword) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             UserRepresentation user = new UserRepresentation();
             user.setUsername(username);
             user.setFirstName(firstName);
@@ -310,10 +276,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
         return false;
     }
@@ -322,7 +284,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public boolean enableUserAccount(PasswordCredential realmAdminCreds, String tenantId, String username) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> userResourceList = client.realm(tenantId).users().search(username,0,1);
             UserResource userResource = client.realm(tenantId).users().get(userResourceList.get(0).getId());
             UserRepresentation profile = userResource.toRepresentation();
@@ -336,10 +298,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -347,7 +305,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public boolean isUserAccountEnabled(PasswordCredential realmAdminCreds, String tenantId, String username) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> userResourceList = client.realm(tenantId).users().search(username,0,1);
             return userResourceList.size() == 1 && userResourceList.get(0).isEnabled();
         } catch (ApplicationSettingsException ex) {
@@ -355,10 +313,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -366,7 +320,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public boolean resetUserPassword(PasswordCredential realmAdminCreds, String tenantId, String username, String newPassword) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> retrieveUserList = client.realm(tenantId).users().search(username,
                     null,
                     null,
@@ -399,10 +353,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error resetting user password in keycloak server, reason: " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -410,7 +360,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public List<UserProfile> findUser(PasswordCredential realmAdminCreds, String tenantId, String email, String userName) throws IamAdminServicesException{
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> retrieveUserList = client.realm(tenantId).users().search(userName,
                     null,
                     null,
@@ -442,10 +392,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error finding user in keycloak server, reason: " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -454,7 +400,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
 
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> retrieveUserList = client.realm(tenantId).users().search(username,
                     null,
                     null,
@@ -481,10 +427,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error updating user profile in keycloak server, reason: " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -493,7 +435,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
 
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> retrieveCreatedUserList = client.realm(tenantId).users().search(username,
                     null,
                     null,
@@ -510,10 +452,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -522,7 +460,7 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
 
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
+            client = getClient(tenantId, realmAdminCreds);
             List<UserRepresentation> retrieveCreatedUserList = client.realm(tenantId).users().search(username,
                     null,
                     null,
@@ -539,10 +477,6 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                client.close();
-            }
         }
     }
 
@@ -550,54 +484,73 @@ public class TenantManagementKeycloakImpl implements TenantManagementInterface {
     public List<UserProfile> getUsersWithRole(PasswordCredential realmAdminCreds, String tenantId, String roleName) throws IamAdminServicesException {
         Keycloak client = null;
         try{
-            client = TenantManagementKeycloakImpl.getClient(ServerSettings.getIamServerUrl(), tenantId, realmAdminCreds);
-            // FIXME: this only searches through the most recent 100 users for the given role (assuming there are no more than 10,000 users in the gateway)
-            int totalUserCount = client.realm(tenantId).users().count();
-            logger.debug("getUsersWithRole: totalUserCount=" + totalUserCount);
-            // Load all users in batches
-            List<UserRepresentation> allUsers = new ArrayList<>();
-            int userBatchSize = 100;
-            for (int start = 0; start < totalUserCount; start=start+userBatchSize) {
-
-                logger.debug("getUsersWithRole: fetching " + userBatchSize + " users...");
-                allUsers.addAll(client.realm(tenantId).users().search(null,
-                        null,
-                        null,
-                        null,
-                        start, userBatchSize));
-            }
-            logger.debug("getUsersWithRole: all users count=" + allUsers.size());
-            allUsers.sort((a, b) -> a.getCreatedTimestamp() - b.getCreatedTimestamp() > 0 ? -1 : 1);
-            // The 100 most recently created users
-            List<UserRepresentation> mostRecentUsers = allUsers.subList(0, Math.min(allUsers.size(), 100));
-            logger.debug("getUsersWithRole: most recent users count=" + mostRecentUsers.size());
+            client = getClient(tenantId, realmAdminCreds);
+            RoleUserMembersResource roleMembers = client.proxy(RoleUserMembersResource.class,
+                    URI.create(ServerSettings.getIamServerUrl() + "/admin/realms"));
 
             List<UserProfile> usersWithRole = new ArrayList<>();
-            for (UserRepresentation user: mostRecentUsers) {
-                UserResource userResource = client.realm(tenantId).users().get(user.getId());
-
-                List<RoleRepresentation> roleRepresentations = userResource.roles().realmLevel().listAll();
-                for (RoleRepresentation roleRepresentation : roleRepresentations){
-                    if (roleRepresentation.getName().equals(roleName)) {
-                        usersWithRole.add(convertUserRepresentationToUserProfile(user, tenantId));
+            try {
+                // Let the IAM server select the members, a page at a time
+                for (int first = 0; ; first += USER_BATCH_SIZE) {
+                    List<UserRepresentation> members = roleMembers.getRoleUserMembers(tenantId, roleName, first,
+                            USER_BATCH_SIZE);
+                    for (UserRepresentation member : members) {
+                        usersWithRole.add(convertUserRepresentationToUserProfile(member, tenantId));
+                    }
+                    if (members.size() < USER_BATCH_SIZE) {
                         break;
                     }
                 }
+            } catch (NotFoundException e) {
+                // IAM servers without the role members endpoint, or an unknown role
+                logger.debug("getUsersWithRole: role members endpoint not available, scanning users", e);
+                return getUsersWithRoleByScanning(client, tenantId, roleName);
             }
-            logger.debug("getUsersWithRole: most recent users with role count=" + usersWithRole.size());
+            logger.debug("getUsersWithRole: users with role count=" + usersWithRole.size());
             return usersWithRole;
         } catch (ApplicationSettingsException ex) {
             logger.error("Error getting values from property file, reason: " + ex.getMessage(), ex);
             IamAdminServicesException exception = new IamAdminServicesException();
             exception.setMessage("Error getting values from property file, reason " + ex.getMessage());
             throw exception;
-        } finally {
-            if (client != null) {
-                logger.debug("getUsersWithRole: closing client...");
-                client.close();
-                logger.debug("getUsersWithRole: client closed");
+        }
+    }
+
+    private List<UserProfile> getUsersWithRoleByScanning(Keycloak client, String tenantId, String roleName) {
+        // FIXME: this only searches through the most recent 100 users for the given role (assuming there are no more than 10,000 users in the gateway)
+        int totalUserCount = client.realm(tenantId).users().count();
+        logger.debug("getUsersWithRole: totalUserCount=" + totalUserCount);
+        // Load all users in batches
+        List<UserRepresentation> allUsers = new ArrayList<>();
+        for (int start = 0; start < totalUserCount; start=start+USER_BATCH_SIZE) {
+
+            logger.debug("getUsersWithRole: fetching " + USER_BATCH_SIZE + " users...");
+            allUsers.addAll(client.realm(tenantId).users().search(null,
+                    null,
+                    null,
+                    null,
+                    start, USER_BATCH_SIZE));
+        }
+        logger.debug("getUsersWithRole: all users count=" + allUsers.size());
+        allUsers.sort((a, b) -> a.getCreatedTimestamp() - b.getCreatedTimestamp() > 0 ? -1 : 1);
+        // The 100 most recently created users
+        List<UserRepresentation> mostRecentUsers = allUsers.subList(0, Math.min(allUsers.size(), 100));
+        logger.debug("getUsersWithRole: most recent users count=" + mostRecentUsers.size());
+
+        List<UserProfile> usersWithRole = new ArrayList<>();
+        for (UserRepresentation user: mostRecentUsers) {
+            UserResource userResource = client.realm(tenantId).users().get(user.getId());
+
+            List<RoleRepresentation> roleRepresentations = userResource.roles().realmLevel().listAll();
+            for (RoleRepresentation roleRepresentation : roleRepresentations){
+                if (roleRepresentation.getName().equals(roleName)) {
+                    usersWithRole.add(convertUserRepresentationToUserProfile(user, tenantId));
+                    break;
+                }
             }
         }
+        logger.debug("getUsersWithRole: most recent users with role count=" + usersWithRole.size());
+        return usersWithRole;
     }
 
     private UserProfile convertUserRepresentationToUserProfile(UserRepresentation userRepresentation, String tenantId) {
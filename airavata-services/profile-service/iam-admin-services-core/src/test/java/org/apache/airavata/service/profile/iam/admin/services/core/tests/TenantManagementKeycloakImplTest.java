@@ -0,0 +1,188 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.service.profile.iam.admin.services.core.tests;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.airavata.model.credential.store.PasswordCredential;
+import org.apache.airavata.model.user.UserProfile;
+import org.apache.airavata.service.profile.iam.admin.services.core.impl.KeycloakAdminClientCache;
+import org.apache.airavata.service.profile.iam.admin.services.core.impl.TenantManagementKeycloakImpl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link TenantManagementKeycloakImpl} against a mock Keycloak server which counts the requests it receives
+ */
+public class TenantManagementKeycloakImplTest {
+
+    private static final String TENANT_ID = "test-gateway";
+    private static final int ROLE_MEMBER_COUNT = 250;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private String previousIamServerUrl;
+    private KeycloakAdminClientCache clientCache;
+    private TenantManagementKeycloakImpl tenantManagement;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/realms/", this::handleToken);
+        server.createContext("/admin/realms/", this::handleRoleMembers);
+        server.start();
+
+        previousIamServerUrl = System.getProperty("iam.server.url");
+        System.setProperty("iam.server.url", "http://localhost:" + server.getAddress().getPort());
+        clientCache = new KeycloakAdminClientCache(10, 60000, 30, 4, false);
+        tenantManagement = new TenantManagementKeycloakImpl(clientCache);
+    }
+
+    @After
+    public void tearDown() {
+        clientCache.close();
+        server.stop(0);
+        if (previousIamServerUrl == null) {
+            System.clearProperty("iam.server.url");
+        } else {
+            System.setProperty("iam.server.url", previousIamServerUrl);
+        }
+    }
+
+    @Test
+    public void testRoleMembersArePagedByServer() throws Exception {
+        List<UserProfile> users = tenantManagement.getUsersWithRole(getAdminCreds(), TENANT_ID, "gateway-user");
+
+        Assert.assertEquals(ROLE_MEMBER_COUNT, users.size());
+        Assert.assertEquals("user0", users.get(0).getUserId());
+        Assert.assertEquals(TENANT_ID, users.get(0).getGatewayId());
+        // 100 + 100 + 50
+        Assert.assertEquals(3, getRequestCount("/admin/realms/" + TENANT_ID + "/roles/gateway-user/users"));
+        Assert.assertEquals(0, getRequestCount("/admin/realms/" + TENANT_ID + "/users"));
+    }
+
+    @Test
+    public void testAdminSessionIsReused() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            tenantManagement.getUsersWithRole(getAdminCreds(), TENANT_ID, "gateway-user");
+        }
+
+        Assert.assertEquals(1, getRequestCount("/realms/" + TENANT_ID + "/protocol/openid-connect/token"));
+        Assert.assertEquals(15, getRequestCount("/admin/realms/" + TENANT_ID + "/roles/gateway-user/users"));
+        Assert.assertEquals(1, clientCache.getCreatedClients());
+        Assert.assertEquals(1, clientCache.size());
+    }
+
+    @Test
+    public void testClientPerCredential() throws Exception {
+        PasswordCredential otherCreds = getAdminCreds();
+        otherCreds.setLoginUserName("other-admin");
+
+        tenantManagement.getUsersWithRole(getAdminCreds(), TENANT_ID, "gateway-user");
+        tenantManagement.getUsersWithRole(otherCreds, TENANT_ID, "gateway-user");
+        tenantManagement.getUsersWithRole(getAdminCreds(), TENANT_ID, "gateway-user");
+
+        Assert.assertEquals(2, getRequestCount("/realms/" + TENANT_ID + "/protocol/openid-connect/token"));
+        Assert.assertEquals(2, clientCache.getCreatedClients());
+    }
+
+    private PasswordCredential getAdminCreds() {
+        PasswordCredential creds = new PasswordCredential();
+        creds.setGatewayId(TENANT_ID);
+        creds.setPortalUserName("admin");
+        creds.setLoginUserName("admin");
+        creds.setPassword("admin-password");
+        return creds;
+    }
+
+    private int getRequestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private void countRequest(HttpExchange exchange) {
+        requestCounts.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        countRequest(exchange);
+        if (!exchange.getRequestURI().getPath().endsWith("/protocol/openid-connect/token")) {
+            respond(exchange, 404, "{}");
+            return;
+        }
+        respond(exchange, 200, "{\"access_token\":\"token\",\"expires_in\":300,\"refresh_expires_in\":1800," +
+                "\"refresh_token\":\"refresh\",\"token_type\":\"bearer\"}");
+    }
+
+    private void handleRoleMembers(HttpExchange exchange) throws IOException {
+        countRequest(exchange);
+        if (!exchange.getRequestURI().getPath().matches("/admin/realms/[^/]+/roles/[^/]+/users")) {
+            respond(exchange, 404, "{}");
+            return;
+        }
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        int first = Integer.parseInt(query.getOrDefault("first", "0"));
+        int max = Integer.parseInt(query.getOrDefault("max", "100"));
+
+        StringBuilder users = new StringBuilder("[");
+        for (int i = first; i < Math.min(first + max, ROLE_MEMBER_COUNT); i++) {
+            if (i > first) {
+                users.append(',');
+            }
+            users.append("{\"id\":\"id").append(i).append("\",\"username\":\"user").append(i)
+                    .append("\",\"firstName\":\"First\",\"lastName\":\"Last\",\"email\":\"user").append(i)
+                    .append("@example.org\",\"enabled\":true}");
+        }
+        users.append(']');
+        respond(exchange, 200, users.toString());
+    }
+
+    private Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query != null) {
+            for (String param : query.split("&")) {
+                String[] keyValue = param.split("=", 2);
+                params.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+            }
+        }
+        return params;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
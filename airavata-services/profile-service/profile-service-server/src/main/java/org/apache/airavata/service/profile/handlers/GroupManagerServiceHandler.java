@@ -3,6 +3,7 @@ package org.apache.airavata.service.profile.handlers;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.Constants;
 import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.common.utils.ThriftClientPool;
 import org.apache.airavata.model.error.AuthorizationException;
 import org.apache.airavata.model.group.GroupModel;
 import org.apache.airavata.model.security.AuthzToken;
@@ -10,11 +11,11 @@ import org.apache.airavata.service.profile.groupmanager.cpi.GroupManagerService;
 import org.apache.airavata.service.profile.groupmanager.cpi.exception.GroupManagerServiceException;
 import org.apache.airavata.service.profile.groupmanager.cpi.group_manager_cpiConstants;
 import org.apache.airavata.service.security.interceptor.SecurityCheck;
-import org.apache.airavata.sharing.registry.client.SharingRegistryServiceClientFactory;
 import org.apache.airavata.sharing.registry.models.GroupType;
-import org.apache.airavata.sharing.registry.models.SharingRegistryException;
 import org.apache.airavata.sharing.registry.models.UserGroup;
+import org.apache.airavata.sharing.registry.models.UserGroupWithMembers;
 import org.apache.airavata.sharing.registry.service.cpi.SharingRegistryService;
+import org.apache.commons.pool.impl.GenericObjectPool;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +28,8 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
 
     private static final Logger logger = LoggerFactory.getLogger(GroupManagerServiceHandler.class);
 
+    private ThriftClientPool<SharingRegistryService.Client> sharingClientPool;
+
     public GroupManagerServiceHandler() {
 
     }
@@ -39,9 +42,10 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public String createGroup(AuthzToken authzToken, GroupModel groupModel) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
             //TODO Validations for authorization
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
+            sharingClient = getSharingClientPool().getResource();
 
             UserGroup sharingUserGroup = new UserGroup();
             sharingUserGroup.setGroupId(UUID.randomUUID().toString());
@@ -55,6 +59,7 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
 
             String groupId = sharingClient.createGroup(sharingUserGroup);
             sharingClient.addUsersToGroup(gatewayId, groupModel.getMembers(), groupId);
+            sharingClientPool.returnResource(sharingClient);
             return groupId;
         }
         catch (Exception e) {
@@ -62,6 +67,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -69,9 +77,10 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean updateGroup(AuthzToken authzToken, GroupModel groupModel) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
             //TODO Validations for authorization
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
+            sharingClient = getSharingClientPool().getResource();
 
             UserGroup sharingUserGroup = new UserGroup();
             sharingUserGroup.setGroupId(groupModel.getId());
@@ -82,6 +91,7 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
 
             //adding and removal of users should be handle separately
             sharingClient.updateGroup(sharingUserGroup);
+            sharingClientPool.returnResource(sharingClient);
             return true;
         }
         catch (Exception e) {
@@ -89,6 +99,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -96,11 +109,13 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean deleteGroup(AuthzToken authzToken, String groupId, String ownerId) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
             //TODO Validations for authorization
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
+            sharingClient = getSharingClientPool().getResource();
 
             sharingClient.deleteGroup(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId);
+            sharingClientPool.returnResource(sharingClient);
             return true;
         }
         catch (Exception e) {
@@ -108,6 +123,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -115,8 +133,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public GroupModel getGroup(AuthzToken authzToken, String groupId) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
+            sharingClient = getSharingClientPool().getResource();
             UserGroup userGroup = sharingClient.getGroup(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId);
 
             GroupModel groupModel = new GroupModel();
@@ -129,6 +148,7 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
                     groupModel.addToMembers(user.getUserId())
             );
 
+            sharingClientPool.returnResource(sharingClient);
             return groupModel;
         }
         catch (Exception e) {
@@ -136,6 +156,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -143,23 +166,25 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public List<GroupModel> getAllGroupsUserBelongs(AuthzToken authzToken, String userName) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
+            sharingClient = getSharingClientPool().getResource();
             List<GroupModel> groupModels = new ArrayList<GroupModel>();
-            List<UserGroup> userGroups = sharingClient.getAllMemberGroupsForUser(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), userName);
+            // Groups come with their members in a single call
+            List<UserGroupWithMembers> userGroups = sharingClient.getAllMemberGroupsWithMembersForUser(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), userName);
 
-            for (UserGroup userGroup: userGroups) {
+            for (UserGroupWithMembers userGroupWithMembers: userGroups) {
+                UserGroup userGroup = userGroupWithMembers.getGroup();
                 GroupModel groupModel = new GroupModel();
                 groupModel.setId(userGroup.getGroupId());
                 groupModel.setName(userGroup.getName());
                 groupModel.setDescription(userGroup.getDescription());
                 groupModel.setOwnerId(userGroup.getOwnerId());
-
-                sharingClient.getGroupMembersOfTypeUser(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), userGroup.getGroupId(), 0, -1).stream().forEach(user->
-                        groupModel.addToMembers(user.getUserId()));
+                groupModel.setMembers(new ArrayList<>(userGroupWithMembers.getMemberIds()));
 
                 groupModels.add(groupModel);
             }
+            sharingClientPool.returnResource(sharingClient);
             return groupModels;
         }
         catch (Exception e) {
@@ -167,6 +192,9 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -174,15 +202,21 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean transferGroupOwnership(AuthzToken authzToken, String groupId, String newOwnerId) throws GroupManagerServiceException, AuthorizationException, TException {
+       SharingRegistryService.Client sharingClient = null;
        try{
-           SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
-           return sharingClient.transferGroupOwnership(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, newOwnerId);
+           sharingClient = getSharingClientPool().getResource();
+           boolean transferred = sharingClient.transferGroupOwnership(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, newOwnerId);
+           sharingClientPool.returnResource(sharingClient);
+           return transferred;
        }
        catch (Exception e) {
            String msg = "Error Transferring Group Ownership";
            logger.error(msg, e);
            GroupManagerServiceException exception = new GroupManagerServiceException();
            exception.setMessage(msg + " More info : " + e.getMessage());
+           if (sharingClient != null) {
+               sharingClientPool.returnBrokenResource(sharingClient);
+           }
            throw exception;
        }
 
@@ -191,15 +225,21 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean addGroupAdmins(AuthzToken authzToken, String groupId, List<String> adminIds) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
-            return sharingClient.addGroupAdmins(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminIds);
+            sharingClient = getSharingClientPool().getResource();
+            boolean added = sharingClient.addGroupAdmins(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminIds);
+            sharingClientPool.returnResource(sharingClient);
+            return added;
         }
         catch (Exception e) {
             String msg = "Error Adding Admins to Group. Group ID: " + groupId;
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -207,15 +247,21 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean removeGroupAdmins(AuthzToken authzToken, String groupId, List<String> adminIds) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
-            return sharingClient.removeGroupAdmins(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminIds);
+            sharingClient = getSharingClientPool().getResource();
+            boolean removed = sharingClient.removeGroupAdmins(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminIds);
+            sharingClientPool.returnResource(sharingClient);
+            return removed;
         }
         catch (Exception e) {
             String msg = "Error Removing Admins from the Group. Group ID: " + groupId;
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -223,15 +269,21 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean hasAdminAccess(AuthzToken authzToken, String groupId, String adminId) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
-            return sharingClient.hasAdminAccess(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminId);
+            sharingClient = getSharingClientPool().getResource();
+            boolean hasAccess = sharingClient.hasAdminAccess(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, adminId);
+            sharingClientPool.returnResource(sharingClient);
+            return hasAccess;
         }
         catch (Exception e) {
             String msg = "Error Checking Admin Access for the Group. Group ID: " + groupId + " Admin ID: " + adminId;
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
@@ -239,26 +291,40 @@ public class GroupManagerServiceHandler implements GroupManagerService.Iface {
     @Override
     @SecurityCheck
     public boolean hasOwnerAccess(AuthzToken authzToken, String groupId, String ownerId) throws GroupManagerServiceException, AuthorizationException, TException {
+        SharingRegistryService.Client sharingClient = null;
         try {
-            SharingRegistryService.Client sharingClient = getSharingRegistryServiceClient();
-            return sharingClient.hasOwnerAccess(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, ownerId);
+            sharingClient = getSharingClientPool().getResource();
+            boolean hasAccess = sharingClient.hasOwnerAccess(authzToken.getClaimsMap().get(Constants.GATEWAY_ID), groupId, ownerId);
+            sharingClientPool.returnResource(sharingClient);
+            return hasAccess;
         }
         catch (Exception e) {
             String msg = "Error Checking Owner Access for the Group. Group ID: " + groupId + " Owner ID: " + ownerId;
             logger.error(msg, e);
             GroupManagerServiceException exception = new GroupManagerServiceException();
             exception.setMessage(msg + " More info : " + e.getMessage());
+            if (sharingClient != null) {
+                sharingClientPool.returnBrokenResource(sharingClient);
+            }
             throw exception;
         }
     }
 
-    private SharingRegistryService.Client getSharingRegistryServiceClient() throws TException, ApplicationSettingsException {
-        final int serverPort = Integer.parseInt(ServerSettings.getSharingRegistryPort());
-        final String serverHost = ServerSettings.getSharingRegistryHost();
-        try {
-            return SharingRegistryServiceClientFactory.createSharingRegistryClient(serverHost, serverPort);
-        } catch (SharingRegistryException e) {
-            throw new TException("Unable to create sharing registry client...", e);
+    private synchronized ThriftClientPool<SharingRegistryService.Client> getSharingClientPool() throws ApplicationSettingsException {
+        if (sharingClientPool == null) {
+            GenericObjectPool.Config poolConfig = new GenericObjectPool.Config();
+            poolConfig.maxActive = Integer.parseInt(ServerSettings.getSetting("profile.service.sharing.client.pool.max.active", "20"));
+            poolConfig.minIdle = 1;
+            poolConfig.whenExhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+            poolConfig.testOnBorrow = true;
+            poolConfig.testWhileIdle = true;
+            poolConfig.numTestsPerEvictionRun = 10;
+            poolConfig.maxWait = 3000;
+
+            sharingClientPool = new ThriftClientPool<>(
+                    tProtocol -> new SharingRegistryService.Client(tProtocol), poolConfig, ServerSettings.getSharingRegistryHost(),
+                    Integer.parseInt(ServerSettings.getSharingRegistryPort()));
         }
+        return sharingClientPool;
     }
 }
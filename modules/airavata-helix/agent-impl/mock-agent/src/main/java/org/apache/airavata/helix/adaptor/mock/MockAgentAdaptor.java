@@ -0,0 +1,230 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.adaptor.mock;
+
+import org.apache.airavata.agents.api.AgentAdaptor;
+import org.apache.airavata.agents.api.AgentException;
+import org.apache.airavata.agents.api.CommandOutput;
+import org.apache.airavata.agents.api.StorageResourceAdaptor;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compute and storage adaptor that works on a local sandbox directory instead of a remote host, so that the whole
+ * pipeline can be run and load tested on one machine. Paths of the resource are mapped under the sandbox directory
+ * and the batch scheduler is simulated by the {@link MockScheduler} of the compute resource. Other commands are
+ * accepted and succeed without doing anything, except <code>mkdir</code>, <code>rm</code> and <code>cat</code>.
+ * <p>
+ * A fixed delay can be added to every operation to account for the round trip to a real resource
+ */
+public class MockAgentAdaptor implements AgentAdaptor, StorageResourceAdaptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockAgentAdaptor.class);
+
+    private File sandboxDir;
+    private long latencyMS;
+    private String userId;
+    private MockScheduler scheduler;
+
+    @Override
+    public void init(String resourceId, String gatewayId, String userId, String token) throws AgentException {
+        this.sandboxDir = new File(ServerSettings.getSetting("agent.mock.sandbox.dir",
+                System.getProperty("java.io.tmpdir") + File.separator + "airavata-mock"));
+        this.latencyMS = ServerSettings.getLongSetting("agent.mock.command.latency.ms", 0);
+        this.userId = userId;
+        this.scheduler = MockScheduler.getScheduler(resourceId);
+
+        if (!sandboxDir.isDirectory() && !sandboxDir.mkdirs()) {
+            throw new AgentException("Could not create the sandbox directory " + sandboxDir.getAbsolutePath());
+        }
+        logger.info("Initialized mock adaptor for resource " + resourceId + ", gateway " + gatewayId + ", user " +
+                userId + " on sandbox " + sandboxDir.getAbsolutePath());
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    /**
+     * Local file of the given path of the resource
+     */
+    File toLocalFile(String path) {
+        return new File(sandboxDir, path);
+    }
+
+    @Override
+    public CommandOutput executeCommand(String command, String workingDirectory) throws AgentException {
+        simulateLatency();
+        try {
+            CommandOutput output = scheduler.execute(command, userId, this);
+            if (output != null) {
+                return output;
+            }
+
+            String[] args = command.trim().split("\\s+");
+            switch (args[0]) {
+                case "mkdir":
+                    for (String arg : args) {
+                        if (!arg.startsWith("-") && !arg.equals(args[0])) {
+                            toLocalFile(resolve(arg, workingDirectory)).mkdirs();
+                        }
+                    }
+                    break;
+                case "rm":
+                    for (String arg : args) {
+                        if (!arg.startsWith("-") && !arg.equals(args[0])) {
+                            delete(toLocalFile(resolve(arg, workingDirectory)));
+                        }
+                    }
+                    break;
+                case "cat":
+                    File file = args.length > 1 ? toLocalFile(resolve(args[1], workingDirectory)) : null;
+                    if (file == null || !file.isFile()) {
+                        return new MockCommandOutput("", "cat: No such file or directory", 1);
+                    }
+                    return new MockCommandOutput(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8), "", 0);
+                default:
+                    logger.debug("Ignoring command " + command);
+            }
+            return new MockCommandOutput("", "", 0);
+
+        } catch (IOException e) {
+            throw new AgentException(e);
+        }
+    }
+
+    @Override
+    public void createDirectory(String path) throws AgentException {
+        createDirectory(path, false);
+    }
+
+    @Override
+    public void createDirectory(String path, boolean recursive) throws AgentException {
+        simulateLatency();
+        File dir = toLocalFile(path);
+        if (!(recursive ? dir.mkdirs() : dir.mkdir()) && !dir.isDirectory()) {
+            throw new AgentException("Could not create directory " + path);
+        }
+    }
+
+    @Override
+    public void copyFileTo(String localFile, String remoteFile) throws AgentException {
+        simulateLatency();
+        copy(new File(localFile), toLocalFile(remoteFile));
+    }
+
+    @Override
+    public void copyFileFrom(String remoteFile, String localFile) throws AgentException {
+        simulateLatency();
+        copy(toLocalFile(remoteFile), new File(localFile));
+    }
+
+    @Override
+    public List<String> listDirectory(String path) throws AgentException {
+        simulateLatency();
+        String[] names = toLocalFile(path).list();
+        if (names == null) {
+            throw new AgentException("No such directory " + path);
+        }
+        List<String> result = new ArrayList<>();
+        for (String name : names) {
+            result.add(name);
+        }
+        return result;
+    }
+
+    @Override
+    public Boolean doesFileExist(String filePath) throws AgentException {
+        simulateLatency();
+        return toLocalFile(filePath).exists();
+    }
+
+    @Override
+    public List<String> getFileNameFromExtension(String fileName, String parentPath) throws AgentException {
+        Pattern pattern = Pattern.compile(("\\Q" + fileName + "\\E").replace("*", "\\E.*\\Q").replace("?", "\\E.\\Q"));
+        List<String> paths = new ArrayList<>();
+        for (String name : listDirectory(parentPath)) {
+            if (pattern.matcher(name).matches()) {
+                paths.add(parentPath.endsWith("/") ? parentPath + name : parentPath + "/" + name);
+            }
+        }
+        return paths;
+    }
+
+    @Override
+    public void uploadFile(String sourceFile, String destFile) throws AgentException {
+        copyFileTo(sourceFile, destFile);
+    }
+
+    @Override
+    public void downloadFile(String sourceFile, String destFile) throws AgentException {
+        copyFileFrom(sourceFile, destFile);
+    }
+
+    private void copy(File source, File target) throws AgentException {
+        if (!source.isFile()) {
+            throw new AgentException("No such file " + source.getAbsolutePath());
+        }
+        if (target.isDirectory()) {
+            target = new File(target, source.getName());
+        }
+        try {
+            target.getAbsoluteFile().getParentFile().mkdirs();
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new AgentException("Failed to copy " + source.getAbsolutePath() + " to " + target.getAbsolutePath(), e);
+        }
+    }
+
+    private static String resolve(String path, String workingDirectory) {
+        return path.startsWith("/") || workingDirectory == null ? path : workingDirectory + "/" + path;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private void simulateLatency() throws AgentException {
+        if (latencyMS > 0) {
+            try {
+                Thread.sleep(latencyMS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AgentException("Interrupted while executing the mock operation", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.adaptor.mock;
+
+import org.apache.airavata.agents.api.CommandOutput;
+
+/**
+ * Output of a command executed by {@link MockAgentAdaptor}
+ */
+public class MockCommandOutput implements CommandOutput {
+
+    private final String stdOut;
+    private final String stdError;
+    private final Integer exitCode;
+
+    public MockCommandOutput(String stdOut, String stdError, Integer exitCode) {
+        this.stdOut = stdOut;
+        this.stdError = stdError;
+        this.exitCode = exitCode;
+    }
+
+    @Override
+    public String getStdOut() {
+        return stdOut;
+    }
+
+    @Override
+    public String getStdError() {
+        return stdError;
+    }
+
+    @Override
+    public Integer getExitCode() {
+        return exitCode;
+    }
+}
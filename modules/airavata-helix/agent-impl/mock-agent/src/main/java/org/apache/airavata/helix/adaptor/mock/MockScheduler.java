@@ -0,0 +1,463 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.adaptor.mock;
+
+import org.apache.airavata.agents.api.CommandOutput;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Simulates the batch scheduler of a compute resource for {@link MockAgentAdaptor}. Submitted jobs wait in a FIFO
+ * queue for at least the configured queue time and until one of the configured slots is free, run for the configured
+ * run time and then complete. The status messages that the job script publishes when it starts and finishes are
+ * posted to their endpoints at those transitions, so the job monitors see the mock jobs just like real ones.
+ * <p>
+ * Submission, monitoring and cancel commands of SLURM, PBS and LSF are answered in the output format of the
+ * respective scheduler, so that the output parsers of the job submission tasks work unchanged.
+ */
+public class MockScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockScheduler.class);
+
+    // Completed jobs are still listed for a while as real schedulers do
+    private static final long COMPLETED_JOB_RETENTION_MS = 10 * 60 * 1000;
+
+    private static final Pattern JOB_NAME_PATTERN = Pattern.compile(
+            "^#(?:SBATCH\\s+(?:-J\\s*|--job-name=)|PBS\\s+-N\\s*|BSUB\\s+-J\\s*)(\\S+)", Pattern.MULTILINE);
+    private static final Pattern QUEUE_PATTERN = Pattern.compile(
+            "^#(?:SBATCH\\s+(?:-p\\s*|--partition=)|PBS\\s+-q\\s*|BSUB\\s+-q\\s*)(\\S+)", Pattern.MULTILINE);
+    private static final Pattern OUTPUT_FILE_PATTERN = Pattern.compile(
+            "^#(?:SBATCH\\s+(?:-[oe]\\s*|--output=|--error=)|PBS\\s+-[oe]\\s*|BSUB\\s+-[oe]\\s*)(\\S+)", Pattern.MULTILINE);
+    private static final Pattern STATUS_PUBLISH_PATTERN = Pattern.compile(
+            "^curl .*--data '(\\{[^']*\\})' \"([^\"]+)\"", Pattern.MULTILINE);
+
+    private static final ConcurrentMap<String, MockScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    private enum Kind {
+        SLURM("Submitted batch job %s\n", "PD", "R", "CD", "CA"),
+        PBS("%s\n", "Q", "R", "C", "C"),
+        LSF("Job <%s> is submitted to queue <%s>.\n", "PEND", "RUN", "DONE", "EXIT");
+
+        private final String submissionOutput;
+        private final String[] stateCodes;
+
+        Kind(String submissionOutput, String... stateCodes) {
+            this.submissionOutput = submissionOutput;
+            this.stateCodes = stateCodes;
+        }
+
+        private String code(State state) {
+            return stateCodes[state.ordinal()];
+        }
+    }
+
+    private enum State {
+        QUEUED, RUNNING, COMPLETED, CANCELED
+    }
+
+    private static class MockJob {
+        private final String id;
+        private final String name;
+        private final String user;
+        private final String queue;
+        private final Kind kind;
+        private final long submitTime = System.currentTimeMillis();
+        private final long submitNanos = System.nanoTime();
+        private final List<String[]> startMessages = new ArrayList<>();
+        private final List<String[]> endMessages = new ArrayList<>();
+        private final List<File> outputFiles = new ArrayList<>();
+        private State state = State.QUEUED;
+        private long startTime;
+        private long endTime;
+
+        private MockJob(String id, String name, String user, String queue, Kind kind) {
+            this.id = id;
+            this.name = name;
+            this.user = user;
+            this.queue = queue;
+            this.kind = kind;
+        }
+    }
+
+    private final String computeResourceId;
+    private final int slots;
+    private final long queueTimeMS;
+    private final long runTimeMS;
+
+    private final AtomicLong jobCounter = new AtomicLong(1000000);
+    private final Map<String, MockJob> jobs = new LinkedHashMap<>();
+    private final Deque<MockJob> waitingJobs = new ArrayDeque<>();
+    private int runningJobs;
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService publisher;
+
+    MockScheduler(String computeResourceId, int slots, long queueTimeMS, long runTimeMS) {
+        this.computeResourceId = computeResourceId;
+        this.slots = slots;
+        this.queueTimeMS = queueTimeMS;
+        this.runTimeMS = runTimeMS;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Mock-Scheduler-" + computeResourceId);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.publisher = Executors.newFixedThreadPool(4, r -> {
+            Thread thread = new Thread(r, "Mock-Status-Publisher-" + computeResourceId);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the scheduler simulating the given compute resource. All the adaptors of a compute resource share it
+     */
+    public static MockScheduler getScheduler(String computeResourceId) {
+        return SCHEDULERS.computeIfAbsent(computeResourceId, id -> new MockScheduler(id,
+                ServerSettings.getIntSetting("agent.mock.scheduler.slots", 16),
+                ServerSettings.getLongSetting("agent.mock.scheduler.queue.time.ms", 5000),
+                ServerSettings.getLongSetting("agent.mock.scheduler.run.time.ms", 30000)));
+    }
+
+    /**
+     * Executes the command if it is a command of a supported scheduler
+     *
+     * @param command command line as sent to the compute resource. A trailing <code>| tee file</code> is honoured
+     * @param user login user of the adaptor
+     * @param sandbox adaptor used to resolve the paths of the compute resource
+     * @return output of the command or null if the command is not a scheduler command
+     */
+    public CommandOutput execute(String command, String user, MockAgentAdaptor sandbox) throws IOException {
+        String teeFile = null;
+        int pipe = command.indexOf('|');
+        if (pipe >= 0) {
+            String piped = command.substring(pipe + 1).trim();
+            if (piped.startsWith("tee ")) {
+                teeFile = piped.substring(4).trim();
+            }
+            command = command.substring(0, pipe);
+        }
+
+        List<String> args = new ArrayList<>();
+        for (String arg : command.trim().split("\\s+")) {
+            if (!arg.isEmpty() && !"<".equals(arg)) {
+                args.add(arg);
+            }
+        }
+        if (args.isEmpty()) {
+            return null;
+        }
+
+        MockCommandOutput output;
+        String program = new File(args.get(0)).getName();
+        switch (program) {
+            case "sbatch":
+                output = submit(Kind.SLURM, args, user, sandbox);
+                break;
+            case "qsub":
+                output = submit(Kind.PBS, args, user, sandbox);
+                break;
+            case "bsub":
+                output = submit(Kind.LSF, args, user, sandbox);
+                break;
+            case "squeue":
+                output = squeue(args);
+                break;
+            case "qstat":
+                output = qstat(args);
+                break;
+            case "bjobs":
+                output = bjobs(args);
+                break;
+            case "scancel":
+            case "qdel":
+            case "bkill":
+                output = cancelJobs(args);
+                break;
+            default:
+                return null;
+        }
+
+        if (teeFile != null) {
+            File recording = sandbox.toLocalFile(teeFile);
+            recording.getParentFile().mkdirs();
+            Files.write(recording.toPath(), output.getStdOut().getBytes(StandardCharsets.UTF_8));
+        }
+        return output;
+    }
+
+    private MockCommandOutput submit(Kind kind, List<String> args, String user, MockAgentAdaptor sandbox) throws IOException {
+        File scriptFile = args.size() < 2 ? null : sandbox.toLocalFile(args.get(args.size() - 1));
+        if (scriptFile == null || !scriptFile.isFile()) {
+            return new MockCommandOutput("", args.get(0) + ": unable to open the job script", 1);
+        }
+        String script = new String(Files.readAllBytes(scriptFile.toPath()), StandardCharsets.UTF_8);
+
+        long number = jobCounter.incrementAndGet();
+        String id = kind == Kind.PBS ? number + ".mock" : String.valueOf(number);
+        MockJob job = new MockJob(id, firstMatch(JOB_NAME_PATTERN, script, "job" + number), user,
+                firstMatch(QUEUE_PATTERN, script, "normal"), kind);
+
+        Matcher matcher = STATUS_PUBLISH_PATTERN.matcher(script);
+        while (matcher.find()) {
+            String[] message = {matcher.group(1), matcher.group(2)};
+            (message[0].contains("\"RUNNING\"") ? job.startMessages : job.endMessages).add(message);
+        }
+        matcher = OUTPUT_FILE_PATTERN.matcher(script);
+        while (matcher.find()) {
+            job.outputFiles.add(sandbox.toLocalFile(matcher.group(1)));
+        }
+
+        synchronized (this) {
+            jobs.put(id, job);
+            waitingJobs.add(job);
+        }
+        timer.schedule(this::dispatch, queueTimeMS, TimeUnit.MILLISECONDS);
+
+        logger.info("Queued mock job " + id + " (" + job.name + ") on " + computeResourceId);
+        return new MockCommandOutput(String.format(kind.submissionOutput, id, job.queue), "", 0);
+    }
+
+    private synchronized void dispatch() {
+        long now = System.nanoTime();
+        while (runningJobs < slots && !waitingJobs.isEmpty()) {
+            MockJob job = waitingJobs.peek();
+            if (job.state != State.QUEUED) {
+                // canceled while waiting
+                waitingJobs.poll();
+                continue;
+            }
+            if (now - job.submitNanos < TimeUnit.MILLISECONDS.toNanos(queueTimeMS)) {
+                // the dispatch scheduled at the submission of the job picks it
+                break;
+            }
+            waitingJobs.poll();
+            job.state = State.RUNNING;
+            job.startTime = System.currentTimeMillis();
+            runningJobs++;
+            publisher.execute(() -> publish(job, job.startMessages));
+            timer.schedule(() -> finish(job), runTimeMS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void finish(MockJob job) {
+        if (job.state != State.RUNNING) {
+            return;
+        }
+        job.state = State.COMPLETED;
+        job.endTime = System.currentTimeMillis();
+        runningJobs--;
+        publisher.execute(() -> {
+            // outputs should be there by the time the job monitor sees the completion
+            createOutputFiles(job);
+            publish(job, job.endMessages);
+        });
+        retire(job);
+        dispatch();
+    }
+
+    private synchronized boolean cancel(String jobId) {
+        MockJob job = jobs.get(jobId);
+        if (job == null || (job.state != State.QUEUED && job.state != State.RUNNING)) {
+            return false;
+        }
+        if (job.state == State.RUNNING) {
+            runningJobs--;
+        }
+        job.state = State.CANCELED;
+        job.endTime = System.currentTimeMillis();
+        retire(job);
+        dispatch();
+        return true;
+    }
+
+    private void retire(MockJob job) {
+        timer.schedule(() -> {
+            synchronized (MockScheduler.this) {
+                jobs.remove(job.id);
+            }
+        }, COMPLETED_JOB_RETENTION_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void createOutputFiles(MockJob job) {
+        for (File outputFile : job.outputFiles) {
+            try {
+                outputFile.getParentFile().mkdirs();
+                outputFile.createNewFile();
+            } catch (IOException e) {
+                logger.warn("Failed to create output file " + outputFile + " of mock job " + job.id, e);
+            }
+        }
+    }
+
+    private void publish(MockJob job, List<String[]> messages) {
+        for (String[] message : messages) {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL(message[1]).openConnection();
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                connection.setConnectTimeout(10000);
+                connection.setReadTimeout(10000);
+                connection.setRequestProperty("Content-Type", "application/vnd.kafka.json.v2+json");
+                connection.setRequestProperty("Accept", "application/vnd.kafka.v2+json");
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(message[0].getBytes(StandardCharsets.UTF_8));
+                }
+                int responseCode = connection.getResponseCode();
+                if (responseCode >= 300) {
+                    logger.warn("Status endpoint " + message[1] + " returned " + responseCode + " for mock job " + job.id);
+                }
+                connection.disconnect();
+            } catch (IOException e) {
+                // the job script ignores these failures too
+                logger.warn("Failed to publish the status of mock job " + job.id + " to " + message[1], e);
+            }
+        }
+    }
+
+    private MockCommandOutput cancelJobs(List<String> args) {
+        boolean canceled = false;
+        for (String arg : args.subList(1, args.size())) {
+            if (!arg.startsWith("-")) {
+                canceled |= cancel(arg);
+            }
+        }
+        return new MockCommandOutput("", canceled ? "" : "Invalid job id specified", canceled ? 0 : 1);
+    }
+
+    private MockCommandOutput squeue(List<String> args) {
+        StringBuilder out = new StringBuilder("             JOBID PARTITION     NAME     USER ST       TIME  NODES NODELIST(REASON)\n");
+        for (MockJob job : select(Kind.SLURM, args, "-j", "-n")) {
+            out.append(String.format("%18s %9s %8s %8s %2s %10s %6d %s%n", job.id, job.queue, job.name, job.user,
+                    job.kind.code(job.state), elapsed(job), 1, job.state == State.QUEUED ? "(Priority)" : "mock-node"));
+        }
+        return new MockCommandOutput(out.toString(), "", 0);
+    }
+
+    private MockCommandOutput qstat(List<String> args) {
+        StringBuilder out = new StringBuilder();
+        List<MockJob> selected = select(Kind.PBS, args, "-f", null);
+        if (args.contains("-f")) {
+            for (MockJob job : selected) {
+                out.append("Job Id: ").append(job.id).append('\n')
+                        .append("    Job_Name = ").append(job.name).append('\n')
+                        .append("    Job_Owner = ").append(job.user).append("@mock\n")
+                        .append("    job_state = ").append(job.kind.code(job.state)).append('\n')
+                        .append("    queue = ").append(job.queue).append("\n\n");
+            }
+        } else {
+            out.append("\nmock:\n")
+                    .append("                                                                         Req'd    Req'd       Elap\n")
+                    .append("Job ID                  Username    Queue    Jobname          SessID  NDS   TSK   Memory   Time    S   Time\n")
+                    .append("----------------------- ----------- -------- ---------------- ------ ----- ------ ------ --------- - ---------\n");
+            for (MockJob job : selected) {
+                out.append(String.format("%-23s %-11s %-8s %-16s %6s %5d %6d %6s %9s %s %9s%n", job.id, job.user,
+                        job.queue, job.name, "--", 1, 1, "--", "--", job.kind.code(job.state), elapsed(job)));
+            }
+        }
+        return new MockCommandOutput(out.toString(), "", 0);
+    }
+
+    private MockCommandOutput bjobs(List<String> args) {
+        StringBuilder out = new StringBuilder("JOBID   USER    STAT  QUEUE      FROM_HOST   EXEC_HOST   JOB_NAME   SUBMIT_TIME\n");
+        SimpleDateFormat submitTimeFormat = new SimpleDateFormat("MMM dd HH:mm");
+        for (MockJob job : select(Kind.LSF, args, null, "-J")) {
+            out.append(String.format("%-7s %-7s %-5s %-10s %-11s %-11s %-10s %s%n", job.id, job.user,
+                    job.kind.code(job.state), job.queue, "mock", job.state == State.QUEUED ? "" : "mock-node", job.name,
+                    submitTimeFormat.format(new Date(job.submitTime))));
+        }
+        return new MockCommandOutput(out.toString(), "", 0);
+    }
+
+    /**
+     * Selects the jobs of a monitoring command. Job ids are given either with the id option or as plain arguments
+     */
+    private synchronized List<MockJob> select(Kind kind, List<String> args, String idOption, String nameOption) {
+        List<String> ids = new ArrayList<>();
+        String name = null;
+        String user = null;
+        for (int i = 1; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (i + 1 < args.size() && arg.equals(nameOption)) {
+                name = args.get(++i);
+            } else if (i + 1 < args.size() && arg.equals("-u")) {
+                user = args.get(++i);
+            } else if (i + 1 < args.size() && arg.equals(idOption)) {
+                ids.add(args.get(++i));
+            } else if (!arg.startsWith("-")) {
+                ids.add(arg);
+            }
+        }
+
+        String selectedName = name;
+        String selectedUser = user;
+        Predicate<MockJob> filter = job -> job.kind == kind && (ids.isEmpty() || ids.contains(job.id))
+                && (selectedName == null || selectedName.equals(job.name))
+                && (selectedUser == null || selectedUser.equals(job.user));
+
+        List<MockJob> selected = new ArrayList<>();
+        for (MockJob job : jobs.values()) {
+            if (filter.test(job)) {
+                selected.add(job);
+            }
+        }
+        return selected;
+    }
+
+    private static String elapsed(MockJob job) {
+        if (job.startTime == 0) {
+            return "0:00";
+        }
+        long seconds = ((job.endTime > 0 ? job.endTime : System.currentTimeMillis()) - job.startTime) / 1000;
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    private static String firstMatch(Pattern pattern, String text, String defaultValue) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : defaultValue;
+    }
+}
@@ -22,8 +22,8 @@ package org.apache.airavata.helix.adaptor;
 import net.schmizz.sshj.Config;
 import net.schmizz.sshj.SSHClient;
 import net.schmizz.sshj.common.DisconnectReason;
+import net.schmizz.sshj.connection.channel.OpenFailException;
 import net.schmizz.sshj.connection.channel.direct.Session;
-import net.schmizz.sshj.sftp.RemoteFile;
 import net.schmizz.sshj.sftp.SFTPClient;
 import net.schmizz.sshj.transport.DisconnectListener;
 import net.schmizz.sshj.transport.TransportException;
@@ -39,22 +39,43 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * This class will keep a pool of {@link SSHClient} and scale them according to the number of SSH requests.
- * This pool is MaxSessions per connection aware and thread safe. It is intelligent to decide the number of connections
- * that it should create and number of sessions should be used in each created connection to avoid possible connection
- * refusals from the server side.
+ * This pool is MaxSessions per connection aware and thread safe. The configured max sessions per connection is an upper
+ * bound. The effective MaxSessions value of a remote host is discovered by observing channel open refusals and is shared
+ * by all the pools connecting to the same host, so that later connections do not hit the same refusals. A discovered
+ * limit is raised again by one session after a quiet period without refusals, so a transient refusal does not pin the
+ * host to a low limit. Sessions are leased without locking by atomically reserving a slot in one of the tracked
+ * connections. Once all the connections of a host are saturated, callers wait in a fair queue until a session is
+ * released.
  */
 public class PoolingSSHJClient extends SSHClient {
 
     private final static Logger logger = LoggerFactory.getLogger(PoolingSSHJClient.class);
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Map<SSHClient, SSHClientInfo> clientInfoMap = new HashMap<>();
+    // host:port -> discovered max sessions per connection
+    private final static Map<String, HostSessionLimit> discoveredSessionLimits = new ConcurrentHashMap<>();
+
+    private final Map<SSHClient, SSHClientInfo> clientInfoMap = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger(0);
+    private final AtomicInteger clientIdGenerator = new AtomicInteger(0);
+
+    private final AtomicLong totalLeases = new AtomicLong(0);
+    private final AtomicLong queuedLeases = new AtomicLong(0);
+    private final AtomicLong channelOpenFailures = new AtomicLong(0);
+
+    // lets callers that hold a permit but found every connection full wait until a session slot is freed
+    private final ReentrantLock slotLock = new ReentrantLock();
+    private final Condition slotReleased = slotLock.newCondition();
+    private final AtomicLong slotReleases = new AtomicLong(0);
+    private final AtomicInteger slotWaiters = new AtomicInteger(0);
 
     private HostKeyVerifier hostKeyVerifier;
     private String username;
@@ -63,8 +84,17 @@ public class PoolingSSHJClient extends SSHClient {
     private String host;
     private int port;
 
-    private int maxSessionsForConnection = 10;
+    private volatile int maxSessionsForConnection = 10;
+    // max sessions per connection in use, which is lower than the configured value when the host refused sessions
+    private volatile int sessionLimit = maxSessionsForConnection;
+    // connections are not limited unless configured
+    private int maxConnections = Integer.MAX_VALUE;
     private long maxConnectionIdleTimeMS = 10 * 60 * 1000;
+    private long leaseTimeoutMS = 10 * 60 * 1000;
+    private long sessionLimitProbeIntervalMS = 10 * 60 * 1000;
+
+    private SessionPermits sessionPermits = new SessionPermits(totalSessions(maxConnections, sessionLimit));
+    private HostSessionLimit hostSessionLimit;
 
     public void addHostKeyVerifier(HostKeyVerifier verifier) {
         this.hostKeyVerifier = verifier;
@@ -80,6 +110,9 @@ public class PoolingSSHJClient extends SSHClient {
         this.host = host;
         this.port = port;
 
+        this.hostSessionLimit = discoveredSessionLimits.computeIfAbsent(getHostKey(), key -> new HostSessionLimit());
+        refreshSessionLimit();
+
         ScheduledExecutorService poolMonitoringService = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread thread = new Thread(r, "SSH-Pool-Monitor-" + host + "-" + port);
             thread.setDaemon(true);
@@ -97,122 +130,181 @@ public class PoolingSSHJClient extends SSHClient {
     ////////////////// client specific operations ///////
 
     private SSHClient leaseSSHClient() throws Exception {
-        lock.writeLock().lock();
 
-        try {
-            if (clientInfoMap.isEmpty()) {
-                SSHClient newClient = createNewSSHClient();
-                SSHClientInfo info = new SSHClientInfo(1, System.currentTimeMillis(), 0);
-                clientInfoMap.put(newClient, info);
-
-                /* if this is the very first connection that is created to the compute host, fetch the MaxSessions
-                 * value form SSHD config file in order to tune the pool
-                 */
-                logger.info("Fetching max sessions for the connection of " + host);
-                try (SFTPClient sftpClient = newClient.newSFTPClient()) {
-                    RemoteFile remoteFile = sftpClient.open("/etc/ssh/sshd_config");
-                    byte[] readContent = new byte[(int) remoteFile.length()];
-                    remoteFile.read(0, readContent, 0, readContent.length);
-
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("SSHD config file content : " + new String(readContent));
-                    }
-                    String[] lines = new String(readContent).split("\n");
-
-                    for (String line : lines) {
-                        if (line.trim().startsWith("MaxSessions")) {
-                            String[] splits = line.split(" ");
-                            if (splits.length == 2) {
-                                int sessionCount = Integer.parseInt(splits[1]);
-                                logger.info("Max session count is : " + sessionCount + " for " + host);
-                                setMaxSessionsForConnection(sessionCount);
-                            }
-                            break;
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Failed to fetch max session count for " + host + ". Continuing with default value 1. " + e.getMessage() );
+        refreshSessionLimit();
+
+        if (!sessionPermits.tryAcquire()) {
+            queuedLeases.incrementAndGet();
+            logger.debug("All the sessions to host {} are in use. Waiting for a session to be released", host);
+            try {
+                if (!sessionPermits.tryAcquire(leaseTimeoutMS, TimeUnit.MILLISECONDS)) {
+                    throw new Exception("Timed out after " + leaseTimeoutMS + " ms while waiting for a session to host " + host);
                 }
-                return newClient;
+            } finally {
+                queuedLeases.decrementAndGet();
+            }
+        }
 
-            } else {
+        try {
+            SSHClient sshClient = reserveSession();
+            totalLeases.incrementAndGet();
+            return sshClient;
+        } catch (Exception e) {
+            sessionPermits.release();
+            throw e;
+        }
+    }
 
-                Optional<Map.Entry<SSHClient, SSHClientInfo>> minEntryOp = clientInfoMap.entrySet().stream().min(Comparator.comparing(entry -> entry.getValue().sessionCount));
-                if (minEntryOp.isPresent()) {
-                    Map.Entry<SSHClient, SSHClientInfo> minEntry = minEntryOp.get();
-                    // use the connection with least amount of sessions created.
-
-                    logger.debug("Session count for selected connection {} is {}. Threshold {} for host {}",
-                            minEntry.getValue().getClientId(), minEntry.getValue().getSessionCount(), maxSessionsForConnection, host);
-                    if (minEntry.getValue().getSessionCount() >= maxSessionsForConnection) {
-                        // if it exceeds the maximum session count, create a new connection
-                        logger.debug("Connection with least amount of sessions exceeds the threshold. So creating a new connection. " +
-                                "Current connection count {} for host {}", clientInfoMap.size(), host);
+    private SSHClient reserveSession() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMS);
+        while (true) {
+            // read before looking at the connections so that a slot freed after that wakes up the wait below
+            long releases = slotReleases.get();
+            int limit = sessionLimit;
+
+            // use the connection with least amount of sessions created.
+            Optional<Map.Entry<SSHClient, SSHClientInfo>> minEntryOp = clientInfoMap.entrySet().stream()
+                    .min(Comparator.comparingInt(entry -> entry.getValue().getSessionCount()));
+
+            if (minEntryOp.isPresent() && minEntryOp.get().getValue().tryReserve(limit)) {
+                logger.debug("Reusing connection {} as it doesn't exceed the threshold {} for host {}",
+                        minEntryOp.get().getValue().getClientId(), limit, host);
+                return minEntryOp.get().getKey();
+            }
+
+            int currentConnections = connectionCount.get();
+            if (currentConnections < maxConnections) {
+                if (connectionCount.compareAndSet(currentConnections, currentConnections + 1)) {
+                    logger.debug("Connection with least amount of sessions exceeds the threshold. So creating a new connection. " +
+                            "Current connection count {} for host {}", currentConnections, host);
+                    try {
                         SSHClient newClient = createNewSSHClient();
-                        SSHClientInfo info = new SSHClientInfo(1, System.currentTimeMillis(), clientInfoMap.size());
+                        SSHClientInfo info = new SSHClientInfo(1, System.currentTimeMillis(), clientIdGenerator.getAndIncrement());
                         clientInfoMap.put(newClient, info);
+                        // the rest of the sessions of the new connection are free
+                        signalSlotReleased();
                         return newClient;
-
-                    } else {
-                        // otherwise reuse the same connetion
-                        logger.debug("Reusing the same connection {} as it doesn't exceed the threshold for host {}", minEntry.getValue().getClientId(), host);
-                        minEntry.getValue().setSessionCount(minEntry.getValue().getSessionCount() + 1);
-                        minEntry.getValue().setLastAccessedTime(System.currentTimeMillis());
-                        return minEntry.getKey();
+                    } catch (Exception e) {
+                        connectionCount.decrementAndGet();
+                        signalSlotReleased();
+                        throw e;
                     }
-                } else {
-                    throw new Exception("Failed to find a connection in the pool for host " + host);
                 }
+            } else {
+                // a permit is held, so a slot is being freed by a session closing or a connection being removed
+                awaitSlotRelease(releases, deadline);
             }
+        }
+    }
 
+    private void awaitSlotRelease(long releases, long deadline) throws Exception {
+        slotWaiters.incrementAndGet();
+        slotLock.lock();
+        try {
+            while (slotReleases.get() == releases) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new Exception("Timed out after " + leaseTimeoutMS + " ms while waiting for a session to host " + host);
+                }
+                slotReleased.awaitNanos(remaining);
+            }
         } finally {
-            lock.writeLock().unlock();
+            slotLock.unlock();
+            slotWaiters.decrementAndGet();
         }
     }
 
-    private void removeDisconnectedClients(SSHClient client) {
-        lock.writeLock().lock();
-
-        try {
-            if (clientInfoMap.containsKey(client)) {
-                logger.debug("Removing the disconnected connection {} for host {}", clientInfoMap.get(client).getClientId(), host);
-                clientInfoMap.remove(client);
+    private void signalSlotReleased() {
+        slotReleases.incrementAndGet();
+        if (slotWaiters.get() > 0) {
+            slotLock.lock();
+            try {
+                slotReleased.signalAll();
+            } finally {
+                slotLock.unlock();
             }
+        }
+    }
 
-        } finally {
-            lock.writeLock().unlock();
+    private void removeDisconnectedClients(SSHClient client) {
+        SSHClientInfo info = clientInfoMap.remove(client);
+        if (info != null) {
+            logger.debug("Removing the disconnected connection {} for host {}", info.getClientId(), host);
+            connectionCount.decrementAndGet();
+            signalSlotReleased();
         }
     }
 
     private void untrackClosedSessions(SSHClient client, int sessionId) {
-        lock.writeLock().lock();
+        SSHClientInfo sshClientInfo = clientInfoMap.get(client);
+        if (sshClientInfo != null) {
+            logger.debug("Removing the session for connection {} for host {}", sshClientInfo.getClientId(), host);
+            sshClientInfo.release();
+        }
+        sessionPermits.release();
+        signalSlotReleased();
+    }
 
-        try {
-            if (clientInfoMap.containsKey(client)) {
-                logger.debug("Removing the session for connection {} for host {}", clientInfoMap.get(client).getClientId(), host);
-                SSHClientInfo sshClientInfo = clientInfoMap.get(client);
-                sshClientInfo.setSessionCount(sshClientInfo.getSessionCount() - 1);
-            }
+    /**
+     * Called when the server refuses to open a channel on a connection. The number of sessions that were open at that
+     * time is taken as the effective MaxSessions of the remote host. A refusal when no other session was open on the
+     * connection can not be caused by a session limit, so it does not change the limit.
+     */
+    private void onChannelOpenFailure(SSHClient client, OpenFailException e) {
+        channelOpenFailures.incrementAndGet();
+        SSHClientInfo info = clientInfoMap.get(client);
+        if (info == null) {
+            return;
+        }
+        // the failed session is still counted
+        int openSessions = info.getSessionCount() - 1;
+        if (openSessions < 1 || (e.getReason() != OpenFailException.Reason.ADMINISTRATIVELY_PROHIBITED
+                && e.getReason() != OpenFailException.Reason.RESOURCE_SHORTAGE)) {
+            logger.warn("Host {} refused to open a channel when {} sessions were open ({}). Not treating it as a " +
+                    "session limit", host, openSessions, e.getMessage());
+            return;
+        }
+        if (openSessions < sessionLimit && hostSessionLimit.lower(openSessions)) {
+            logger.info("Host {} refused to open a channel when {} sessions were open ({}). Reducing max sessions per " +
+                    "connection from {} to {}", host, openSessions, e.getMessage(), sessionLimit, openSessions);
+        }
+        refreshSessionLimit();
+    }
 
-        } finally {
-            lock.writeLock().unlock();
+    /**
+     * Applies the limit discovered for the host to this pool. The configured max sessions per connection is the upper
+     * bound.
+     */
+    private void refreshSessionLimit() {
+        int limit = Math.min(maxSessionsForConnection, hostSessionLimit.get(maxSessionsForConnection, sessionLimitProbeIntervalMS));
+        if (limit != sessionLimit) {
+            applySessionLimit(limit);
+        }
+    }
+
+    private synchronized void applySessionLimit(int limit) {
+        if (limit != sessionLimit) {
+            logger.info("Changing max sessions per connection for host {} from {} to {}", host, sessionLimit, limit);
+            sessionPermits.resize(totalSessions(maxConnections, sessionLimit), totalSessions(maxConnections, limit));
+            sessionLimit = limit;
+            signalSlotReleased();
         }
     }
 
     private void removeStaleConnections() {
-        List<Map.Entry<SSHClient, SSHClientInfo>> entriesTobeRemoved;
-        lock.writeLock().lock();
-        logger.info("Current active connections for  {} @ {} : {} are {}", username, host, port, clientInfoMap.size());
-        try {
-            entriesTobeRemoved = clientInfoMap.entrySet().stream().filter(entry ->
-                    ((entry.getValue().getSessionCount() == 0) &&
-                            (entry.getValue().getLastAccessedTime() + maxConnectionIdleTimeMS < System.currentTimeMillis()))).collect(Collectors.toList());
-            entriesTobeRemoved.forEach(entry -> {
+        logger.info("Current pool statistics for {} @ {} : {} are {}", username, host, port, getPoolStats());
+
+        List<Map.Entry<SSHClient, SSHClientInfo>> entriesTobeRemoved = new ArrayList<>();
+        for (Map.Entry<SSHClient, SSHClientInfo> entry : clientInfoMap.entrySet()) {
+            if (entry.getValue().getLastAccessedTime() + maxConnectionIdleTimeMS < System.currentTimeMillis()
+                    && entry.getValue().tryRetire()) {
                 logger.info("Removing connection {} due to inactivity for host {}", entry.getValue().getClientId(), host);
-                clientInfoMap.remove(entry.getKey());
-            });
-        } finally {
-            lock.writeLock().unlock();
+                if (clientInfoMap.remove(entry.getKey(), entry.getValue())) {
+                    connectionCount.decrementAndGet();
+                    signalSlotReleased();
+                }
+                entriesTobeRemoved.add(entry);
+            }
         }
 
         entriesTobeRemoved.forEach(entry -> {
@@ -256,69 +348,160 @@ public class PoolingSSHJClient extends SSHClient {
         return sshClient;
     }
 
-    public Session startSessionWrapper() throws Exception {
-
-        final SSHClient sshClient = leaseSSHClient();
+    private <T> T openOnPooledClient(ChannelOpener<T> opener) throws Exception {
+        // one retry is allowed after a channel open failure as the pool has been resized by then
+        for (int attempt = 0; ; attempt++) {
+            final SSHClient sshClient = leaseSSHClient();
+            final AtomicBoolean released = new AtomicBoolean(false);
+            final Consumer<Integer> onClose = (id) -> {
+                if (released.compareAndSet(false, true)) {
+                    untrackClosedSessions(sshClient, id);
+                }
+            };
 
-        try {
-            return new SessionWrapper(sshClient.startSession(), (id) -> untrackClosedSessions(sshClient, id));
+            try {
+                return opener.open(sshClient, onClose);
 
-        } catch (Exception e) {
-            if (sshClient != null) {
-                untrackClosedSessions(sshClient, -1);
+            } catch (OpenFailException e) {
+                onChannelOpenFailure(sshClient, e);
+                onClose.accept(-1);
+                if (attempt > 0) {
+                    throw e;
+                }
+            } catch (Exception e) {
+                onClose.accept(-1);
+                throw e;
             }
-            throw e;
         }
     }
 
+    public Session startSessionWrapper() throws Exception {
+        return openOnPooledClient((sshClient, onClose) -> new SessionWrapper(sshClient.startSession(), onClose));
+    }
+
     public SCPFileTransferWrapper newSCPFileTransferWrapper() throws Exception {
+        return openOnPooledClient((sshClient, onClose) -> new SCPFileTransferWrapper(sshClient.newSCPFileTransfer(), onClose));
+    }
 
-        final SSHClient sshClient = leaseSSHClient();
+    public SFTPClient newSFTPClientWrapper() throws Exception {
+        return openOnPooledClient((sshClient, onClose) -> new SFTPClientWrapper(sshClient.newSFTPClient(), onClose));
+    }
 
-        try {
-            return new SCPFileTransferWrapper(sshClient.newSCPFileTransfer(), (id) -> untrackClosedSessions(sshClient, id));
+    public PoolStats getPoolStats() {
+        int leasedSessions = 0;
+        for (SSHClientInfo info : clientInfoMap.values()) {
+            leasedSessions += Math.max(0, info.getSessionCount());
+        }
+        return new PoolStats(clientInfoMap.size(), leasedSessions, sessionLimit, maxSessionsForConnection, maxConnections,
+                queuedLeases.get(), totalLeases.get(), channelOpenFailures.get());
+    }
 
-        } catch (Exception e) {
-            if (sshClient != null) {
-                untrackClosedSessions(sshClient, -1);
+    private String getHostKey() {
+        return host + ":" + port;
+    }
+
+    private static int totalSessions(int connections, int sessionsPerConnection) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) connections * sessionsPerConnection);
+    }
+
+    private interface ChannelOpener<T> {
+        T open(SSHClient sshClient, Consumer<Integer> onClose) throws Exception;
+    }
+
+    /**
+     * Max sessions per connection discovered for a remote host. The limit is raised by one session every probe interval
+     * without refusals until it reaches the configured value of the pool asking for it. If the host still has the lower
+     * limit, the next refusal lowers it again.
+     */
+    private static class HostSessionLimit {
+
+        private volatile int limit = Integer.MAX_VALUE;
+        private volatile long lastChangeTime;
+
+        int get(int configuredLimit, long probeIntervalMS) {
+            if (limit >= configuredLimit || System.currentTimeMillis() - lastChangeTime < probeIntervalMS) {
+                return limit;
+            }
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (limit < configuredLimit && now - lastChangeTime >= probeIntervalMS) {
+                    limit++;
+                    lastChangeTime = now;
+                }
+                return limit;
             }
-            throw e;
         }
-    }
 
-    public SFTPClient newSFTPClientWrapper() throws Exception {
+        synchronized boolean lower(int newLimit) {
+            // a refusal at the probed limit restarts the quiet period even if the limit is already lowered
+            lastChangeTime = System.currentTimeMillis();
+            if (newLimit < limit) {
+                limit = newLimit;
+                return true;
+            }
+            return false;
+        }
+    }
 
-        final SSHClient sshClient = leaseSSHClient();
+    /**
+     * A fair semaphore which can shrink when a lower session limit is discovered for the host
+     */
+    private static class SessionPermits extends Semaphore {
 
-        try {
-            return new SFTPClientWrapper(sshClient.newSFTPClient(), (id) -> untrackClosedSessions(sshClient, id));
-        } catch (Exception e) {
+        SessionPermits(int permits) {
+            super(permits, true);
+        }
 
-            if (sshClient != null) {
-                untrackClosedSessions(sshClient, -1);
+        void resize(int oldSize, int newSize) {
+            if (newSize < oldSize) {
+                reducePermits(oldSize - newSize);
+            } else if (newSize > oldSize) {
+                release(newSize - oldSize);
             }
-            throw e;
         }
     }
 
     public class SSHClientInfo {
 
-        private int sessionCount;
-        private long lastAccessedTime;
+        // set to -1 once the connection is retired so that no new sessions are reserved on it
+        private final AtomicInteger sessionCount;
+        private volatile long lastAccessedTime;
         private int clientId;
 
         public SSHClientInfo(int sessionCount, long lastAccessedTime, int clientId) {
-            this.sessionCount = sessionCount;
+            this.sessionCount = new AtomicInteger(sessionCount);
             this.lastAccessedTime = lastAccessedTime;
             this.clientId = clientId;
         }
 
+        boolean tryReserve(int maxSessions) {
+            while (true) {
+                int current = sessionCount.get();
+                if (current < 0 || current >= maxSessions) {
+                    return false;
+                }
+                if (sessionCount.compareAndSet(current, current + 1)) {
+                    lastAccessedTime = System.currentTimeMillis();
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            sessionCount.updateAndGet(current -> current > 0 ? current - 1 : current);
+            lastAccessedTime = System.currentTimeMillis();
+        }
+
+        boolean tryRetire() {
+            return sessionCount.compareAndSet(0, -1);
+        }
+
         public int getSessionCount() {
-            return sessionCount;
+            return sessionCount.get();
         }
 
         public SSHClientInfo setSessionCount(int sessionCount) {
-            this.sessionCount = sessionCount;
+            this.sessionCount.set(sessionCount);
             return this;
         }
 
@@ -340,6 +523,70 @@ public class PoolingSSHJClient extends SSHClient {
         }
     }
 
+    public static class PoolStats {
+
+        private final int connections;
+        private final int leasedSessions;
+        private final int sessionLimit;
+        private final int maxSessionsForConnection;
+        private final int maxConnections;
+        private final long queuedLeases;
+        private final long totalLeases;
+        private final long channelOpenFailures;
+
+        public PoolStats(int connections, int leasedSessions, int sessionLimit, int maxSessionsForConnection,
+                         int maxConnections, long queuedLeases, long totalLeases, long channelOpenFailures) {
+            this.connections = connections;
+            this.leasedSessions = leasedSessions;
+            this.sessionLimit = sessionLimit;
+            this.maxSessionsForConnection = maxSessionsForConnection;
+            this.maxConnections = maxConnections;
+            this.queuedLeases = queuedLeases;
+            this.totalLeases = totalLeases;
+            this.channelOpenFailures = channelOpenFailures;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public int getLeasedSessions() {
+            return leasedSessions;
+        }
+
+        public int getSessionLimit() {
+            return sessionLimit;
+        }
+
+        public int getMaxSessionsForConnection() {
+            return maxSessionsForConnection;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public long getQueuedLeases() {
+            return queuedLeases;
+        }
+
+        public long getTotalLeases() {
+            return totalLeases;
+        }
+
+        public long getChannelOpenFailures() {
+            return channelOpenFailures;
+        }
+
+        @Override
+        public String toString() {
+            return "connections=" + connections + ", leasedSessions=" + leasedSessions + ", sessionLimit=" + sessionLimit +
+                    ", maxSessionsForConnection=" + maxSessionsForConnection + ", maxConnections=" + maxConnections +
+                    ", queuedLeases=" + queuedLeases + ", totalLeases=" + totalLeases +
+                    ", channelOpenFailures=" + channelOpenFailures;
+        }
+    }
+
     public HostKeyVerifier getHostKeyVerifier() {
         return hostKeyVerifier;
     }
@@ -389,8 +636,42 @@ public class PoolingSSHJClient extends SSHClient {
         return maxSessionsForConnection;
     }
 
-    public PoolingSSHJClient setMaxSessionsForConnection(int maxSessionsForConnection) {
+    public synchronized PoolingSSHJClient setMaxSessionsForConnection(int maxSessionsForConnection) {
         this.maxSessionsForConnection = maxSessionsForConnection;
+        applySessionLimit(Math.min(maxSessionsForConnection, hostSessionLimit.get(maxSessionsForConnection, sessionLimitProbeIntervalMS)));
+        return this;
+    }
+
+    public int getSessionLimit() {
+        return sessionLimit;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public synchronized PoolingSSHJClient setMaxConnections(int maxConnections) {
+        sessionPermits.resize(totalSessions(this.maxConnections, sessionLimit), totalSessions(maxConnections, sessionLimit));
+        this.maxConnections = maxConnections;
+        signalSlotReleased();
+        return this;
+    }
+
+    public long getLeaseTimeoutMS() {
+        return leaseTimeoutMS;
+    }
+
+    public PoolingSSHJClient setLeaseTimeoutMS(long leaseTimeoutMS) {
+        this.leaseTimeoutMS = leaseTimeoutMS;
+        return this;
+    }
+
+    public long getSessionLimitProbeIntervalMS() {
+        return sessionLimitProbeIntervalMS;
+    }
+
+    public PoolingSSHJClient setSessionLimitProbeIntervalMS(long sessionLimitProbeIntervalMS) {
+        this.sessionLimitProbeIntervalMS = sessionLimitProbeIntervalMS;
         return this;
     }
 
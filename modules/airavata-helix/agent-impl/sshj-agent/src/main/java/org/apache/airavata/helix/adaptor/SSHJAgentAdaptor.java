@@ -34,6 +34,7 @@ import net.schmizz.sshj.userauth.password.Resource;
 import org.apache.airavata.agents.api.AgentAdaptor;
 import org.apache.airavata.agents.api.AgentException;
 import org.apache.airavata.agents.api.AgentUtils;
+import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.agents.api.CommandOutput;
 import org.apache.airavata.helix.adaptor.wrapper.SCPFileTransferWrapper;
 import org.apache.airavata.helix.agent.ssh.StandardOutReader;
@@ -65,7 +66,7 @@ public class SSHJAgentAdaptor implements AgentAdaptor {
         sshjClient = new PoolingSSHJClient(defaultConfig, host, port == 0 ? 22 : port);
         sshjClient.addHostKeyVerifier((h, p, key) -> true);
 
-        sshjClient.setMaxSessionsForConnection(1);
+        configurePool(sshjClient);
 
         PasswordFinder passwordFinder = passphrase != null ? PasswordUtils.createOneOff(passphrase.toCharArray()) : null;
 
@@ -99,6 +100,16 @@ public class SSHJAgentAdaptor implements AgentAdaptor {
         sshjClient.auth(user, am);
     }
 
+    /**
+     * Commands and file transfers share up to agent.ssh.max.connections connections to the host, each carrying up to
+     * agent.ssh.max.sessions.per.connection sessions. The pool lowers the sessions per connection when the host refuses
+     * sessions and queues the callers when all connections are full
+     */
+    static void configurePool(PoolingSSHJClient client) {
+        client.setMaxSessionsForConnection(ServerSettings.getIntSetting("agent.ssh.max.sessions.per.connection", 10));
+        client.setMaxConnections(ServerSettings.getIntSetting("agent.ssh.max.connections", 4));
+    }
+
     public void init(String user, String host, int port, String publicKey, String privateKey, String passphrase) throws AgentException {
         try {
             createPoolingSSHJClient(user, host, port, publicKey, privateKey, passphrase);
@@ -0,0 +1,280 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.adaptor;
+
+import net.schmizz.sshj.DefaultConfig;
+import net.schmizz.sshj.connection.channel.OpenFailException;
+import net.schmizz.sshj.connection.channel.direct.Session;
+import net.schmizz.sshj.userauth.method.AuthMethod;
+import net.schmizz.sshj.userauth.method.AuthPassword;
+import net.schmizz.sshj.userauth.password.PasswordFinder;
+import net.schmizz.sshj.userauth.password.Resource;
+import org.apache.sshd.client.future.DefaultOpenFuture;
+import org.apache.sshd.client.future.OpenFuture;
+import org.apache.sshd.common.SshConstants;
+import org.apache.sshd.common.channel.Channel;
+import org.apache.sshd.common.channel.ChannelFactory;
+import org.apache.sshd.common.channel.ChannelListener;
+import org.apache.sshd.common.channel.exception.SshChannelOpenException;
+import org.apache.sshd.common.util.buffer.Buffer;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.channel.ChannelSession;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the pool against an embedded Apache MINA SSHD server. The embedded server refuses session channels beyond a
+ * per connection limit the same way the MaxSessions setting of OpenSSH does.
+ */
+public class PoolingSSHJClientTest {
+
+    private static final String USER = "airavata";
+    private static final String PASSWORD = "password";
+
+    private SshServer server;
+    private final List<Session> sessions = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        for (Session session : sessions) {
+            try {
+                session.close();
+            } catch (Exception ignore) {
+            }
+        }
+        if (server != null) {
+            server.stop(true);
+        }
+    }
+
+    @Test
+    public void testDiscoversSessionLimitOfHost() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(3));
+
+        for (int i = 0; i < 4; i++) {
+            sessions.add(pool.startSessionWrapper());
+        }
+
+        PoolingSSHJClient.PoolStats stats = pool.getPoolStats();
+        Assert.assertEquals(3, stats.getSessionLimit());
+        Assert.assertEquals(10, stats.getMaxSessionsForConnection());
+        Assert.assertEquals(2, stats.getConnections());
+        Assert.assertEquals(4, stats.getLeasedSessions());
+        // the refused session was leased too
+        Assert.assertEquals(5, stats.getTotalLeases());
+        Assert.assertEquals(1, stats.getChannelOpenFailures());
+
+        // pools created later for the same host start with the discovered limit
+        Assert.assertEquals(3, createPool(server.getPort()).getSessionLimit());
+    }
+
+    @Test
+    public void testRefusalWithoutOpenSessionsKeepsLimit() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(0));
+
+        try {
+            pool.startSessionWrapper();
+            Assert.fail("The server should refuse the session");
+        } catch (OpenFailException expected) {
+        }
+
+        PoolingSSHJClient.PoolStats stats = pool.getPoolStats();
+        Assert.assertEquals(10, stats.getSessionLimit());
+        Assert.assertEquals(2, stats.getChannelOpenFailures());
+        Assert.assertEquals(0, stats.getLeasedSessions());
+    }
+
+    @Test
+    public void testProbesLimitUpwardAfterQuietPeriod() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(3));
+        pool.setSessionLimitProbeIntervalMS(200);
+
+        for (int i = 0; i < 4; i++) {
+            sessions.add(pool.startSessionWrapper());
+        }
+        Assert.assertEquals(3, pool.getSessionLimit());
+
+        Thread.sleep(300);
+        sessions.add(pool.startSessionWrapper());
+        Assert.assertEquals(4, pool.getSessionLimit());
+    }
+
+    @Test
+    public void testQueuesLeasesWhenSaturated() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(Integer.MAX_VALUE));
+        pool.setMaxConnections(1);
+        pool.setMaxSessionsForConnection(2);
+
+        Session first = pool.startSessionWrapper();
+        sessions.add(pool.startSessionWrapper());
+
+        Future<Session> queued = executor.submit(pool::startSessionWrapper);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getPoolStats().getQueuedLeases() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, pool.getPoolStats().getQueuedLeases());
+        Assert.assertFalse(queued.isDone());
+
+        first.close();
+        sessions.add(queued.get(5, TimeUnit.SECONDS));
+
+        PoolingSSHJClient.PoolStats stats = pool.getPoolStats();
+        Assert.assertEquals(0, stats.getQueuedLeases());
+        Assert.assertEquals(1, stats.getConnections());
+        Assert.assertEquals(2, stats.getLeasedSessions());
+        Assert.assertEquals(3, stats.getTotalLeases());
+    }
+
+    @Test
+    public void testLeaseTimesOutWhenSaturated() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(Integer.MAX_VALUE));
+        pool.setMaxConnections(1);
+        pool.setMaxSessionsForConnection(1);
+        pool.setLeaseTimeoutMS(200);
+
+        sessions.add(pool.startSessionWrapper());
+        try {
+            pool.startSessionWrapper();
+            Assert.fail("The lease should time out");
+        } catch (Exception e) {
+            Assert.assertTrue(e.getMessage().startsWith("Timed out"));
+        }
+        Assert.assertEquals(1, pool.getPoolStats().getLeasedSessions());
+    }
+
+    @Test
+    public void testAdaptorPoolConfiguration() throws Exception {
+        PoolingSSHJClient pool = createPool(startServer(Integer.MAX_VALUE));
+        SSHJAgentAdaptor.configurePool(pool);
+        Assert.assertEquals(10, pool.getMaxSessionsForConnection());
+        Assert.assertEquals(4, pool.getMaxConnections());
+
+        System.setProperty("agent.ssh.max.sessions.per.connection", "3");
+        System.setProperty("agent.ssh.max.connections", "2");
+        try {
+            SSHJAgentAdaptor.configurePool(pool);
+        } finally {
+            System.clearProperty("agent.ssh.max.sessions.per.connection");
+            System.clearProperty("agent.ssh.max.connections");
+        }
+        pool.setLeaseTimeoutMS(200);
+
+        for (int i = 0; i < 6; i++) {
+            sessions.add(pool.startSessionWrapper());
+        }
+        PoolingSSHJClient.PoolStats stats = pool.getPoolStats();
+        Assert.assertEquals(2, stats.getConnections());
+        Assert.assertEquals(3, stats.getSessionLimit());
+        Assert.assertEquals(6, stats.getLeasedSessions());
+
+        try {
+            pool.startSessionWrapper();
+            Assert.fail("The lease should wait for a session of the two connections and time out");
+        } catch (Exception e) {
+            Assert.assertTrue(e.getMessage().startsWith("Timed out"));
+        }
+        Assert.assertEquals(2, pool.getPoolStats().getConnections());
+    }
+
+    private int startServer(int maxSessions) throws Exception {
+        server = SshServer.setUpDefaultServer();
+        server.setHost("localhost");
+        server.setPort(0);
+        SimpleGeneratorHostKeyProvider keyProvider = new SimpleGeneratorHostKeyProvider();
+        keyProvider.setAlgorithm("RSA");
+        server.setKeyPairProvider(keyProvider);
+        server.setPasswordAuthenticator((username, password, session) -> USER.equals(username) && PASSWORD.equals(password));
+        server.setChannelFactories(Collections.singletonList(new LimitedSessionFactory(maxSessions)));
+        server.start();
+        return server.getPort();
+    }
+
+    private PoolingSSHJClient createPool(int port) throws Exception {
+        PoolingSSHJClient pool = new PoolingSSHJClient(new DefaultConfig(), "localhost", port);
+        pool.addHostKeyVerifier((h, p, key) -> true);
+        pool.auth(USER, Collections.<AuthMethod>singletonList(new AuthPassword(new PasswordFinder() {
+            @Override
+            public char[] reqPassword(Resource<?> resource) {
+                return PASSWORD.toCharArray();
+            }
+
+            @Override
+            public boolean shouldRetry(Resource<?> resource) {
+                return false;
+            }
+        })));
+        return pool;
+    }
+
+    private static class LimitedSessionFactory implements ChannelFactory {
+
+        private final int maxSessions;
+        private final Map<org.apache.sshd.common.session.Session, AtomicInteger> openSessions = new ConcurrentHashMap<>();
+
+        LimitedSessionFactory(int maxSessions) {
+            this.maxSessions = maxSessions;
+        }
+
+        @Override
+        public String getName() {
+            return "session";
+        }
+
+        @Override
+        public Channel create() {
+            return new ChannelSession() {
+                @Override
+                protected OpenFuture doInit(Buffer buffer) {
+                    AtomicInteger count = openSessions.computeIfAbsent(getSession(), session -> new AtomicInteger());
+                    if (count.incrementAndGet() > maxSessions) {
+                        count.decrementAndGet();
+                        DefaultOpenFuture future = new DefaultOpenFuture(this, this);
+                        future.setException(new SshChannelOpenException(getId(),
+                                SshConstants.SSH_OPEN_ADMINISTRATIVELY_PROHIBITED, "open failed"));
+                        return future;
+                    }
+                    addChannelListener(new ChannelListener() {
+                        @Override
+                        public void channelClosed(Channel channel, Throwable reason) {
+                            count.decrementAndGet();
+                        }
+                    });
+                    return super.doInit(buffer);
+                }
+            };
+        }
+    }
+}
@@ -73,10 +73,13 @@ public class HelixController implements Runnable {
 
     public void startServer() throws Exception {
 
-        //WorkflowCleanupAgent cleanupAgent = new WorkflowCleanupAgent();
-        //cleanupAgent.init();
-        //ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-        //executor.scheduleWithFixedDelay(cleanupAgent, 10, 120, TimeUnit.SECONDS);
+        if (Boolean.parseBoolean(ServerSettings.getSetting("helix.workflow.cleanup.enabled", "false"))) {
+            long interval = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.interval.sec", "120"));
+            WorkflowCleanupAgent cleanupAgent = new WorkflowCleanupAgent();
+            cleanupAgent.init();
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+            executor.scheduleWithFixedDelay(cleanupAgent, 10, interval, TimeUnit.SECONDS);
+        }
 
         new Thread(this).start();
         try {
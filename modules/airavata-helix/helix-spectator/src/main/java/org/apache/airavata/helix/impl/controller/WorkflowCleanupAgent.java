@@ -21,22 +21,67 @@ package org.apache.airavata.helix.impl.controller;
 
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.helix.HelixDataAccessor;
 import org.apache.helix.HelixManager;
 import org.apache.helix.HelixManagerFactory;
+import org.apache.helix.HelixProperty;
 import org.apache.helix.InstanceType;
 import org.apache.helix.task.TaskDriver;
+import org.apache.helix.task.TaskState;
 import org.apache.helix.task.WorkflowConfig;
 import org.apache.helix.task.WorkflowContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
+/**
+ * Removes finished workflows from the cluster without sweeping every workflow on each run.
+ *
+ * Each run lists only the resource config names, which is a single ZooKeeper call, and diffs them against the
+ * workflows already tracked. Workflows and their jobs share that listing, so the config of each new name is read
+ * once to tell them apart, and the jobs in the DAG of a tracked workflow are never read. Workflow contexts are read
+ * in pages for the tracked workflows that are due for a check, and each workflow backs off between checks while it
+ * is still running. A workflow that never gets a context is given up on after the configured expiry. A terminal
+ * workflow is deleted after the configured retention, and deletions are capped and paced per run. The tracked
+ * state is written to a local checkpoint file so a restarted agent resumes where it stopped instead of reading
+ * every context again.
+ */
 public class WorkflowCleanupAgent implements Runnable {
 
     private final static Logger logger = LoggerFactory.getLogger(WorkflowCleanupAgent.class);
 
     private TaskDriver taskDriver;
+    private HelixDataAccessor dataAccessor;
+
+    private int contextPageSize;
+    private int maxDeletesPerRun;
+    private long deletePauseMs;
+    private long retentionMs;
+    private long minCheckIntervalMs;
+    private long maxCheckIntervalMs;
+    private long nullContextExpiryMs;
+    private Path checkpointFile;
+
+    private final Map<String, TrackedWorkflow> trackedWorkflows = new HashMap<>();
+    // Resource configs which were read and turned out not to be workflows, so they are not read again
+    private final Set<String> otherResources = new HashSet<>();
 
     public void init() throws Exception {
         logger.info("Initializing cleanup agent");
@@ -47,6 +92,15 @@ public class WorkflowCleanupAgent implements Runnable {
                     ServerSettings.getSetting("helix.controller.name") + "-Cleanup-Agent",
                     InstanceType.SPECTATOR,
                     ServerSettings.getZookeeperConnection());
+
+            contextPageSize = Integer.parseInt(ServerSettings.getSetting("helix.workflow.cleanup.page.size", "500"));
+            maxDeletesPerRun = Integer.parseInt(ServerSettings.getSetting("helix.workflow.cleanup.max.deletes.per.run", "200"));
+            deletePauseMs = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.delete.pause.ms", "50"));
+            retentionMs = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.retention.ms", "0"));
+            minCheckIntervalMs = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.min.check.interval.ms", "60000"));
+            maxCheckIntervalMs = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.max.check.interval.ms", "3600000"));
+            nullContextExpiryMs = Long.parseLong(ServerSettings.getSetting("helix.workflow.cleanup.null.context.expiry.ms", "86400000"));
+            checkpointFile = Paths.get(ServerSettings.getSetting("helix.workflow.cleanup.checkpoint.file", "workflow-cleanup.checkpoint"));
         } catch (ApplicationSettingsException e) {
             logger.error("Failed to fetch settings to initialize cleanup agent", e);
             throw new Exception("Failed to fetch settings to initialize cleanup agent", e);
@@ -64,33 +118,221 @@ public class WorkflowCleanupAgent implements Runnable {
         );
 
         taskDriver = new TaskDriver(helixManager);
+        dataAccessor = helixManager.getHelixDataAccessor();
+        loadCheckpoint();
     }
 
     @Override
     public void run() {
-        logger.info("Cleaning up stale workflows");
-        Map<String, WorkflowConfig> workflows = taskDriver.getWorkflows();
+        try {
+            long now = System.currentTimeMillis();
+            discoverWorkflows(now);
+            checkDueWorkflows(now);
+            deleteExpiredWorkflows();
+            saveCheckpoint();
+        } catch (Throwable e) {
+            // Never let an exception escape, otherwise the scheduled executor silently stops running the agent
+            logger.error("Workflow cleanup run failed", e);
+        }
+    }
+
+    private void discoverWorkflows(long now) {
+        List<String> resourceNames = dataAccessor.getChildNames(dataAccessor.keyBuilder().resourceConfigs());
+        Set<String> names = new HashSet<>(resourceNames);
+
+        // Workflows removed by someone else are no longer our concern
+        trackedWorkflows.keySet().retainAll(names);
+        otherResources.retainAll(names);
+
+        Set<String> trackedJobs = new HashSet<>();
+        for (TrackedWorkflow tracked : trackedWorkflows.values()) {
+            trackedJobs.addAll(tracked.jobs);
+        }
+
+        int discovered = 0;
+        for (String name : resourceNames) {
+            if (trackedWorkflows.containsKey(name) || trackedJobs.contains(name) || otherResources.contains(name)) {
+                continue;
+            }
+            Set<String> jobs = readWorkflowJobs(name);
+            if (jobs == null) {
+                otherResources.add(name);
+            } else {
+                TrackedWorkflow tracked = new TrackedWorkflow(now, minCheckIntervalMs, -1, -1, jobs);
+                trackedWorkflows.put(name, tracked);
+                trackedJobs.addAll(jobs);
+                // A job read before its workflow in this run is known by the workflow from now on
+                otherResources.removeAll(jobs);
+                discovered++;
+            }
+        }
+        logger.info("Tracking " + trackedWorkflows.size() + " workflows, " + discovered + " newly discovered");
+    }
 
-        workflows.keySet().forEach(id -> {
-            WorkflowContext workflowContext = taskDriver.getWorkflowContext(id);
+    /**
+     * Returns the jobs of the workflow with the given resource config, or null if the config belongs to a job or to
+     * something else. A job config carries the id of the workflow owning it, a workflow config its own id.
+     */
+    private Set<String> readWorkflowJobs(String name) {
+        HelixProperty config = dataAccessor.getProperty(dataAccessor.keyBuilder().resourceConfig(name));
+        if (config == null) {
+            return null;
+        }
+        String workflowId = config.getRecord().getSimpleField(WorkflowConfig.WorkflowConfigProperty.WorkflowID.name());
+        if (!name.equals(workflowId)) {
+            return null;
+        }
+        try {
+            return new HashSet<>(WorkflowConfig.fromHelixProperty(config).getJobDag().getAllNodes());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to read the config of workflow " + name + ". Leaving it alone", e);
+            return null;
+        }
+    }
+
+    private void checkDueWorkflows(long now) {
+        PriorityQueue<Map.Entry<String, TrackedWorkflow>> due = new PriorityQueue<>(
+                (a, b) -> Long.compare(a.getValue().nextCheck, b.getValue().nextCheck));
+        for (Map.Entry<String, TrackedWorkflow> entry : trackedWorkflows.entrySet()) {
+            if (entry.getValue().terminalSince < 0 && entry.getValue().nextCheck <= now) {
+                due.add(entry);
+            }
+        }
+
+        int checked = 0;
+        while (!due.isEmpty() && checked < contextPageSize) {
+            Map.Entry<String, TrackedWorkflow> entry = due.poll();
+            TrackedWorkflow tracked = entry.getValue();
+            checked++;
+
+            WorkflowContext workflowContext = taskDriver.getWorkflowContext(entry.getKey());
+            TaskState state = workflowContext == null ? null : workflowContext.getWorkflowState();
+            logger.debug(entry.getKey() + " " + state);
 
             if (workflowContext == null) {
-                logger.warn("Context for workflow " + id + " is null");
+                if (tracked.nullContextSince < 0) {
+                    tracked.nullContextSince = now;
+                } else if (now - tracked.nullContextSince >= nullContextExpiryMs) {
+                    logger.warn("Workflow " + entry.getKey() + " has no context since " + tracked.nullContextSince +
+                            ". Deleting it");
+                    tracked.terminalSince = now;
+                    continue;
+                }
+            } else {
+                tracked.nullContextSince = -1;
+            }
 
+            if (isTerminal(state)) {
+                tracked.terminalSince = now;
             } else {
-                logger.debug(id + " " + workflowContext.getWorkflowState().name());
-
-                switch (workflowContext.getWorkflowState()) {
-                    case COMPLETED:
-                    //case FAILED:
-                    case STOPPED:
-                    case TIMED_OUT:
-                    case ABORTED:
-                        logger.info("Deleting workflow " + id + " with status " + workflowContext.getWorkflowState().name());
-                        taskDriver.delete(id);
-                        break;
+                tracked.checkInterval = Math.min(maxCheckIntervalMs, tracked.checkInterval * 2);
+                tracked.nextCheck = now + tracked.checkInterval;
+            }
+        }
+        logger.info("Checked " + checked + " workflow contexts, " + due.size() + " checks deferred to the next run");
+    }
+
+    private boolean isTerminal(TaskState state) {
+        if (state == null) {
+            return false;
+        }
+        switch (state) {
+            case COMPLETED:
+            //case FAILED:
+            case STOPPED:
+            case TIMED_OUT:
+            case ABORTED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void deleteExpiredWorkflows() throws InterruptedException {
+        long expiredBefore = System.currentTimeMillis() - retentionMs;
+        List<String> expired = new ArrayList<>();
+        for (Map.Entry<String, TrackedWorkflow> entry : trackedWorkflows.entrySet()) {
+            if (entry.getValue().terminalSince >= 0 && entry.getValue().terminalSince <= expiredBefore) {
+                expired.add(entry.getKey());
+                if (expired.size() >= maxDeletesPerRun) {
+                    break;
+                }
+            }
+        }
+
+        for (String id : expired) {
+            try {
+                logger.info("Deleting workflow " + id);
+                // Without a context the controller has nothing to clean up, so the configs are removed directly
+                taskDriver.delete(id, trackedWorkflows.get(id).nullContextSince >= 0);
+                trackedWorkflows.remove(id);
+            } catch (Exception e) {
+                logger.warn("Failed to delete workflow " + id + ", retrying in the next run", e);
+            }
+            if (deletePauseMs > 0) {
+                Thread.sleep(deletePauseMs);
+            }
+        }
+    }
+
+    private void loadCheckpoint() {
+        if (!Files.exists(checkpointFile)) {
+            logger.info("No cleanup checkpoint found at " + checkpointFile + ". Starting with an empty state");
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                if (parts.length == 6) {
+                    Set<String> jobs = parts[5].isEmpty()
+                            ? new HashSet<>() : new HashSet<>(Arrays.asList(parts[5].split(",")));
+                    trackedWorkflows.put(parts[0], new TrackedWorkflow(Long.parseLong(parts[1]),
+                            Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]), jobs));
+                } else if (parts.length == 4) {
+                    // Written before the jobs were tracked. The jobs are found again as the workflow is rediscovered
+                    trackedWorkflows.put(parts[0], new TrackedWorkflow(Long.parseLong(parts[1]),
+                            Long.parseLong(parts[2]), Long.parseLong(parts[3]), -1, Collections.emptySet()));
                 }
             }
-        });
+            logger.info("Restored " + trackedWorkflows.size() + " tracked workflows from " + checkpointFile);
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to read cleanup checkpoint " + checkpointFile + ". Starting with an empty state", e);
+            trackedWorkflows.clear();
+        }
+    }
+
+    private void saveCheckpoint() {
+        Path tempFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, TrackedWorkflow> entry : trackedWorkflows.entrySet()) {
+                    TrackedWorkflow tracked = entry.getValue();
+                    writer.write(entry.getKey() + "\t" + tracked.nextCheck + "\t" + tracked.checkInterval + "\t" +
+                            tracked.terminalSince + "\t" + tracked.nullContextSince + "\t" + String.join(",", tracked.jobs));
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write cleanup checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private static class TrackedWorkflow {
+        private long nextCheck;
+        private long checkInterval;
+        private long terminalSince;
+        private long nullContextSince;
+        private final Set<String> jobs;
+
+        private TrackedWorkflow(long nextCheck, long checkInterval, long terminalSince, long nullContextSince,
+                                Set<String> jobs) {
+            this.nextCheck = nextCheck;
+            this.checkInterval = checkInterval;
+            this.terminalSince = terminalSince;
+            this.nullContextSince = nullContextSince;
+            this.jobs = jobs;
+        }
     }
 }
@@ -24,7 +24,6 @@ import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.helix.core.AbstractTask;
-import org.apache.airavata.helix.core.util.MonitoringUtil;
 import org.apache.airavata.helix.task.api.TaskHelper;
 import org.apache.airavata.helix.task.api.annotation.TaskParam;
 import org.apache.airavata.messaging.core.MessageContext;
@@ -91,8 +90,8 @@ public abstract class AiravataTask extends AbstractTask {
         }
 
         try {
-            logger.info("Deleting task specific monitoring nodes");
-            MonitoringUtil.deleteTaskSpecificNodes(getCuratorClient(), getTaskId());
+            logger.info("Clearing task specific state");
+            clearTaskState();
         } catch (Exception e) {
             logger.error("Failed to delete task specific nodes but continuing", e);
         }
@@ -157,8 +156,8 @@ public abstract class AiravataTask extends AbstractTask {
             }
 
             try {
-                logger.info("Deleting task specific monitoring nodes");
-                MonitoringUtil.deleteTaskSpecificNodes(getCuratorClient(), getTaskId());
+                logger.info("Clearing task specific state");
+                clearTaskState();
             } catch (Exception e) {
                 logger.error("Failed to delete task specific nodes but continuing", e);
             }
@@ -355,8 +354,8 @@ public abstract class AiravataTask extends AbstractTask {
             }
 
             try {
-                logger.info("Deleting task specific monitoring nodes");
-                MonitoringUtil.deleteTaskSpecificNodes(getCuratorClient(), getTaskId());
+                logger.info("Clearing task specific state");
+                clearTaskState();
             } catch (Exception e) {
                 logger.error("Failed to delete task specific nodes but continuing", e);
             }
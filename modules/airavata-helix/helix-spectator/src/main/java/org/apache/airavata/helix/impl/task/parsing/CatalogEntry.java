@@ -81,6 +81,29 @@ public class CatalogEntry {
         label = builder.label;
     }
 
+    /**
+     * Creates an independent copy of <code>other</code> so that the per request file names can be set
+     * without touching the shared catalog
+     */
+    CatalogEntry(CatalogEntry other) {
+        containerName = other.containerName;
+        dockerImageName = other.dockerImageName;
+        dockerWorkingDirPath = other.dockerWorkingDirPath;
+        executableBinary = other.executableBinary;
+        executingFile = other.executingFile;
+        inputFileName = other.inputFileName;
+        inputFileExtension = other.inputFileExtension;
+        outputFileName = other.outputFileName;
+        applicationType = other.applicationType;
+        operation = other.operation;
+        runInDetachedMode = other.runInDetachedMode;
+        automaticallyRmContainer = other.automaticallyRmContainer;
+        securityOpt = other.securityOpt;
+        envVariables = other.envVariables;
+        cpus = other.cpus;
+        label = other.label;
+    }
+
     public String getContainerName() {
         return containerName;
     }
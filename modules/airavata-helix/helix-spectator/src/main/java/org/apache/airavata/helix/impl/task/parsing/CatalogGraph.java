@@ -20,7 +20,6 @@
 package org.apache.airavata.helix.impl.task.parsing;
 
 import org.apache.airavata.helix.impl.task.parsing.shortestpath.DijkstraShortestPath;
-import org.apache.airavata.helix.impl.task.parsing.shortestpath.DirectedGraph;
 import org.apache.airavata.helix.impl.task.parsing.shortestpath.Edge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,25 +33,28 @@ import java.util.List;
  * Then the directed graph will be used to generate the shortest path from
  * input file type to a given output file type
  *
+ * The graph itself comes from a {@link CatalogIndex} shared between requests. Requests without an application or
+ * operations are answered from the precomputed chains of the index, others run a search over the shared graph.
+ *
  * @since 1.0.0-SNAPSHOT
  */
 public class CatalogGraph {
 
     private final static Logger logger = LoggerFactory.getLogger(CatalogGraph.class);
 
+    private final ParserRequest request;
+    private final CatalogIndex index;
     private DijkstraShortestPath dsp;
 
     public CatalogGraph(ParserRequest request, String catalogPath) throws Exception {
-        DirectedGraph directedGraph = new DirectedGraph();
+        this.request = request;
+        this.index = CatalogIndex.forCatalog(catalogPath);
 
-        for (CatalogEntry e : CatalogUtil.catalogLookup(catalogPath)) {
-            // Insert the edge and the two vertices
-            directedGraph.addEdge(e.getInputFileExtension(), e.getOutputFileExtension(), e);
-            logger.info(String.format("Successfully inserted the source vertex: " +
-                            "%s, target vertex: %s, and the edge: %s",
-                    e.getInputFileExtension(), e.getOutputFileExtension(), e.getDockerImageName()));
+        boolean needsApplication = request.getApplication() != null && !request.getApplication().isEmpty();
+        boolean needsOperations = request.getOperationList() != null && request.getOperationList().size() > 0;
+        if (needsApplication || needsOperations) {
+            dsp = new DijkstraShortestPath(index.getGraph(), request);
         }
-        dsp = new DijkstraShortestPath(directedGraph, request);
     }
 
     /**
@@ -65,14 +67,22 @@ public class CatalogGraph {
      */
     public List<CatalogEntry> getSPCatalogEntries(String outputFileType) throws Exception {
         List<CatalogEntry> entryList = new ArrayList<>();
-        List<Edge> edges = dsp.getEdgeList(outputFileType);
-        if (edges != null) {
-            edges.forEach(x -> entryList.add(x.getCatalogEntry()));
-            return entryList;
+        if (dsp == null) {
+            List<CatalogEntry> chain = index.getChain(request.inputFileType(), outputFileType);
+            if (chain != null) {
+                // Entries are shared through the index while callers set file names on them, so hand out copies
+                chain.forEach(x -> entryList.add(new CatalogEntry(x)));
+                return entryList;
+            }
 
         } else {
-            throw new Exception(String.format("A path could not be found in between " +
-                    "input file type: %s and output file type: %s", dsp.getSource(), outputFileType));
+            List<Edge> edges = dsp.getEdgeList(outputFileType);
+            if (edges != null) {
+                edges.forEach(x -> entryList.add(new CatalogEntry(x.getCatalogEntry())));
+                return entryList;
+            }
         }
+        throw new Exception(String.format("A path could not be found in between " +
+                "input file type: %s and output file type: %s", request.inputFileType(), outputFileType));
     }
 }
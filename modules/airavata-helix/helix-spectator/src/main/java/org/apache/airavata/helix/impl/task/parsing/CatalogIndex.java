@@ -0,0 +1,182 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing;
+
+import org.apache.airavata.helix.impl.task.parsing.shortestpath.DirectedGraph;
+import org.apache.airavata.helix.impl.task.parsing.shortestpath.Edge;
+import org.apache.airavata.helix.impl.task.parsing.shortestpath.Vertex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In memory index of one or more parser catalogs. The {@link DirectedGraph} is built once per catalog and kept
+ * until one of the catalog files changes on disk. For parser requests that do not ask for an application or for
+ * operations, shortest parser chains from every file type to every other file type are precomputed, so such a
+ * request is answered with a table lookup instead of a graph search.
+ *
+ * Several catalog files can be combined by giving their paths separated by commas.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+final class CatalogIndex {
+
+    private final static Logger logger = LoggerFactory.getLogger(CatalogIndex.class);
+
+    private static final ConcurrentMap<String, CatalogIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Map<File, Long> catalogFiles;
+    private final DirectedGraph graph;
+
+    // Source vertex -> (target vertex -> last edge of the shortest chain to the target)
+    private final Map<Vertex, Map<Vertex, Edge>> chainTable = new HashMap<>();
+
+    private CatalogIndex(Map<File, Long> catalogFiles, DirectedGraph graph) {
+        this.catalogFiles = catalogFiles;
+        this.graph = graph;
+        for (Vertex source : graph.getVertices()) {
+            chainTable.put(source, computeChains(source));
+        }
+    }
+
+    /**
+     * Returns the index of the given catalog paths, rebuilding it if any of the catalog files changed since it was
+     * last built
+     */
+    static CatalogIndex forCatalog(String catalogPaths) throws FileNotFoundException {
+        try {
+            return INDEXES.compute(catalogPaths, (paths, existing) -> {
+                if (existing != null && !existing.isStale()) {
+                    return existing;
+                }
+                try {
+                    return build(paths);
+                } catch (FileNotFoundException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw (FileNotFoundException) e.getCause();
+        }
+    }
+
+    private static CatalogIndex build(String catalogPaths) throws FileNotFoundException {
+        Map<File, Long> catalogFiles = new LinkedHashMap<>();
+        DirectedGraph directedGraph = new DirectedGraph();
+        int entryCount = 0;
+
+        for (String catalogPath : catalogPaths.split(",")) {
+            File catalogFile = new File(catalogPath.trim());
+            catalogFiles.put(catalogFile, catalogFile.lastModified());
+
+            for (CatalogEntry e : CatalogUtil.catalogLookup(catalogFile.getPath())) {
+                // Insert the edge and the two vertices
+                directedGraph.addEdge(e.getInputFileExtension(), e.getOutputFileExtension(), e);
+                logger.debug(String.format("Successfully inserted the source vertex: " +
+                                "%s, target vertex: %s, and the edge: %s",
+                        e.getInputFileExtension(), e.getOutputFileExtension(), e.getDockerImageName()));
+                entryCount++;
+            }
+        }
+
+        CatalogIndex index = new CatalogIndex(catalogFiles, directedGraph);
+        logger.info("Indexed " + entryCount + " catalog entries over " + directedGraph.getVertices().size() +
+                " file types from " + catalogPaths);
+        return index;
+    }
+
+    private boolean isStale() {
+        for (Map.Entry<File, Long> catalogFile : catalogFiles.entrySet()) {
+            if (catalogFile.getKey().lastModified() != catalogFile.getValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    DirectedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the precomputed shortest chain of entries converting <code>inputFileType</code> to
+     * <code>outputFileType</code> or null if there is no such chain. Only entries without an application type and
+     * without an operation take part in these chains, the same edges the graph search picks for a request that asks
+     * for neither.
+     */
+    List<CatalogEntry> getChain(String inputFileType, String outputFileType) {
+        Map<Vertex, Edge> chains = chainTable.get(new Vertex(inputFileType));
+        if (chains == null) {
+            return null;
+        }
+        Vertex step = new Vertex(outputFileType);
+        Edge edge = chains.get(step);
+        if (edge == null) {
+            return null;
+        }
+
+        List<CatalogEntry> entries = new ArrayList<>();
+        while (edge != null) {
+            entries.add(edge.getCatalogEntry());
+            edge = chains.get(edge.getSource());
+        }
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    /**
+     * Breadth first search from the source. All edges weigh the same, so this yields the same chain lengths as the
+     * Dijkstra search in {@link org.apache.airavata.helix.impl.task.parsing.shortestpath.DijkstraShortestPath}
+     */
+    private Map<Vertex, Edge> computeChains(Vertex source) {
+        Map<Vertex, Edge> chains = new HashMap<>();
+        Deque<Vertex> queue = new ArrayDeque<>();
+        queue.add(source);
+
+        while (!queue.isEmpty()) {
+            Vertex vertex = queue.poll();
+            for (Edge edge : graph.getOutgoingEdges(vertex)) {
+                CatalogEntry entry = edge.getCatalogEntry();
+                if (edge.isSelfEdge() || !entry.getApplicationType().isEmpty() || !entry.getOperation().isEmpty()) {
+                    continue;
+                }
+                Vertex target = edge.getTarget();
+                if (!target.equals(source) && !chains.containsKey(target)) {
+                    chains.put(target, edge);
+                    queue.add(target);
+                }
+            }
+        }
+        return chains;
+    }
+}
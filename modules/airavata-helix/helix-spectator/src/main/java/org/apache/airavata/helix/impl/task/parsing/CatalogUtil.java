@@ -40,6 +40,9 @@ public class CatalogUtil {
 
     private final static Logger logger = LoggerFactory.getLogger(CatalogUtil.class);
 
+    // Gson instances are thread safe and costly to create
+    private static final Gson GSON = new Gson();
+
     /**
      * Creates list of {@link CatalogEntry}s using the catalog DB
      * which has the details of Docker parsers
@@ -90,7 +93,7 @@ public class CatalogUtil {
      * @return JSON string of the <code>entry</code>
      */
     public static String catalogEntryToJSONString(CatalogEntry entry) {
-        return new Gson().toJson(entry);
+        return GSON.toJson(entry);
     }
 
     /**
@@ -100,6 +103,6 @@ public class CatalogUtil {
      * @return the {@link CatalogEntry} corresponding to the <code>strEntry</code>
      */
     public static CatalogEntry jsonStringToCatalogEntry(String strEntry) {
-        return new Gson().fromJson(strEntry, CatalogEntry.class);
+        return GSON.fromJson(strEntry, CatalogEntry.class);
     }
 }
@@ -0,0 +1,71 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import java.util.List;
+
+/**
+ * Minimal set of container operations needed to run parsers in long lived containers. A container is started once
+ * with a keep alive command and parser invocations are executed inside it.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public interface ContainerRuntime {
+
+    /**
+     * Creates and starts a container described by <code>spec</code> which keeps running until it is removed
+     *
+     * @return id of the started container
+     */
+    String start(ContainerSpec spec) throws Exception;
+
+    /**
+     * Runs <code>command</code> inside a running container and waits for it to finish
+     */
+    ExecResult exec(String containerId, List<String> command, String workingDir) throws Exception;
+
+    /**
+     * Stops and removes the container. Removing a container which does not exist is not an error
+     */
+    void remove(String containerId) throws Exception;
+
+    /**
+     * Returns ids of all containers, running or not, carrying the given label
+     */
+    List<String> listContainers(String labelKey, String labelValue) throws Exception;
+
+    class ExecResult {
+        private final int exitCode;
+        private final String output;
+
+        public ExecResult(int exitCode, String output) {
+            this.exitCode = exitCode;
+            this.output = output;
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public String getOutput() {
+            return output;
+        }
+    }
+}
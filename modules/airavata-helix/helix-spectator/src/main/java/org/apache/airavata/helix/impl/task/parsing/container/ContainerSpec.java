@@ -0,0 +1,132 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import org.apache.airavata.helix.impl.task.parsing.CatalogEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description of a long lived parser container. Catalog entries keep their Docker options as command line
+ * fragments, so those are parsed here into values every {@link ContainerRuntime} can use.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public class ContainerSpec {
+
+    private final String image;
+    private final String name;
+    private final String hostDir;
+    private final String containerDir;
+    private final List<String> keepAliveCommand;
+    private final List<String> env;
+    private final Map<String, String> labels;
+    private final List<String> securityOpts;
+    private final String cpus;
+
+    ContainerSpec(CatalogEntry entry, String name, String hostDir, List<String> keepAliveCommand,
+                  String poolLabelKey, String poolLabelValue) {
+        this.image = entry.getDockerImageName();
+        this.name = name;
+        this.hostDir = hostDir;
+        this.containerDir = entry.getDockerWorkingDirPath();
+        this.keepAliveCommand = keepAliveCommand;
+        this.env = valuesOf(entry.getEnvVariables(), "--env");
+        this.securityOpts = valuesOf(entry.getSecurityOpt(), "--security-opt");
+        List<String> cpuValues = valuesOf(entry.getCpus(), "--cpus");
+        this.cpus = cpuValues.isEmpty() ? null : cpuValues.get(0);
+
+        this.labels = new LinkedHashMap<>();
+        for (String label : valuesOf(entry.getLabel(), "--label")) {
+            int separator = label.indexOf('=');
+            labels.put(separator < 0 ? label : label.substring(0, separator), separator < 0 ? "" : label.substring(separator + 1));
+        }
+        labels.put(poolLabelKey, poolLabelValue);
+    }
+
+    /**
+     * Extracts the values of <code>flag</code> from a command line fragment, accepting both the
+     * <code>--flag value</code> and the <code>--flag=value</code> forms
+     */
+    private static List<String> valuesOf(String option, String flag) {
+        if (option == null || option.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        List<String> tokens = Arrays.asList(option.trim().split("\\s+"));
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (token.equals(flag) && i + 1 < tokens.size()) {
+                values.add(tokens.get(++i));
+            } else if (token.startsWith(flag + "=")) {
+                values.add(token.substring(flag.length() + 1));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Two specs with the same key produce interchangeable containers
+     */
+    String poolKey() {
+        return image + "|" + hostDir + "|" + containerDir + "|" + env + "|" + labels + "|" + securityOpts + "|" + cpus;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHostDir() {
+        return hostDir;
+    }
+
+    public String getContainerDir() {
+        return containerDir;
+    }
+
+    public List<String> getKeepAliveCommand() {
+        return keepAliveCommand;
+    }
+
+    public List<String> getEnv() {
+        return env;
+    }
+
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    public List<String> getSecurityOpts() {
+        return securityOpts;
+    }
+
+    public String getCpus() {
+        return cpus;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ContainerRuntime} driving the <code>docker</code> command line client. Works wherever the client is
+ * installed, without exposing the Docker daemon over the network.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public class DockerCliRuntime implements ContainerRuntime {
+
+    private final static Logger logger = LoggerFactory.getLogger(DockerCliRuntime.class);
+
+    @Override
+    public String start(ContainerSpec spec) throws Exception {
+        List<String> command = new ArrayList<>(Arrays.asList("docker", "run", "-d", "--name", spec.getName()));
+        for (Map.Entry<String, String> label : spec.getLabels().entrySet()) {
+            command.add("--label");
+            command.add(label.getKey() + "=" + label.getValue());
+        }
+        for (String env : spec.getEnv()) {
+            command.add("--env");
+            command.add(env);
+        }
+        for (String securityOpt : spec.getSecurityOpts()) {
+            command.add("--security-opt");
+            command.add(securityOpt);
+        }
+        if (spec.getCpus() != null) {
+            command.add("--cpus=" + spec.getCpus());
+        }
+        command.add("-v");
+        command.add(spec.getHostDir() + ":" + spec.getContainerDir());
+        command.add("--entrypoint");
+        command.add(spec.getKeepAliveCommand().get(0));
+        command.add(spec.getImage());
+        command.addAll(spec.getKeepAliveCommand().subList(1, spec.getKeepAliveCommand().size()));
+
+        ExecResult result = run(command);
+        if (result.getExitCode() != 0) {
+            throw new Exception("Failed to start container " + spec.getName() + " : " + result.getOutput());
+        }
+        return result.getOutput().trim();
+    }
+
+    @Override
+    public ExecResult exec(String containerId, List<String> command, String workingDir) throws Exception {
+        List<String> dockerCommand = new ArrayList<>(Arrays.asList("docker", "exec", "-w", workingDir, containerId));
+        dockerCommand.addAll(command);
+        return run(dockerCommand);
+    }
+
+    @Override
+    public void remove(String containerId) throws Exception {
+        ExecResult result = run(Arrays.asList("docker", "rm", "-f", containerId));
+        if (result.getExitCode() != 0 && !result.getOutput().contains("No such container")) {
+            throw new Exception("Failed to remove container " + containerId + " : " + result.getOutput());
+        }
+    }
+
+    @Override
+    public List<String> listContainers(String labelKey, String labelValue) throws Exception {
+        ExecResult result = run(Arrays.asList("docker", "ps", "-aq", "--filter", "label=" + labelKey + "=" + labelValue));
+        if (result.getExitCode() != 0) {
+            throw new Exception("Failed to list containers : " + result.getOutput());
+        }
+        List<String> ids = new ArrayList<>();
+        for (String line : result.getOutput().split("\n")) {
+            if (!line.trim().isEmpty()) {
+                ids.add(line.trim());
+            }
+        }
+        return ids;
+    }
+
+    private ExecResult run(List<String> command) throws IOException, InterruptedException {
+        logger.debug("Running " + command);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream in = process.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+        }
+        return new ExecResult(process.waitFor(), new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ContainerRuntime} talking to the Docker Engine HTTP API directly, so no process is forked per call.
+ * The daemon has to listen on a TCP endpoint, for example <code>dockerd -H tcp://127.0.0.1:2375</code>, since the
+ * Java 8 runtime cannot open Unix domain sockets without a native library.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public class DockerEngineRuntime implements ContainerRuntime {
+
+    private final static Logger logger = LoggerFactory.getLogger(DockerEngineRuntime.class);
+
+    private static final String API_VERSION = "/v1.35";
+    private static final Gson GSON = new Gson();
+
+    private final String endpoint;
+
+    public DockerEngineRuntime(String endpoint) {
+        this.endpoint = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+    }
+
+    @Override
+    public String start(ContainerSpec spec) throws Exception {
+        JsonObject hostConfig = new JsonObject();
+        hostConfig.add("Binds", toArray(spec.getHostDir() + ":" + spec.getContainerDir()));
+        if (!spec.getSecurityOpts().isEmpty()) {
+            hostConfig.add("SecurityOpt", GSON.toJsonTree(spec.getSecurityOpts()));
+        }
+        if (spec.getCpus() != null) {
+            hostConfig.addProperty("NanoCpus", (long) (Double.parseDouble(spec.getCpus()) * 1_000_000_000L));
+        }
+
+        JsonObject body = new JsonObject();
+        body.addProperty("Image", spec.getImage());
+        body.add("Entrypoint", toArray(spec.getKeepAliveCommand().get(0)));
+        body.add("Cmd", GSON.toJsonTree(spec.getKeepAliveCommand().subList(1, spec.getKeepAliveCommand().size())));
+        body.add("Env", GSON.toJsonTree(spec.getEnv()));
+        body.add("Labels", GSON.toJsonTree(spec.getLabels()));
+        body.add("HostConfig", hostConfig);
+
+        String response = request("POST", "/containers/create?name=" + encode(spec.getName()), body);
+        String containerId = GSON.fromJson(response, JsonObject.class).get("Id").getAsString();
+        try {
+            request("POST", "/containers/" + containerId + "/start", null);
+        } catch (Exception e) {
+            // Do not leave a created but never started container behind
+            remove(containerId);
+            throw e;
+        }
+        return containerId;
+    }
+
+    @Override
+    public ExecResult exec(String containerId, List<String> command, String workingDir) throws Exception {
+        JsonObject execConfig = new JsonObject();
+        execConfig.addProperty("AttachStdout", true);
+        execConfig.addProperty("AttachStderr", true);
+        // With a tty the output is a plain stream instead of the multiplexed stdout / stderr framing
+        execConfig.addProperty("Tty", true);
+        execConfig.addProperty("WorkingDir", workingDir);
+        execConfig.add("Cmd", GSON.toJsonTree(command));
+
+        String response = request("POST", "/containers/" + containerId + "/exec", execConfig);
+        String execId = GSON.fromJson(response, JsonObject.class).get("Id").getAsString();
+
+        JsonObject startConfig = new JsonObject();
+        startConfig.addProperty("Detach", false);
+        startConfig.addProperty("Tty", true);
+        String output = request("POST", "/exec/" + execId + "/start", startConfig);
+
+        JsonObject inspect = GSON.fromJson(request("GET", "/exec/" + execId + "/json", null), JsonObject.class);
+        JsonElement exitCode = inspect.get("ExitCode");
+        return new ExecResult(exitCode == null || exitCode.isJsonNull() ? -1 : exitCode.getAsInt(), output);
+    }
+
+    @Override
+    public void remove(String containerId) throws Exception {
+        try {
+            request("DELETE", "/containers/" + containerId + "?force=true&v=true", null);
+        } catch (NotFoundException e) {
+            logger.debug("Container " + containerId + " is already removed");
+        }
+    }
+
+    @Override
+    public List<String> listContainers(String labelKey, String labelValue) throws Exception {
+        JsonObject filters = new JsonObject();
+        filters.add("label", toArray(labelKey + "=" + labelValue));
+        String response = request("GET", "/containers/json?all=true&filters=" + encode(filters.toString()), null);
+
+        List<String> ids = new ArrayList<>();
+        for (JsonElement container : GSON.fromJson(response, JsonArray.class)) {
+            ids.add(container.getAsJsonObject().get("Id").getAsString());
+        }
+        return ids;
+    }
+
+    private String request(String method, String path, JsonObject body) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL(endpoint + API_VERSION + path).openConnection();
+        try {
+            connection.setRequestMethod(method);
+            if (body != null) {
+                byte[] payload = body.toString().getBytes(StandardCharsets.UTF_8);
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                connection.setFixedLengthStreamingMode(payload.length);
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(payload);
+                }
+            } else if ("POST".equals(method)) {
+                connection.setDoOutput(true);
+                connection.setFixedLengthStreamingMode(0);
+                connection.getOutputStream().close();
+            }
+
+            int status = connection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_FOUND) {
+                throw new NotFoundException(method + " " + path + " : " + read(connection.getErrorStream()));
+            }
+            if (status >= 400) {
+                throw new Exception("Docker engine returned " + status + " for " + method + " " + path + " : " +
+                        read(connection.getErrorStream()));
+            }
+            return read(connection.getInputStream());
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (InputStream stream = in) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static JsonArray toArray(String value) {
+        JsonArray array = new JsonArray();
+        array.add(new JsonPrimitive(value));
+        return array;
+    }
+
+    private static String encode(String value) throws IOException {
+        return URLEncoder.encode(value, "UTF-8");
+    }
+
+    private static class NotFoundException extends Exception {
+        private NotFoundException(String message) {
+            super(message);
+        }
+    }
+}
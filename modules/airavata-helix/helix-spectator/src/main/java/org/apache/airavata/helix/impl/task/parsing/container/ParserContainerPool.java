@@ -0,0 +1,276 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import org.apache.airavata.common.exception.ApplicationSettingsException;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.helix.impl.task.parsing.CatalogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps warm parser containers and reuses them across parsing tasks instead of starting a container per task.
+ *
+ * The directory <code>parser.container.work.root</code> is mounted once into each container and every working
+ * directory below it is reached through the working directory of the exec call, so one warm container serves all
+ * runs of an image. A working directory outside the root can not be reached from a pooled container, so the run gets a
+ * container of its own which is removed when the run finishes.
+ *
+ * Idle containers are kept up to a limit per image and a limit for the whole pool, and are removed after being idle
+ * for <code>parser.container.idle.timeout.ms</code>. The number of parser runs executing at the same time is bounded,
+ * a container is removed as soon as a run on it fails, and containers left behind by a previous process of this pool
+ * are removed on startup.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public class ParserContainerPool {
+
+    private final static Logger logger = LoggerFactory.getLogger(ParserContainerPool.class);
+
+    private static final String POOL_LABEL = "org.apache.airavata.parser.pool";
+
+    private static ParserContainerPool instance;
+
+    private static class IdleContainer {
+
+        private final String containerId;
+        private final long idleSince;
+
+        private IdleContainer(String containerId, long idleSince) {
+            this.containerId = containerId;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private final ContainerRuntime runtime;
+    private final String poolName;
+    private final String workRoot;
+    private final List<String> keepAliveCommand;
+    private final int maxIdlePerKey;
+    private final int maxIdle;
+    private final long idleTimeoutMs;
+    private final long acquireTimeoutMs;
+    private final Semaphore runPermits;
+
+    // Idle containers of each pool key, oldest first. Guarded by this pool
+    private final Map<String, ArrayDeque<IdleContainer>> idleContainers = new HashMap<>();
+    private int idleCount;
+
+    ParserContainerPool(ContainerRuntime runtime, String poolName, String workRoot, List<String> keepAliveCommand,
+                        int maxIdlePerKey, int maxIdle, long idleTimeoutMs, int maxConcurrentRuns, long acquireTimeoutMs) {
+        if (workRoot == null || workRoot.trim().isEmpty()) {
+            throw new IllegalArgumentException("The parser container work root is not set");
+        }
+        this.runtime = runtime;
+        this.poolName = poolName;
+        this.workRoot = new File(workRoot.trim()).getAbsolutePath();
+        this.keepAliveCommand = keepAliveCommand;
+        this.maxIdlePerKey = maxIdlePerKey;
+        this.maxIdle = maxIdle;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.runPermits = new Semaphore(maxConcurrentRuns, true);
+    }
+
+    public static synchronized ParserContainerPool getInstance() throws ApplicationSettingsException {
+        if (instance == null) {
+            String runtimeType = ServerSettings.getSetting("parser.container.runtime", "cli");
+            ContainerRuntime runtime = "engine-api".equalsIgnoreCase(runtimeType)
+                    ? new DockerEngineRuntime(ServerSettings.getSetting("parser.docker.host", "http://localhost:2375"))
+                    : new DockerCliRuntime();
+
+            String workRoot = ServerSettings.getSetting("parser.container.work.root", "");
+            if (workRoot.trim().isEmpty()) {
+                throw new ApplicationSettingsException("parser.container.work.root should point to the directory " +
+                        "holding the parser working directories");
+            }
+
+            instance = new ParserContainerPool(runtime,
+                    ServerSettings.getSetting("parser.container.pool.name", "default"),
+                    workRoot,
+                    Arrays.asList(ServerSettings.getSetting("parser.container.keepalive.command", "tail -f /dev/null").trim().split("\\s+")),
+                    Integer.parseInt(ServerSettings.getSetting("parser.container.max.idle.per.image", "2")),
+                    Integer.parseInt(ServerSettings.getSetting("parser.container.max.idle", "8")),
+                    Long.parseLong(ServerSettings.getSetting("parser.container.idle.timeout.ms", "300000")),
+                    Integer.parseInt(ServerSettings.getSetting("parser.container.max.concurrent.runs", "4")),
+                    Long.parseLong(ServerSettings.getSetting("parser.container.acquire.timeout.ms", "600000")));
+            instance.removeStaleContainers();
+
+            ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "parser-container-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = Math.max(1000, instance.idleTimeoutMs / 2);
+            final ParserContainerPool pool = instance;
+            reaper.scheduleWithFixedDelay(() -> pool.removeExpired(System.currentTimeMillis()), interval, interval,
+                    TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown));
+        }
+        return instance;
+    }
+
+    /**
+     * Runs the parser of <code>entry</code> on the files in <code>localWorkingDir</code> and waits for it to finish
+     */
+    public ContainerRuntime.ExecResult execute(CatalogEntry entry, String localWorkingDir) throws Exception {
+        String hostDir = new File(localWorkingDir).getAbsolutePath();
+        String runDir = entry.getDockerWorkingDirPath();
+        boolean pooled = (hostDir + File.separator).startsWith(workRoot + File.separator);
+        if (pooled) {
+            String relative = hostDir.substring(workRoot.length()).replace(File.separatorChar, '/');
+            if (!relative.isEmpty()) {
+                runDir = (runDir.endsWith("/") ? runDir.substring(0, runDir.length() - 1) : runDir) + relative;
+            }
+            hostDir = workRoot;
+        } else {
+            logger.warn("Parser working directory " + hostDir + " is outside of the container work root " + workRoot +
+                    ". The parser runs in a container of its own");
+        }
+
+        List<String> command = new ArrayList<>(Arrays.asList(entry.getExecutableBinary(), entry.getExecutingFile(),
+                entry.getInputFileName(), entry.getOutputFileName()));
+
+        if (!runPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new Exception("Timed out waiting for a free parser slot for image " + entry.getDockerImageName());
+        }
+        try {
+            ContainerSpec spec = new ContainerSpec(entry, entry.getContainerName() + "-" +
+                    UUID.randomUUID().toString().substring(0, 8), hostDir, keepAliveCommand, POOL_LABEL, poolName);
+
+            String containerId = pooled ? takeIdle(spec.poolKey()) : null;
+            if (containerId == null) {
+                logger.info("Starting parser container " + spec.getName() + " for image " + spec.getImage());
+                containerId = runtime.start(spec);
+            }
+
+            ContainerRuntime.ExecResult result;
+            try {
+                result = runtime.exec(containerId, command, runDir);
+            } catch (Exception e) {
+                discard(containerId);
+                throw e;
+            }
+
+            // A failed parser may have left the container in an unknown state, so it is not reused
+            if (!pooled || result.getExitCode() != 0 || !park(spec.poolKey(), containerId, System.currentTimeMillis())) {
+                discard(containerId);
+            }
+            return result;
+        } finally {
+            runPermits.release();
+        }
+    }
+
+    private synchronized String takeIdle(String poolKey) {
+        ArrayDeque<IdleContainer> idle = idleContainers.get(poolKey);
+        if (idle == null) {
+            return null;
+        }
+        // the most recently used container is the least likely to expire
+        IdleContainer container = idle.pollLast();
+        if (idle.isEmpty()) {
+            idleContainers.remove(poolKey);
+        }
+        idleCount--;
+        return container.containerId;
+    }
+
+    /**
+     * @return false if the per image or the pool limit of idle containers is reached
+     */
+    private synchronized boolean park(String poolKey, String containerId, long now) {
+        ArrayDeque<IdleContainer> idle = idleContainers.computeIfAbsent(poolKey, key -> new ArrayDeque<>());
+        if (idle.size() >= maxIdlePerKey || idleCount >= maxIdle) {
+            if (idle.isEmpty()) {
+                idleContainers.remove(poolKey);
+            }
+            return false;
+        }
+        idle.addLast(new IdleContainer(containerId, now));
+        idleCount++;
+        return true;
+    }
+
+    /**
+     * Removes the containers which have been idle for longer than the idle timeout
+     */
+    void removeExpired(long now) {
+        List<String> expired = new ArrayList<>();
+        synchronized (this) {
+            for (Iterator<ArrayDeque<IdleContainer>> it = idleContainers.values().iterator(); it.hasNext(); ) {
+                ArrayDeque<IdleContainer> idle = it.next();
+                while (!idle.isEmpty() && now - idle.peekFirst().idleSince >= idleTimeoutMs) {
+                    expired.add(idle.pollFirst().containerId);
+                    idleCount--;
+                }
+                if (idle.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            logger.info("Removing " + expired.size() + " idle parser containers");
+            expired.forEach(this::discard);
+        }
+    }
+
+    synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    private void discard(String containerId) {
+        try {
+            runtime.remove(containerId);
+        } catch (Exception e) {
+            logger.warn("Failed to remove parser container " + containerId, e);
+        }
+    }
+
+    void removeStaleContainers() {
+        try {
+            List<String> stale = runtime.listContainers(POOL_LABEL, poolName);
+            if (!stale.isEmpty()) {
+                logger.info("Removing " + stale.size() + " parser containers left by a previous run of pool " + poolName);
+                stale.forEach(this::discard);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to look up stale parser containers of pool " + poolName, e);
+        }
+    }
+
+    void shutdown() {
+        removeExpired(Long.MAX_VALUE);
+    }
+}
@@ -67,6 +67,10 @@ public class DirectedGraph {
         }
     }
 
+    public Set<Vertex> getVertices() {
+        return Collections.unmodifiableSet(vertices);
+    }
+
     public List<Edge> getOutgoingEdges(Vertex sourceVertex) {
         return new ArrayList<>(vertexMap.get(sourceVertex));
     }
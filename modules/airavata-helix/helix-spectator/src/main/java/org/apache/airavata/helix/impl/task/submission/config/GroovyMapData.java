@@ -20,14 +20,12 @@
 package org.apache.airavata.helix.impl.task.submission.config;
 
 import groovy.lang.Writable;
-import groovy.text.GStringTemplateEngine;
-import groovy.text.TemplateEngine;
-import org.apache.airavata.common.utils.ApplicationSettings;
+import groovy.text.Template;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
-import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +34,8 @@ public class GroovyMapData {
 
     private final static Logger logger = LoggerFactory.getLogger(GroovyMapData.class);
 
+    private static final Field[] SCRIPT_TAG_FIELDS = findScriptTagFields();
+
     @ScriptTag(name = "inputDir")
     private String inputDir;
 
@@ -465,15 +465,11 @@ public class GroovyMapData {
     public Map toImmutableMap() {
 
         Map<String, Object> dataMap = new HashMap<>();
-        Field[] declaredFields = this.getClass().getDeclaredFields();
-        for (Field field : declaredFields) {
-            field.setAccessible(true);
-            if (field.getAnnotation(ScriptTag.class) != null) {
-                try {
-                    dataMap.put(field.getAnnotation(ScriptTag.class).name(), field.get(this));
-                } catch (IllegalAccessException e) {
-                    e.printStackTrace();
-                }
+        for (Field field : SCRIPT_TAG_FIELDS) {
+            try {
+                dataMap.put(field.getAnnotation(ScriptTag.class).name(), field.get(this));
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
             }
         }
 
@@ -481,25 +477,27 @@ public class GroovyMapData {
     }
 
     public String getAsString(String templateName) throws Exception {
-        URL templateUrl = ApplicationSettings.loadFile(templateName);
-        if (templateUrl == null) {
-            String error = "Template file '" + templateName + "' not found";
-            throw new Exception(error);
-        }
-        //File template = new File(templateUrl.getPath());
-        TemplateEngine engine = new GStringTemplateEngine();
+        Template template = JobScriptTemplateRegistry.getInstance().getTemplate(templateName);
         Writable make;
         try {
 
-            make = engine.createTemplate(templateUrl).make(toImmutableMap());
+            make = template.make(toImmutableMap());
         } catch (Exception e) {
-            throw new Exception("Error while generating script using groovy map for template " + templateUrl.getPath(), e);
+            throw new Exception("Error while generating script using groovy map for template " + templateName, e);
         }
 
+        String script = make.toString();
         if (logger.isTraceEnabled()) {
             logger.trace("Groovy map as string for template " + templateName);
-            logger.trace(make.toString());
+            logger.trace(script);
         }
-        return make.toString();
+        return script;
+    }
+
+    private static Field[] findScriptTagFields() {
+        return Arrays.stream(GroovyMapData.class.getDeclaredFields())
+                .filter(field -> field.getAnnotation(ScriptTag.class) != null)
+                .peek(field -> field.setAccessible(true))
+                .toArray(Field[]::new);
     }
 }
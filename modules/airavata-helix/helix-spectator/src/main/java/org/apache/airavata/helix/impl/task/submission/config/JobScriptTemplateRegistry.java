@@ -0,0 +1,176 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.submission.config;
+
+import groovy.text.GStringTemplateEngine;
+import groovy.text.Template;
+import groovy.text.TemplateEngine;
+import org.apache.airavata.common.utils.ApplicationSettings;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles each job script template once and keeps the compiled {@link Template} for later submissions. Compiling a
+ * groovy template generates and loads a new class, so doing it per submission is slow and keeps filling the metaspace.
+ * Compiled templates are keyed by the hash of the template content, so templates with identical content share one
+ * compiled class. When job.template.hot.reload is enabled, templates loaded from the file system (the airavata config
+ * directory) are checked for modifications and recompiled when their content changes.
+ */
+public class JobScriptTemplateRegistry {
+
+    private final static Logger logger = LoggerFactory.getLogger(JobScriptTemplateRegistry.class);
+
+    private static final JobScriptTemplateRegistry INSTANCE = new JobScriptTemplateRegistry();
+
+    private final Map<String, TemplateEntry> templatesByName = new ConcurrentHashMap<>();
+    private final Map<String, Template> templatesByHash = new ConcurrentHashMap<>();
+
+    private final boolean hotReload;
+    private final long reloadCheckIntervalMS;
+
+    private JobScriptTemplateRegistry() {
+        this.hotReload = Boolean.parseBoolean(ServerSettings.getSetting("job.template.hot.reload", "false"));
+        this.reloadCheckIntervalMS = Long.parseLong(ServerSettings.getSetting("job.template.reload.check.interval.ms", "30000"));
+    }
+
+    public static JobScriptTemplateRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public Template getTemplate(String templateName) throws Exception {
+        TemplateEntry entry = templatesByName.get(templateName);
+        if (entry == null) {
+            try {
+                entry = templatesByName.computeIfAbsent(templateName, this::loadUnchecked);
+            } catch (TemplateLoadException e) {
+                throw (Exception) e.getCause();
+            }
+        } else if (hotReload && entry.isReloadDue(reloadCheckIntervalMS)) {
+            entry = reloadIfModified(templateName, entry);
+        }
+        return entry.template;
+    }
+
+    private TemplateEntry loadUnchecked(String templateName) {
+        try {
+            return load(templateName);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TemplateLoadException(e);
+        }
+    }
+
+    private TemplateEntry load(String templateName) throws Exception {
+        URL templateUrl = ApplicationSettings.loadFile(templateName);
+        if (templateUrl == null) {
+            String error = "Template file '" + templateName + "' not found";
+            throw new Exception(error);
+        }
+
+        byte[] content = read(templateUrl);
+        String hash = hash(content);
+
+        Template template = templatesByHash.get(hash);
+        if (template == null) {
+            logger.info("Compiling job script template " + templateName + " from " + templateUrl);
+            TemplateEngine engine = new GStringTemplateEngine();
+            try {
+                template = engine.createTemplate(new String(content, StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new Exception("Error while compiling the groovy template " + templateUrl.getPath(), e);
+            }
+            Template existing = templatesByHash.putIfAbsent(hash, template);
+            template = existing != null ? existing : template;
+        }
+
+        File templateFile = "file".equals(templateUrl.getProtocol()) ? new File(templateUrl.toURI()) : null;
+        return new TemplateEntry(template, hash, templateFile);
+    }
+
+    private TemplateEntry reloadIfModified(String templateName, TemplateEntry entry) throws Exception {
+        entry.lastCheckedTime = System.currentTimeMillis();
+        if (entry.templateFile == null || entry.templateFile.lastModified() == entry.lastModifiedTime) {
+            return entry;
+        }
+
+        TemplateEntry reloaded = load(templateName);
+        if (!reloaded.hash.equals(entry.hash)) {
+            logger.info("Job script template " + templateName + " was modified. Using the recompiled template");
+            templatesByHash.remove(entry.hash, entry.template);
+        }
+        templatesByName.put(templateName, reloaded);
+        return reloaded;
+    }
+
+    private static byte[] read(URL url) throws Exception {
+        try (InputStream in = url.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static String hash(byte[] content) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return new BigInteger(1, digest.digest(content)).toString(16);
+    }
+
+    private static class TemplateEntry {
+        private final Template template;
+        private final String hash;
+        private final File templateFile;
+        private final long lastModifiedTime;
+        private volatile long lastCheckedTime;
+
+        private TemplateEntry(Template template, String hash, File templateFile) {
+            this.template = template;
+            this.hash = hash;
+            this.templateFile = templateFile;
+            this.lastModifiedTime = templateFile != null ? templateFile.lastModified() : 0;
+            this.lastCheckedTime = System.currentTimeMillis();
+        }
+
+        private boolean isReloadDue(long intervalMS) {
+            return templateFile != null && lastCheckedTime + intervalMS < System.currentTimeMillis();
+        }
+    }
+
+    private static class TemplateLoadException extends RuntimeException {
+        private TemplateLoadException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -55,6 +55,14 @@ public interface OutputParser {
      */
     public void parseJobStatuses(String userName, Map<String, JobStatus> statusMap, String rawOutput) throws Exception;
 
+    /**
+     * This can be used to parse a whole status listing (squeue, qstat, bjobs) in one pass. The state codes of the
+     * scheduler are mapped with {@link org.apache.airavata.helix.impl.task.submission.config.app.JobUtil#getJobState(String)}
+     * @param rawOutput
+     * @return status of each job in the listing keyed by the job ID
+     */
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception;
+
 
     public String parseJobId(String jobName, String rawOutput) throws Exception;
 }
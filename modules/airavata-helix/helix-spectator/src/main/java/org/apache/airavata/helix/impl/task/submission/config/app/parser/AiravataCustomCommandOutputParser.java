@@ -49,6 +49,11 @@ public class AiravataCustomCommandOutputParser implements OutputParser {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public String parseJobId(String jobName, String rawOutput) throws Exception {
         throw new UnsupportedOperationException();
@@ -25,6 +25,7 @@ import org.apache.airavata.model.status.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.Map;
 
 public class ForkOutputParser implements OutputParser {
@@ -50,6 +51,11 @@ public class ForkOutputParser implements OutputParser {
 
     }
 
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception {
+        return new HashMap<>();
+    }
+
     @Override
     public String parseJobId(String jobName, String rawOutput) throws Exception {
         // For fork jobs there is no job ID, hence airavata generates a job ID
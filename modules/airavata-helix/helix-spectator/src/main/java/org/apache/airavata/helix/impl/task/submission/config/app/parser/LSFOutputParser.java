@@ -20,14 +20,13 @@
 package org.apache.airavata.helix.impl.task.submission.config.app.parser;
 
 import org.apache.airavata.helix.impl.task.submission.config.OutputParser;
+import org.apache.airavata.helix.impl.task.submission.config.app.JobUtil;
 import org.apache.airavata.model.status.JobState;
 import org.apache.airavata.model.status.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -35,6 +34,11 @@ import java.util.regex.Pattern;
 public class LSFOutputParser implements OutputParser {
     private final static Logger logger = LoggerFactory.getLogger(LSFOutputParser.class);
 
+    // bjobs columns : JOBID USER STAT QUEUE FROM_HOST EXEC_HOST JOB_NAME SUBMIT_TIME
+    private static final int JOB_ID_COLUMN = 0;
+    private static final int STATE_COLUMN = 2;
+    private static final int JOB_NAME_PREFIX_LENGTH = 8;
+
     @Override
     public String parseJobSubmission(String rawOutput) throws Exception {
         logger.debug(rawOutput);
@@ -51,47 +55,29 @@ public class LSFOutputParser implements OutputParser {
     }
 
     @Override
+    /**
+     * Reads the status of the job from the bjobs listing of the monitor command
+     */
     public JobStatus parseJobStatus(String jobID, String rawOutput) throws Exception {
-        boolean jobFount = false;
         logger.debug(rawOutput);
-        //todo this is not used anymore
-        return null;
+        return parseJobStatusListing(rawOutput).get(jobID);
     }
 
+    /**
+     * The STAT column is mapped with {@link JobUtil#getJobState(String)}. It used to be read with JobState.valueOf,
+     * which failed on every bjobs state code (RUN, PEND, DONE, EXIT, ...), so statuses are now resolved instead of the
+     * parsing failing with an IllegalArgumentException.
+     */
     @Override
     public void parseJobStatuses(String userName, Map<String, JobStatus> statusMap, String rawOutput) throws Exception {
         logger.debug(rawOutput);
+        SchedulerOutputScanner.parseStatusesByJobName(statusMap, rawOutput, JOB_NAME_PREFIX_LENGTH, STATE_COLUMN,
+                JobUtil::getJobState, logger);
+    }
 
-        String[]    info = rawOutput.split("\n");
-//        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            String jobName = jobID.split(",")[1];
-            boolean found = false;
-            for (int i = 0; i < info.length; i++) {
-                if (info[i].contains(jobName.substring(0,8))) {
-                    // now starts processing this line
-                    logger.info(info[i]);
-                    String correctLine = info[i];
-                    String[] columns = correctLine.split(" ");
-                    List<String> columnList = new ArrayList<String>();
-                    for (String s : columns) {
-                        if (!"".equals(s)) {
-                            columnList.add(s);
-                        }
-                    }
-//                    lastStop = i + 1;
-                    try {
-	                    statusMap.put(jobID, new JobStatus(JobState.valueOf(columnList.get(2))));
-                    }catch(IndexOutOfBoundsException e) {
-	                    statusMap.put(jobID, new JobStatus(JobState.valueOf("U")));
-                    }
-                    found = true;
-                    break;
-                }
-            }
-            if(!found)
-                logger.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobID.split(",")[0]);
-        }
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception {
+        return SchedulerOutputScanner.parseListing(rawOutput, JOB_ID_COLUMN, STATE_COLUMN, JobUtil::getJobState);
     }
 
     @Override
@@ -25,8 +25,6 @@ import org.apache.airavata.model.status.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,6 +32,11 @@ import java.util.regex.Pattern;
 public class PBSOutputParser implements OutputParser {
     private static final Logger log = LoggerFactory.getLogger(PBSOutputParser.class);
 
+    // qstat -u columns : Job ID, Username, Queue, Jobname, SessID, NDS, TSK, Memory, Req'd Time, S, Elap Time
+    private static final int JOB_ID_COLUMN = 0;
+    private static final int STATE_COLUMN = 9;
+    private static final int JOB_NAME_PREFIX_LENGTH = 8;
+
     public String parseJobSubmission(String rawOutput) {
         log.debug(rawOutput);
         String jobId = rawOutput;
@@ -52,68 +55,35 @@ public class PBSOutputParser implements OutputParser {
     }
 
     public JobStatus parseJobStatus(String jobID, String rawOutput) {
-        boolean jobFount = false;
         log.debug(rawOutput);
-        String[] info = rawOutput.split("\n");
-        String[] line = null;
-        int index = 0;
-        for (String anInfo : info) {
-            index++;
-            if (anInfo.contains("Job Id:")) {
-                if (anInfo.contains(jobID)) {
-                    jobFount = true;
-                    break;
-                }
+        // qstat -f output. Find the "Job Id:" line of the job and then the first job_state line after it
+        JobStatus[] status = new JobStatus[1];
+        boolean[] jobFound = new boolean[1];
+        SchedulerOutputScanner.scanLines(rawOutput, (raw, start, end) -> {
+            String line = raw.substring(start, end);
+            if (!jobFound[0]) {
+                jobFound[0] = line.contains("Job Id:") && line.contains(jobID);
+                return true;
             }
-        }
-        if (jobFount) {
-            for (int i=index;i<info.length;i++) {
-                String anInfo = info[i];
-                if (anInfo.contains("=")) {
-                    line = anInfo.split("=", 2);
-                    if (line.length != 0) {
-                        if (line[0].contains("job_state")) {
-	                        return new JobStatus(JobUtil.getJobState(line[1].replaceAll(" ", "")));
-                        }
-                    }
-                }
+            int separator = line.indexOf('=');
+            if (separator >= 0 && line.substring(0, separator).contains("job_state")) {
+                status[0] = new JobStatus(JobUtil.getJobState(line.substring(separator + 1).trim()));
+                return false;
             }
-        }
-        return null;
+            return true;
+        });
+        return status[0];
     }
 
     public void parseJobStatuses(String userName, Map<String, JobStatus> statusMap, String rawOutput) {
         log.debug(rawOutput);
-        String[]    info = rawOutput.split("\n");
-//        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            String jobName = jobID.split(",")[1];
-            boolean found = false;
-            for (int i = 0; i < info.length; i++) {
-                if (info[i].contains(jobName.substring(0,8))) {
-                    // now starts processing this line
-                    log.info(info[i]);
-                    String correctLine = info[i];
-                    String[] columns = correctLine.split(" ");
-                    List<String> columnList = new ArrayList<String>();
-                    for (String s : columns) {
-                        if (!"".equals(s)) {
-                            columnList.add(s);
-                        }
-                    }
-//                    lastStop = i + 1;
-                    try {
-	                    statusMap.put(jobID, new JobStatus(JobUtil.getJobState(columnList.get(9))));
-                    }catch(IndexOutOfBoundsException e) {
-	                    statusMap.put(jobID, new JobStatus(JobUtil.getJobState("U")));
-                    }
-                    found = true;
-                    break;
-                }
-            }
-            if(!found)
-            log.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobID.split(",")[0]);
-        }
+        SchedulerOutputScanner.parseStatusesByJobName(statusMap, rawOutput, JOB_NAME_PREFIX_LENGTH, STATE_COLUMN,
+                JobUtil::getJobState, log);
+    }
+
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception {
+        return SchedulerOutputScanner.parseListing(rawOutput, JOB_ID_COLUMN, STATE_COLUMN, JobUtil::getJobState);
     }
 
     @Override
@@ -0,0 +1,166 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.submission.config.app.parser;
+
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.model.status.JobStatus;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Line and column tokenizer shared by the scheduler output parsers. Outputs are walked line by line over the original
+ * string and columns are collected into a reused list, so parsing a listing does not build intermediate line and
+ * column arrays.
+ */
+final class SchedulerOutputScanner {
+
+    private SchedulerOutputScanner() {
+    }
+
+    interface LineVisitor {
+        /**
+         * @return false to stop scanning
+         */
+        boolean visit(String rawOutput, int lineStart, int lineEnd);
+    }
+
+    interface ColumnVisitor {
+        /**
+         * @return false to stop scanning
+         */
+        boolean visit(List<String> columns, String rawOutput, int lineStart, int lineEnd);
+    }
+
+    static void scanLines(String rawOutput, LineVisitor visitor) {
+        if (rawOutput == null) {
+            return;
+        }
+        int length = rawOutput.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = rawOutput.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            if (!visitor.visit(rawOutput, lineStart, lineEnd)) {
+                return;
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    static void scan(String rawOutput, ColumnVisitor visitor) {
+        List<String> columns = new ArrayList<>(16);
+        scanLines(rawOutput, (raw, start, end) -> {
+            columns(raw, start, end, columns);
+            return visitor.visit(columns, raw, start, end);
+        });
+    }
+
+    static void columns(String text, int start, int end, List<String> columns) {
+        columns.clear();
+        int i = start;
+        while (i < end) {
+            while (i < end && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int tokenStart = i;
+            while (i < end && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i > tokenStart) {
+                columns.add(text.substring(tokenStart, i));
+            }
+        }
+    }
+
+    /**
+     * Parses a status listing (squeue, qstat, bjobs) into a job id to status map. Lines which do not start with a job
+     * id (headers, separators) are skipped.
+     */
+    static Map<String, JobStatus> parseListing(String rawOutput, int idColumn, int stateColumn,
+                                               Function<String, JobState> stateMapper) {
+        Map<String, JobStatus> statuses = new HashMap<>();
+        scan(rawOutput, (columns, raw, start, end) -> {
+            if (columns.size() > Math.max(idColumn, stateColumn) && Character.isDigit(columns.get(idColumn).charAt(0))) {
+                statuses.putIfAbsent(columns.get(idColumn), new JobStatus(stateMapper.apply(columns.get(stateColumn))));
+            }
+            return true;
+        });
+        return statuses;
+    }
+
+    /**
+     * Fills the status map whose keys are in jobId,jobName format by finding the first line of the listing which
+     * contains the first prefixLength characters of the job name. All jobs are resolved in a single pass over the
+     * output, and a line resolves at most one job name prefix.
+     */
+    static void parseStatusesByJobName(Map<String, JobStatus> statusMap, String rawOutput, int prefixLength,
+                                       int stateColumn, Function<String, JobState> stateMapper, Logger log) {
+
+        Map<String, List<String>> keysByPrefix = new LinkedHashMap<>();
+        for (String key : statusMap.keySet()) {
+            String jobName = key.split(",")[1];
+            String prefix = jobName.substring(0, Math.min(prefixLength, jobName.length()));
+            keysByPrefix.computeIfAbsent(prefix, k -> new ArrayList<>(1)).add(key);
+        }
+
+        Map<String, JobStatus> resolved = new HashMap<>();
+        List<String> columns = new ArrayList<>(16);
+        scanLines(rawOutput, (raw, start, end) -> {
+            for (Iterator<Map.Entry<String, List<String>>> it = keysByPrefix.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<String, List<String>> entry = it.next();
+                if (contains(raw, start, end, entry.getKey())) {
+                    log.info(raw.substring(start, end));
+                    columns(raw, start, end, columns);
+                    JobState state = stateMapper.apply(columns.size() > stateColumn ? columns.get(stateColumn) : "U");
+                    entry.getValue().forEach(key -> resolved.put(key, new JobStatus(state)));
+                    it.remove();
+                    break;
+                }
+            }
+            return !keysByPrefix.isEmpty();
+        });
+
+        statusMap.putAll(resolved);
+        keysByPrefix.values().forEach(keys -> keys.forEach(key -> log.error("Couldn't find the status of the Job with JobName: "
+                + key.split(",")[1] + "Job Id: " + key.split(",")[0])));
+    }
+
+    /**
+     * @return true if the text between start and end contains the given string
+     */
+    static boolean contains(String text, int start, int end, String s) {
+        int length = s.length();
+        for (int i = start; i + length <= end; i++) {
+            if (text.regionMatches(i, s, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -21,13 +21,10 @@ package org.apache.airavata.helix.impl.task.submission.config.app.parser;
 
 import org.apache.airavata.helix.impl.task.submission.config.OutputParser;
 import org.apache.airavata.helix.impl.task.submission.config.app.JobUtil;
-import org.apache.airavata.model.status.JobState;
 import org.apache.airavata.model.status.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -38,6 +35,12 @@ public class SlurmOutputParser implements OutputParser {
     public static final String STATUS = "status";
 	public static final String JOBID = "jobId";
 
+    private static final Pattern SUBMISSION_PATTERN = Pattern.compile("Submitted batch job (?<" + JOBID + ">[^\\s]*)");
+    private static final Pattern SUBMISSION_FAILED_PATTERN = Pattern.compile("FAILED");
+
+    // squeue columns : JOBID PARTITION NAME USER ST TIME NODES NODELIST(REASON)
+    private static final int JOB_ID_COLUMN = 0;
+    private static final int STATE_COLUMN = 4;
 
     /**
      * This can be used to parseSingleJob the outpu of sbatch and extrac the jobID from the content
@@ -47,8 +50,7 @@ public class SlurmOutputParser implements OutputParser {
      */
     public String parseJobSubmission(String rawOutput) throws Exception {
 	    log.info(rawOutput);
-	    Pattern pattern = Pattern.compile("Submitted batch job (?<" + JOBID + ">[^\\s]*)");
-	    Matcher matcher = pattern.matcher(rawOutput);
+	    Matcher matcher = SUBMISSION_PATTERN.matcher(rawOutput);
 	    if (matcher.find()) {
 		    return matcher.group(JOBID);
 	    }
@@ -57,59 +59,37 @@ public class SlurmOutputParser implements OutputParser {
 
     @Override
     public boolean isJobSubmissionFailed(String rawOutput) {
-        Pattern pattern = Pattern.compile("FAILED");
-        Matcher matcher = pattern.matcher(rawOutput);
-        return matcher.find();
+        return SUBMISSION_FAILED_PATTERN.matcher(rawOutput).find();
     }
 
+    /**
+     * Reads the status of the job from the squeue -j listing of the monitor command
+     */
     public JobStatus parseJobStatus(String jobID, String rawOutput) throws Exception {
-        log.info(rawOutput);
-        Pattern pattern = Pattern.compile(jobID + "(?=\\s+\\S+\\s+\\S+\\s+\\S+\\s+(?<" + STATUS + ">\\w+))");
-        Matcher matcher = pattern.matcher(rawOutput);
-        if (matcher.find()) {
-	        return new JobStatus(JobUtil.getJobState(matcher.group(STATUS)));
-        }
-        return null;
+        log.debug(rawOutput);
+        return parseJobStatusListing(rawOutput).get(jobID);
     }
 
+    /**
+     * The ST column is mapped with {@link JobUtil#getJobState(String)}. It used to be read with JobState.valueOf,
+     * which failed on every squeue state code (R, PD, CG, ...), so statuses are now resolved instead of the parsing
+     * failing with an IllegalArgumentException.
+     */
     public void parseJobStatuses(String userName, Map<String, JobStatus> statusMap, String rawOutput) throws Exception {
         log.debug(rawOutput);
-        String[] info = rawOutput.split("\n");
-        String lastString = info[info.length - 1];
+        String trimmed = rawOutput.trim();
+        String lastString = trimmed.substring(trimmed.lastIndexOf('\n') + 1);
         if (lastString.contains("JOBID") || lastString.contains("PARTITION")) {
             log.info("There are no jobs with this username ... ");
             return;
         }
-//        int lastStop = 0;
-        for (String jobID : statusMap.keySet()) {
-            String jobId = jobID.split(",")[0];
-            String jobName = jobID.split(",")[1];
-            boolean found = false;
-            for (int i = 0; i < info.length; i++) {
-                if (info[i].contains(jobName.substring(0, 8))) {
-                    // now starts processing this line
-                    log.info(info[i]);
-                    String correctLine = info[i];
-                    String[] columns = correctLine.split(" ");
-                    List<String> columnList = new ArrayList<String>();
-                    for (String s : columns) {
-                        if (!"".equals(s)) {
-                            columnList.add(s);
-                        }
-                    }
-                    try {
-	                    statusMap.put(jobID, new JobStatus(JobState.valueOf(columnList.get(4))));
-                    } catch (IndexOutOfBoundsException e) {
-	                    statusMap.put(jobID, new JobStatus(JobState.valueOf("U")));
-                    }
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                log.error("Couldn't find the status of the Job with JobName: " + jobName + "Job Id: " + jobId);
-            }
-        }
+        SchedulerOutputScanner.parseStatusesByJobName(statusMap, rawOutput, JOB_NAME_OUTPUT_LENGTH, STATE_COLUMN,
+                JobUtil::getJobState, log);
+    }
+
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) throws Exception {
+        return SchedulerOutputScanner.parseListing(rawOutput, JOB_ID_COLUMN, STATE_COLUMN, JobUtil::getJobState);
     }
 
     @Override
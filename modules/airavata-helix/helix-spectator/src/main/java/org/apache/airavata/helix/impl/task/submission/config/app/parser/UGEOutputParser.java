@@ -20,13 +20,12 @@
 package org.apache.airavata.helix.impl.task.submission.config.app.parser;
 
 import org.apache.airavata.helix.impl.task.submission.config.OutputParser;
+import org.apache.airavata.helix.impl.task.submission.config.app.JobUtil;
 import org.apache.airavata.model.status.JobState;
 import org.apache.airavata.model.status.JobStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -35,6 +34,12 @@ public class UGEOutputParser implements OutputParser {
     private static final Logger log = LoggerFactory.getLogger(PBSOutputParser.class);
     public static final String JOB_ID = "jobId";
 
+    private static final Pattern SUBMISSION_FAILED_PATTERN = Pattern.compile("Rejecting");
+
+    // qstat columns : job-ID prior name user state submit/start at queue slots ja-task-ID
+    private static final int JOB_ID_COLUMN = 0;
+    private static final int STATE_COLUMN = 4;
+
 	public String parseJobSubmission(String rawOutput) {
 		log.debug(rawOutput);
 		if (rawOutput != null && !rawOutput.isEmpty() && !isJobSubmissionFailed(rawOutput)) {
@@ -48,15 +53,17 @@ public class UGEOutputParser implements OutputParser {
 
     @Override
     public boolean isJobSubmissionFailed(String rawOutput) {
-        Pattern pattern = Pattern.compile("Rejecting");
-        Matcher matcher = pattern.matcher(rawOutput);
-        return matcher.find();
+        return SUBMISSION_FAILED_PATTERN.matcher(rawOutput).find();
     }
 
     public JobStatus parseJobStatus(String jobID, String rawOutput) {
-        Pattern pattern = Pattern.compile("job_number:[\\s]+" + jobID);
-        Matcher matcher = pattern.matcher(rawOutput);
-        if (matcher.find()) {
+        // qstat -j output contains a "job_number:   <job id>" line
+        boolean[] found = new boolean[1];
+        SchedulerOutputScanner.scan(rawOutput, (columns, raw, start, end) -> {
+            found[0] = columns.size() > 1 && "job_number:".equals(columns.get(0)) && columns.get(1).startsWith(jobID);
+            return !found[0];
+        });
+        if (found[0]) {
 	        return new JobStatus(JobState.QUEUED); // fixme; return correct status.
         }
 	    return new JobStatus(JobState.UNKNOWN);
@@ -64,34 +71,23 @@ public class UGEOutputParser implements OutputParser {
 
     public void parseJobStatuses(String userName, Map<String, JobStatus> statusMap, String rawOutput) {
         log.debug(rawOutput);
-        String[] info = rawOutput.split("\n");
-        int lastStop = 0;
+        Map<String, JobStatus> listing = parseJobStatusListing(rawOutput);
         for (String jobID : statusMap.keySet()) {
-            for(int i=lastStop;i<info.length;i++){
-               if(jobID.split(",")[0].contains(info[i].split(" ")[0]) && !"".equals(info[i].split(" ")[0])){
-                   // now starts processing this line
-                   log.info(info[i]);
-                   String correctLine = info[i];
-                   String[] columns = correctLine.split(" ");
-                   List<String> columnList = new ArrayList<String>();
-                   for (String s : columns) {
-                       if (!"".equals(s)) {
-                           columnList.add(s);
-                       }
-                   }
-                   lastStop = i+1;
-                   if ("E".equals(columnList.get(4))) {
-                       // There is another status with the same letter E other than error status
-                       // to avoid that we make a small tweek to the job status
-                       columnList.set(4, "Er");
-                   }
-	               statusMap.put(jobID, new JobStatus(JobState.valueOf(columnList.get(4))));
-	               break;
-               }
+            JobStatus jobStatus = listing.get(jobID.split(",")[0]);
+            if (jobStatus != null) {
+                statusMap.put(jobID, jobStatus);
             }
         }
     }
 
+    @Override
+    public Map<String, JobStatus> parseJobStatusListing(String rawOutput) {
+        return SchedulerOutputScanner.parseListing(rawOutput, JOB_ID_COLUMN, STATE_COLUMN, state ->
+                // There is another status with the same letter E other than error status
+                // to avoid that we make a small tweek to the job status
+                JobUtil.getJobState("E".equals(state) ? "Er" : state));
+    }
+
     @Override
     public String parseJobId(String jobName, String rawOutput) throws Exception {
         if (jobName.length() > 10) {
@@ -48,6 +48,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 public class PreWorkflowManager extends WorkflowManager {
@@ -56,6 +58,10 @@ public class PreWorkflowManager extends WorkflowManager {
 
     private Subscriber subscriber;
 
+    // Launches are spread over single threaded lanes keyed by process id. Different processes are launched in
+    // parallel while the launch and the cancel messages of the same process are still handled in arrival order
+    private ExecutorService[] launchLanes;
+
     public PreWorkflowManager() throws ApplicationSettingsException {
         super(ServerSettings.getSetting("pre.workflow.manager.name"),
                 Boolean.parseBoolean(ServerSettings.getSetting("pre.workflow.manager.loadbalance.clusters")));
@@ -63,9 +69,28 @@ public class PreWorkflowManager extends WorkflowManager {
 
     private void initAllComponents() throws Exception {
         super.initComponents();
+        initLaunchLanes();
         initLaunchSubscriber();
     }
 
+    private void initLaunchLanes() throws ApplicationSettingsException {
+        int laneCount = Math.max(1, Integer.parseInt(ServerSettings.getSetting("pre.workflow.manager.launch.threads", "10")));
+        logger.info("Using " + laneCount + " threads to launch workflows");
+        launchLanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            final String threadName = "pre-workflow-launcher-" + i;
+            launchLanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void dispatch(String processId, Runnable launch) {
+        launchLanes[Math.floorMod(Objects.hashCode(processId), launchLanes.length)].execute(launch);
+    }
+
     private void initLaunchSubscriber() throws AiravataException {
         List<String> routingKeys = new ArrayList<>();
         routingKeys.add(ServerSettings.getRabbitmqProcessExchangeName());
@@ -234,21 +259,23 @@ public class PreWorkflowManager extends WorkflowManager {
 
                 logger.info("Received process launch message for process " + processId + " of experiment " + experimentId + " in gateway " + gateway);
 
-                try {
-                    logger.info("Launching the pre workflow for process " + processId + " of experiment " + experimentId + " in gateway " + gateway);
-                    String workflowName = createAndLaunchPreWorkflow(processId, false);
-                    logger.info("Completed launching the pre workflow " + workflowName + " for process" + processId + " of experiment " + experimentId + " in gateway " + gateway);
-
-                    // updating the process status
-                    ProcessStatus status = new ProcessStatus();
-                    status.setState(ProcessState.STARTED);
-                    status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
-                    publishProcessStatus(processId, experimentId, gateway, ProcessState.STARTED);
-                    subscriber.sendAck(messageContext.getDeliveryTag());
-                } catch (Exception e) {
-                    logger.error("Failed to launch the pre workflow for process " + processId + " in gateway " + gateway, e);
-                    //subscriber.sendAck(messageContext.getDeliveryTag());
-                }
+                dispatch(processId, () -> {
+                    try {
+                        logger.info("Launching the pre workflow for process " + processId + " of experiment " + experimentId + " in gateway " + gateway);
+                        String workflowName = createAndLaunchPreWorkflow(processId, false);
+                        logger.info("Completed launching the pre workflow " + workflowName + " for process" + processId + " of experiment " + experimentId + " in gateway " + gateway);
+
+                        // updating the process status
+                        ProcessStatus status = new ProcessStatus();
+                        status.setState(ProcessState.STARTED);
+                        status.setTimeOfStateChange(Calendar.getInstance().getTimeInMillis());
+                        publishProcessStatus(processId, experimentId, gateway, ProcessState.STARTED);
+                        subscriber.sendAck(messageContext.getDeliveryTag());
+                    } catch (Exception e) {
+                        logger.error("Failed to launch the pre workflow for process " + processId + " in gateway " + gateway, e);
+                        //subscriber.sendAck(messageContext.getDeliveryTag());
+                    }
+                });
 
             } else if (messageContext.getType().equals(MessageType.TERMINATEPROCESS)) {
                 ProcessTerminateEvent event = new ProcessTerminateEvent();
@@ -267,15 +294,17 @@ public class PreWorkflowManager extends WorkflowManager {
 
                 logger.info("Received process cancel message for process " + processId + " in gateway " + gateway);
 
-                try {
-                    logger.info("Launching the process cancel workflow for process " + processId + " in gateway " + gateway);
-                    String workflowName = createAndLaunchCancelWorkflow(processId, gateway);
-                    logger.info("Completed process cancel workflow " + workflowName + " for process " + processId + " in gateway " + gateway);
-                    subscriber.sendAck(messageContext.getDeliveryTag());
-                } catch (Exception e) {
-                    logger.error("Failed to launch process cancel workflow for process " + processId + " in gateway " + gateway, e);
-                    //subscriber.sendAck(messageContext.getDeliveryTag());
-                }
+                dispatch(processId, () -> {
+                    try {
+                        logger.info("Launching the process cancel workflow for process " + processId + " in gateway " + gateway);
+                        String workflowName = createAndLaunchCancelWorkflow(processId, gateway);
+                        logger.info("Completed process cancel workflow " + workflowName + " for process " + processId + " in gateway " + gateway);
+                        subscriber.sendAck(messageContext.getDeliveryTag());
+                    } catch (Exception e) {
+                        logger.error("Failed to launch process cancel workflow for process " + processId + " in gateway " + gateway, e);
+                        //subscriber.sendAck(messageContext.getDeliveryTag());
+                    }
+                });
             } else {
                 logger.warn("Unknown message type");
                 subscriber.sendAck(messageContext.getDeliveryTag());
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WorkflowManager {
 
@@ -44,7 +45,7 @@ public class WorkflowManager {
     private ZKHelixAdmin zkHelixAdmin;
     private boolean loadBalanceClusters;
 
-    private int currentOperator = 0;
+    private final AtomicInteger currentOperator = new AtomicInteger();
 
     public WorkflowManager(String workflowManagerName, boolean loadBalanceClusters) {
         this.workflowManagerName = workflowManagerName;
@@ -121,11 +122,9 @@ public class WorkflowManager {
     }
 
     public WorkflowOperator getWorkflowOperator() {
-        currentOperator++;
-        if (workflowOperators.size() <= currentOperator) {
-            currentOperator = 0;
-        }
-        return workflowOperators.get(currentOperator);
+        // Operators are picked round robin by concurrent launch threads, so the cursor has to be updated atomically
+        int index = Math.floorMod(currentOperator.incrementAndGet(), workflowOperators.size());
+        return workflowOperators.get(index);
     }
 
     public ThriftClientPool<RegistryService.Client> getRegistryClientPool() {
@@ -0,0 +1,87 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps containers in memory. Exec calls are recorded and return the exit code set for the container image
+ */
+class FakeContainerRuntime implements ContainerRuntime {
+
+    static class Exec {
+
+        final String containerId;
+        final List<String> command;
+        final String workingDir;
+
+        Exec(String containerId, List<String> command, String workingDir) {
+            this.containerId = containerId;
+            this.command = command;
+            this.workingDir = workingDir;
+        }
+    }
+
+    final Map<String, ContainerSpec> running = new LinkedHashMap<>();
+    final List<String> started = new ArrayList<>();
+    final List<String> removed = new ArrayList<>();
+    final List<Exec> execs = new ArrayList<>();
+    final Map<String, Integer> exitCodes = new LinkedHashMap<>();
+    private int nextId;
+
+    @Override
+    public synchronized String start(ContainerSpec spec) {
+        String containerId = "container-" + (++nextId);
+        running.put(containerId, spec);
+        started.add(containerId);
+        return containerId;
+    }
+
+    @Override
+    public synchronized ExecResult exec(String containerId, List<String> command, String workingDir) throws Exception {
+        ContainerSpec spec = running.get(containerId);
+        if (spec == null) {
+            throw new Exception("No such container " + containerId);
+        }
+        execs.add(new Exec(containerId, command, workingDir));
+        return new ExecResult(exitCodes.getOrDefault(spec.getImage(), 0), "");
+    }
+
+    @Override
+    public synchronized void remove(String containerId) {
+        if (running.remove(containerId) != null) {
+            removed.add(containerId);
+        }
+    }
+
+    @Override
+    public synchronized List<String> listContainers(String labelKey, String labelValue) {
+        List<String> ids = new ArrayList<>();
+        running.forEach((id, spec) -> {
+            if (labelValue.equals(spec.getLabels().get(labelKey))) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+}
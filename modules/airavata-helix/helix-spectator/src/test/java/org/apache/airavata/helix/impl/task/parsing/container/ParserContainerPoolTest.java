@@ -0,0 +1,136 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.parsing.container;
+
+import org.apache.airavata.helix.impl.task.parsing.CatalogEntry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ParserContainerPoolTest {
+
+    private static final String WORK_ROOT = new File("/tmp/parser-root").getAbsolutePath();
+    private static final long IDLE_TIMEOUT_MS = 60000;
+
+    private FakeContainerRuntime runtime;
+    private ParserContainerPool pool;
+
+    @Before
+    public void setUp() {
+        runtime = new FakeContainerRuntime();
+        pool = createPool("default", 2, 3);
+    }
+
+    @Test
+    public void testReusesContainerForWorkingDirsBelowRoot() throws Exception {
+        pool.execute(entry("parser/a"), WORK_ROOT + "/request-1");
+        pool.execute(entry("parser/a"), WORK_ROOT + "/request-2");
+
+        Assert.assertEquals(1, runtime.started.size());
+        Assert.assertEquals(WORK_ROOT, runtime.running.get("container-1").getHostDir());
+        Assert.assertEquals("/data/request-1", runtime.execs.get(0).workingDir);
+        Assert.assertEquals("/data/request-2", runtime.execs.get(1).workingDir);
+        Assert.assertEquals(Arrays.asList("python", "parse.py", "input.txt", "output.json"), runtime.execs.get(1).command);
+        Assert.assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void testWorkingDirOutsideRootGetsSingleUseContainer() throws Exception {
+        pool.execute(entry("parser/a"), "/elsewhere/request-1");
+        pool.execute(entry("parser/a"), "/elsewhere/request-1");
+
+        Assert.assertEquals(Arrays.asList("container-1", "container-2"), runtime.started);
+        Assert.assertEquals(runtime.started, runtime.removed);
+        Assert.assertEquals("/data", runtime.execs.get(0).workingDir);
+        Assert.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testFailedRunRemovesContainer() throws Exception {
+        runtime.exitCodes.put("parser/a", 1);
+
+        Assert.assertEquals(1, pool.execute(entry("parser/a"), WORK_ROOT + "/request-1").getExitCode());
+
+        Assert.assertEquals(Collections.singletonList("container-1"), runtime.removed);
+        Assert.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testIdleContainersAreCappedForWholePool() throws Exception {
+        for (String image : new String[]{"parser/a", "parser/b", "parser/c", "parser/d"}) {
+            pool.execute(entry(image), WORK_ROOT + "/request-1");
+        }
+
+        Assert.assertEquals(3, pool.getIdleCount());
+        Assert.assertEquals(Collections.singletonList("container-4"), runtime.removed);
+    }
+
+    @Test
+    public void testIdleContainersExpire() throws Exception {
+        long start = System.currentTimeMillis();
+        pool.execute(entry("parser/a"), WORK_ROOT + "/request-1");
+
+        pool.removeExpired(start);
+        Assert.assertEquals(1, pool.getIdleCount());
+
+        pool.removeExpired(System.currentTimeMillis() + IDLE_TIMEOUT_MS);
+        Assert.assertEquals(0, pool.getIdleCount());
+        Assert.assertEquals(Collections.singletonList("container-1"), runtime.removed);
+
+        pool.execute(entry("parser/a"), WORK_ROOT + "/request-2");
+        Assert.assertEquals(2, runtime.started.size());
+    }
+
+    @Test
+    public void testShutdownAndStartupRemoveContainers() throws Exception {
+        pool.execute(entry("parser/a"), WORK_ROOT + "/request-1");
+        pool.execute(entry("parser/b"), WORK_ROOT + "/request-1");
+        ParserContainerPool otherPool = createPool("other", 2, 3);
+        otherPool.execute(entry("parser/a"), WORK_ROOT + "/request-1");
+
+        // a new process of the default pool removes what the previous one left running
+        createPool("default", 2, 3).removeStaleContainers();
+        Assert.assertEquals(Arrays.asList("container-1", "container-2"), runtime.removed);
+
+        otherPool.shutdown();
+        Assert.assertEquals(0, otherPool.getIdleCount());
+        Assert.assertTrue(runtime.running.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkRootIsRequired() {
+        new ParserContainerPool(runtime, "default", " ", Collections.singletonList("sleep"), 2, 3, IDLE_TIMEOUT_MS, 1, 1000);
+    }
+
+    private ParserContainerPool createPool(String poolName, int maxIdlePerKey, int maxIdle) {
+        return new ParserContainerPool(runtime, poolName, WORK_ROOT, Arrays.asList("tail", "-f", "/dev/null"),
+                maxIdlePerKey, maxIdle, IDLE_TIMEOUT_MS, 2, 1000);
+    }
+
+    private static CatalogEntry entry(String image) {
+        CatalogEntry entry = new CatalogEntry.Builder(image, "/data", "python", "parse.py", ".txt", "output.json").build();
+        entry.setInputFileName("input.txt");
+        return entry;
+    }
+}
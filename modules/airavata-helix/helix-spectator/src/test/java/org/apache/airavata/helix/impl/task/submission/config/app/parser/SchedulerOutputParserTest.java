@@ -0,0 +1,195 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.impl.task.submission.config.app.parser;
+
+import org.apache.airavata.helix.impl.task.submission.config.OutputParser;
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.model.status.JobStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Parses squeue, qstat and bjobs listings captured from the clusters in src/test/resources/scheduler-output.
+ */
+public class SchedulerOutputParserTest {
+
+    @Test
+    public void testSlurmStatusListing() throws Exception {
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("14803519", JobState.QUEUED);
+        expected.put("14803520", JobState.ACTIVE);
+        expected.put("14803521", JobState.COMPLETE);
+        expected.put("14803522", JobState.ACTIVE);
+
+        Assert.assertEquals(expected, states(new SlurmOutputParser().parseJobStatusListing(load("squeue.txt"))));
+    }
+
+    @Test
+    public void testSlurmStatusesByJobName() throws Exception {
+        Map<String, JobStatus> statusMap = unknownStatuses("14803519,A312402627", "14803520,A312402737",
+                "14803522,A312402967", "14803599,A999999999");
+
+        new SlurmOutputParser().parseJobStatuses("airavata", statusMap, load("squeue.txt"));
+
+        Map<String, JobState> expected = new HashMap<>();
+        // the node list of the last line contains A3124026 as well, the first line containing it wins
+        expected.put("14803519,A312402627", JobState.QUEUED);
+        expected.put("14803520,A312402737", JobState.ACTIVE);
+        expected.put("14803522,A312402967", JobState.ACTIVE);
+        expected.put("14803599,A999999999", JobState.UNKNOWN);
+        Assert.assertEquals(expected, states(statusMap));
+    }
+
+    @Test
+    public void testSlurmEmptyListing() throws Exception {
+        Map<String, JobStatus> statusMap = unknownStatuses("14803519,A312402627");
+
+        new SlurmOutputParser().parseJobStatuses("airavata", statusMap,
+                "             JOBID PARTITION     NAME     USER ST       TIME  NODES NODELIST(REASON)\n");
+
+        Assert.assertEquals(JobState.UNKNOWN, statusMap.get("14803519,A312402627").getJobState());
+    }
+
+    @Test
+    public void testSlurmJobStatus() throws Exception {
+        SlurmOutputParser parser = new SlurmOutputParser();
+        Assert.assertEquals(JobState.ACTIVE, parser.parseJobStatus("14803520", load("squeue.txt")).getJobState());
+        Assert.assertNull(parser.parseJobStatus("14803599", load("squeue.txt")));
+        Assert.assertNull(parser.parseJobStatus("14803519", "slurm_load_jobs error: Invalid job id specified\n"));
+    }
+
+    @Test
+    public void testPBSStatusListing() throws Exception {
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("2080802.gordon-fe2.l", JobState.ACTIVE);
+        expected.put("2080803.gordon-fe2.l", JobState.QUEUED);
+        expected.put("2080804.gordon-fe2.l", JobState.COMPLETE);
+
+        Assert.assertEquals(expected, states(new PBSOutputParser().parseJobStatusListing(load("qstat-pbs.txt"))));
+    }
+
+    @Test
+    public void testPBSStatusesByJobName() throws Exception {
+        Map<String, JobStatus> statusMap = unknownStatuses("2080802.gordon-fe2.local,A312402627",
+                "2080803.gordon-fe2.local,A598213404", "2080804.gordon-fe2.local,A771200312");
+
+        new PBSOutputParser().parseJobStatuses("airavata", statusMap, load("qstat-pbs.txt"));
+
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("2080802.gordon-fe2.local,A312402627", JobState.ACTIVE);
+        expected.put("2080803.gordon-fe2.local,A598213404", JobState.QUEUED);
+        expected.put("2080804.gordon-fe2.local,A771200312", JobState.COMPLETE);
+        Assert.assertEquals(expected, states(statusMap));
+    }
+
+    @Test
+    public void testLSFStatusListing() throws Exception {
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("2636607", JobState.ACTIVE);
+        expected.put("2636582", JobState.ACTIVE);
+        expected.put("2636610", JobState.QUEUED);
+        expected.put("2636611", JobState.FAILED);
+
+        Assert.assertEquals(expected, states(new LSFOutputParser().parseJobStatusListing(load("bjobs.txt"))));
+    }
+
+    @Test
+    public void testLSFJobStatus() throws Exception {
+        LSFOutputParser parser = new LSFOutputParser();
+        Assert.assertEquals(JobState.QUEUED, parser.parseJobStatus("2636610", load("bjobs.txt")).getJobState());
+        Assert.assertEquals(JobState.FAILED, parser.parseJobStatus("2636611", load("bjobs.txt")).getJobState());
+        Assert.assertNull(parser.parseJobStatus("2636699", load("bjobs.txt")));
+    }
+
+    @Test
+    public void testLSFStatusesByJobName() throws Exception {
+        // pending jobs have no execution host, so the job name is not always in the same column
+        Map<String, JobStatus> statusMap = unknownStatuses("2636582,2134490944", "2636610,A312402627",
+                "2636611,A598213404");
+
+        new LSFOutputParser().parseJobStatuses("lg11w", statusMap, load("bjobs.txt"));
+
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("2636582,2134490944", JobState.ACTIVE);
+        expected.put("2636610,A312402627", JobState.QUEUED);
+        expected.put("2636611,A598213404", JobState.FAILED);
+        Assert.assertEquals(expected, states(statusMap));
+    }
+
+    @Test
+    public void testUGEStatusListing() throws Exception {
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("326917", JobState.ACTIVE);
+        expected.put("326918", JobState.QUEUED);
+        expected.put("326919", JobState.FAILED);
+
+        Assert.assertEquals(expected, states(new UGEOutputParser().parseJobStatusListing(load("qstat-uge.txt"))));
+    }
+
+    @Test
+    public void testUGEStatusesByJobId() throws Exception {
+        Map<String, JobStatus> statusMap = unknownStatuses("326917,A31240262", "326919,A31240264", "326920,A31240265");
+
+        new UGEOutputParser().parseJobStatuses("airavata", statusMap, load("qstat-uge.txt"));
+
+        Map<String, JobState> expected = new HashMap<>();
+        expected.put("326917,A31240262", JobState.ACTIVE);
+        expected.put("326919,A31240264", JobState.FAILED);
+        expected.put("326920,A31240265", JobState.UNKNOWN);
+        Assert.assertEquals(expected, states(statusMap));
+    }
+
+    @Test
+    public void testScannerContains() {
+        String text = "xx A3124026-node yy";
+        Assert.assertTrue(SchedulerOutputScanner.contains(text, 0, text.length(), "A3124026"));
+        Assert.assertTrue(SchedulerOutputScanner.contains(text, 3, 11, "A3124026"));
+        Assert.assertFalse(SchedulerOutputScanner.contains(text, 4, text.length(), "A3124026"));
+        Assert.assertFalse(SchedulerOutputScanner.contains(text, 0, 10, "A3124026"));
+    }
+
+    private static Map<String, JobStatus> unknownStatuses(String... keys) {
+        Map<String, JobStatus> statusMap = new HashMap<>();
+        for (String key : keys) {
+            statusMap.put(key, new JobStatus(JobState.UNKNOWN));
+        }
+        return statusMap;
+    }
+
+    private static Map<String, JobState> states(Map<String, JobStatus> statuses) {
+        Map<String, JobState> states = new HashMap<>();
+        statuses.forEach((key, status) -> states.put(key, status.getJobState()));
+        return states;
+    }
+
+    private static String load(String fixture) {
+        InputStream in = SchedulerOutputParserTest.class.getResourceAsStream("/scheduler-output/" + fixture);
+        Assert.assertNotNull("Missing fixture " + fixture, in);
+        try (Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name())) {
+            return scanner.useDelimiter("\\A").next();
+        }
+    }
+}
@@ -22,7 +22,9 @@ package org.apache.airavata.helix.core;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.helix.core.participant.HelixParticipant;
-import org.apache.airavata.helix.core.util.MonitoringUtil;
+import org.apache.airavata.helix.core.state.LocalTaskStateStore;
+import org.apache.airavata.helix.core.state.TaskStateStore;
+import org.apache.airavata.helix.core.state.ZkTaskStateStore;
 import org.apache.airavata.helix.core.util.TaskUtil;
 import org.apache.airavata.helix.task.api.TaskHelper;
 import org.apache.airavata.helix.task.api.annotation.TaskOutPort;
@@ -53,6 +55,7 @@ public abstract class AbstractTask extends UserContentStore implements Task {
     private static final String WORKFLOW_STARTED = "workflow-started";
 
     private static CuratorFramework curatorClient = null;
+    private static TaskStateStore taskStateStore = null;
 
     @TaskParam(name = "taskId")
     private String taskId;
@@ -177,11 +180,20 @@ public abstract class AbstractTask extends UserContentStore implements Task {
     }
 
     protected int getCurrentRetryCount() throws Exception {
-        return MonitoringUtil.getTaskRetryCount(getCuratorClient(), taskId);
+        return getTaskStateStore().getRetryCount(getStateWorkflowName(), taskId);
     }
 
     protected void markNewRetry(int currentRetryCount) throws Exception {
-        MonitoringUtil.increaseTaskRetryCount(getCuratorClient(), taskId, currentRetryCount);
+        getTaskStateStore().markRetry(getStateWorkflowName(), taskId, currentRetryCount);
+    }
+
+    protected void clearTaskState() throws Exception {
+        getTaskStateStore().clearTask(getStateWorkflowName(), taskId);
+    }
+
+    private String getStateWorkflowName() {
+        // Workflow name is only known once helix has initialized the task
+        return _workflowName != null ? _workflowName : taskId;
     }
 
     public int getRetryCount() {
@@ -216,6 +228,24 @@ public abstract class AbstractTask extends UserContentStore implements Task {
         return curatorClient;
     }
 
+    protected TaskStateStore getTaskStateStore() throws Exception {
+
+        // The store is shared by every task of the participant, so guard it with a class wide lock
+        synchronized (AbstractTask.class) {
+            if (taskStateStore == null) {
+                String storeType = ServerSettings.getSetting("helix.task.state.store", "zookeeper");
+                if ("local".equalsIgnoreCase(storeType)) {
+                    taskStateStore = new LocalTaskStateStore(
+                            ServerSettings.getSetting("helix.task.state.store.local.path", "task-state-db"));
+                } else {
+                    taskStateStore = new ZkTaskStateStore(getCuratorClient(), Boolean.parseBoolean(
+                            ServerSettings.getSetting("helix.task.state.store.migrate.legacy", "true")));
+                }
+            }
+            return taskStateStore;
+        }
+    }
+
     public AbstractTask setParticipant(HelixParticipant participant) {
         this.participant = participant;
         return this;
@@ -0,0 +1,98 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.state;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Keeps task state in an embedded Derby database. Meant for single node deployments where every participant runs
+ * in the same JVM, so the state does not have to travel through ZooKeeper at all.
+ */
+public class LocalTaskStateStore implements TaskStateStore {
+
+    private final static Logger logger = LoggerFactory.getLogger(LocalTaskStateStore.class);
+
+    private static final String TABLE_EXISTS_STATE = "X0Y32";
+
+    private final Connection connection;
+
+    public LocalTaskStateStore(String databasePath) throws SQLException {
+        logger.info("Using local task state store at " + databasePath);
+        connection = DriverManager.getConnection("jdbc:derby:" + databasePath + ";create=true");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE TASK_STATE (WORKFLOW_NAME VARCHAR(255) NOT NULL, " +
+                    "TASK_ID VARCHAR(255) NOT NULL, RETRY_COUNT INT NOT NULL, PRIMARY KEY (WORKFLOW_NAME, TASK_ID))");
+        } catch (SQLException e) {
+            if (!TABLE_EXISTS_STATE.equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public synchronized int getRetryCount(String workflowName, String taskId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT RETRY_COUNT FROM TASK_STATE WHERE WORKFLOW_NAME = ? AND TASK_ID = ?")) {
+            statement.setString(1, workflowName);
+            statement.setString(2, taskId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) : 1;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void markRetry(String workflowName, String taskId, int currentRetryCount) throws Exception {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE TASK_STATE SET RETRY_COUNT = ? WHERE WORKFLOW_NAME = ? AND TASK_ID = ?")) {
+            update.setInt(1, currentRetryCount + 1);
+            update.setString(2, workflowName);
+            update.setString(3, taskId);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO TASK_STATE (WORKFLOW_NAME, TASK_ID, RETRY_COUNT) VALUES (?, ?, ?)")) {
+            insert.setString(1, workflowName);
+            insert.setString(2, taskId);
+            insert.setInt(3, currentRetryCount + 1);
+            insert.executeUpdate();
+        }
+    }
+
+    @Override
+    public synchronized void clearTask(String workflowName, String taskId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM TASK_STATE WHERE WORKFLOW_NAME = ? AND TASK_ID = ?")) {
+            statement.setString(1, workflowName);
+            statement.setString(2, taskId);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.state;
+
+/**
+ * Bookkeeping that a task keeps across its retries. Entries are grouped by the workflow that owns the task so an
+ * implementation can keep all the state of a workflow together and drop it once the last task of the workflow is
+ * cleared.
+ */
+public interface TaskStateStore {
+
+    /**
+     * Returns the attempt the task is currently on. A task without any recorded retry is on its first attempt
+     */
+    int getRetryCount(String workflowName, String taskId) throws Exception;
+
+    /**
+     * Records that the task is going to be retried after the given attempt
+     */
+    void markRetry(String workflowName, String taskId, int currentRetryCount) throws Exception;
+
+    /**
+     * Removes everything stored for the task. Called when the task reaches a final state
+     */
+    void clearTask(String workflowName, String taskId) throws Exception;
+}
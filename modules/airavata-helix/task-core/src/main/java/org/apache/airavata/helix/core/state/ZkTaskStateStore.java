@@ -0,0 +1,198 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.state;
+
+import org.apache.airavata.helix.core.util.MonitoringUtil;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Keeps the task state of a workflow in a single znode instead of one znode per task. Updates read the node with
+ * its version and write it back with a compare-and-set, retrying when another participant updated it in between.
+ * The node is removed when the last task of the workflow is cleared, so the success path of a task that never
+ * failed costs one read and no writes.
+ *
+ * When legacy migration is enabled, retry counters kept in the per task nodes of {@link MonitoringUtil} are picked
+ * up as well. The old node of a task is looked up whenever its retry count is read, so counters written by
+ * participants that still run the old code during a rolling upgrade are moved into the workflow node too. The old
+ * node is kept in step with new retries while it exists and removed when the task is cleared. This costs an extra
+ * read and delete per task, so the migration should be turned off once every participant is upgraded.
+ */
+public class ZkTaskStateStore implements TaskStateStore {
+
+    private final static Logger logger = LoggerFactory.getLogger(ZkTaskStateStore.class);
+
+    private static final String PATH_PREFIX = "/airavata/workflow-task-state/";
+    private static final int MAX_UPDATE_ATTEMPTS = 20;
+
+    private final CuratorFramework curatorClient;
+    private final boolean migrateLegacyNodes;
+
+    public ZkTaskStateStore(CuratorFramework curatorClient, boolean migrateLegacyNodes) {
+        this.curatorClient = curatorClient;
+        this.migrateLegacyNodes = migrateLegacyNodes;
+    }
+
+    @Override
+    public int getRetryCount(String workflowName, String taskId) throws Exception {
+        Integer retryCount = read(workflowName).get(taskId);
+
+        if (migrateLegacyNodes) {
+            Integer legacyCount = readLegacyRetryCount(taskId);
+            // An old participant may have retried the task after it was migrated, so the larger count wins
+            if (legacyCount != null && (retryCount == null || legacyCount > retryCount)) {
+                logger.info("Migrating retry count " + legacyCount + " of task " + taskId + " to workflow " + workflowName);
+                update(workflowName, states -> {
+                    Integer current = states.get(taskId);
+                    if (current != null && current >= legacyCount) {
+                        return false;
+                    }
+                    states.put(taskId, legacyCount);
+                    return true;
+                });
+                return legacyCount;
+            }
+        }
+        return retryCount != null ? retryCount : 1;
+    }
+
+    @Override
+    public void markRetry(String workflowName, String taskId, int currentRetryCount) throws Exception {
+        update(workflowName, states -> {
+            states.put(taskId, currentRetryCount + 1);
+            return true;
+        });
+        if (migrateLegacyNodes) {
+            // Participants running the old code only read the old node, so keep it in step while it is there
+            updateLegacyRetryCount(taskId, currentRetryCount + 1);
+        }
+    }
+
+    @Override
+    public void clearTask(String workflowName, String taskId) throws Exception {
+        update(workflowName, states -> states.remove(taskId) != null);
+        if (migrateLegacyNodes) {
+            deleteLegacyNode(taskId);
+        }
+    }
+
+    private Map<String, Integer> read(String workflowName) throws Exception {
+        try {
+            return decode(curatorClient.getData().forPath(PATH_PREFIX + workflowName));
+        } catch (KeeperException.NoNodeException e) {
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Applies the mutator to the current state of the workflow and writes the result back if the mutator reports a
+     * change. The write is conditional on the version that was read, so concurrent updates are never lost.
+     */
+    private void update(String workflowName, Function<Map<String, Integer>, Boolean> mutator) throws Exception {
+        String path = PATH_PREFIX + workflowName;
+
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Stat stat = new Stat();
+            byte[] data;
+            try {
+                data = curatorClient.getData().storingStatIn(stat).forPath(path);
+            } catch (KeeperException.NoNodeException e) {
+                data = null;
+            }
+
+            Map<String, Integer> states = decode(data);
+            if (!mutator.apply(states)) {
+                return;
+            }
+
+            try {
+                if (data == null) {
+                    curatorClient.create().creatingParentsIfNeeded().forPath(path, encode(states));
+                } else if (states.isEmpty()) {
+                    curatorClient.delete().withVersion(stat.getVersion()).forPath(path);
+                } else {
+                    curatorClient.setData().withVersion(stat.getVersion()).forPath(path, encode(states));
+                }
+                return;
+            } catch (KeeperException.BadVersionException | KeeperException.NodeExistsException | KeeperException.NoNodeException e) {
+                logger.debug("Concurrent update of task state of workflow " + workflowName + ". Retrying");
+                // Back off for a random while so that contending writers do not collide again in lock step
+                Thread.sleep(ThreadLocalRandom.current().nextInt(5 * (attempt + 1)) + 1);
+            }
+        }
+        throw new Exception("Failed to update task state of workflow " + workflowName + " after " +
+                MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    private Integer readLegacyRetryCount(String taskId) throws Exception {
+        try {
+            byte[] data = curatorClient.getData().forPath(MonitoringUtil.getTaskRetryPath(taskId));
+            return Integer.parseInt(new String(data, StandardCharsets.UTF_8));
+        } catch (KeeperException.NoNodeException e) {
+            return null;
+        }
+    }
+
+    private void updateLegacyRetryCount(String taskId, int retryCount) throws Exception {
+        try {
+            curatorClient.setData().forPath(MonitoringUtil.getTaskRetryPath(taskId),
+                    String.valueOf(retryCount).getBytes(StandardCharsets.UTF_8));
+        } catch (KeeperException.NoNodeException e) {
+            // The task has no old node
+        }
+    }
+
+    private void deleteLegacyNode(String taskId) throws Exception {
+        try {
+            curatorClient.delete().forPath(MonitoringUtil.getTaskRetryPath(taskId));
+        } catch (KeeperException.NoNodeException e) {
+            // The task has no old node
+        }
+    }
+
+    private static Map<String, Integer> decode(byte[] data) {
+        Map<String, Integer> states = new HashMap<>();
+        if (data == null || data.length == 0) {
+            return states;
+        }
+        for (String line : new String(data, StandardCharsets.UTF_8).split("\n")) {
+            int separator = line.lastIndexOf('=');
+            if (separator > 0) {
+                states.put(line.substring(0, separator), Integer.parseInt(line.substring(separator + 1)));
+            }
+        }
+        return states;
+    }
+
+    private static byte[] encode(Map<String, Integer> states) {
+        StringBuilder builder = new StringBuilder();
+        states.forEach((taskId, retryCount) -> builder.append(taskId).append('=').append(retryCount).append('\n'));
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
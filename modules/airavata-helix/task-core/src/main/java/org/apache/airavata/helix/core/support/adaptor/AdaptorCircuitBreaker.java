@@ -0,0 +1,93 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.support.adaptor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tracks consecutive adaptor creation failures per resource. Once a resource reaches the failure threshold, further
+ * connection attempts are rejected until the reset timeout elapses, after which a single trial attempt is let through.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+public class AdaptorCircuitBreaker {
+
+    private final ConcurrentMap<String, ResourceState> states = new ConcurrentHashMap<>();
+
+    private final int failureThreshold;
+    private final long resetTimeoutMS;
+
+    public AdaptorCircuitBreaker(int failureThreshold, long resetTimeoutMS) {
+        this.failureThreshold = failureThreshold;
+        this.resetTimeoutMS = resetTimeoutMS;
+    }
+
+    /**
+     * Returns true if a new connection attempt can be made to the given resource
+     */
+    public boolean allowAttempt(String resourceId) {
+        ResourceState state = states.get(resourceId);
+        if (state == null) {
+            return true;
+        }
+        synchronized (state) {
+            if (state.consecutiveFailures < failureThreshold) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (state.openedTime + resetTimeoutMS <= now) {
+                // half open. Let one attempt through and push the window forward for the rest
+                state.openedTime = now;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public void recordSuccess(String resourceId) {
+        states.remove(resourceId);
+    }
+
+    public void recordFailure(String resourceId) {
+        ResourceState state = states.computeIfAbsent(resourceId, k -> new ResourceState());
+        synchronized (state) {
+            state.consecutiveFailures++;
+            if (state.consecutiveFailures >= failureThreshold) {
+                state.openedTime = System.currentTimeMillis();
+            }
+        }
+    }
+
+    public long getRetryAfterMS(String resourceId) {
+        ResourceState state = states.get(resourceId);
+        if (state == null) {
+            return 0;
+        }
+        synchronized (state) {
+            return Math.max(0, state.openedTime + resetTimeoutMS - System.currentTimeMillis());
+        }
+    }
+
+    private static class ResourceState {
+        private int consecutiveFailures;
+        private long openedTime;
+    }
+}
@@ -20,18 +20,25 @@
 package org.apache.airavata.helix.core.support.adaptor;
 
 import org.apache.airavata.agents.api.*;
+import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.helix.adaptor.SSHJAgentAdaptor;
 import org.apache.airavata.helix.adaptor.SSHJStorageAdaptor;
+import org.apache.airavata.helix.core.support.adaptor.AgentStore.AdaptorKey;
+import org.apache.airavata.helix.core.support.adaptor.AgentStore.CachedAdaptor;
 import org.apache.airavata.helix.task.api.support.AdaptorSupport;
 import org.apache.airavata.model.appcatalog.computeresource.JobSubmissionProtocol;
 import org.apache.airavata.model.data.movement.DataMovementProtocol;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * TODO: Class level comments please
+ * Creates and caches agent and storage adaptors. Adaptors are created on a separate executor so that a slow or
+ * unreachable resource only blocks the callers asking for that resource, and only up to the configured connect
+ * timeout. Resources that keep failing are short circuited for a while and cached adaptors that have been idle for
+ * too long are validated before being handed out again.
  *
  * @author dimuthu
  * @since 1.0.0-SNAPSHOT
@@ -40,11 +47,52 @@ public class AdaptorSupportImpl implements AdaptorSupport {
 
     private final static Logger logger = LoggerFactory.getLogger(AdaptorSupportImpl.class);
 
+    private static final String HEALTH_CHECK_COMMAND = "echo";
+
+    // Loaded by name so that the mock-agent module is only needed on the classpath of load testing deployments
+    private static final String MOCK_ADAPTOR_CLASS = "org.apache.airavata.helix.adaptor.mock.MockAgentAdaptor";
+
     private static AdaptorSupportImpl INSTANCE;
 
     private final AgentStore agentStore = new AgentStore();
 
-    private AdaptorSupportImpl() {}
+    private final long connectTimeoutMS;
+    private final long validateAfterIdleMS;
+    private final AdaptorCircuitBreaker circuitBreaker;
+    private final ExecutorService connectExecutor;
+    private final Class<?> mockAdaptorClass;
+
+    private AdaptorSupportImpl() {
+        this.connectTimeoutMS = Long.parseLong(ServerSettings.getSetting("agent.adaptor.connect.timeout.ms", "120000"));
+        this.validateAfterIdleMS = Long.parseLong(ServerSettings.getSetting("agent.adaptor.validate.after.idle.ms", "300000"));
+        this.circuitBreaker = new AdaptorCircuitBreaker(
+                Integer.parseInt(ServerSettings.getSetting("agent.adaptor.breaker.failure.threshold", "3")),
+                Long.parseLong(ServerSettings.getSetting("agent.adaptor.breaker.reset.timeout.ms", "60000")));
+
+        int connectThreads = Integer.parseInt(ServerSettings.getSetting("agent.adaptor.connect.threads", "20"));
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(connectThreads, connectThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "Adaptor-Connector-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.connectExecutor = executor;
+
+        // local mock compute and storage resources for load testing without real clusters
+        if (ServerSettings.getBooleanSetting("agent.adaptor.mock.enabled", false)) {
+            try {
+                this.mockAdaptorClass = Class.forName(MOCK_ADAPTOR_CLASS);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Mock adaptors are enabled but " + MOCK_ADAPTOR_CLASS +
+                        " is not in the classpath. Add the mock-agent jar to the lib directory", e);
+            }
+            logger.warn("Mock adaptors are enabled. Jobs will not be submitted to the actual compute resources");
+        } else {
+            this.mockAdaptorClass = null;
+        }
+    }
 
     public synchronized static AdaptorSupportImpl getInstance() {
         if (INSTANCE == null) {
@@ -58,61 +106,169 @@ public class AdaptorSupportImpl implements AdaptorSupport {
 
     public AgentAdaptor fetchAdaptor(String gatewayId, String computeResourceId, JobSubmissionProtocol protocol, String authToken, String userId) throws AgentException {
 
-        Optional<AgentAdaptor> agentAdaptorOp = agentStore.getAgentAdaptor(computeResourceId, protocol, authToken, userId);
-        if (agentAdaptorOp.isPresent()) {
-            logger.debug("Re using the adaptor for gateway " + gatewayId + ", compute resource " +
-                    computeResourceId + ", protocol " + protocol + " , user " + userId);
-            return agentAdaptorOp.get();
-        } else {
-            synchronized (this) {
-                agentAdaptorOp = agentStore.getAgentAdaptor(computeResourceId, protocol, authToken, userId);
-                if (agentAdaptorOp.isPresent()) {
-                    return agentAdaptorOp.get();
-                } else {
-                    logger.debug("Could not find an adaptor for gateway " + gatewayId + ", compute resource " +
-                            computeResourceId + ", protocol " + protocol + " , user " + userId + ". Creating new one");
-                    switch (protocol) {
-                        case SSH:
-                            SSHJAgentAdaptor agentAdaptor = new SSHJAgentAdaptor();
-                            agentAdaptor.init(computeResourceId, gatewayId, userId, authToken);
-                            agentStore.putAgentAdaptor(computeResourceId, protocol, authToken, userId, agentAdaptor);
-                            return agentAdaptor;
-                        default:
-                            throw new AgentException("Could not find an agent adaptor for gateway " + gatewayId +
-                                    ", compute resource " + computeResourceId + ", protocol " + protocol + " , user " + userId);
-                    }
-                }
+        AdaptorKey key = new AdaptorKey(computeResourceId, protocol.name(), authToken, userId);
+
+        return acquire(agentStore.getAgentAdaptorCache(), key, () -> {
+            logger.debug("Could not find an adaptor for gateway " + gatewayId + ", compute resource " +
+                    computeResourceId + ", protocol " + protocol + " , user " + userId + ". Creating new one");
+            if (mockAdaptorClass != null) {
+                AgentAdaptor mockAdaptor = (AgentAdaptor) newMockAdaptor();
+                mockAdaptor.init(computeResourceId, gatewayId, userId, authToken);
+                return mockAdaptor;
             }
-        }
+            switch (protocol) {
+                case SSH:
+                    SSHJAgentAdaptor agentAdaptor = new SSHJAgentAdaptor();
+                    agentAdaptor.init(computeResourceId, gatewayId, userId, authToken);
+                    return agentAdaptor;
+                default:
+                    throw new AgentException("Could not find an agent adaptor for gateway " + gatewayId +
+                            ", compute resource " + computeResourceId + ", protocol " + protocol + " , user " + userId);
+            }
+        }, adaptor -> checkHealth(adaptor.executeCommand(HEALTH_CHECK_COMMAND, null)));
     }
 
     @Override
     public StorageResourceAdaptor fetchStorageAdaptor(String gatewayId, String storageResourceId, DataMovementProtocol protocol, String authToken, String userId) throws AgentException {
-        Optional<StorageResourceAdaptor> agentAdaptorOp = agentStore.getStorageAdaptor(storageResourceId, protocol, authToken, userId);
-        if (agentAdaptorOp.isPresent()) {
-            logger.debug("Re using the storage adaptor for gateway " + gatewayId + ", storage resource " +
-                    storageResourceId + ", protocol " + protocol + " , user " + userId);
-            return agentAdaptorOp.get();
-        } else {
-            synchronized (this) {
-                agentAdaptorOp = agentStore.getStorageAdaptor(storageResourceId, protocol, authToken, userId);
-                if (agentAdaptorOp.isPresent()) {
-                    return agentAdaptorOp.get();
-                } else {
-                    logger.debug("Could not find a storage adaptor for gateway " + gatewayId + ", storage resource " +
-                            storageResourceId + ", protocol " + protocol + " , user " + userId + ". Creating new one");
-                    switch (protocol) {
-                        case SCP:
-                            SSHJStorageAdaptor storageResourceAdaptor = new SSHJStorageAdaptor();
-                            storageResourceAdaptor.init(storageResourceId, gatewayId, userId, authToken);
-                            agentStore.putStorageAdaptor(storageResourceId, protocol, authToken, userId, storageResourceAdaptor);
-                            return storageResourceAdaptor;
-                        default:
-                            throw new AgentException("Could not find an storage adaptor for gateway " + gatewayId +
-                                    ", storage resource " + storageResourceId + ", protocol " + protocol + " , user " + userId);
-                    }
+
+        AdaptorKey key = new AdaptorKey(storageResourceId, protocol.name(), authToken, userId);
+
+        return acquire(agentStore.getStorageAdaptorCache(), key, () -> {
+            logger.debug("Could not find a storage adaptor for gateway " + gatewayId + ", storage resource " +
+                    storageResourceId + ", protocol " + protocol + " , user " + userId + ". Creating new one");
+            if (mockAdaptorClass != null) {
+                StorageResourceAdaptor mockAdaptor = (StorageResourceAdaptor) newMockAdaptor();
+                mockAdaptor.init(storageResourceId, gatewayId, userId, authToken);
+                return mockAdaptor;
+            }
+            switch (protocol) {
+                case SCP:
+                    SSHJStorageAdaptor storageResourceAdaptor = new SSHJStorageAdaptor();
+                    storageResourceAdaptor.init(storageResourceId, gatewayId, userId, authToken);
+                    return storageResourceAdaptor;
+                default:
+                    throw new AgentException("Could not find an storage adaptor for gateway " + gatewayId +
+                            ", storage resource " + storageResourceId + ", protocol " + protocol + " , user " + userId);
+            }
+        }, adaptor -> checkHealth(adaptor.executeCommand(HEALTH_CHECK_COMMAND, null)));
+    }
+
+    private <T> T acquire(ConcurrentMap<AdaptorKey, CachedAdaptor<T>> cache, AdaptorKey key,
+                          AdaptorFactory<T> factory, HealthCheck<T> healthCheck) throws AgentException {
+
+        // one retry is allowed when a cached adaptor fails its health check
+        for (int attempt = 0; ; attempt++) {
+            CachedAdaptor<T> cached = cache.get(key);
+
+            if (cached == null) {
+                if (!circuitBreaker.allowAttempt(key.getResourceId())) {
+                    throw new AgentException("Skipping adaptor creation for " + key + " as previous attempts failed. Retry after "
+                            + circuitBreaker.getRetryAfterMS(key.getResourceId()) + " ms");
+                }
+
+                CachedAdaptor<T> created = CachedAdaptor.pending();
+                cached = cache.putIfAbsent(key, created);
+                if (cached == null) {
+                    cached = created;
+                    connectExecutor.execute(() -> create(cache, key, created, factory));
                 }
+            } else {
+                logger.debug("Re using the adaptor for " + key);
             }
+
+            T adaptor = await(cache, key, cached);
+
+            long lastUsedTime = cached.touch();
+            if (System.currentTimeMillis() - lastUsedTime < validateAfterIdleMS) {
+                return adaptor;
+            }
+
+            try {
+                healthCheck.check(adaptor);
+                return adaptor;
+            } catch (Exception e) {
+                // other callers may still be using this adaptor, so it is only dropped from the cache and not destroyed
+                logger.warn("Evicting the adaptor for " + key + " as it failed the health check after being idle", e);
+                cache.remove(key, cached);
+                if (attempt > 0) {
+                    throw new AgentException("Adaptor for " + key + " failed the health check", e);
+                }
+            }
+        }
+    }
+
+    private <T> void create(ConcurrentMap<AdaptorKey, CachedAdaptor<T>> cache, AdaptorKey key,
+                            CachedAdaptor<T> cached, AdaptorFactory<T> factory) {
+        try {
+            T adaptor = factory.create();
+            circuitBreaker.recordSuccess(key.getResourceId());
+            if (!cached.getFuture().complete(adaptor)) {
+                // waiters already gave up on this attempt
+                logger.info("Discarding the adaptor for " + key + " as it was created after the connect timeout");
+                cache.remove(key, cached);
+                destroy(adaptor);
+            }
+        } catch (Throwable e) {
+            circuitBreaker.recordFailure(key.getResourceId());
+            cache.remove(key, cached);
+            cached.getFuture().completeExceptionally(e);
+        }
+    }
+
+    private <T> T await(ConcurrentMap<AdaptorKey, CachedAdaptor<T>> cache, AdaptorKey key, CachedAdaptor<T> cached) throws AgentException {
+        try {
+            return cached.getFuture().get(connectTimeoutMS, TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            if (cached.getFuture().completeExceptionally(e)) {
+                circuitBreaker.recordFailure(key.getResourceId());
+                cache.remove(key, cached);
+            }
+            throw new AgentException("Timed out after " + connectTimeoutMS + " ms while creating the adaptor for " + key, e);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AgentException) {
+                throw (AgentException) cause;
+            }
+            throw new AgentException("Failed to create the adaptor for " + key, cause);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AgentException("Interrupted while waiting for the adaptor for " + key, e);
         }
     }
+
+    private Object newMockAdaptor() throws AgentException {
+        try {
+            return mockAdaptorClass.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new AgentException("Failed to create a mock adaptor of " + MOCK_ADAPTOR_CLASS, e);
+        }
+    }
+
+    private void checkHealth(CommandOutput output) throws AgentException {
+        if (output == null || output.getExitCode() == null || output.getExitCode() != 0) {
+            throw new AgentException("Health check command " + HEALTH_CHECK_COMMAND + " failed with exit code " +
+                    (output == null ? null : output.getExitCode()) + ". Serr " + (output == null ? null : output.getStdError()));
+        }
+    }
+
+    private void destroy(Object adaptor) {
+        if (adaptor instanceof AgentAdaptor) {
+            try {
+                ((AgentAdaptor) adaptor).destroy();
+            } catch (Exception e) {
+                logger.warn("Failed to destroy the adaptor", e);
+            }
+        }
+    }
+
+    private interface AdaptorFactory<T> {
+        T create() throws AgentException;
+    }
+
+    private interface HealthCheck<T> {
+        void check(T adaptor) throws Exception;
+    }
 }
@@ -23,74 +23,126 @@ import org.apache.airavata.agents.api.AgentAdaptor;
 import org.apache.airavata.agents.api.StorageResourceAdaptor;
 import org.apache.airavata.model.appcatalog.computeresource.JobSubmissionProtocol;
 import org.apache.airavata.model.data.movement.DataMovementProtocol;
-import org.apache.zookeeper.Op;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * TODO: Class level comments please
+ * Keeps the adaptors created by {@link AdaptorSupportImpl} keyed by (resource, protocol, token, user). Each key maps
+ * to a single {@link CachedAdaptor} whose future is shared by every caller, so concurrent requests for the same key
+ * wait on one connection attempt while requests for other keys proceed independently.
  *
  * @author dimuthu
  * @since 1.0.0-SNAPSHOT
  */
 public class AgentStore {
 
-    // compute resource: Job submission protocol: auth token: user: adaptor
-    private final Map<String, Map<JobSubmissionProtocol, Map<String, Map<String, AgentAdaptor>>>> agentAdaptorCache = new HashMap<>();
-    private final Map<String, Map<DataMovementProtocol, Map<String, Map<String, StorageResourceAdaptor>>>> storageAdaptorCache = new HashMap<>();
+    private final ConcurrentMap<AdaptorKey, CachedAdaptor<AgentAdaptor>> agentAdaptorCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AdaptorKey, CachedAdaptor<StorageResourceAdaptor>> storageAdaptorCache = new ConcurrentHashMap<>();
 
     public Optional<AgentAdaptor> getAgentAdaptor(String computeResource, JobSubmissionProtocol submissionProtocol, String authToken, String userId) {
-        Map<JobSubmissionProtocol, Map<String, Map<String, AgentAdaptor>>> protoToTokenMap = agentAdaptorCache.get(computeResource);
-        if (protoToTokenMap != null) {
-            Map<String, Map<String,AgentAdaptor>> tokenToUserMap = protoToTokenMap.get(submissionProtocol);
-            if (tokenToUserMap != null) {
-                Map<String, AgentAdaptor> userToAdaptorMap = tokenToUserMap.get(authToken);
-                if (userToAdaptorMap != null) {
-                    return Optional.ofNullable(userToAdaptorMap.get(userId));
-                } else {
-                    return Optional.empty();
-                }
-            } else {
-                return Optional.empty();
-            }
-        } else {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(agentAdaptorCache.get(new AdaptorKey(computeResource, submissionProtocol.name(), authToken, userId)))
+                .flatMap(CachedAdaptor::getIfReady);
     }
 
     public void putAgentAdaptor(String computeResource, JobSubmissionProtocol submissionProtocol, String authToken, String userId, AgentAdaptor agentAdaptor) {
-        Map<JobSubmissionProtocol, Map<String, Map<String,AgentAdaptor>>> protoToTokenMap = agentAdaptorCache.computeIfAbsent(computeResource, k -> new HashMap<>());
-        Map<String, Map<String,AgentAdaptor>> tokenToUserMap = protoToTokenMap.computeIfAbsent(submissionProtocol, k -> new HashMap<>());
-        Map<String, AgentAdaptor> userToAdaptorMap = tokenToUserMap.computeIfAbsent(authToken, k-> new HashMap<>());
-        userToAdaptorMap.put(userId, agentAdaptor);
+        agentAdaptorCache.put(new AdaptorKey(computeResource, submissionProtocol.name(), authToken, userId), CachedAdaptor.completed(agentAdaptor));
     }
 
     public Optional<StorageResourceAdaptor> getStorageAdaptor(String computeResource, DataMovementProtocol dataMovementProtocol, String authToken, String userId) {
-        Map<DataMovementProtocol, Map<String, Map<String, StorageResourceAdaptor>>> protoToTokenMap = storageAdaptorCache.get(computeResource);
-        if (protoToTokenMap != null) {
-            Map<String, Map<String, StorageResourceAdaptor>> tokenToUserMap = protoToTokenMap.get(dataMovementProtocol);
-            if (tokenToUserMap != null) {
-                Map<String, StorageResourceAdaptor> userToAdaptorMap = tokenToUserMap.get(authToken);
-                if (userToAdaptorMap != null) {
-                    return Optional.ofNullable(userToAdaptorMap.get(userId));
-                } else {
-                    return Optional.empty();
-                }
-            } else {
-                return Optional.empty();
-            }
-        } else {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(storageAdaptorCache.get(new AdaptorKey(computeResource, dataMovementProtocol.name(), authToken, userId)))
+                .flatMap(CachedAdaptor::getIfReady);
     }
 
     public void putStorageAdaptor(String computeResource, DataMovementProtocol dataMovementProtocol, String authToken, String userId, StorageResourceAdaptor storageResourceAdaptor) {
-        Map<DataMovementProtocol, Map<String, Map<String, StorageResourceAdaptor>>> protoToTokenMap = storageAdaptorCache.computeIfAbsent(computeResource, k -> new HashMap<>());
-        Map<String, Map<String, StorageResourceAdaptor>> tokenToUserMap = protoToTokenMap.computeIfAbsent(dataMovementProtocol, k -> new HashMap<>());
-        Map<String, StorageResourceAdaptor> userToAdaptorMap = tokenToUserMap.computeIfAbsent(authToken, k -> new HashMap<>());
-        userToAdaptorMap.put(userId, storageResourceAdaptor);
+        storageAdaptorCache.put(new AdaptorKey(computeResource, dataMovementProtocol.name(), authToken, userId), CachedAdaptor.completed(storageResourceAdaptor));
+    }
+
+    ConcurrentMap<AdaptorKey, CachedAdaptor<AgentAdaptor>> getAgentAdaptorCache() {
+        return agentAdaptorCache;
+    }
+
+    ConcurrentMap<AdaptorKey, CachedAdaptor<StorageResourceAdaptor>> getStorageAdaptorCache() {
+        return storageAdaptorCache;
     }
 
+    static final class AdaptorKey {
+
+        private final String resourceId;
+        private final String protocol;
+        private final String authToken;
+        private final String userId;
+
+        AdaptorKey(String resourceId, String protocol, String authToken, String userId) {
+            this.resourceId = resourceId;
+            this.protocol = protocol;
+            this.authToken = authToken;
+            this.userId = userId;
+        }
+
+        String getResourceId() {
+            return resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            AdaptorKey that = (AdaptorKey) o;
+            return Objects.equals(resourceId, that.resourceId) &&
+                    Objects.equals(protocol, that.protocol) &&
+                    Objects.equals(authToken, that.authToken) &&
+                    Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceId, protocol, authToken, userId);
+        }
+
+        @Override
+        public String toString() {
+            return "resource " + resourceId + ", protocol " + protocol + ", user " + userId;
+        }
+    }
+
+    static final class CachedAdaptor<T> {
+
+        private final CompletableFuture<T> future;
+        private final AtomicLong lastUsedTime = new AtomicLong(System.currentTimeMillis());
+
+        private CachedAdaptor(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        static <T> CachedAdaptor<T> pending() {
+            return new CachedAdaptor<>(new CompletableFuture<>());
+        }
+
+        static <T> CachedAdaptor<T> completed(T adaptor) {
+            return new CachedAdaptor<>(CompletableFuture.completedFuture(adaptor));
+        }
+
+        CompletableFuture<T> getFuture() {
+            return future;
+        }
+
+        Optional<T> getIfReady() {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return Optional.ofNullable(future.getNow(null));
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Marks the adaptor as used now and returns the previous usage time
+         */
+        long touch() {
+            return lastUsedTime.getAndSet(System.currentTimeMillis());
+        }
+    }
 }
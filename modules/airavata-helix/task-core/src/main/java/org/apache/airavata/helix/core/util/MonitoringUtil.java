@@ -38,6 +38,14 @@ public class MonitoringUtil {
         }
     }
 
+    public static String getTaskRootPath() {
+        return PATH_PREFIX + TASK;
+    }
+
+    public static String getTaskRetryPath(String taskId) {
+        return PATH_PREFIX + TASK + "/" + taskId + RETRY;
+    }
+
     public static void deleteTaskSpecificNodes(CuratorFramework curatorClient, String takId) throws Exception {
         deleteIfExists(curatorClient, PATH_PREFIX + TASK + "/" + takId + RETRY);
     }
@@ -0,0 +1,172 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.util;
+
+import org.apache.airavata.helix.core.AbstractTask;
+import org.apache.airavata.helix.task.api.annotation.TaskOutPort;
+import org.apache.airavata.helix.task.api.annotation.TaskParam;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Field accessors of a task class for the {@link TaskParam} and {@link TaskOutPort} annotated fields. The class
+ * hierarchy is walked once per task class and the fields are accessed through cached {@link MethodHandle}s afterwards.
+ *
+ * @since 1.0.0-SNAPSHOT
+ */
+class TaskCodec {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<TaskCodec> CODECS = new ClassValue<TaskCodec>() {
+        @Override
+        protected TaskCodec computeValue(Class<?> type) {
+            return new TaskCodec(type);
+        }
+    };
+
+    // fields of the whole class hierarchy in the order serialization visits them
+    private final List<FieldAccessor> serializedParams = new ArrayList<>();
+    private final List<FieldAccessor> serializedOutPorts = new ArrayList<>();
+
+    // fields of the AbstractTask hierarchy in the order deserialization visits them
+    private final List<FieldAccessor> deserializedParams = new ArrayList<>();
+    private final List<FieldAccessor> deserializedOutPorts = new ArrayList<>();
+
+    static TaskCodec forClass(Class<?> taskClass) {
+        return CODECS.get(taskClass);
+    }
+
+    private TaskCodec(Class<?> taskClass) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (Class<?> c = taskClass; c != null; c = c.getSuperclass()) {
+                boolean deserializable = AbstractTask.class.isAssignableFrom(c);
+                for (Field field : c.getDeclaredFields()) {
+                    TaskParam param = field.getAnnotation(TaskParam.class);
+                    if (param != null) {
+                        FieldAccessor accessor = new FieldAccessor(param.name(), field, lookup);
+                        serializedParams.add(accessor);
+                        if (deserializable) {
+                            deserializedParams.add(accessor);
+                        }
+                    }
+
+                    TaskOutPort outPort = field.getAnnotation(TaskOutPort.class);
+                    if (outPort != null) {
+                        FieldAccessor accessor = new FieldAccessor(outPort.name(), field, lookup);
+                        serializedOutPorts.add(accessor);
+                        if (deserializable) {
+                            deserializedOutPorts.add(accessor);
+                        }
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to build field accessors for task class " + taskClass.getName(), e);
+        }
+    }
+
+    List<FieldAccessor> getSerializedParams() {
+        return Collections.unmodifiableList(serializedParams);
+    }
+
+    List<FieldAccessor> getSerializedOutPorts() {
+        return Collections.unmodifiableList(serializedOutPorts);
+    }
+
+    List<FieldAccessor> getDeserializedParams() {
+        return Collections.unmodifiableList(deserializedParams);
+    }
+
+    List<FieldAccessor> getDeserializedOutPorts() {
+        return Collections.unmodifiableList(deserializedOutPorts);
+    }
+
+    static class FieldAccessor {
+
+        private final String name;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        // null if values of the field type can not be parsed from a string
+        private final Function<String, Object> parser;
+
+        private FieldAccessor(String name, Field field, MethodHandles.Lookup lookup) throws IllegalAccessException {
+            field.setAccessible(true);
+            this.name = name;
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            this.parser = parserFor(field.getType());
+        }
+
+        private static Function<String, Object> parserFor(Class<?> type) {
+            if (type.isAssignableFrom(String.class)) {
+                return value -> value;
+            } else if (type.isAssignableFrom(Integer.class) || type.isAssignableFrom(Integer.TYPE)) {
+                return Integer::parseInt;
+            } else if (type.isAssignableFrom(Long.class) || type.isAssignableFrom(Long.TYPE)) {
+                return Long::parseLong;
+            } else if (type.isAssignableFrom(Boolean.class) || type.isAssignableFrom(Boolean.TYPE)) {
+                return Boolean::parseBoolean;
+            }
+            return null;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Object get(Object instance) throws IllegalAccessException {
+            try {
+                return getter.invokeExact(instance);
+            } catch (RuntimeException | Error | IllegalAccessException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read field " + name, e);
+            }
+        }
+
+        void set(Object instance, Object value) throws IllegalAccessException {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error | IllegalAccessException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to write field " + name, e);
+            }
+        }
+
+        boolean isParsable() {
+            return parser != null;
+        }
+
+        void parseAndSet(Object instance, String value) throws IllegalAccessException {
+            set(instance, parser.apply(value));
+        }
+    }
+}
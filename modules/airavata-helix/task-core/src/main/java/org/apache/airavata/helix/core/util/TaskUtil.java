@@ -21,16 +21,17 @@ package org.apache.airavata.helix.core.util;
 
 import org.apache.airavata.helix.core.AbstractTask;
 import org.apache.airavata.helix.core.OutPort;
+import org.apache.airavata.helix.core.util.TaskCodec.FieldAccessor;
 import org.apache.airavata.helix.task.api.annotation.TaskOutPort;
 import org.apache.airavata.helix.task.api.annotation.TaskParam;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.*;
 
 /**
- * TODO: Class level comments please
+ * Converts the {@link TaskParam} and {@link TaskOutPort} fields of tasks to and from the Helix task config map. Field
+ * metadata of each task class is resolved once and cached in a {@link TaskCodec}.
  *
  * @author dimuthu
  * @since 1.0.0-SNAPSHOT
@@ -42,39 +43,25 @@ public class TaskUtil {
     public static <T extends AbstractTask> List<OutPort> getOutPortsOfTask(T taskObj) throws IllegalAccessException {
 
         List<OutPort> outPorts = new ArrayList<>();
-        for (Class<?> c = taskObj.getClass(); c != null; c = c.getSuperclass()) {
-            Field[] fields = c.getDeclaredFields();
-            for (Field field : fields) {
-                TaskOutPort outPortAnnotation = field.getAnnotation(TaskOutPort.class);
-                if (outPortAnnotation != null) {
-                    field.setAccessible(true);
-                    OutPort outPort = (OutPort) field.get(taskObj);
-                    outPorts.add(outPort);
-                }
-            }
+        for (FieldAccessor outPortField : TaskCodec.forClass(taskObj.getClass()).getSerializedOutPorts()) {
+            outPorts.add((OutPort) outPortField.get(taskObj));
         }
         return outPorts;
     }
 
     public static <T extends AbstractTask> Map<String, String> serializeTaskData(T data) throws IllegalAccessException {
 
+        TaskCodec codec = TaskCodec.forClass(data.getClass());
         Map<String, String> result = new HashMap<>();
-        for (Class<?> c = data.getClass(); c != null; c = c.getSuperclass()) {
-            Field[] fields = c.getDeclaredFields();
-            for (Field classField : fields) {
-                TaskParam parm = classField.getAnnotation(TaskParam.class);
-                if (parm != null) {
-                    classField.setAccessible(true);
-                    result.put(parm.name(), classField.get(data).toString());
-                }
 
-                TaskOutPort outPort = classField.getAnnotation(TaskOutPort.class);
-                if (outPort != null) {
-                    classField.setAccessible(true);
-                    if (classField.get(data) != null) {
-                        result.put(outPort.name(), ((OutPort) classField.get(data)).getNextJobId().toString());
-                    }
-                }
+        for (FieldAccessor paramField : codec.getSerializedParams()) {
+            result.put(paramField.getName(), paramField.get(data).toString());
+        }
+
+        for (FieldAccessor outPortField : codec.getSerializedOutPorts()) {
+            OutPort outPort = (OutPort) outPortField.get(data);
+            if (outPort != null) {
+                result.put(outPortField.getName(), outPort.getNextJobId().toString());
             }
         }
         return result;
@@ -82,48 +69,17 @@ public class TaskUtil {
 
     public static <T extends AbstractTask> void deserializeTaskData(T instance, Map<String, String> params) throws IllegalAccessException, InstantiationException {
 
-        List<Field> allFields = new ArrayList<>();
-        Class genericClass = instance.getClass();
+        TaskCodec codec = TaskCodec.forClass(instance.getClass());
 
-        while (AbstractTask.class.isAssignableFrom(genericClass)) {
-            Field[] declaredFields = genericClass.getDeclaredFields();
-            for (Field declaredField : declaredFields) {
-                allFields.add(declaredField);
+        for (FieldAccessor paramField : codec.getDeserializedParams()) {
+            String value = params.get(paramField.getName());
+            if ((value != null || params.containsKey(paramField.getName())) && paramField.isParsable()) {
+                paramField.parseAndSet(instance, value);
             }
-            genericClass = genericClass.getSuperclass();
         }
 
-        for (Field classField : allFields) {
-            TaskParam param = classField.getAnnotation(TaskParam.class);
-            if (param != null) {
-                if (params.containsKey(param.name())) {
-                    classField.setAccessible(true);
-                    if (classField.getType().isAssignableFrom(String.class)) {
-                        classField.set(instance, params.get(param.name()));
-                    } else if (classField.getType().isAssignableFrom(Integer.class) ||
-                            classField.getType().isAssignableFrom(Integer.TYPE)) {
-                        classField.set(instance, Integer.parseInt(params.get(param.name())));
-                    } else if (classField.getType().isAssignableFrom(Long.class) ||
-                            classField.getType().isAssignableFrom(Long.TYPE)) {
-                        classField.set(instance, Long.parseLong(params.get(param.name())));
-                    } else if (classField.getType().isAssignableFrom(Boolean.class) ||
-                            classField.getType().isAssignableFrom(Boolean.TYPE)) {
-                        classField.set(instance, Boolean.parseBoolean(params.get(param.name())));
-                    }
-                }
-            }
-        }
-
-        for (Field classField : allFields) {
-            TaskOutPort outPort = classField.getAnnotation(TaskOutPort.class);
-            if (outPort != null) {
-                classField.setAccessible(true);
-                if (params.containsKey(outPort.name())) {
-                    classField.set(instance, new OutPort(params.get(outPort.name()), instance));
-                } else {
-                    classField.set(instance, new OutPort(null, instance));
-                }
-            }
+        for (FieldAccessor outPortField : codec.getDeserializedOutPorts()) {
+            outPortField.set(instance, new OutPort(params.get(outPortField.getName()), instance));
         }
     }
 }
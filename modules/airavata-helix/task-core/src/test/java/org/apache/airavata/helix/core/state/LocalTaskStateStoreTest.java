@@ -0,0 +1,64 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.state;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+
+public class LocalTaskStateStoreTest {
+
+    private String databasePath;
+
+    @Before
+    public void setUp() throws Exception {
+        databasePath = Files.createTempDirectory("task-state").resolve("db").toString();
+    }
+
+    @Test
+    public void testRetryBookkeeping() throws Exception {
+        LocalTaskStateStore store = new LocalTaskStateStore(databasePath);
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+
+        store.markRetry("workflow1", "task1", 1);
+        store.markRetry("workflow1", "task1", 2);
+        store.markRetry("workflow2", "task1", 1);
+        Assert.assertEquals(3, store.getRetryCount("workflow1", "task1"));
+        Assert.assertEquals(2, store.getRetryCount("workflow2", "task1"));
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task2"));
+
+        store.clearTask("workflow1", "task1");
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+        Assert.assertEquals(2, store.getRetryCount("workflow2", "task1"));
+        // clearing a task without state is a no-op
+        store.clearTask("workflow1", "task1");
+    }
+
+    @Test
+    public void testStateSurvivesReopen() throws Exception {
+        new LocalTaskStateStore(databasePath).markRetry("workflow1", "task1", 1);
+
+        // the table already exists in the second store
+        LocalTaskStateStore reopened = new LocalTaskStateStore(databasePath);
+        Assert.assertEquals(2, reopened.getRetryCount("workflow1", "task1"));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.state;
+
+import org.apache.airavata.helix.core.util.MonitoringUtil;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.retry.RetryOneTime;
+import org.apache.zookeeper.server.NIOServerCnxnFactory;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ZkTaskStateStoreTest {
+
+    private NIOServerCnxnFactory serverFactory;
+    private CuratorFramework curatorClient;
+
+    @Before
+    public void setUp() throws Exception {
+        File dataDir = Files.createTempDirectory("zk-task-state").toFile();
+        serverFactory = new NIOServerCnxnFactory();
+        serverFactory.configure(new InetSocketAddress("localhost", 0), 100);
+        serverFactory.startup(new ZooKeeperServer(dataDir, dataDir, 2000));
+
+        curatorClient = CuratorFrameworkFactory.newClient("localhost:" + serverFactory.getLocalPort(),
+                new RetryOneTime(100));
+        curatorClient.start();
+        curatorClient.blockUntilConnected();
+    }
+
+    @After
+    public void tearDown() {
+        curatorClient.close();
+        serverFactory.shutdown();
+    }
+
+    @Test
+    public void testRetryBookkeeping() throws Exception {
+        ZkTaskStateStore store = new ZkTaskStateStore(curatorClient, false);
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+
+        store.markRetry("workflow1", "task1", 1);
+        store.markRetry("workflow1", "task2", 1);
+        store.markRetry("workflow1", "task2", 2);
+        Assert.assertEquals(2, store.getRetryCount("workflow1", "task1"));
+        Assert.assertEquals(3, store.getRetryCount("workflow1", "task2"));
+
+        store.clearTask("workflow1", "task1");
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+        Assert.assertNotNull(curatorClient.checkExists().forPath(workflowPath("workflow1")));
+
+        // the node goes away with the last task of the workflow
+        store.clearTask("workflow1", "task2");
+        Assert.assertNull(curatorClient.checkExists().forPath(workflowPath("workflow1")));
+    }
+
+    @Test
+    public void testConcurrentRetriesAreNotLost() throws Exception {
+        ZkTaskStateStore store = new ZkTaskStateStore(curatorClient, false);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String taskId = "task" + i;
+                futures.add(executor.submit(() -> {
+                    store.markRetry("workflow1", taskId, 1);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < 16; i++) {
+            Assert.assertEquals(2, store.getRetryCount("workflow1", "task" + i));
+        }
+    }
+
+    @Test
+    public void testLegacyNodeMigration() throws Exception {
+        MonitoringUtil.increaseTaskRetryCount(curatorClient, "task1", 2);
+        ZkTaskStateStore store = new ZkTaskStateStore(curatorClient, true);
+
+        Assert.assertEquals(3, store.getRetryCount("workflow1", "task1"));
+        Assert.assertEquals(Integer.valueOf(3), readWorkflowCount("workflow1", "task1"));
+
+        // the old node follows new retries so participants running the old code see them too
+        store.markRetry("workflow1", "task1", 3);
+        Assert.assertEquals(4, MonitoringUtil.getTaskRetryCount(curatorClient, "task1"));
+        Assert.assertEquals(4, store.getRetryCount("workflow1", "task1"));
+
+        store.clearTask("workflow1", "task1");
+        Assert.assertNull(curatorClient.checkExists().forPath(MonitoringUtil.getTaskRetryPath("task1")));
+        Assert.assertNull(curatorClient.checkExists().forPath(workflowPath("workflow1")));
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+    }
+
+    @Test
+    public void testLegacyNodeWrittenAfterFirstUse() throws Exception {
+        ZkTaskStateStore store = new ZkTaskStateStore(curatorClient, true);
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+        store.markRetry("workflow1", "task2", 1);
+
+        // an old participant retries the tasks during a rolling upgrade
+        MonitoringUtil.increaseTaskRetryCount(curatorClient, "task1", 1);
+        MonitoringUtil.increaseTaskRetryCount(curatorClient, "task2", 2);
+
+        Assert.assertEquals(2, store.getRetryCount("workflow1", "task1"));
+        Assert.assertEquals(3, store.getRetryCount("workflow1", "task2"));
+        Assert.assertEquals(Integer.valueOf(3), readWorkflowCount("workflow1", "task2"));
+        // an old node behind the workflow node does not lower the count
+        store.markRetry("workflow1", "task2", 3);
+        curatorClient.setData().forPath(MonitoringUtil.getTaskRetryPath("task2"), "2".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(4, store.getRetryCount("workflow1", "task2"));
+    }
+
+    @Test
+    public void testLegacyNodesIgnoredWithoutMigration() throws Exception {
+        MonitoringUtil.increaseTaskRetryCount(curatorClient, "task1", 2);
+        ZkTaskStateStore store = new ZkTaskStateStore(curatorClient, false);
+
+        Assert.assertEquals(1, store.getRetryCount("workflow1", "task1"));
+        store.clearTask("workflow1", "task1");
+        Assert.assertNotNull(curatorClient.checkExists().forPath(MonitoringUtil.getTaskRetryPath("task1")));
+    }
+
+    private Integer readWorkflowCount(String workflowName, String taskId) throws Exception {
+        String data = new String(curatorClient.getData().forPath(workflowPath(workflowName)), StandardCharsets.UTF_8);
+        for (String line : data.split("\n")) {
+            if (line.startsWith(taskId + "=")) {
+                return Integer.parseInt(line.substring(taskId.length() + 1));
+            }
+        }
+        return null;
+    }
+
+    private static String workflowPath(String workflowName) {
+        return "/airavata/workflow-task-state/" + workflowName;
+    }
+}
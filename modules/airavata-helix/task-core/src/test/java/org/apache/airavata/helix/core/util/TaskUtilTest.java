@@ -0,0 +1,173 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.helix.core.util;
+
+import org.apache.airavata.helix.core.AbstractTask;
+import org.apache.airavata.helix.core.OutPort;
+import org.apache.airavata.helix.task.api.TaskHelper;
+import org.apache.airavata.helix.task.api.annotation.TaskOutPort;
+import org.apache.airavata.helix.task.api.annotation.TaskParam;
+import org.apache.helix.task.TaskResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskUtilTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ChildTask task = new ChildTask();
+        task.setTaskId("task-1");
+        task.setRetryCount(5);
+        task.name = "stage-in";
+        task.port = 22;
+        task.timeout = 300000L;
+        task.enabled = true;
+        task.wrapped = 7;
+        task.child = "child-value";
+        task.setNextTask(new OutPort("job-2", task));
+        task.failurePort = new OutPort("job-3", task);
+
+        Map<String, String> params = TaskUtil.serializeTaskData(task);
+        Assert.assertEquals("task-1", params.get("taskId"));
+        Assert.assertEquals("5", params.get("Retry Count"));
+        Assert.assertEquals("22", params.get("port"));
+        Assert.assertEquals("300000", params.get("timeout"));
+        Assert.assertEquals("true", params.get("enabled"));
+        Assert.assertEquals("job-2", params.get("Next Task"));
+        Assert.assertEquals("job-3", params.get("Failure"));
+
+        ChildTask copy = new ChildTask();
+        TaskUtil.deserializeTaskData(copy, params);
+        Assert.assertEquals("task-1", copy.getTaskId());
+        Assert.assertEquals(5, copy.getRetryCount());
+        Assert.assertEquals("stage-in", copy.name);
+        Assert.assertEquals(22, copy.port);
+        Assert.assertEquals(Long.valueOf(300000L), copy.timeout);
+        Assert.assertTrue(copy.enabled);
+        Assert.assertEquals(Integer.valueOf(7), copy.wrapped);
+        Assert.assertEquals("child-value", copy.child);
+        Assert.assertEquals("job-2", copy.getNextTask().getNextJobId());
+        Assert.assertSame(copy, copy.getNextTask().getTask());
+        Assert.assertEquals("job-3", copy.failurePort.getNextJobId());
+        Assert.assertEquals(params, TaskUtil.serializeTaskData(copy));
+    }
+
+    @Test
+    public void testOutPorts() throws Exception {
+        ChildTask task = new ChildTask();
+        task.setTaskId("task-1");
+        task.setNextTask(new OutPort("job-2", task));
+        List<OutPort> outPorts = TaskUtil.getOutPortsOfTask(task);
+        Assert.assertEquals(2, outPorts.size());
+        Assert.assertTrue(outPorts.contains(task.getNextTask()));
+        Assert.assertTrue(outPorts.contains(null));
+
+        // unset out ports are left out of the config
+        Assert.assertFalse(TaskUtil.serializeTaskData(task).containsKey("Failure"));
+    }
+
+    @Test
+    public void testLegacyConfig() throws Exception {
+        // a job config written by an older release, before the child parameter and the failure port existed
+        Map<String, String> params = new HashMap<>();
+        params.put("taskId", "legacy-task");
+        params.put("Retry Count", "2");
+        params.put("name", "env-setup");
+        params.put("port", "2222");
+        params.put("timeout", "1000");
+        params.put("enabled", "false");
+        params.put("wrapped", "3");
+        params.put("Next Task", "legacy-job");
+        params.put("removed", "a parameter of a task field that no longer exists");
+
+        ChildTask task = new ChildTask();
+        TaskUtil.deserializeTaskData(task, params);
+        Assert.assertEquals("legacy-task", task.getTaskId());
+        Assert.assertEquals(2, task.getRetryCount());
+        Assert.assertEquals("env-setup", task.name);
+        Assert.assertEquals(2222, task.port);
+        Assert.assertEquals(Long.valueOf(1000L), task.timeout);
+        Assert.assertFalse(task.enabled);
+        Assert.assertEquals(Integer.valueOf(3), task.wrapped);
+        Assert.assertEquals("legacy-job", task.getNextTask().getNextJobId());
+
+        // missing parameters keep their defaults and missing out ports point nowhere
+        Assert.assertEquals("default-child", task.child);
+        Assert.assertNotNull(task.failurePort);
+        Assert.assertNull(task.failurePort.getNextJobId());
+    }
+
+    @Test
+    public void testUnsupportedParamTypeIsSkipped() throws Exception {
+        ChildTask task = new ChildTask();
+        task.setTaskId("task-1");
+        Map<String, String> params = TaskUtil.serializeTaskData(task);
+        Assert.assertEquals("[a, b]", params.get("hosts"));
+
+        params.put("hosts", "[c]");
+        ChildTask copy = new ChildTask();
+        TaskUtil.deserializeTaskData(copy, params);
+        Assert.assertEquals(Arrays.asList("a", "b"), copy.hosts);
+    }
+
+    private static class ParentTask extends AbstractTask {
+
+        @TaskParam(name = "name")
+        String name = "default-name";
+
+        @TaskParam(name = "port")
+        int port;
+
+        @TaskParam(name = "timeout")
+        Long timeout = 0L;
+
+        @TaskParam(name = "enabled")
+        boolean enabled;
+
+        @TaskParam(name = "wrapped")
+        Integer wrapped = 0;
+
+        @TaskParam(name = "hosts")
+        List<String> hosts = Arrays.asList("a", "b");
+
+        @Override
+        public TaskResult onRun(TaskHelper helper) {
+            return null;
+        }
+
+        @Override
+        public void onCancel() {
+        }
+    }
+
+    private static class ChildTask extends ParentTask {
+
+        @TaskParam(name = "child")
+        String child = "default-child";
+
+        @TaskOutPort(name = "Failure")
+        OutPort failurePort;
+    }
+}
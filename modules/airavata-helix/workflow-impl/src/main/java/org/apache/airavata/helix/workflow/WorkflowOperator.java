@@ -76,19 +76,43 @@ public class WorkflowOperator {
         }
     }
 
-    public synchronized String launchWorkflow(String processId, List<AbstractTask> tasks, boolean globalParticipant, boolean monitor) throws Exception {
+    /**
+     * Builds and submits the workflow of a process. Launches are not serialized on this operator, so several
+     * threads can submit workflows of different processes at the same time and their ZooKeeper writes overlap on
+     * the shared Helix connection instead of queuing behind a single lock.
+     * <p>
+     * Every task becomes a job of its own, because Helix runs the tasks of a job without any order between them and
+     * the tasks hand over to the next one by job id.
+     */
+    public String launchWorkflow(String processId, List<AbstractTask> tasks, boolean globalParticipant, boolean monitor) throws Exception {
 
         String workflowName = WORKFLOW_PREFIX + processId;
         logger.info("Launching workflow " + workflowName + " for process " + processId);
 
+        Workflow workflow = buildWorkflow(workflowName, tasks, globalParticipant);
+        taskDriver.start(workflow);
+
+        //TODO : Do we need to monitor workflow status? If so how do we do it in a scalable manner? For example,
+        // if the hfac that monitors a particular workflow, got killed due to some reason, who is taking the responsibility
+
+        if (monitor) {
+            TaskState taskState = pollForWorkflowCompletion(workflow.getName(), 3600000);
+            logger.info("Workflow " + workflowName + " for process " + processId + " finished with state " + taskState.name());
+
+        }
+        return workflowName;
+
+    }
+
+    private Workflow buildWorkflow(String workflowName, List<AbstractTask> tasks, boolean globalParticipant) throws Exception {
+
         Workflow.Builder workflowBuilder = new Workflow.Builder(workflowName).setExpiry(0);
 
-        for (int i = 0; i < tasks.size(); i++) {
-            AbstractTask data = tasks.get(i);
+        for (AbstractTask data : tasks) {
             String taskType = data.getClass().getAnnotation(TaskDef.class).name();
             TaskConfig.Builder taskBuilder = new TaskConfig.Builder().setTaskId("Task_" + data.getTaskId())
                     .setCommand(taskType);
-            Map<String, String> paramMap = org.apache.airavata.helix.core.util.TaskUtil.serializeTaskData(data);
+            Map<String, String> paramMap = TaskUtil.serializeTaskData(data);
             paramMap.forEach(taskBuilder::addConfig);
 
             List<TaskConfig> taskBuilds = new ArrayList<>();
@@ -120,23 +144,10 @@ public class WorkflowOperator {
         WorkflowConfig.Builder config = new WorkflowConfig.Builder().setFailureThreshold(0);
         workflowBuilder.setWorkflowConfig(config.build());
         workflowBuilder.setExpiry(WORKFLOW_EXPIRY_TIME);
-        Workflow workflow = workflowBuilder.build();
-
-        taskDriver.start(workflow);
-
-        //TODO : Do we need to monitor workflow status? If so how do we do it in a scalable manner? For example,
-        // if the hfac that monitors a particular workflow, got killed due to some reason, who is taking the responsibility
-
-        if (monitor) {
-            TaskState taskState = pollForWorkflowCompletion(workflow.getName(), 3600000);
-            logger.info("Workflow " + workflowName + " for process " + processId + " finished with state " + taskState.name());
-
-        }
-        return workflowName;
-
+        return workflowBuilder.build();
     }
 
-    public synchronized TaskState pollForWorkflowCompletion(String workflowName, long timeout) throws InterruptedException {
+    public TaskState pollForWorkflowCompletion(String workflowName, long timeout) throws InterruptedException {
         return taskDriver.pollForWorkflowState(workflowName, timeout, TaskState.COMPLETED,
                 TaskState.FAILED, TaskState.STOPPED, TaskState.ABORTED);
     }
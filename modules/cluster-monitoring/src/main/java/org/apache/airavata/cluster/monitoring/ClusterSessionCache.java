@@ -0,0 +1,163 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.cluster.monitoring;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import org.apache.airavata.model.credential.store.SSHCredential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps the SSH sessions and credentials of the monitored clusters between the runs of the
+ * {@link ClusterStatusMonitorJob} so that a run does not have to log in to every cluster again
+ */
+class ClusterSessionCache {
+
+    private final static Logger logger = LoggerFactory.getLogger(ClusterSessionCache.class);
+
+    private static final ClusterSessionCache INSTANCE = new ClusterSessionCache();
+
+    interface CredentialLoader {
+        SSHCredential load() throws Exception;
+    }
+
+    private static class CachedCredential {
+
+        private final SSHCredential credential;
+        private final long loadedTime;
+
+        private CachedCredential(SSHCredential credential, long loadedTime) {
+            this.credential = credential;
+            this.loadedTime = loadedTime;
+        }
+    }
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, CachedCredential> credentials = new ConcurrentHashMap<>();
+
+    static ClusterSessionCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static String sessionKey(String userName, String hostName, int port, String credentialStoreToken) {
+        return userName + "@" + hostName + ":" + port + "/" + credentialStoreToken;
+    }
+
+    SSHCredential getCredential(String credentialStoreToken, long maxAge, CredentialLoader loader) throws Exception {
+        long now = System.currentTimeMillis();
+        CachedCredential cached = credentials.get(credentialStoreToken);
+        if (cached == null || now - cached.loadedTime > maxAge) {
+            cached = new CachedCredential(loader.load(), now);
+            credentials.put(credentialStoreToken, cached);
+        }
+        return cached.credential;
+    }
+
+    Session getSession(String userName, String hostName, int port, String credentialStoreToken,
+                       SSHCredential sshCredential, int connectTimeout) throws JSchException {
+        String key = sessionKey(userName, hostName, port, credentialStoreToken);
+        Session session = sessions.get(key);
+        if (session != null && session.isConnected()) {
+            return session;
+        }
+        if (session != null) {
+            session.disconnect();
+        }
+
+        JSch jsch = new JSch();
+        jsch.addIdentity(hostName, sshCredential.getPrivateKey().getBytes(), sshCredential.getPublicKey().getBytes(),
+                sshCredential.getPassphrase().getBytes());
+        session = jsch.getSession(userName, hostName, port);
+        java.util.Properties config = new java.util.Properties();
+        config.put("StrictHostKeyChecking", "no");
+        session.setConfig(config);
+        session.connect(connectTimeout);
+        logger.debug("Connected to " + hostName);
+        sessions.put(key, session);
+        return session;
+    }
+
+    /**
+     * Drops the session so that the next run logs in again, used after a failure on the session
+     */
+    void invalidate(String userName, String hostName, int port, String credentialStoreToken) {
+        Session session = sessions.remove(sessionKey(userName, hostName, port, credentialStoreToken));
+        if (session != null) {
+            session.disconnect();
+        }
+    }
+
+    /**
+     * Runs the command and returns its standard output. Fails if the command does not finish within the timeout
+     */
+    String execute(Session session, String command, long timeout) throws Exception {
+        long deadline = System.currentTimeMillis() + timeout;
+        ChannelExec channel = (ChannelExec) session.openChannel("exec");
+        channel.setCommand(command);
+        channel.setInputStream(null);
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+        channel.setErrStream(error);
+        InputStream in = channel.getInputStream();
+        channel.connect((int) timeout);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try {
+            while (true) {
+                while (in.available() > 0) {
+                    int read = in.read(buffer);
+                    if (read < 0) {
+                        break;
+                    }
+                    output.write(buffer, 0, read);
+                }
+                if (channel.isClosed()) {
+                    if (in.available() > 0) {
+                        continue;
+                    }
+                    break;
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    throw new TimeoutException("Command " + command + " did not finish within " + timeout + " ms on " +
+                            session.getHost());
+                }
+                Thread.sleep(100);
+            }
+        } finally {
+            channel.disconnect();
+        }
+
+        if (channel.getExitStatus() != 0) {
+            logger.warn("Command " + command + " on " + session.getHost() + " exited with " + channel.getExitStatus() +
+                    ". Error : " + new String(error.toByteArray(), StandardCharsets.UTF_8));
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -19,9 +19,6 @@
  */
 package org.apache.airavata.cluster.monitoring;
 
-import com.jcraft.jsch.Channel;
-import com.jcraft.jsch.ChannelExec;
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.Session;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ServerSettings;
@@ -39,167 +36,185 @@ import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Collects the queue statuses of the clusters of the super tenant gateway. Clusters are queried in parallel on a
+ * bounded pool, with one command per cluster over an SSH session which is kept for the next run. All statuses are
+ * written to the registry together at the end of the run.
+ */
+@DisallowConcurrentExecution
 public class ClusterStatusMonitorJob implements Job {
     private final static Logger logger = LoggerFactory.getLogger(ClusterStatusMonitorJob.class);
 
+    private static ExecutorService executor;
+
+    private static synchronized ExecutorService getExecutor() throws ApplicationSettingsException {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(
+                    Integer.parseInt(ServerSettings.getSetting("cluster.status.monitoring.threads", "8")), r -> {
+                        Thread thread = new Thread(r, "cluster-status-monitor-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return executor;
+    }
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        RegistryService.Client registryClient = null;
         try{
             String superTenantGatewayId = ServerSettings.getSuperTenantGatewayId();
-            RegistryService.Client registryClient = getRegistryClient();
-            List<ComputeResourceProfile> computeResourceProfiles = new ArrayList<>();
-            List<ComputeResourcePreference> computeResourcePreferences = null;
-            try{
-                computeResourcePreferences = registryClient.getAllGatewayComputeResourcePreferences(superTenantGatewayId);
-            }catch (Exception ex){
-                logger.warn("Could not find super tenant compute resources preferences for cluster status monitoring...");
-            }
-            if (computeResourcePreferences != null && computeResourcePreferences.size() > 0) {
-                computeResourcePreferences.stream().forEach(p -> {
-                    try {
-                        String computeResourceId = p.getComputeResourceId();
-                        String credentialStoreToken = p.getResourceSpecificCredentialStoreToken();
-                        String loginUserName = p.getLoginUserName();
-                        String hostName = null;
-                        if (credentialStoreToken == null || credentialStoreToken.equals("")) {
-                            credentialStoreToken = registryClient.getGatewayResourceProfile(superTenantGatewayId).getCredentialStoreToken();
-                        }
-                        int port = -1;
-                        ArrayList queueNames = new ArrayList<>();
-
-                        ComputeResourceDescription computeResourceDescription = registryClient.getComputeResource(computeResourceId);
-                        hostName = computeResourceDescription.getHostName();
-                        //FIXME This should come from compute resource description
-                        port = 22;
-                        computeResourceDescription.getBatchQueues().stream().forEach(q -> {
-                            queueNames.add(q.getQueueName());
-                        });
-
-                        List<JobSubmissionInterface> jobSubmissionInterfaces = computeResourceDescription.getJobSubmissionInterfaces();
-                        if (jobSubmissionInterfaces != null && jobSubmissionInterfaces.size() > 0) {
-                            if (jobSubmissionInterfaces.get(0).getJobSubmissionProtocol().equals(JobSubmissionProtocol.SSH)) {
-                                String resourceManagerType = registryClient.getSSHJobSubmission(jobSubmissionInterfaces.get(0)
-                                        .getJobSubmissionInterfaceId()).getResourceJobManager().getResourceJobManagerType().name();
-                                ComputeResourceProfile computeResourceProfile = new ComputeResourceProfile(hostName,
-                                        loginUserName, port, credentialStoreToken, queueNames, resourceManagerType);
-                                computeResourceProfiles.add(computeResourceProfile);
-                            }
-                        }
-                    } catch (TException e) {
-                        logger.error(e.getMessage());
-                    }
-                });
-            }
+            registryClient = getRegistryClient();
+            List<ComputeResourceProfile> computeResourceProfiles = getComputeResourceProfiles(registryClient, superTenantGatewayId);
 
-            ArrayList<QueueStatusModel> queueStatuses = new ArrayList<>();
+            int connectTimeout = Integer.parseInt(ServerSettings.getSetting("cluster.status.monitoring.connect.timeout.ms", "15000"));
+            long commandTimeout = Long.parseLong(ServerSettings.getSetting("cluster.status.monitoring.command.timeout.ms", "30000"));
+            long credentialMaxAge = Long.parseLong(ServerSettings.getSetting("cluster.status.monitoring.credential.cache.ms", "3600000"));
+            long runTimeout = Long.parseLong(ServerSettings.getSetting("cluster.status.monitoring.run.timeout.ms", "300000"));
 
+            Map<ComputeResourceProfile, Future<List<QueueStatusModel>>> results = new LinkedHashMap<>();
             for (ComputeResourceProfile computeResourceProfile : computeResourceProfiles) {
+                results.put(computeResourceProfile, getExecutor().submit(() -> getQueueStatuses(computeResourceProfile,
+                        superTenantGatewayId, connectTimeout, commandTimeout, credentialMaxAge)));
+            }
 
-                String userName = computeResourceProfile.getUserName();
-                String hostName = computeResourceProfile.getHostName();
-                int port = computeResourceProfile.getPort();
-
+            // Each cluster is bounded by its connect and command timeouts. This only guards against anything else
+            // hanging, like the credential store
+            long deadline = System.currentTimeMillis() + runTimeout;
+            ArrayList<QueueStatusModel> queueStatuses = new ArrayList<>();
+            for (Map.Entry<ComputeResourceProfile, Future<List<QueueStatusModel>>> result : results.entrySet()) {
+                ComputeResourceProfile computeResourceProfile = result.getKey();
                 try {
-                    JSch jsch = new JSch();
-                    CredentialStoreService.Client credentialClient = getCredentialStoreClient();
-                    SSHCredential sshCredential = credentialClient.getSSHCredential(computeResourceProfile.getCredentialStoreToken(), superTenantGatewayId);
-                    jsch.addIdentity(hostName, sshCredential.getPrivateKey().getBytes(), sshCredential.getPublicKey().getBytes(), sshCredential.getPassphrase().getBytes());
-
-                    Session session = jsch.getSession(userName, hostName, port);
-                    java.util.Properties config = new java.util.Properties();
-                    config.put("StrictHostKeyChecking", "no");
-                    session.setConfig(config);
-
-                    logger.debug("Connected to " + hostName);
-
-                    session.connect();
-                    for (String queue : computeResourceProfile.getQueueNames()) {
-                        String command = "";
-                        if (computeResourceProfile.getResourceManagerType().equals("SLURM"))
-                            command = "sinfo -s -p " + queue + " -o \"%a %F\" | tail -1";
-                        else if (computeResourceProfile.getResourceManagerType().equals("PBS"))
-                            command = "qstat -Q " + queue + "| tail -1";
-
-                        if (command.equals("")) {
-                            logger.warn("No matching resource manager type found for " + computeResourceProfile.getResourceManagerType());
-                            continue;
-                        }
-
-                        Channel channel = session.openChannel("exec");
-                        ((ChannelExec) channel).setCommand(command);
-                        channel.setInputStream(null);
-                        ((ChannelExec) channel).setErrStream(System.err);
-                        InputStream in = channel.getInputStream();
-                        channel.connect();
-                        byte[] tmp = new byte[1024];
-                        String result = "";
-                        while (true) {
-                            while (in.available() > 0) {
-                                int i = in.read(tmp, 0, 1024);
-                                if (i < 0) break;
-                                result += new String(tmp, 0, i);
-                            }
-                            if (channel.isClosed()) {
-                                if (in.available() > 0) continue;
-                                logger.debug(hostName + " " + queue + " " + "exit-status: " + channel.getExitStatus());
-                                break;
-                            }
-                            try {
-                                Thread.sleep(1000);
-                            } catch (Exception ee) {
-                            }
-                        }
-                        channel.disconnect();
-
-                        if (result != null && result.length() > 0) {
-                            QueueStatusModel queueStatus = null;
-                            if (computeResourceProfile.getResourceManagerType().equals("SLURM")) {
-                                String[] sparts = result.split(" ");
-                                boolean isUp = sparts[0].equalsIgnoreCase("up");
-                                String knts = sparts[1];
-                                sparts = knts.split("/");
-                                int running = Integer.parseInt(sparts[0].trim());
-                                int queued = Integer.parseInt(sparts[1].trim());
-                                queueStatus = new QueueStatusModel(hostName, queue, isUp, running, queued, System.currentTimeMillis());
-
-                            } else if (computeResourceProfile.getResourceManagerType().equals("PBS")) {
-                                result = result.replaceAll("\\s+", " ");
-                                String[] sparts = result.split(" ");
-                                boolean isUp = sparts[3].equalsIgnoreCase("yes");
-                                int running = Integer.parseInt(sparts[6].trim());
-                                int queued = Integer.parseInt(sparts[5].trim());
-                                queueStatus = new QueueStatusModel(hostName, queue, isUp, running, queued, System.currentTimeMillis());
-                            }
-
-                            if (queueStatus != null)
-                                queueStatuses.add(queueStatus);
-                        }
-                    }
-                    session.disconnect();
+                    queueStatuses.addAll(result.getValue().get(
+                            Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+                } catch (TimeoutException e) {
+                    result.getValue().cancel(true);
+                    ClusterSessionCache.getInstance().invalidate(computeResourceProfile.getUserName(),
+                            computeResourceProfile.getHostName(), computeResourceProfile.getPort(),
+                            computeResourceProfile.getCredentialStoreToken());
+                    logger.error("Timed out while getting cluster status from " + computeResourceProfile.getHostName());
                 } catch (Exception ex) {
                     logger.error("Failed to get cluster status from " + computeResourceProfile.getHostName());
                     logger.error(ex.getMessage(), ex);
                 }
             }
-            if(queueStatuses != null && queueStatuses.size() > 0){
+
+            if(queueStatuses.size() > 0){
                 registryClient.registerQueueStatuses(queueStatuses);
             }
+            logger.info("Registered " + queueStatuses.size() + " queue statuses of " + computeResourceProfiles.size() + " clusters");
         }catch (Exception e){
             throw new JobExecutionException(e);
+        } finally {
+            if (registryClient != null) {
+                registryClient.getInputProtocol().getTransport().close();
+            }
         }
 
     }
+
+    private List<ComputeResourceProfile> getComputeResourceProfiles(RegistryService.Client registryClient, String superTenantGatewayId) {
+        List<ComputeResourceProfile> computeResourceProfiles = new ArrayList<>();
+        List<ComputeResourcePreference> computeResourcePreferences = null;
+        try{
+            computeResourcePreferences = registryClient.getAllGatewayComputeResourcePreferences(superTenantGatewayId);
+        }catch (Exception ex){
+            logger.warn("Could not find super tenant compute resources preferences for cluster status monitoring...");
+        }
+        if (computeResourcePreferences != null && computeResourcePreferences.size() > 0) {
+            computeResourcePreferences.stream().forEach(p -> {
+                try {
+                    String computeResourceId = p.getComputeResourceId();
+                    String credentialStoreToken = p.getResourceSpecificCredentialStoreToken();
+                    String loginUserName = p.getLoginUserName();
+                    String hostName = null;
+                    if (credentialStoreToken == null || credentialStoreToken.equals("")) {
+                        credentialStoreToken = registryClient.getGatewayResourceProfile(superTenantGatewayId).getCredentialStoreToken();
+                    }
+                    int port = -1;
+                    ArrayList queueNames = new ArrayList<>();
+
+                    ComputeResourceDescription computeResourceDescription = registryClient.getComputeResource(computeResourceId);
+                    hostName = computeResourceDescription.getHostName();
+                    //FIXME This should come from compute resource description
+                    port = 22;
+                    computeResourceDescription.getBatchQueues().stream().forEach(q -> {
+                        queueNames.add(q.getQueueName());
+                    });
+
+                    List<JobSubmissionInterface> jobSubmissionInterfaces = computeResourceDescription.getJobSubmissionInterfaces();
+                    if (jobSubmissionInterfaces != null && jobSubmissionInterfaces.size() > 0) {
+                        if (jobSubmissionInterfaces.get(0).getJobSubmissionProtocol().equals(JobSubmissionProtocol.SSH)) {
+                            String resourceManagerType = registryClient.getSSHJobSubmission(jobSubmissionInterfaces.get(0)
+                                    .getJobSubmissionInterfaceId()).getResourceJobManager().getResourceJobManagerType().name();
+                            ComputeResourceProfile computeResourceProfile = new ComputeResourceProfile(hostName,
+                                    loginUserName, port, credentialStoreToken, queueNames, resourceManagerType);
+                            computeResourceProfiles.add(computeResourceProfile);
+                        }
+                    }
+                } catch (TException e) {
+                    logger.error(e.getMessage());
+                }
+            });
+        }
+        return computeResourceProfiles;
+    }
+
+    private List<QueueStatusModel> getQueueStatuses(ComputeResourceProfile computeResourceProfile, String gatewayId,
+                                                    int connectTimeout, long commandTimeout, long credentialMaxAge) throws Exception {
+        String resourceManagerType = computeResourceProfile.getResourceManagerType();
+        if (!QueueStatusQuery.isSupported(resourceManagerType)) {
+            logger.warn("No matching resource manager type found for " + resourceManagerType);
+            return new ArrayList<>();
+        }
+        if (computeResourceProfile.getQueueNames().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ClusterSessionCache sessionCache = ClusterSessionCache.getInstance();
+        SSHCredential sshCredential = sessionCache.getCredential(computeResourceProfile.getCredentialStoreToken(),
+                credentialMaxAge, () -> {
+                    CredentialStoreService.Client credentialClient = getCredentialStoreClient();
+                    try {
+                        return credentialClient.getSSHCredential(computeResourceProfile.getCredentialStoreToken(), gatewayId);
+                    } finally {
+                        credentialClient.getInputProtocol().getTransport().close();
+                    }
+                });
+
+        String command = QueueStatusQuery.buildCommand(resourceManagerType, computeResourceProfile.getQueueNames());
+        try {
+            Session session = sessionCache.getSession(computeResourceProfile.getUserName(), computeResourceProfile.getHostName(),
+                    computeResourceProfile.getPort(), computeResourceProfile.getCredentialStoreToken(), sshCredential, connectTimeout);
+            String result = sessionCache.execute(session, command, commandTimeout);
+            return QueueStatusQuery.parse(resourceManagerType, computeResourceProfile.getHostName(),
+                    computeResourceProfile.getQueueNames(), result, System.currentTimeMillis());
+        } catch (Exception e) {
+            sessionCache.invalidate(computeResourceProfile.getUserName(), computeResourceProfile.getHostName(),
+                    computeResourceProfile.getPort(), computeResourceProfile.getCredentialStoreToken());
+            throw e;
+        }
+    }
+
     private static RegistryService.Client getRegistryClient() throws TTransportException, ApplicationSettingsException {
         TTransport transport = new TSocket(ServerSettings.getRegistryServerHost(), Integer.parseInt(ServerSettings.getRegistryServerPort()));
         transport.open();
@@ -0,0 +1,86 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.cluster.monitoring;
+
+import org.apache.airavata.model.status.QueueStatusModel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the single command which reports the status of all monitored queues of a cluster and parses its output
+ */
+class QueueStatusQuery {
+
+    static final String SLURM = "SLURM";
+    static final String PBS = "PBS";
+
+    private QueueStatusQuery() {
+    }
+
+    static boolean isSupported(String resourceManagerType) {
+        return SLURM.equals(resourceManagerType) || PBS.equals(resourceManagerType);
+    }
+
+    static String buildCommand(String resourceManagerType, List<String> queueNames) {
+        if (SLURM.equals(resourceManagerType)) {
+            // One summary line per partition: name, availability and allocated/idle/other/total nodes
+            return "sinfo -s -h -p " + String.join(",", queueNames) + " -o \"%P %a %F\"";
+        } else if (PBS.equals(resourceManagerType)) {
+            return "qstat -Q " + String.join(" ", queueNames);
+        }
+        throw new IllegalArgumentException("No queue status command for resource manager " + resourceManagerType);
+    }
+
+    static List<QueueStatusModel> parse(String resourceManagerType, String hostName, List<String> queueNames,
+                                        String output, long time) {
+        Set<String> monitored = new HashSet<>(queueNames);
+        List<QueueStatusModel> statuses = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            String[] parts = line.trim().split("\\s+");
+            if (parts.length == 0) {
+                continue;
+            }
+            // The default SLURM partition is marked with a *
+            String queue = parts[0].endsWith("*") ? parts[0].substring(0, parts[0].length() - 1) : parts[0];
+            if (!monitored.contains(queue)) {
+                // headers and queues we were not asked for
+                continue;
+            }
+
+            if (SLURM.equals(resourceManagerType) && parts.length >= 3) {
+                boolean isUp = parts[1].equalsIgnoreCase("up");
+                String[] counts = parts[2].split("/");
+                int running = Integer.parseInt(counts[0].trim());
+                int queued = Integer.parseInt(counts[1].trim());
+                statuses.add(new QueueStatusModel(hostName, queue, isUp, running, queued, time));
+
+            } else if (PBS.equals(resourceManagerType) && parts.length >= 7) {
+                boolean isUp = parts[3].equalsIgnoreCase("yes");
+                int running = Integer.parseInt(parts[6].trim());
+                int queued = Integer.parseInt(parts[5].trim());
+                statuses.add(new QueueStatusModel(hostName, queue, isUp, running, queued, time));
+            }
+        }
+        return statuses;
+    }
+}
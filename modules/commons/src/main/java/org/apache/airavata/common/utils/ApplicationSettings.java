@@ -30,6 +30,9 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,9 +42,21 @@ public class ApplicationSettings {
 
     public static String ADDITIONAL_SETTINGS_FILES = "external.settings";
 
-	protected Properties properties = new Properties();
+    // bumped whenever a property changes so that the resolved settings are rebuilt on the next lookup
+    private final AtomicLong propertiesVersion = new AtomicLong();
 
-    private Exception propertyLoadException;
+	protected volatile Properties properties = new SettingsProperties();
+
+    private volatile Exception propertyLoadException;
+
+    private volatile ResolvedSettings resolvedSettings;
+
+    // settings merged at runtime, applied again when the property files are reloaded
+    private final Map<String, String> mergedSettings = new ConcurrentHashMap<String, String>();
+
+    private volatile long reloadCheckIntervalMillis;
+    private volatile long nextReloadCheckTime;
+    private volatile Map<URL, Long> loadedFileTimestamps = Collections.emptyMap();
 
 
     protected static final String TRUST_STORE_PATH="trust.store";
@@ -52,6 +67,7 @@ public class ApplicationSettings {
     private final static Logger logger = LoggerFactory.getLogger(ApplicationSettings.class);
 
     private static final String SHUTDOWN_STATEGY_STRING="shutdown.strategy";
+    private static final String RELOAD_CHECK_INTERVAL = "settings.reload.check.interval.ms";
     
     protected static ApplicationSettings INSTANCE;
     public static enum ShutdownStrategy{
@@ -59,32 +75,78 @@ public class ApplicationSettings {
     	SELF_TERMINATE
     }
     {
-    	loadProperties();
+    	propertyLoadException = loadProperties(properties);
     }
 
-	private void loadProperties() {
+	private Exception loadProperties(Properties target) {
 		URL url = getPropertyFileURL();
+        Map<URL, Long> fileTimestamps = new HashMap<URL, Long>();
         try {
-            properties.load(url.openStream());
+            fileTimestamps.put(url, getLastModified(url));
+            target.load(url.openStream());
             logger.info("Settings loaded from "+url.toString());
-            URL[] externalSettingsFileURLs = getExternalSettingsFileURLs();
+            URL[] externalSettingsFileURLs = getExternalSettingsFileURLs(target);
             for (URL externalSettings : externalSettingsFileURLs) {
-				mergeSettingsImpl(externalSettings.openStream());
+                fileTimestamps.put(externalSettings, getLastModified(externalSettings));
+				target.load(externalSettings.openStream());
 				logger.info("External settings merged from "+url.toString());
 			}
         } catch (Exception e) {
-        	propertyLoadException=e;
+        	return e;
         }
+        loadedFileTimestamps = fileTimestamps;
+        reloadCheckIntervalMillis = Long.parseLong(target.getProperty(RELOAD_CHECK_INTERVAL, "0"));
+        nextReloadCheckTime = System.currentTimeMillis() + reloadCheckIntervalMillis;
+        return null;
 	}
 
+    /**
+     * Loads the property files again if one of them changed since they were loaded. Lookups keep seeing the
+     * previous settings until the new ones are completely loaded, and the previous settings are kept if the files can
+     * not be loaded.
+     * @return true if the settings were reloaded
+     */
+    public synchronized boolean reloadIfModifiedImpl() {
+        nextReloadCheckTime = System.currentTimeMillis() + reloadCheckIntervalMillis;
+        boolean modified = false;
+        for (Map.Entry<URL, Long> loadedFile : loadedFileTimestamps.entrySet()) {
+            modified |= getLastModified(loadedFile.getKey()) != loadedFile.getValue();
+        }
+        if (!modified) {
+            return false;
+        }
+
+        Properties reloadedProperties = new SettingsProperties();
+        Exception loadException = loadProperties(reloadedProperties);
+        if (loadException != null) {
+            logger.error("Failed to reload the settings, keeping the previous settings", loadException);
+            return false;
+        }
+        reloadedProperties.putAll(mergedSettings);
+        properties = reloadedProperties;
+        propertyLoadException = null;
+        propertiesChanged();
+        logger.info("Settings reloaded");
+        return true;
+    }
+
+    private static long getLastModified(URL url) {
+        if (url != null && url.getProtocol().equalsIgnoreCase("file")) {
+            return new File(url.getPath()).lastModified();
+        }
+        return 0;
+    }
+
 	protected URL getPropertyFileURL() {
 		return ApplicationSettings.loadFile(SERVER_PROPERTIES);
 	}
 	
-	protected URL[] getExternalSettingsFileURLs(){
-		try {
-			List<URL> externalSettingsFileURLs=new ArrayList<URL>();
-			String externalSettingsFileNames = getSettingImpl(ADDITIONAL_SETTINGS_FILES);
+	protected URL[] getExternalSettingsFileURLs(Properties loadedProperties){
+		List<URL> externalSettingsFileURLs=new ArrayList<URL>();
+		String externalSettingsFileNames = System.getProperties().containsKey(ADDITIONAL_SETTINGS_FILES)
+				? System.getProperty(ADDITIONAL_SETTINGS_FILES) : loadedProperties.getProperty(ADDITIONAL_SETTINGS_FILES);
+		if (externalSettingsFileNames != null) {
+			externalSettingsFileNames = deriveAbsoluteValue(loadedProperties, externalSettingsFileNames, new HashSet<String>());
 			String[] externalSettingFiles = externalSettingsFileNames.split(",");
 			for (String externalSettingFile : externalSettingFiles) {
 				URL externalSettingFileURL = ApplicationSettings.loadFile(externalSettingFile);
@@ -94,10 +156,8 @@ public class ApplicationSettings {
 					externalSettingsFileURLs.add(externalSettingFileURL);
 				}
 			}
-			return externalSettingsFileURLs.toArray(new URL[]{});
-		} catch (ApplicationSettingsException e) {
-			return new URL[]{};
 		}
+		return externalSettingsFileURLs.toArray(new URL[]{});
 	}
 	protected static ApplicationSettings getInstance(){
 		if (INSTANCE==null){
@@ -176,38 +236,131 @@ public class ApplicationSettings {
     }
     
     public String getSettingImpl(String key) throws ApplicationSettingsException{
-    	String rawValue=null;
-    	if (System.getProperties().containsKey(key)){
-    		rawValue=System.getProperties().getProperty(key);
-    	}else{
-    		validateSuccessfulPropertyFileLoad();
-	    	if (properties.containsKey(key)){
-	    		rawValue=properties.getProperty(key);
-	    	}else{
-	    		throw new ApplicationSettingsException(key);
-	    	}
+    	String value = findSetting(key);
+    	if (value == null){
+    		throw new ApplicationSettingsException(key);
     	}
-    	return deriveAbsoluteValueImpl(rawValue);
+    	return value;
     }
     
     public String getSettingImpl(String key, String defaultValue){
     	try {
-    		return getSettingImpl(key);
+    		String value = findSetting(key);
+    		return value != null ? value : defaultValue;
 		} catch (ApplicationSettingsException e) {
 			//we'll ignore this error since a default value is provided
 		}
 		return defaultValue;
     }
 
-	private String deriveAbsoluteValueImpl(String property){
+    public int getIntSettingImpl(String key) throws ApplicationSettingsException {
+        return requireSetting(key, findParsedSetting(key, Integer::valueOf, resolved -> resolved.intValues));
+    }
+
+    public int getIntSettingImpl(String key, int defaultValue) {
+        return withDefault(key, Integer::valueOf, resolved -> resolved.intValues, defaultValue);
+    }
+
+    public long getLongSettingImpl(String key, long defaultValue) {
+        return withDefault(key, Long::valueOf, resolved -> resolved.longValues, defaultValue);
+    }
+
+    public boolean getBooleanSettingImpl(String key) throws ApplicationSettingsException {
+        return requireSetting(key, findParsedSetting(key, Boolean::valueOf, resolved -> resolved.booleanValues));
+    }
+
+    public boolean getBooleanSettingImpl(String key, boolean defaultValue) {
+        return withDefault(key, Boolean::valueOf, resolved -> resolved.booleanValues, defaultValue);
+    }
+
+    /**
+     * Returns the value of the setting or null if it is not set. Settings are looked up far more often with a default
+     * than they are missing, so a missing setting is reported without building an exception
+     */
+    private String findSetting(String key) throws ApplicationSettingsException {
+        // system properties take precedence and may be set at any time, so they are resolved on every lookup
+        if (System.getProperties().containsKey(key)) {
+            return deriveAbsoluteValue(properties, System.getProperties().getProperty(key), new HashSet<String>());
+        }
+        // every setting is resolved up front, so a key missing here stays missing until the properties change
+        return getResolvedSettings().values.get(key);
+    }
+
+    private <T> T findParsedSetting(String key, Function<String, T> parser,
+                                    Function<ResolvedSettings, Map<String, T>> parsedValues) throws ApplicationSettingsException {
+        if (System.getProperties().containsKey(key)) {
+            return parser.apply(findSetting(key));
+        }
+        ResolvedSettings resolved = getResolvedSettings();
+        String value = resolved.values.get(key);
+        if (value == null) {
+            return null;
+        }
+        Map<String, T> parsed = parsedValues.apply(resolved);
+        T parsedValue = parsed.get(key);
+        if (parsedValue == null) {
+            parsedValue = parser.apply(value);
+            parsed.put(key, parsedValue);
+        }
+        return parsedValue;
+    }
+
+    private <T> T withDefault(String key, Function<String, T> parser,
+                              Function<ResolvedSettings, Map<String, T>> parsedValues, T defaultValue) {
+        try {
+            T value = findParsedSetting(key, parser, parsedValues);
+            return value != null ? value : defaultValue;
+        } catch (ApplicationSettingsException e) {
+            return defaultValue;
+        }
+    }
+
+    private static <T> T requireSetting(String key, T value) throws ApplicationSettingsException {
+        if (value == null) {
+            throw new ApplicationSettingsException(key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the values of all the properties with the references to other settings replaced. The values are
+     * resolved once after the properties change, references to system properties are resolved at that time as well.
+     */
+    private ResolvedSettings getResolvedSettings() throws ApplicationSettingsException {
+        if (reloadCheckIntervalMillis > 0 && System.currentTimeMillis() >= nextReloadCheckTime) {
+            reloadIfModifiedImpl();
+        }
+        long version = propertiesVersion.get();
+        ResolvedSettings resolved = resolvedSettings;
+        if (resolved == null || resolved.version != version) {
+            validateSuccessfulPropertyFileLoad();
+            Map<String, String> values = new HashMap<String, String>();
+            Properties source = properties;
+            for (String key : source.stringPropertyNames()) {
+                values.put(key, deriveAbsoluteValue(source, source.getProperty(key), new HashSet<String>()));
+            }
+            resolved = new ResolvedSettings(version, values);
+            resolvedSettings = resolved;
+        }
+        return resolved;
+    }
+
+	private static String deriveAbsoluteValue(Properties source, String property, Set<String> parametersBeingResolved){
 		if (property!=null){
 			Map<Integer, String> containedParameters = StringUtil.getContainedParameters(property);
 			List<String> parametersAlreadyProcessed=new ArrayList<String>();
 			for (String parameter : containedParameters.values()) {
 				if (!parametersAlreadyProcessed.contains(parameter)) {
 					String parameterName = parameter.substring(2,parameter.length() - 1);
-					String parameterValue = getSetting(parameterName,parameter);
-					property = property.replaceAll(Pattern.quote(parameter), parameterValue);
+					String parameterValue = parameter;
+					String rawValue = System.getProperties().containsKey(parameterName)
+							? System.getProperties().getProperty(parameterName) : source.getProperty(parameterName);
+					// a setting referring to itself is left as it is
+					if (rawValue != null && parametersBeingResolved.add(parameterName)) {
+						parameterValue = deriveAbsoluteValue(source, rawValue, parametersBeingResolved);
+						parametersBeingResolved.remove(parameterName);
+					}
+					property = property.replace(parameter, parameterValue);
 					parametersAlreadyProcessed.add(parameter);
 				}
 			}
@@ -286,17 +439,21 @@ public class ApplicationSettings {
     }
     
     public void mergeSettingsImpl(Map<String,String> props){
+    	mergedSettings.putAll(props);
     	properties.putAll(props);
     }
     
     public void mergeSettingsImpl(InputStream stream) throws IOException{
     	Properties tmpProp = new Properties();
     	tmpProp.load(stream);
+    	for (String key : tmpProp.stringPropertyNames()) {
+    		mergedSettings.put(key, tmpProp.getProperty(key));
+    	}
     	properties.putAll(tmpProp);
     }
     
     public void mergeSettingsCommandLineArgsImpl(String[] args){
-    	properties.putAll(StringUtil.parseCommandLineOptions(args));
+    	mergeSettingsImpl(StringUtil.parseCommandLineOptions(args));
     }
  
     public ShutdownStrategy getShutdownStrategyImpl() throws Exception{
@@ -322,6 +479,35 @@ public class ApplicationSettings {
     	return getInstance().getSettingImpl(key,defaultValue);
 
     }
+
+    public static int getIntSetting(String key) throws ApplicationSettingsException {
+        return getInstance().getIntSettingImpl(key);
+    }
+
+    public static int getIntSetting(String key, int defaultValue) {
+        return getInstance().getIntSettingImpl(key, defaultValue);
+    }
+
+    public static long getLongSetting(String key, long defaultValue) {
+        return getInstance().getLongSettingImpl(key, defaultValue);
+    }
+
+    public static boolean getBooleanSetting(String key) throws ApplicationSettingsException {
+        return getInstance().getBooleanSettingImpl(key);
+    }
+
+    public static boolean getBooleanSetting(String key, boolean defaultValue) {
+        return getInstance().getBooleanSettingImpl(key, defaultValue);
+    }
+
+    /**
+     * Reloads the property files if one of them changed since they were loaded. Also done on lookups every
+     * <code>settings.reload.check.interval.ms</code> milliseconds when that setting is positive.
+     * @return true if the settings were reloaded
+     */
+    public static boolean reloadIfModified() {
+        return getInstance().reloadIfModifiedImpl();
+    }
     
     public static void setSetting(String key, String value) throws ApplicationSettingsException{
     	getInstance().properties.setProperty(key, value);
@@ -481,4 +667,47 @@ public class ApplicationSettings {
         return ApplicationSettings.class.getClassLoader().getResource(fileName);
 
     }
+
+    private void propertiesChanged() {
+        propertiesVersion.incrementAndGet();
+    }
+
+    /**
+     * Properties which invalidate the resolved settings whenever they are changed, including changes made through
+     * {@link #getProperties()}
+     */
+    private class SettingsProperties extends Properties {
+        @Override
+        public synchronized Object put(Object key, Object value) {
+            Object previous = super.put(key, value);
+            propertiesChanged();
+            return previous;
+        }
+
+        @Override
+        public synchronized Object remove(Object key) {
+            Object previous = super.remove(key);
+            propertiesChanged();
+            return previous;
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+            propertiesChanged();
+        }
+    }
+
+    private static final class ResolvedSettings {
+        private final long version;
+        private final Map<String, String> values;
+        private final Map<String, Integer> intValues = new ConcurrentHashMap<String, Integer>();
+        private final Map<String, Long> longValues = new ConcurrentHashMap<String, Long>();
+        private final Map<String, Boolean> booleanValues = new ConcurrentHashMap<String, Boolean>();
+
+        private ResolvedSettings(long version, Map<String, String> values) {
+            this.version = version;
+            this.values = values;
+        }
+    }
 }
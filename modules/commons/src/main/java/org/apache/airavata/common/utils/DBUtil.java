@@ -42,6 +42,10 @@ public class DBUtil {
 
     private Properties properties;
 
+    private BasicDataSource connectionPool;
+
+    private static volatile DBUtil credentialStoreDBUtil;
+
     public DBUtil(String jdbcUrl, String userName, String password, String driver) throws InstantiationException,
             IllegalAccessException, ClassNotFoundException {
 
@@ -198,13 +202,52 @@ public class DBUtil {
     }
 
     /**
-     * Creates a new JDBC connections based on provided DBCP properties.
+     * Serves connections from a DBCP pool instead of opening a new connection per call. Closing a connection
+     * returned by {@link #getConnection()} then gives it back to the pool. The pool can be sized and tuned through
+     * the returned data source until the first connection is taken.
+     *
+     * @return The pool.
+     */
+    public synchronized BasicDataSource enableConnectionPool() {
+        if (connectionPool == null) {
+            BasicDataSource dataSource = (BasicDataSource) getDataSource();
+            dataSource.setDefaultAutoCommit(false);
+            dataSource.addConnectionProperty("characterEncoding", properties.getProperty("characterEncoding"));
+            dataSource.addConnectionProperty("useUnicode", properties.getProperty("useUnicode"));
+            connectionPool = dataSource;
+        }
+        return connectionPool;
+    }
+
+    /**
+     * @return The connection pool or null if connections are not pooled.
+     */
+    public BasicDataSource getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Closes the connection pool, if any. Later calls open a new connection per call.
+     */
+    public synchronized void closeConnectionPool() throws SQLException {
+        if (connectionPool != null) {
+            connectionPool.close();
+            connectionPool = null;
+        }
+    }
+
+    /**
+     * Creates a new JDBC connections based on provided DBCP properties, or borrows one from the connection pool if
+     * pooling is enabled.
      * 
      * @return A new DB connection.
      * @throws SQLException
      *             If an error occurred while creating the connection.
      */
     public Connection getConnection() throws SQLException {
+        if (connectionPool != null) {
+            return connectionPool.getConnection();
+        }
         Connection connection = DriverManager.getConnection(jdbcUrl, properties);
         connection.setAutoCommit(false);
         return connection;
@@ -304,7 +347,8 @@ public class DBUtil {
     }
 
     /**
-     * Creates a DBUtil object based on servlet context configurations.
+     * Gives the DBUtil of the credential store database. All callers share a single instance backed by a bounded
+     * connection pool, see {@link #configureCredentialStorePool(BasicDataSource, String)}.
      *
      * @return DBUtil object.
      * @throws Exception
@@ -312,21 +356,57 @@ public class DBUtil {
      */
     public static DBUtil getCredentialStoreDBUtil() throws ApplicationSettingsException, IllegalAccessException,
             ClassNotFoundException, InstantiationException {
-        String jdbcUrl = ServerSettings.getCredentialStoreDBURL();
-        String userName = ServerSettings.getCredentialStoreDBUser();
-        String password = ServerSettings.getCredentialStoreDBPassword();
-        String driverName = ServerSettings.getCredentialStoreDBDriver();
-
-        StringBuilder stringBuilder = new StringBuilder("Starting credential store, connecting to database - ");
-        stringBuilder.append(jdbcUrl).append(" DB user - ").append(userName).append(" driver name - ")
-                .append(driverName);
-
-        log.debug(stringBuilder.toString());
-
-        DBUtil dbUtil = new DBUtil(jdbcUrl, userName, password, driverName);
-        dbUtil.init();
+        if (credentialStoreDBUtil == null) {
+            synchronized (DBUtil.class) {
+                if (credentialStoreDBUtil == null) {
+                    String jdbcUrl = ServerSettings.getCredentialStoreDBURL();
+                    String userName = ServerSettings.getCredentialStoreDBUser();
+                    String password = ServerSettings.getCredentialStoreDBPassword();
+                    String driverName = ServerSettings.getCredentialStoreDBDriver();
+
+                    StringBuilder stringBuilder = new StringBuilder("Starting credential store, connecting to database - ");
+                    stringBuilder.append(jdbcUrl).append(" DB user - ").append(userName).append(" driver name - ")
+                            .append(driverName);
+
+                    log.debug(stringBuilder.toString());
+
+                    DBUtil dbUtil = new DBUtil(jdbcUrl, userName, password, driverName);
+                    if (Boolean.parseBoolean(ServerSettings.getSetting("credential.store.jdbc.pool.enabled", "true"))) {
+                        configureCredentialStorePool(dbUtil.enableConnectionPool(), driverName);
+                    }
+                    credentialStoreDBUtil = dbUtil;
+                }
+            }
+        }
+        return credentialStoreDBUtil;
+    }
 
-        return dbUtil;
+    /**
+     * Applies the credential store connection pool settings (credential.store.jdbc.pool.*). Connections are validated
+     * when borrowed and while idle, idle connections beyond min.idle are closed after idle.timeout.ms.
+     */
+    public static void configureCredentialStorePool(BasicDataSource dataSource, String driverName) {
+        int maxSize = ServerSettings.getIntSetting("credential.store.jdbc.pool.max.size", 20);
+        dataSource.setMaxActive(maxSize);
+        dataSource.setMaxIdle(maxSize);
+        dataSource.setMinIdle(ServerSettings.getIntSetting("credential.store.jdbc.pool.min.idle", 2));
+        dataSource.setMaxWait(ServerSettings.getLongSetting("credential.store.jdbc.pool.borrow.timeout.ms", 30000));
+        dataSource.setMinEvictableIdleTimeMillis(
+                ServerSettings.getLongSetting("credential.store.jdbc.pool.idle.timeout.ms", 600000));
+        dataSource.setTimeBetweenEvictionRunsMillis(60000);
+
+        int statementCacheSize = ServerSettings.getIntSetting("credential.store.jdbc.pool.statement.cache.size", 32);
+        dataSource.setPoolPreparedStatements(statementCacheSize > 0);
+        dataSource.setMaxOpenPreparedStatements(statementCacheSize);
+
+        String validationQuery = ServerSettings.getSetting("credential.store.jdbc.pool.validation.query", "");
+        if (validationQuery.isEmpty()) {
+            validationQuery = driverName.startsWith("org.apache.derby") ? "VALUES 1" : "SELECT 1";
+        }
+        dataSource.setValidationQuery(validationQuery);
+        dataSource.setValidationQueryTimeout(5);
+        dataSource.setTestOnBorrow(true);
+        dataSource.setTestWhileIdle(true);
     }
 
 }
@@ -175,11 +175,11 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static boolean getRabbitmqDurableQueue(){
-        return Boolean.valueOf(getSetting(RABBITMQ_DURABLE_QUEUE, "false"));
+        return getBooleanSetting(RABBITMQ_DURABLE_QUEUE, false);
     }
 
     public static int getRabbitmqPrefetchCount(){
-        return Integer.valueOf(getSetting(RABBITMQ_PREFETCH_COUNT, "200"));
+        return getIntSetting(RABBITMQ_PREFETCH_COUNT, 200);
     }
 
     public static String getDefaultUserPassword() throws ApplicationSettingsException {
@@ -224,11 +224,7 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static boolean isAPIServerTLSEnabled() {
-        try {
-            return Boolean.parseBoolean(getSetting(API_SERVER_TLS_ENABLED));
-        } catch (ApplicationSettingsException e) {
-            return false;
-        }
+        return getBooleanSetting(API_SERVER_TLS_ENABLED, false);
     }
 
     public static String getApiServerKeystorePasswd() throws ApplicationSettingsException{
@@ -264,11 +260,11 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static int getMyProxyLifetime() throws ApplicationSettingsException {
-        return Integer.parseInt(getSetting(MY_PROXY_LIFETIME));
+        return getIntSetting(MY_PROXY_LIFETIME);
     }
 
     public static boolean isEmbeddedZK() {
-        return Boolean.parseBoolean(getSetting(EMBEDDED_ZK, "true"));
+        return getBooleanSetting(EMBEDDED_ZK, true);
     }
 
     public static String getIp() {
@@ -285,13 +281,7 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static int getEnactmentThreadPoolSize() {
-        String threadPoolSize = null;
-        try {
-            threadPoolSize = getSetting(ENACTMENT_THREAD_POOL_SIZE);
-        } catch (ApplicationSettingsException e) {
-            return DEFAULT_ENACTMENT_THREAD_POOL_SIZE;
-        }
-        return Integer.valueOf(threadPoolSize);
+        return getIntSetting(ENACTMENT_THREAD_POOL_SIZE, DEFAULT_ENACTMENT_THREAD_POOL_SIZE);
     }
 
     public static String getWorkflowParser() throws ApplicationSettingsException {
@@ -300,7 +290,7 @@ public class ServerSettings extends ApplicationSettings {
 
 
     public static int getEmailMonitorPeriod() throws ApplicationSettingsException {
-        return Integer.valueOf(getSetting(EMAIL_BASED_MONITORING_PERIOD, "100000"));
+        return getIntSetting(EMAIL_BASED_MONITORING_PERIOD, 100000);
 
     }
 
@@ -325,11 +315,11 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static boolean isEmailBasedNotificationEnable() {
-        return Boolean.valueOf(getSetting(ENABLE_EMAIL_BASED_MONITORING, "false"));
+        return getBooleanSetting(ENABLE_EMAIL_BASED_MONITORING, false);
     }
 
     public static boolean isAPISecured() throws ApplicationSettingsException {
-        return Boolean.valueOf(getSetting(Constants.IS_API_SECURED));
+        return getBooleanSetting(Constants.IS_API_SECURED);
     }
 
     public static String getRemoteAuthzServerUrl() throws ApplicationSettingsException {
@@ -357,7 +347,7 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static int getZookeeperTimeout() {
-        return Integer.valueOf(getSetting(ZOOKEEPER_TIMEOUT, "3000"));
+        return getIntSetting(ZOOKEEPER_TIMEOUT, 3000);
     }
 
     public static String getGFacServerName() throws ApplicationSettingsException {
@@ -397,19 +387,19 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static int getOrchestratorServerPort() throws ApplicationSettingsException {
-        return Integer.valueOf(getSetting(ORCHESTRATOR_SERVER_PORT));
+        return getIntSetting(ORCHESTRATOR_SERVER_PORT);
     }
 
     public static boolean isTLSEnabled() throws ApplicationSettingsException {
-        return Boolean.valueOf(getSetting(Constants.IS_TLS_ENABLED));
+        return getBooleanSetting(Constants.IS_TLS_ENABLED);
     }
 
     public static boolean isSharingTLSEnabled() throws ApplicationSettingsException {
-        return Boolean.valueOf(getSetting(Constants.IS_SHARING_TLS_ENABLED));
+        return getBooleanSetting(Constants.IS_SHARING_TLS_ENABLED);
     }
 
     public static int getTLSServerPort() throws ApplicationSettingsException {
-        return Integer.valueOf(getSetting(Constants.TLS_SERVER_PORT));
+        return getIntSetting(Constants.TLS_SERVER_PORT);
     }
 
     public static String getKeyStorePath() throws ApplicationSettingsException {
@@ -421,7 +411,7 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static int getTLSClientTimeout() throws ApplicationSettingsException {
-        return Integer.valueOf(getSetting(Constants.TLS_CLIENT_TIMEOUT));
+        return getIntSetting(Constants.TLS_CLIENT_TIMEOUT);
     }
 
     public static String getSecurityManagerClassName() throws ApplicationSettingsException {
@@ -433,11 +423,11 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static boolean isAuthzCacheEnabled() throws ApplicationSettingsException {
-        return Boolean.valueOf(getSetting(Constants.AUTHZ_CACHE_ENABLED));
+        return getBooleanSetting(Constants.AUTHZ_CACHE_ENABLED);
     }
 
     public static int getCacheSize() throws ApplicationSettingsException {
-        return Integer.valueOf(getSetting(Constants.IN_MEMORY_CACHE_SIZE));
+        return getIntSetting(Constants.IN_MEMORY_CACHE_SIZE);
     }
 
     public static String getLocalDataLocation() {
@@ -445,10 +435,10 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static Boolean isEnableSharing() throws ApplicationSettingsException {
-        return Boolean.parseBoolean(getSetting(ENABLE_SHARING));
+        return getBooleanSetting(ENABLE_SHARING);
     }
     public static boolean isRunningOnAws() {
-        return Boolean.valueOf(getSetting(IS_RUNNING_ON_AWS, "false"));
+        return getBooleanSetting(IS_RUNNING_ON_AWS, false);
     }
 
     public static String getKafkaBrokerList() {
@@ -460,7 +450,7 @@ public class ServerSettings extends ApplicationSettings {
     }
 
     public static boolean isEnabledKafkaLogging() {
-        return Boolean.valueOf(getSetting(ENABLE_KAFKA_LOGGING, "false"));
+        return getBooleanSetting(ENABLE_KAFKA_LOGGING, false);
     }
 
     public static void setServerRoles(String[] roles) {
@@ -488,11 +478,11 @@ public class ServerSettings extends ApplicationSettings {
     }
     
     public static int getAuroraSchedulerTimeout() throws ApplicationSettingsException {
-    	return Integer.valueOf(getSetting(AURORA_SCHEDULER_CONNECT_TIMEOUT_MS));
+    	return getIntSetting(AURORA_SCHEDULER_CONNECT_TIMEOUT_MS);
     }
 
     public static int getSessionCacheAccessTimeout() {
-        return Integer.valueOf(getSetting(SESSION_CACHE_ACCESS_TIME_OUT, "30"));
+        return getIntSetting(SESSION_CACHE_ACCESS_TIME_OUT, 30);
     }
 
     public static String getSharingRegistryPort() {
@@ -21,6 +21,14 @@ package org.apache.airavata.common.utils;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
+import org.apache.airavata.common.exception.ApplicationSettingsException;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * User: AmilaJ (amilaj@apache.org)
@@ -38,4 +46,119 @@ public class ApplicationSettingsTest extends TestCase {
     }
 
 
+    public void testReferencesResolved() throws Exception {
+        withSettingsFile("host=localhost\nport=8930\nurl=http://${host}:${port}/${missing}\nloop=${loop}\n",
+                settingsFile -> {
+                    Assert.assertEquals("http://localhost:8930/${missing}", ApplicationSettings.getSetting("url"));
+                    Assert.assertEquals("${loop}", ApplicationSettings.getSetting("loop"));
+
+                    ApplicationSettings.getProperties().setProperty("port", "9930");
+                    Assert.assertEquals("http://localhost:9930/${missing}", ApplicationSettings.getSetting("url"));
+
+                    System.setProperty("host", "example.org");
+                    try {
+                        Assert.assertEquals("example.org", ApplicationSettings.getSetting("host"));
+                    } finally {
+                        System.clearProperty("host");
+                    }
+                });
+    }
+
+    public void testTypedSettings() throws Exception {
+        withSettingsFile("port=8930\ntls=true\n", settingsFile -> {
+            Assert.assertEquals(8930, ApplicationSettings.getIntSetting("port"));
+            Assert.assertEquals(8930, ApplicationSettings.getIntSetting("port", 1));
+            Assert.assertEquals(8930L, ApplicationSettings.getLongSetting("port", 1L));
+            Assert.assertEquals(1, ApplicationSettings.getIntSetting("missing", 1));
+            Assert.assertTrue(ApplicationSettings.getBooleanSetting("tls"));
+            Assert.assertFalse(ApplicationSettings.getBooleanSetting("missing", false));
+            try {
+                ApplicationSettings.getIntSetting("missing");
+                Assert.fail("Missing setting should not have a value");
+            } catch (ApplicationSettingsException e) {
+                // expected
+            }
+
+            Map<String, String> merged = new HashMap<String, String>();
+            merged.put("port", "9930");
+            ApplicationSettings.mergeSettings(merged);
+            Assert.assertEquals(9930, ApplicationSettings.getIntSetting("port"));
+
+            System.setProperty("tls", "false");
+            try {
+                Assert.assertFalse(ApplicationSettings.getBooleanSetting("tls"));
+            } finally {
+                System.clearProperty("tls");
+            }
+        });
+    }
+
+    public void testMissingSettings() throws Exception {
+        withSettingsFile("port=8930\n", settingsFile -> {
+            Assert.assertEquals("default", ApplicationSettings.getSetting("missing", "default"));
+            Assert.assertEquals(1, ApplicationSettings.getIntSetting("missing", 1));
+            Assert.assertEquals(2L, ApplicationSettings.getLongSetting("missing", 2L));
+            Assert.assertTrue(ApplicationSettings.getBooleanSetting("missing", true));
+
+            // a missing setting is found once it is set
+            ApplicationSettings.getProperties().setProperty("missing", "10");
+            Assert.assertEquals("10", ApplicationSettings.getSetting("missing", "default"));
+            Assert.assertEquals(10, ApplicationSettings.getIntSetting("missing", 1));
+            Assert.assertEquals(10L, ApplicationSettings.getLongSetting("missing", 2L));
+
+            System.setProperty("missing.flag", "false");
+            try {
+                Assert.assertFalse(ApplicationSettings.getBooleanSetting("missing.flag", true));
+            } finally {
+                System.clearProperty("missing.flag");
+            }
+            Assert.assertTrue(ApplicationSettings.getBooleanSetting("missing.flag", true));
+        });
+    }
+
+    public void testReloadIfModified() throws Exception {
+        withSettingsFile("host=localhost\nport=8930\n", settingsFile -> {
+            ApplicationSettings.mergeSettingsCommandLineArgs(new String[]{"--host=example.org"});
+            Assert.assertFalse(ApplicationSettings.reloadIfModified());
+
+            writeSettings(settingsFile, "host=localhost\nport=9930\n");
+            Assert.assertTrue(settingsFile.setLastModified(settingsFile.lastModified() + 2000));
+            Assert.assertTrue(ApplicationSettings.reloadIfModified());
+            Assert.assertEquals(9930, ApplicationSettings.getIntSetting("port"));
+            Assert.assertEquals("example.org", ApplicationSettings.getSetting("host"));
+            Assert.assertFalse(ApplicationSettings.reloadIfModified());
+        });
+    }
+
+    private interface SettingsTest {
+        void run(File settingsFile) throws Exception;
+    }
+
+    private static void withSettingsFile(String settings, SettingsTest test) throws Exception {
+        File configDir = Files.createTempDirectory("airavata-settings").toFile();
+        File settingsFile = new File(configDir, ApplicationSettings.SERVER_PROPERTIES);
+        writeSettings(settingsFile, settings);
+        ApplicationSettings previousInstance = ApplicationSettings.INSTANCE;
+        String previousConfigDir = System.getProperty(ApplicationSettings.AIRAVATA_CONFIG_DIR);
+        System.setProperty(ApplicationSettings.AIRAVATA_CONFIG_DIR, configDir.getAbsolutePath());
+        try {
+            ApplicationSettings.setInstance(new ApplicationSettings());
+            test.run(settingsFile);
+        } finally {
+            ApplicationSettings.setInstance(previousInstance);
+            if (previousConfigDir == null) {
+                System.clearProperty(ApplicationSettings.AIRAVATA_CONFIG_DIR);
+            } else {
+                System.setProperty(ApplicationSettings.AIRAVATA_CONFIG_DIR, previousConfigDir);
+            }
+            settingsFile.delete();
+            configDir.delete();
+        }
+    }
+
+    private static void writeSettings(File settingsFile, String settings) throws IOException {
+        try (FileWriter writer = new FileWriter(settingsFile)) {
+            writer.write(settings);
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.common.utils;
+
+import org.apache.commons.dbcp.BasicDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class DBUtilTest {
+
+    private static final String JDBC_URL = "jdbc:derby:memory:db_util_test;create=true";
+    private static final String DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+
+    private DBUtil dbUtil;
+
+    @Before
+    public void setUp() throws Exception {
+        dbUtil = new DBUtil(JDBC_URL, "airavata", "airavata", DRIVER);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        dbUtil.closeConnectionPool();
+        System.clearProperty("credential.store.jdbc.pool.max.size");
+        System.clearProperty("credential.store.jdbc.pool.borrow.timeout.ms");
+    }
+
+    @Test
+    public void testConnectionsWithoutPool() throws Exception {
+        Assert.assertNull(dbUtil.getConnectionPool());
+        Connection connection = dbUtil.getConnection();
+        Assert.assertFalse(connection.getAutoCommit());
+        connection.close();
+        Assert.assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void testPooledConnectionsAreReused() throws Exception {
+        BasicDataSource pool = dbUtil.enableConnectionPool();
+        Assert.assertSame(pool, dbUtil.enableConnectionPool());
+        DBUtil.configureCredentialStorePool(pool, DRIVER);
+
+        for (int i = 0; i < 10; i++) {
+            Connection connection = dbUtil.getConnection();
+            Assert.assertFalse(connection.getAutoCommit());
+            connection.close();
+        }
+        Assert.assertEquals(1, pool.getNumIdle());
+        Assert.assertEquals(0, pool.getNumActive());
+        Assert.assertEquals("VALUES 1", pool.getValidationQuery());
+        Assert.assertTrue(pool.getTestOnBorrow());
+    }
+
+    @Test
+    public void testPoolIsBounded() throws Exception {
+        System.setProperty("credential.store.jdbc.pool.max.size", "1");
+        System.setProperty("credential.store.jdbc.pool.borrow.timeout.ms", "100");
+        DBUtil.configureCredentialStorePool(dbUtil.enableConnectionPool(), DRIVER);
+
+        Connection connection = dbUtil.getConnection();
+        long start = System.currentTimeMillis();
+        try {
+            dbUtil.getConnection();
+            Assert.fail("The only connection of the pool is in use");
+        } catch (SQLException expected) {
+        }
+        Assert.assertTrue(System.currentTimeMillis() - start >= 100);
+
+        connection.close();
+        dbUtil.getConnection().close();
+    }
+}
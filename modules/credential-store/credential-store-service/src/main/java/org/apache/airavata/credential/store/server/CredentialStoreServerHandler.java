@@ -65,10 +65,19 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
         log.debug("Starting credential store, connecting to database - " + jdbcUrl + " DB user - " + userName + " driver name - " + driverName);
         CredentialStoreInitUtil.initializeDB();
 
-        dbUtil = new DBUtil(jdbcUrl, userName, password, driverName);
+        dbUtil = DBUtil.getCredentialStoreDBUtil();
         sshCredentialWriter = new SSHCredentialWriter(dbUtil);
         certificateCredentialWriter = new CertificateCredentialWriter(dbUtil);
         credentialReader = new CredentialReaderImpl(dbUtil);
+
+        try {
+            int migrated = credentialReader.migrateCredentialMetadata();
+            if (migrated > 0) {
+                log.info("Migrated metadata of " + migrated + " credentials");
+            }
+        } catch (CredentialStoreException e) {
+            log.error("Unable to migrate credential metadata. Credential listings may be incomplete", e);
+        }
     }
 
     @Override
@@ -288,22 +297,11 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
     public Map<String, String> getAllSSHKeysForUser(String username) throws org.apache.airavata.credential.store.exception.CredentialStoreException, TException {
         Map<String, String> sshKeyMap = new HashMap<>();
         try {
-            List<Credential> allCredentials = credentialReader.getAllCredentials();
-            if (allCredentials != null && !allCredentials.isEmpty()){
-                for (Credential credential : allCredentials) {
-                    if (credential instanceof org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential
-                            && !(credential instanceof org.apache.airavata.credential.store.credential.impl.password.PasswordCredential)) {
-                        org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential sshCredential = (org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential) credential;
-                        String portalUserName = sshCredential.getPortalUserName();
-                        if (portalUserName != null && sshCredential.getCredentialOwnerType() == CredentialOwnerType.USER){
-                            if (portalUserName.equals(username)) {
-                                byte[] publicKey = sshCredential.getPublicKey();
-                                if (publicKey != null) {
-                                    sshKeyMap.put(sshCredential.getToken(), new String(publicKey));
-                                }
-                            }
-                        }
-                    }
+            List<CredentialSummary> summaries = credentialReader.getCredentialSummaries(null, username,
+                    SummaryType.SSH, CredentialOwnerType.USER, 0, -1);
+            for (CredentialSummary summary : summaries) {
+                if (summary.getPublicKey() != null) {
+                    sshKeyMap.put(summary.getToken(), summary.getPublicKey());
                 }
             }
         } catch (CredentialStoreException e) {
@@ -317,17 +315,11 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
     public Map<String, String> getAllSSHKeysForGateway(String gatewayId) throws org.apache.airavata.credential.store.exception.CredentialStoreException, TException {
         Map<String, String> sshKeyMap = new HashMap<>();
         try {
-            List<Credential> allCredentials = credentialReader.getAllCredentialsPerGateway(gatewayId);
-            if (allCredentials != null && !allCredentials.isEmpty()){
-                for (Credential credential : allCredentials) {
-                    if (credential instanceof org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential
-                            && !(credential instanceof org.apache.airavata.credential.store.credential.impl.password.PasswordCredential)) {
-                        org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential sshCredential = (org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential) credential;
-                        byte[] publicKey = sshCredential.getPublicKey();
-                        if (publicKey != null && sshCredential.getCredentialOwnerType() == CredentialOwnerType.GATEWAY) {
-                            sshKeyMap.put(sshCredential.getToken(), new String(publicKey));
-                        }
-                    }
+            List<CredentialSummary> summaries = credentialReader.getCredentialSummaries(gatewayId, null,
+                    SummaryType.SSH, CredentialOwnerType.GATEWAY, 0, -1);
+            for (CredentialSummary summary : summaries) {
+                if (summary.getPublicKey() != null) {
+                    sshKeyMap.put(summary.getToken(), summary.getPublicKey());
                 }
             }
         } catch (CredentialStoreException e) {
@@ -341,33 +333,13 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
     @Override
     public List<CredentialSummary> getAllCredentialSummaryForGateway(SummaryType type, String gatewayId) throws org.apache.airavata.credential.store.exception.CredentialStoreException, TException {
         if(type.equals(SummaryType.SSH)){
-            Map<String, String> sshKeyMap = new HashMap<>();
-            List<CredentialSummary> summaryList = new ArrayList<>();
             try {
-                List<Credential> allCredentials = credentialReader.getAllCredentialsPerGateway(gatewayId);
-                if (allCredentials != null && !allCredentials.isEmpty()){
-                    for (Credential credential : allCredentials) {
-                        if (credential instanceof org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential
-                                && !(credential instanceof org.apache.airavata.credential.store.credential.impl
-                                .password.PasswordCredential)
-                                && credential.getCredentialOwnerType() == CredentialOwnerType.GATEWAY) {
-                            org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential sshCredential = (org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential) credential;
-                            CredentialSummary sshCredentialSummary = new CredentialSummary();
-                            sshCredentialSummary.setType(SummaryType.SSH);
-                            sshCredentialSummary.setToken(sshCredential.getToken());
-                            sshCredentialSummary.setUsername(sshCredential.getPortalUserName());
-                            sshCredentialSummary.setGatewayId(sshCredential.getGateway());
-                            sshCredentialSummary.setDescription(sshCredential.getDescription());
-                            sshCredentialSummary.setPublicKey(new String(sshCredential.getPublicKey()));
-                            summaryList.add(sshCredentialSummary);
-                        }
-                    }
-                }
+                return credentialReader.getCredentialSummaries(gatewayId, null, SummaryType.SSH,
+                        CredentialOwnerType.GATEWAY, 0, -1);
             } catch (CredentialStoreException e) {
                 log.error("Error occurred while retrieving credential Summary", e);
                 throw new org.apache.airavata.credential.store.exception.CredentialStoreException("Error occurred while retrieving credential Summary");
             }
-            return summaryList;
         }else{
             log.info("Summay Type"+ type.toString() + " not supported for gateway id - " + gatewayId);
             return null;
@@ -377,38 +349,13 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
     @Override
     public List<CredentialSummary> getAllCredentialSummaryForUserInGateway(SummaryType type, String gatewayId, String userId) throws org.apache.airavata.credential.store.exception.CredentialStoreException, TException {
         if(type.equals(SummaryType.SSH)){
-            Map<String, String> sshKeyMap = new HashMap<>();
-            List<CredentialSummary> summaryList = new ArrayList<>();
             try {
-                List<Credential> allCredentials = credentialReader.getAllCredentials();
-                if (allCredentials != null && !allCredentials.isEmpty()){
-                    for (Credential credential : allCredentials) {
-                        if (credential instanceof org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential
-                                && !(credential instanceof org.apache.airavata.credential.store.credential.impl.password.PasswordCredential)) {
-                            org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential sshCredential = (org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential) credential;
-                            String portalUserName = sshCredential.getPortalUserName();
-                            String gateway = sshCredential.getGateway();
-                            if (portalUserName != null && gateway != null){
-                                if (portalUserName.equals(userId) && gateway.equals(gatewayId) && sshCredential.getCredentialOwnerType() == CredentialOwnerType.USER) {
-                                    org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential sshCredentialKey = (org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential) credential;
-                                    CredentialSummary sshCredentialSummary = new CredentialSummary();
-                                    sshCredentialSummary.setType(SummaryType.SSH);
-                                    sshCredentialSummary.setToken(sshCredentialKey.getToken());
-                                    sshCredentialSummary.setUsername(sshCredentialKey.getPortalUserName());
-                                    sshCredentialSummary.setGatewayId(sshCredentialKey.getGateway());
-                                    sshCredentialSummary.setDescription(sshCredentialKey.getDescription());
-                                    sshCredentialSummary.setPublicKey(new String(sshCredentialKey.getPublicKey()));
-                                    summaryList.add(sshCredentialSummary);
-                                }
-                            }
-                        }
-                    }
-                }
+                return credentialReader.getCredentialSummaries(gatewayId, userId, SummaryType.SSH,
+                        CredentialOwnerType.USER, 0, -1);
             } catch (CredentialStoreException e) {
                 log.error("Error occurred while retrieving credential Summary", e);
                 throw new org.apache.airavata.credential.store.exception.CredentialStoreException("Error occurred while retrieving credential Summary");
             }
-            return summaryList;
         }else{
             log.info("Summay Type"+ type.toString() + " not supported for user Id - " + userId + " and "
                     + "gateway id - " + gatewayId);
@@ -421,14 +368,10 @@ public class CredentialStoreServerHandler implements CredentialStoreService.Ifac
     public Map<String, String> getAllPWDCredentialsForGateway(String gatewayId) throws org.apache.airavata.credential.store.exception.CredentialStoreException, TException {
         Map<String, String> pwdCredMap = new HashMap<>();
         try {
-            List<Credential> allCredentials = credentialReader.getAllCredentialsPerGateway(gatewayId);
-            if (allCredentials != null && !allCredentials.isEmpty()){
-                for (Credential credential : allCredentials) {
-                    if (credential instanceof org.apache.airavata.credential.store.credential.impl.password.PasswordCredential) {
-                        org.apache.airavata.credential.store.credential.impl.password.PasswordCredential pwdCredential = (org.apache.airavata.credential.store.credential.impl.password.PasswordCredential) credential;
-                        pwdCredMap.put(pwdCredential.getToken(),pwdCredential.getDescription() == null ? "" : pwdCredential.getDescription());
-                    }
-                }
+            List<CredentialSummary> summaries = credentialReader.getCredentialSummaries(gatewayId, null,
+                    SummaryType.PASSWD, null, 0, -1);
+            for (CredentialSummary summary : summaries) {
+                pwdCredMap.put(summary.getToken(), summary.getDescription() == null ? "" : summary.getDescription());
             }
         } catch (CredentialStoreException e) {
             log.error("Error occurred while retrieving credentials", e);
@@ -21,6 +21,9 @@ package org.apache.airavata.credential.store.store;
 
 import org.apache.airavata.credential.store.credential.AuditInfo;
 import org.apache.airavata.credential.store.credential.Credential;
+import org.apache.airavata.credential.store.credential.CredentialOwnerType;
+import org.apache.airavata.model.credential.store.CredentialSummary;
+import org.apache.airavata.model.credential.store.SummaryType;
 
 import java.util.List;
 
@@ -74,6 +77,23 @@ public interface CredentialReader {
     public List<Credential> getAllCredentialsPerGateway(String gatewayId) throws CredentialStoreException;
 
     public List<Credential> getAllCredentialsPerUser(String userName) throws CredentialStoreException;
+
+    /**
+     * Lists credential metadata without decrypting any credential. Null filters match everything.
+     *
+     * @param gatewayId The gateway id
+     * @param portalUserId The portal user who owns the credentials
+     * @param type The credential type
+     * @param ownerType Whether the credentials are owned by the gateway or a user
+     * @param offset Number of matching records to skip
+     * @param limit Maximum number of records to return, a negative value returns all records
+     * @return Credential summaries ordered by gateway and token
+     * @throws CredentialStoreException If an error occurred while retrieving the summaries.
+     */
+    List<CredentialSummary> getCredentialSummaries(String gatewayId, String portalUserId, SummaryType type,
+                                                   CredentialOwnerType ownerType, int offset, int limit)
+            throws CredentialStoreException;
+
     /**
      * Updates the community user contact email address.
      *
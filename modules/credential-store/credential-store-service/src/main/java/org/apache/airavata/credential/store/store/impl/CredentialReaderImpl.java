@@ -25,11 +25,14 @@ import org.apache.airavata.common.utils.DBUtil;
 import org.apache.airavata.common.utils.DefaultKeyStorePasswordCallback;
 import org.apache.airavata.credential.store.credential.CommunityUser;
 import org.apache.airavata.credential.store.credential.Credential;
+import org.apache.airavata.credential.store.credential.CredentialOwnerType;
 import org.apache.airavata.credential.store.credential.impl.certificate.CertificateAuditInfo;
 import org.apache.airavata.credential.store.credential.impl.certificate.CertificateCredential;
 import org.apache.airavata.credential.store.store.CredentialReader;
 import org.apache.airavata.credential.store.store.impl.db.CredentialsDAO;
 import org.apache.airavata.credential.store.store.CredentialStoreException;
+import org.apache.airavata.model.credential.store.CredentialSummary;
+import org.apache.airavata.model.credential.store.SummaryType;
 
 import java.io.Serializable;
 import java.sql.Connection;
@@ -101,6 +104,36 @@ public class CredentialReaderImpl implements CredentialReader, Serializable {
         return null;
     }
 
+    @Override
+    public List<CredentialSummary> getCredentialSummaries(String gatewayId, String portalUserId, SummaryType type,
+                                                          CredentialOwnerType ownerType, int offset, int limit)
+            throws CredentialStoreException {
+        Connection connection = getConnection();
+
+        try {
+            return this.credentialsDAO.getCredentialSummaries(gatewayId, portalUserId, type, ownerType, offset, limit,
+                    connection);
+        } finally {
+            DBUtil.cleanup(connection);
+        }
+    }
+
+    /**
+     * Fills the plaintext metadata columns of credentials stored before they existed. Safe to run on every startup;
+     * only credentials without metadata are read.
+     *
+     * @return Number of credentials migrated.
+     */
+    public int migrateCredentialMetadata() throws CredentialStoreException {
+        Connection connection = getConnection();
+
+        try {
+            return this.credentialsDAO.migrateCredentialMetadata(connection);
+        } finally {
+            DBUtil.cleanup(connection);
+        }
+    }
+
     public String getPortalUser(String gatewayName, String tokenId) throws CredentialStoreException {
 
         Connection connection = getConnection();
@@ -24,7 +24,12 @@ import org.apache.airavata.common.utils.KeyStorePasswordCallback;
 import org.apache.airavata.common.utils.SecurityUtil;
 import org.apache.airavata.credential.store.credential.Credential;
 import org.apache.airavata.credential.store.credential.CredentialOwnerType;
+import org.apache.airavata.credential.store.credential.impl.certificate.CertificateCredential;
+import org.apache.airavata.credential.store.credential.impl.password.PasswordCredential;
+import org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential;
 import org.apache.airavata.credential.store.store.CredentialStoreException;
+import org.apache.airavata.model.credential.store.CredentialSummary;
+import org.apache.airavata.model.credential.store.SummaryType;
 
 import java.io.*;
 import java.security.GeneralSecurityException;
@@ -85,7 +90,7 @@ public class CredentialsDAO extends ParentDAO {
     public void addCredentials(String gatewayId, Credential credential, Connection connection)
             throws CredentialStoreException {
 
-        String sql = "INSERT INTO CREDENTIALS (GATEWAY_ID, TOKEN_ID, CREDENTIAL, PORTAL_USER_ID, TIME_PERSISTED, DESCRIPTION, CREDENTIAL_OWNER_TYPE) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO CREDENTIALS (GATEWAY_ID, TOKEN_ID, CREDENTIAL, PORTAL_USER_ID, TIME_PERSISTED, DESCRIPTION, CREDENTIAL_OWNER_TYPE, CREDENTIAL_TYPE, PUBLIC_KEY) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         PreparedStatement preparedStatement = null;
 
@@ -108,6 +113,8 @@ public class CredentialsDAO extends ParentDAO {
             preparedStatement.setString(6,credential.getDescription());
 
             preparedStatement.setString(7, credential.getCredentialOwnerType().toString());
+            preparedStatement.setString(8, getCredentialType(credential).name());
+            preparedStatement.setString(9, getPublicKey(credential));
 
             preparedStatement.executeUpdate();
 
@@ -164,7 +171,7 @@ public class CredentialsDAO extends ParentDAO {
     public void updateCredentials(String gatewayId, Credential credential, Connection connection)
             throws CredentialStoreException {
 
-        String sql = "UPDATE CREDENTIALS set CREDENTIAL = ?, PORTAL_USER_ID = ?, TIME_PERSISTED = ?, DESCRIPTION = ?, CREDENTIAL_OWNER_TYPE = ? where GATEWAY_ID = ? and TOKEN_ID = ?";
+        String sql = "UPDATE CREDENTIALS set CREDENTIAL = ?, PORTAL_USER_ID = ?, TIME_PERSISTED = ?, DESCRIPTION = ?, CREDENTIAL_OWNER_TYPE = ?, CREDENTIAL_TYPE = ?, PUBLIC_KEY = ? where GATEWAY_ID = ? and TOKEN_ID = ?";
 
         PreparedStatement preparedStatement = null;
 
@@ -179,8 +186,10 @@ public class CredentialsDAO extends ParentDAO {
             preparedStatement.setTimestamp(3, new Timestamp(new java.util.Date().getTime()));
             preparedStatement.setString(4, credential.getDescription());
             preparedStatement.setString(5, credential.getCredentialOwnerType().toString());
-            preparedStatement.setString(6, gatewayId);
-            preparedStatement.setString(7, credential.getToken());
+            preparedStatement.setString(6, getCredentialType(credential).name());
+            preparedStatement.setString(7, getPublicKey(credential));
+            preparedStatement.setString(8, gatewayId);
+            preparedStatement.setString(9, credential.getToken());
 
 
             preparedStatement.executeUpdate();
@@ -392,6 +401,215 @@ public class CredentialsDAO extends ParentDAO {
         return credentialList;
     }
 
+    /**
+     * Lists credential metadata from the plaintext CREDENTIAL_TYPE, PORTAL_USER_ID, DESCRIPTION, PUBLIC_KEY and
+     * TIME_PERSISTED columns. Credentials are never de-serialized or decrypted.
+     *
+     * @param gatewayId The gateway id or null for all gateways
+     * @param portalUserId The portal user or null for all users
+     * @param type The credential type or null for all types
+     * @param ownerType The owner type or null for all owners
+     * @param offset Number of matching records to skip
+     * @param limit Maximum number of records to return, a negative value returns all records
+     * @param connection The database connection
+     * @return Summaries ordered by gateway and token
+     * @throws CredentialStoreException If an error occurred while retrieving the summaries.
+     */
+    public List<CredentialSummary> getCredentialSummaries(String gatewayId, String portalUserId, SummaryType type,
+                                                          CredentialOwnerType ownerType, int offset, int limit,
+                                                          Connection connection) throws CredentialStoreException {
+
+        List<CredentialSummary> summaries = new ArrayList<CredentialSummary>();
+
+        StringBuilder sql = new StringBuilder("SELECT GATEWAY_ID, TOKEN_ID, PORTAL_USER_ID, TIME_PERSISTED, DESCRIPTION, " +
+                "CREDENTIAL_TYPE, PUBLIC_KEY FROM CREDENTIALS WHERE CREDENTIAL_TYPE IS NOT NULL");
+        List<String> parameters = new ArrayList<String>();
+        if (gatewayId != null) {
+            sql.append(" AND GATEWAY_ID = ?");
+            parameters.add(gatewayId);
+        }
+        if (portalUserId != null) {
+            sql.append(" AND PORTAL_USER_ID = ?");
+            parameters.add(portalUserId);
+        }
+        if (type != null) {
+            sql.append(" AND CREDENTIAL_TYPE = ?");
+            parameters.add(type.name());
+        }
+        if (ownerType != null) {
+            sql.append(" AND CREDENTIAL_OWNER_TYPE = ?");
+            parameters.add(ownerType.name());
+        }
+        sql.append(" ORDER BY GATEWAY_ID, TOKEN_ID");
+
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+
+        try {
+            preparedStatement = connection.prepareStatement(sql.toString());
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setString(i + 1, parameters.get(i));
+            }
+            preparedStatement.setMaxRows(limit < 0 ? 0 : offset + limit);
+
+            resultSet = preparedStatement.executeQuery();
+
+            int row = 0;
+            while (resultSet.next()) {
+                if (row++ < offset) {
+                    continue;
+                }
+                CredentialSummary summary = new CredentialSummary();
+                summary.setType(SummaryType.valueOf(resultSet.getString("CREDENTIAL_TYPE")));
+                summary.setGatewayId(resultSet.getString("GATEWAY_ID"));
+                summary.setToken(resultSet.getString("TOKEN_ID"));
+                summary.setUsername(resultSet.getString("PORTAL_USER_ID"));
+                summary.setDescription(resultSet.getString("DESCRIPTION"));
+                summary.setPublicKey(resultSet.getString("PUBLIC_KEY"));
+                Timestamp persistedTime = resultSet.getTimestamp("TIME_PERSISTED");
+                if (persistedTime != null) {
+                    summary.setPersistedTime(persistedTime.getTime());
+                }
+                summaries.add(summary);
+            }
+
+        } catch (SQLException e) {
+            StringBuilder stringBuilder = new StringBuilder("Error retrieving credential summaries for ");
+            stringBuilder.append("gateway - ").append(gatewayId);
+            stringBuilder.append(" user - ").append(portalUserId);
+            stringBuilder.append(" type - ").append(type);
+
+            log.debug(stringBuilder.toString(), e);
+
+            throw new CredentialStoreException(stringBuilder.toString(), e);
+        } finally {
+            DBUtil.cleanup(preparedStatement, resultSet);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Adds the CREDENTIAL_TYPE and PUBLIC_KEY metadata columns if they are missing and fills them for credentials
+     * stored before the columns existed. Each such credential is decrypted once here so that listings never need
+     * to decrypt again.
+     *
+     * @param connection The database connection
+     * @return Number of credentials that were migrated
+     * @throws CredentialStoreException If an error occurred while migrating.
+     */
+    public int migrateCredentialMetadata(Connection connection) throws CredentialStoreException {
+
+        String selectSql = "SELECT GATEWAY_ID, TOKEN_ID, CREDENTIAL FROM CREDENTIALS WHERE CREDENTIAL_TYPE IS NULL";
+        String updateSql = "UPDATE CREDENTIALS set CREDENTIAL_TYPE = ?, PUBLIC_KEY = ? where GATEWAY_ID = ? and TOKEN_ID = ?";
+
+        PreparedStatement selectStatement = null;
+        PreparedStatement updateStatement = null;
+        ResultSet resultSet = null;
+        int migrated = 0;
+
+        try {
+            createMetadataColumns(connection);
+
+            selectStatement = connection.prepareStatement(selectSql);
+            updateStatement = connection.prepareStatement(updateSql);
+            resultSet = selectStatement.executeQuery();
+
+            while (resultSet.next()) {
+                String gatewayId = resultSet.getString("GATEWAY_ID");
+                String tokenId = resultSet.getString("TOKEN_ID");
+                Blob blobCredentials = resultSet.getBlob("CREDENTIAL");
+
+                Credential credential;
+                try {
+                    credential = (Credential) convertByteArrayToObject(
+                            blobCredentials.getBytes(1, (int) blobCredentials.length()));
+                } catch (CredentialStoreException e) {
+                    log.error("Unable to read credential of gateway " + gatewayId + " token " + tokenId +
+                            ". Its metadata is not migrated", e);
+                    continue;
+                }
+
+                SummaryType credentialType;
+                try {
+                    credentialType = getCredentialType(credential);
+                } catch (IllegalArgumentException e) {
+                    log.error("Credential of gateway " + gatewayId + " token " + tokenId + " has an unknown type. " +
+                            "Its metadata is not migrated", e);
+                    continue;
+                }
+
+                updateStatement.setString(1, credentialType.name());
+                updateStatement.setString(2, getPublicKey(credential));
+                updateStatement.setString(3, gatewayId);
+                updateStatement.setString(4, tokenId);
+                updateStatement.addBatch();
+                migrated++;
+            }
+
+            if (migrated > 0) {
+                updateStatement.executeBatch();
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+
+        } catch (SQLException e) {
+            log.error("Error migrating credential metadata", e);
+            throw new CredentialStoreException("Error migrating credential metadata", e);
+        } finally {
+            DBUtil.cleanup(selectStatement, resultSet);
+            DBUtil.cleanup(updateStatement);
+        }
+
+        return migrated;
+    }
+
+    private void createMetadataColumns(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        boolean columnExists;
+        try (ResultSet columns = metaData.getColumns(null, null, "CREDENTIALS", "CREDENTIAL_TYPE")) {
+            columnExists = columns.next();
+        }
+        if (columnExists) {
+            return;
+        }
+
+        log.info("Adding credential metadata columns to the CREDENTIALS table");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("ALTER TABLE CREDENTIALS ADD COLUMN CREDENTIAL_TYPE VARCHAR(10)");
+            statement.executeUpdate("ALTER TABLE CREDENTIALS ADD COLUMN PUBLIC_KEY VARCHAR(8192)");
+            statement.executeUpdate("CREATE INDEX CREDENTIALS_GATEWAY_TYPE_IDX ON CREDENTIALS (GATEWAY_ID, CREDENTIAL_TYPE)");
+            statement.executeUpdate("CREATE INDEX CREDENTIALS_PORTAL_USER_IDX ON CREDENTIALS (PORTAL_USER_ID, GATEWAY_ID)");
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    /**
+     * Gets the summary type recorded in the CREDENTIAL_TYPE column for the given credential.
+     */
+    public static SummaryType getCredentialType(Credential credential) {
+        // PasswordCredential extends SSHCredential, so check it first
+        if (credential instanceof PasswordCredential) {
+            return SummaryType.PASSWD;
+        } else if (credential instanceof SSHCredential) {
+            return SummaryType.SSH;
+        } else if (credential instanceof CertificateCredential) {
+            return SummaryType.CERT;
+        }
+        throw new IllegalArgumentException("Unknown credential type " + credential.getClass().getName());
+    }
+
+    private static String getPublicKey(Credential credential) {
+        if (getCredentialType(credential) == SummaryType.SSH) {
+            byte[] publicKey = ((SSHCredential) credential).getPublicKey();
+            return publicKey == null ? null : new String(publicKey);
+        }
+        return null;
+    }
+
     public Object convertByteArrayToObject(byte[] data) throws CredentialStoreException {
         ObjectInputStream objectInputStream = null;
         Object o = null;
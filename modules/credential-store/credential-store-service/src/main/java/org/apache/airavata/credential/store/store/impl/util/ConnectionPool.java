@@ -136,41 +136,44 @@ public class ConnectionPool {
     }
 
     public synchronized Connection getConnection() throws SQLException {
-        if (!availableConnections.isEmpty()) {
-            Connection existingConnection = availableConnections.pop();
-
-            // If connection on available list is closed (e.g.,
-            // it timed out), then remove it from available list
-            // and race for a connection again.
-            if (existingConnection.isClosed()) {
-                lastAccessTimeRecord.remove(existingConnection);
-                // notifyAll for fairness
-                notifyAll();
+        // race for a connection until one is available
+        while (true) {
+            if (!availableConnections.isEmpty()) {
+                Connection existingConnection = availableConnections.pop();
+
+                // If connection on available list is closed (e.g.,
+                // it timed out), then remove it from available list
+                // and race for a connection again.
+                if (existingConnection.isClosed()) {
+                    lastAccessTimeRecord.remove(existingConnection);
+                    // notifyAll for fairness
+                    notifyAll();
+                } else {
+                    busyConnections.push(existingConnection);
+                    setTimeStamp(existingConnection);
+                    return existingConnection;
+                }
+            } else if (!waitIfBusy && busyConnections.size() >= maxConnections) {
+                // You reached maxConnections limit and waitIfBusy flag is false.
+                // Throw SQLException in such a case.
+                throw new SQLException("Connection limit reached");
             } else {
-                busyConnections.push(existingConnection);
-                setTimeStamp(existingConnection);
-                return existingConnection;
-            }
-        } else if (!waitIfBusy && busyConnections.size() >= maxConnections) {
-            // You reached maxConnections limit and waitIfBusy flag is false.
-            // Throw SQLException in such a case.
-            throw new SQLException("Connection limit reached");
-        } else {
-
-            if (busyConnections.size() < maxConnections) {
-                // available connection is empty, but total number of connection
-                // doesn't reach maxConnection. Request for more connection
-                needConnection.release();
-            }
 
-            try {
-                // wait for free connection
-                wait();
-            } catch (InterruptedException ie) {
+                if (busyConnections.size() < maxConnections) {
+                    // available connection is empty, but total number of connection
+                    // doesn't reach maxConnection. Request for more connection
+                    needConnection.release();
+                }
+
+                try {
+                    // wait for free connection
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", ie);
+                }
             }
         }
-        // always race for connection forever
-        return getConnection();
     }
 
     // This explicitly makes a new connection. Called in
@@ -28,7 +28,11 @@ import org.apache.airavata.credential.store.credential.CommunityUser;
 import org.apache.airavata.credential.store.credential.Credential;
 import org.apache.airavata.credential.store.credential.CredentialOwnerType;
 import org.apache.airavata.credential.store.credential.impl.certificate.CertificateCredential;
+import org.apache.airavata.credential.store.credential.impl.password.PasswordCredential;
+import org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential;
 import org.apache.airavata.credential.store.store.CredentialStoreException;
+import org.apache.airavata.model.credential.store.CredentialSummary;
+import org.apache.airavata.model.credential.store.SummaryType;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -44,6 +48,8 @@ import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 
@@ -74,6 +80,15 @@ public class CredentialsDAOTest extends DatabaseTestCases {
          * "        REQUESTED_TIME TIMESTAMP DEFAULT '0000-00-00 00:00:00',\n" +
          * "        PRIMARY KEY (GATEWAY_NAME, COMMUNITY_USER_NAME)\n" + ")";
          */
+        createTable(true);
+
+    }
+
+    /**
+     * Recreates the CREDENTIALS table, with or without the credential metadata columns added by
+     * {@link CredentialsDAO#migrateCredentialMetadata(Connection)}
+     */
+    private static void createTable(boolean withMetadataColumns) throws Exception {
         // Adding description field as per pull request https://github.com/apache/airavata/pull/54
         String createTable = "CREATE TABLE CREDENTIALS\n" + "(\n"
                 + "        GATEWAY_ID VARCHAR(256) NOT NULL,\n"
@@ -83,6 +98,8 @@ public class CredentialsDAOTest extends DatabaseTestCases {
                 + "        TIME_PERSISTED TIMESTAMP DEFAULT CURRENT_TIMESTAMP,\n"
                 + "        DESCRIPTION VARCHAR(500),\n"
                 + "        CREDENTIAL_OWNER_TYPE VARCHAR(10) DEFAULT 'GATEWAY' NOT NULL,\n"
+                + (withMetadataColumns ? "        CREDENTIAL_TYPE VARCHAR(10),\n"
+                + "        PUBLIC_KEY VARCHAR(8192),\n" : "")
                 + "        PRIMARY KEY (GATEWAY_ID, TOKEN_ID)\n" + ")";
 
         String dropTable = "drop table CREDENTIALS";
@@ -93,7 +110,6 @@ public class CredentialsDAOTest extends DatabaseTestCases {
         }
 
         executeSQL(createTable);
-
     }
 
     @AfterClass
@@ -428,4 +444,151 @@ public class CredentialsDAOTest extends DatabaseTestCases {
 
     }
 
+    private SSHCredential getSSHCredential(String token, String portalUser, CredentialOwnerType ownerType) {
+        SSHCredential sshCredential = new SSHCredential();
+        sshCredential.setGateway("gw1");
+        sshCredential.setToken(token);
+        sshCredential.setPortalUserName(portalUser);
+        sshCredential.setDescription("key " + token);
+        sshCredential.setPrivateKey("private".getBytes());
+        sshCredential.setPublicKey(("ssh-rsa " + token).getBytes());
+        sshCredential.setCredentialOwnerType(ownerType);
+        return sshCredential;
+    }
+
+    @Test
+    public void testGetCredentialSummaries() throws Exception {
+
+        addTestCredentials();
+
+        Connection connection = getConnection();
+
+        try {
+            credentialsDAO.addCredentials("gw1", getSSHCredential("ssh1", "jerry", CredentialOwnerType.GATEWAY), connection);
+            credentialsDAO.addCredentials("gw1", getSSHCredential("ssh2", "jerry", CredentialOwnerType.USER), connection);
+            credentialsDAO.addCredentials("gw1", getSSHCredential("ssh3", "jerry", CredentialOwnerType.USER), connection);
+
+            PasswordCredential passwordCredential = new PasswordCredential();
+            passwordCredential.setGateway("gw1");
+            passwordCredential.setToken("pwd1");
+            passwordCredential.setPortalUserName("jerry");
+            passwordCredential.setUserName("jerry");
+            passwordCredential.setPassword("secret");
+            passwordCredential.setDescription("cluster password");
+            credentialsDAO.addCredentials("gw1", passwordCredential, connection);
+
+            List<CredentialSummary> gatewayKeys = credentialsDAO.getCredentialSummaries("gw1", null, SummaryType.SSH,
+                    CredentialOwnerType.GATEWAY, 0, -1, connection);
+            Assert.assertEquals(1, gatewayKeys.size());
+            Assert.assertEquals("ssh1", gatewayKeys.get(0).getToken());
+            Assert.assertEquals("ssh-rsa ssh1", gatewayKeys.get(0).getPublicKey());
+            Assert.assertEquals("key ssh1", gatewayKeys.get(0).getDescription());
+            Assert.assertEquals("jerry", gatewayKeys.get(0).getUsername());
+            Assert.assertEquals("gw1", gatewayKeys.get(0).getGatewayId());
+            Assert.assertTrue(gatewayKeys.get(0).getPersistedTime() > 0);
+
+            List<CredentialSummary> userKeys = credentialsDAO.getCredentialSummaries("gw1", "jerry", SummaryType.SSH,
+                    CredentialOwnerType.USER, 0, -1, connection);
+            Assert.assertEquals(2, userKeys.size());
+
+            List<CredentialSummary> page = credentialsDAO.getCredentialSummaries("gw1", "jerry", SummaryType.SSH,
+                    CredentialOwnerType.USER, 1, 1, connection);
+            Assert.assertEquals(1, page.size());
+            Assert.assertEquals("ssh3", page.get(0).getToken());
+
+            List<CredentialSummary> passwords = credentialsDAO.getCredentialSummaries("gw1", null, SummaryType.PASSWD,
+                    null, 0, -1, connection);
+            Assert.assertEquals(1, passwords.size());
+            Assert.assertEquals("cluster password", passwords.get(0).getDescription());
+            Assert.assertNull(passwords.get(0).getPublicKey());
+
+            List<CredentialSummary> certificates = credentialsDAO.getCredentialSummaries("gw1", null, SummaryType.CERT,
+                    null, 0, -1, connection);
+            Assert.assertEquals(1, certificates.size());
+            Assert.assertEquals("tom", certificates.get(0).getToken());
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testMigrateCredentialMetadata() throws Exception {
+
+        addTestCredentials();
+
+        Connection connection = getConnection();
+
+        try {
+            credentialsDAO.addCredentials("gw1", getSSHCredential("ssh1", "jerry", CredentialOwnerType.GATEWAY), connection);
+
+            // credentials stored before the metadata columns existed
+            Statement statement = connection.createStatement();
+            statement.executeUpdate("UPDATE CREDENTIALS SET CREDENTIAL_TYPE = NULL, PUBLIC_KEY = NULL");
+            statement.close();
+            Assert.assertTrue(credentialsDAO.getCredentialSummaries("gw1", null, null, null, 0, -1, connection).isEmpty());
+
+            Assert.assertEquals(2, credentialsDAO.migrateCredentialMetadata(connection));
+            Assert.assertEquals(0, credentialsDAO.migrateCredentialMetadata(connection));
+
+            List<CredentialSummary> summaries = credentialsDAO.getCredentialSummaries("gw1", null, null, null, 0, -1,
+                    connection);
+            Assert.assertEquals(2, summaries.size());
+            Assert.assertEquals(SummaryType.SSH, summaries.get(0).getType());
+            Assert.assertEquals("ssh-rsa ssh1", summaries.get(0).getPublicKey());
+            Assert.assertEquals(SummaryType.CERT, summaries.get(1).getType());
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testMigrateCredentialMetadataOfOldTable() throws Exception {
+
+        createTable(false);
+
+        Connection connection = getConnection();
+
+        try {
+            // rows written by a release without the metadata columns, one of them holding a credential type which
+            // the migration does not know
+            PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO CREDENTIALS (GATEWAY_ID, TOKEN_ID, CREDENTIAL, PORTAL_USER_ID) VALUES (?, ?, ?, ?)");
+            Credential[] credentials = {getTestCredentialObject(), getSSHCredential("ssh1", "jerry",
+                    CredentialOwnerType.GATEWAY), new UnknownCredential()};
+            String[] tokens = {"tom", "ssh1", "unknown1"};
+            for (int i = 0; i < credentials.length; i++) {
+                insert.setString(1, "gw1");
+                insert.setString(2, tokens[i]);
+                insert.setBytes(3, credentialsDAO.convertObjectToByteArray(credentials[i]));
+                insert.setString(4, "jerry");
+                insert.executeUpdate();
+            }
+            insert.close();
+
+            Assert.assertEquals(2, credentialsDAO.migrateCredentialMetadata(connection));
+            // the unknown credential is skipped again without failing the migration
+            Assert.assertEquals(0, credentialsDAO.migrateCredentialMetadata(connection));
+
+            List<CredentialSummary> summaries = credentialsDAO.getCredentialSummaries("gw1", null, null, null, 0, -1,
+                    connection);
+            Assert.assertEquals(2, summaries.size());
+            Assert.assertEquals(SummaryType.SSH, summaries.get(0).getType());
+            Assert.assertEquals("ssh-rsa ssh1", summaries.get(0).getPublicKey());
+            Assert.assertEquals(SummaryType.CERT, summaries.get(1).getType());
+
+            // credentials added after the migration get their metadata straight away
+            credentialsDAO.addCredentials("gw1", getSSHCredential("ssh2", "jerry", CredentialOwnerType.USER), connection);
+            Assert.assertEquals(1, credentialsDAO.getCredentialSummaries("gw1", "jerry", SummaryType.SSH,
+                    CredentialOwnerType.USER, 0, -1, connection).size());
+        } finally {
+            connection.close();
+            createTable(true);
+        }
+    }
+
+    private static class UnknownCredential extends Credential {
+
+        private static final long serialVersionUID = 1L;
+    }
+
 }
@@ -20,6 +20,7 @@
 package org.apache.airavata.monitor.email;
 
 import org.apache.airavata.common.exception.AiravataException;
+import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ApplicationSettings;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.monitor.AbstractMonitor;
@@ -30,11 +31,14 @@ import org.apache.airavata.monitor.email.parser.ResourceConfig;
 import org.apache.airavata.model.appcatalog.computeresource.ResourceJobManagerType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.sun.mail.imap.IMAPFolder;
 import org.yaml.snakeyaml.Yaml;
 
 import javax.mail.Address;
+import javax.mail.FetchProfile;
 import javax.mail.Flags;
 import javax.mail.Folder;
+import javax.mail.FolderClosedException;
 import javax.mail.Message;
 import javax.mail.MessagingException;
 import javax.mail.Session;
@@ -43,6 +47,15 @@ import javax.mail.search.FlagTerm;
 import javax.mail.search.SearchTerm;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
 
@@ -51,17 +64,24 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
     private static final String IMAPS = "imaps";
     private static final String POP3 = "pop3";
 
-    private boolean stopMonitoring = false;
+    private volatile boolean stopMonitoring = false;
     private Session session ;
     private Store store;
-    private Folder emailFolder;
+    private volatile Folder emailFolder;
     private Properties properties;
     private String host, emailAddress, password, storeProtocol, folderName ;
+    private int port;
     private Map<ResourceJobManagerType, EmailParser> emailParserMap = new HashMap<ResourceJobManagerType, EmailParser>();
     private Map<String, ResourceJobManagerType> addressMap = new HashMap<>();
+    // Sender address -> job manager type, filled as senders are seen so each sender is matched only once
+    private Map<String, ResourceJobManagerType> resolvedAddresses = new ConcurrentHashMap<>();
     private Message[] flushUnseenMessages;
     private Map<ResourceJobManagerType, ResourceConfig> resourceConfigs = new HashMap<>();
     private long emailExpirationTimeMinutes;
+    private boolean idleSupported;
+    private long idleTimeoutMs;
+    private ExecutorService parserPool;
+    private ScheduledExecutorService idleWatchdog;
 
 
     public EmailBasedMonitor() throws Exception {
@@ -76,6 +96,8 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
         password = ServerSettings.getEmailBasedMonitorPassword();
         storeProtocol = ServerSettings.getEmailBasedMonitorStoreProtocol();
         folderName = ServerSettings.getEmailBasedMonitorFolderName();
+        // -1 connects to the default port of the store protocol
+        port = ServerSettings.getIntSetting("email.based.monitor.port", -1);
         emailExpirationTimeMinutes = Long.parseLong(ServerSettings.getSetting("email.expiration.minutes"));
         if (!(storeProtocol.equals(IMAPS) || storeProtocol.equals(POP3))) {
             throw new AiravataException("Unsupported store protocol , expected " +
@@ -83,7 +105,25 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
         }
         properties = new Properties();
         properties.put("mail.store.protocol", storeProtocol);
-        long period = 1000 * 60 * 5; // five minute delay between successive task executions.
+        // JavaMail only enables TLSv1 unless the protocols are given, which current JVMs refuse to negotiate
+        properties.put("mail.imaps.ssl.protocols", ServerSettings.getSetting("email.based.monitor.ssl.protocols", "TLSv1.2"));
+
+        // IDLE lets the server push new mail instead of waiting for the next poll. Only IMAP supports it
+        idleSupported = storeProtocol.equals(IMAPS) &&
+                Boolean.parseBoolean(ServerSettings.getSetting("email.based.monitor.idle.enabled", "true"));
+        idleTimeoutMs = Long.parseLong(ServerSettings.getSetting("email.based.monitor.idle.timeout.ms", "600000"));
+        int parserThreads = Integer.parseInt(ServerSettings.getSetting("email.based.monitor.parser.threads", "4"));
+        AtomicInteger parserThreadCount = new AtomicInteger();
+        parserPool = Executors.newFixedThreadPool(parserThreads, r -> {
+            Thread thread = new Thread(r, "email-monitor-parser-" + parserThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        idleWatchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "email-monitor-idle-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private void loadContext() throws Exception {
@@ -138,6 +178,18 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
 
     }
 
+    /**
+     * Stops the monitoring loop after the current round. A folder waiting in IDLE is woken up so the loop does not
+     * wait for the idle timeout
+     */
+    public void stop() {
+        stopMonitoring = true;
+        Folder folder = emailFolder;
+        if (folder instanceof IMAPFolder) {
+            idleWatchdog.execute(() -> wakeUp((IMAPFolder) folder));
+        }
+    }
+
     public void monitor(String jobId) {
         log.info("[EJM]: Added monitor Id : {} to email based monitor map", jobId);
     }
@@ -157,8 +209,15 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
     }
 
     private ResourceJobManagerType getJobMonitorType(String addressStr) throws AiravataException {
+        ResourceJobManagerType type = resolvedAddresses.get(addressStr);
+        if (type != null) {
+            return type;
+        }
+
+        // Configured entries are usually complete addresses, but may also be fragments of one
         for (Map.Entry<String, ResourceJobManagerType> addressEntry : addressMap.entrySet()) {
             if (addressStr.contains(addressEntry.getKey())) {
+                resolvedAddresses.put(addressStr, addressEntry.getValue());
                 return addressEntry.getValue();
             }
         }
@@ -172,18 +231,19 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
             try {
                 session = Session.getDefaultInstance(properties);
                 store = session.getStore(storeProtocol);
-                store.connect(host, emailAddress, password);
+                store.connect(host, port, emailAddress, password);
                 emailFolder = store.getFolder(folderName);
                 // first time we search for all unread messages.
                 SearchTerm unseenBefore = new FlagTerm(new Flags(Flags.Flag.SEEN), false);
                 while (!(stopMonitoring || ServerSettings.isStopAllThreads())) {
-                    Thread.sleep(ServerSettings.getEmailMonitorPeriod());// sleep a bit - get a rest till job finishes
                     if (!store.isConnected()) {
                         store.connect();
                         emailFolder = store.getFolder(folderName);
                     }
                     log.info("[EJM]: Retrieving unseen emails");
-                    emailFolder.open(Folder.READ_WRITE);
+                    if (!emailFolder.isOpen()) {
+                        emailFolder.open(Folder.READ_WRITE);
+                    }
                     if (emailFolder.isOpen()) {
                         // flush if any message left in flushUnseenMessage
                         if (flushUnseenMessages != null && flushUnseenMessages.length > 0) {
@@ -205,7 +265,14 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
                             log.info("[EJM]: " + searchMessages.length + " new email/s received");
                             processMessages(searchMessages);
                         }
+                    }
+
+                    if (idleSupported && emailFolder instanceof IMAPFolder) {
+                        waitForNewMessages((IMAPFolder) emailFolder);
+                    } else {
+                        // POP3 folders only show new messages after being reopened
                         emailFolder.close(false);
+                        Thread.sleep(ServerSettings.getEmailMonitorPeriod());// sleep a bit - get a rest till job finishes
                     }
                 }
             } catch (MessagingException e) {
@@ -218,7 +285,9 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
                 log.error("[EJM]: Caught a throwable ", e);
             } finally {
                 try {
-                    emailFolder.close(false);
+                    if (emailFolder != null && emailFolder.isOpen()) {
+                        emailFolder.close(false);
+                    }
                     store.close();
                 } catch (MessagingException e) {
                     log.error("[EJM]: Store close operation failed, couldn't close store", e);
@@ -226,29 +295,133 @@ public class EmailBasedMonitor extends AbstractMonitor implements Runnable {
                     log.error("[EJM]: Caught a throwable while closing email store ", e);
                 }
             }
+            if (!stopMonitoring && !ServerSettings.isStopAllThreads()) {
+                pauseBeforeReconnect();
+            }
         }
         log.info("[EJM]: Email monitoring daemon stopped");
     }
 
+    /**
+     * The monitoring round only ends on a failure, so wait a polling period before connecting again instead of
+     * retrying an unreachable server in a tight loop
+     */
+    private void pauseBeforeReconnect() {
+        try {
+            Thread.sleep(ServerSettings.getEmailMonitorPeriod());
+        } catch (InterruptedException e) {
+            log.info("[EJM]: Interrupted while waiting to reconnect, stopping the monitor");
+            stopMonitoring = true;
+        } catch (ApplicationSettingsException e) {
+            log.error("[EJM]: Failed to read the monitoring period", e);
+        }
+    }
+
+    /**
+     * Blocks in IMAP IDLE until the server reports a change in the folder. IDLE ends when another thread touches
+     * the folder, so a watchdog does that after the idle timeout to re-issue IDLE before the server drops it and to
+     * re-check for unseen mail. If the server does not support IDLE the monitor falls back to polling.
+     */
+    private void waitForNewMessages(IMAPFolder folder) throws MessagingException, ApplicationSettingsException {
+        if (stopMonitoring) {
+            return;
+        }
+        ScheduledFuture<?> wakeUp = idleWatchdog.schedule(() -> wakeUp(folder), idleTimeoutMs, TimeUnit.MILLISECONDS);
+
+        try {
+            log.debug("[EJM]: Waiting for new emails in IDLE");
+            folder.idle(true);
+        } catch (FolderClosedException e) {
+            throw e;
+        } catch (MessagingException e) {
+            if (!store.isConnected()) {
+                throw e;
+            }
+            log.warn("[EJM]: IMAP IDLE is not usable on " + host + ", falling back to polling every " +
+                    ServerSettings.getEmailMonitorPeriod() + " ms", e);
+            idleSupported = false;
+        } finally {
+            wakeUp.cancel(false);
+        }
+    }
+
+    private void wakeUp(IMAPFolder folder) {
+        try {
+            if (folder.isOpen()) {
+                // Commands on the folder connection end IDLE first. Unlike getMessageCount, which leaves IDLE alone
+                // if the connection was used in the last second, an empty command always does
+                folder.doCommand(protocol -> null);
+            }
+        } catch (MessagingException e) {
+            log.debug("[EJM]: Failed to wake up idling folder", e);
+        }
+    }
+
     private void processMessages(Message[] searchMessages) throws MessagingException {
-        List<Message> processedMessages = new ArrayList<>();
-        List<Message> unreadMessages = new ArrayList<>();
+        // Sender and dates of all messages in one round trip instead of one per message
+        FetchProfile fetchProfile = new FetchProfile();
+        fetchProfile.add(FetchProfile.Item.ENVELOPE);
+        emailFolder.fetch(searchMessages, fetchProfile);
+
+        List<Future<JobStatusResult>> parsedMessages = new ArrayList<>(searchMessages.length);
         for (Message message : searchMessages) {
+            parsedMessages.add(parserPool.submit(() -> parse(message)));
+        }
+
+        // Statuses of the same job are submitted in the order the mails arrived, different jobs in parallel
+        Map<String, List<Integer>> messagesByJob = new LinkedHashMap<>();
+        JobStatusResult[] results = new JobStatusResult[searchMessages.length];
+        boolean[] submitted = new boolean[searchMessages.length];
+        for (int i = 0; i < searchMessages.length; i++) {
             try {
-                JobStatusResult jobStatusResult = parse(message);
-                log.info(jobStatusResult.getJobId() + ", " + jobStatusResult.getJobName() + ", " + jobStatusResult.getState().getValue());
-                submitJobStatus(jobStatusResult);
-                processedMessages.add(message);
-            } catch (Exception e) {
-                log.error("Error in submitting job status to queue", e);
-                if ((System.currentTimeMillis() - message.getReceivedDate().getTime()) > emailExpirationTimeMinutes * 60 * 1000) {
-                    log.warn("Marking job status email as read as it was expired");
-                    processedMessages.add(message);
-                } else {
-                    log.warn("Keeping job status email as unread untill it is expired in " + emailExpirationTimeMinutes +
-                            " minutes. Email received time " + message.getReceivedDate());
-                    unreadMessages.add(message);
+                results[i] = parsedMessages.get(i).get();
+                log.info(results[i].getJobId() + ", " + results[i].getJobName() + ", " + results[i].getState().getValue());
+                messagesByJob.computeIfAbsent(results[i].getJobId(), id -> new ArrayList<>()).add(i);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessagingException("Interrupted while parsing job status emails", e);
+            } catch (ExecutionException e) {
+                log.error("Error in parsing job status email", e.getCause());
+            }
+        }
+
+        List<Future<?>> submissions = new ArrayList<>(messagesByJob.size());
+        for (List<Integer> jobMessages : messagesByJob.values()) {
+            submissions.add(parserPool.submit(() -> {
+                for (int index : jobMessages) {
+                    try {
+                        submitJobStatus(results[index]);
+                        submitted[index] = true;
+                    } catch (Exception e) {
+                        log.error("Error in submitting job status to queue", e);
+                    }
                 }
+            }));
+        }
+        for (Future<?> submission : submissions) {
+            try {
+                submission.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessagingException("Interrupted while submitting job statuses", e);
+            } catch (ExecutionException e) {
+                log.error("Error in submitting job status to queue", e.getCause());
+            }
+        }
+
+        List<Message> processedMessages = new ArrayList<>();
+        List<Message> unreadMessages = new ArrayList<>();
+        for (int i = 0; i < searchMessages.length; i++) {
+            Message message = searchMessages[i];
+            if (submitted[i]) {
+                processedMessages.add(message);
+            } else if ((System.currentTimeMillis() - message.getReceivedDate().getTime()) > emailExpirationTimeMinutes * 60 * 1000) {
+                log.warn("Marking job status email as read as it was expired");
+                processedMessages.add(message);
+            } else {
+                log.warn("Keeping job status email as unread untill it is expired in " + emailExpirationTimeMinutes +
+                        " minutes. Email received time " + message.getReceivedDate());
+                unreadMessages.add(message);
             }
         }
         if (!processedMessages.isEmpty()) {
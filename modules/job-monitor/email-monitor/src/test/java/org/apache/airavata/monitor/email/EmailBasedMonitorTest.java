@@ -0,0 +1,233 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.monitor.email;
+
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.monitor.JobStatusResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class EmailBasedMonitorTest {
+
+    private static final String SLURM_SENDER = "slurm@helix-slurm-headnode.novalocal";
+    private static final List<String> SETTINGS = Arrays.asList("email.based.monitor.host", "email.based.monitor.port",
+            "email.based.monitor.address", "email.based.monitor.password", "email.based.monitor.idle.enabled",
+            "email.based.monitor.idle.timeout.ms", "email.based.monitoring.period", "javax.net.ssl.trustStore",
+            "javax.net.ssl.trustStorePassword", "regserver.server.host", "regserver.server.port");
+
+    private ImapFixture fixture;
+    private RecordingMonitor monitor;
+    private Thread monitorThread;
+
+    @Before
+    public void setUp() {
+        System.setProperty("email.based.monitor.host", "127.0.0.1");
+        System.setProperty("email.based.monitor.address", "monitor@localhost");
+        System.setProperty("email.based.monitor.password", "secret");
+        System.setProperty("email.based.monitor.idle.enabled", "true");
+        System.setProperty("email.based.monitor.idle.timeout.ms", "60000");
+        System.setProperty("email.based.monitoring.period", "100");
+        // the registry is never called, as the statuses are not validated
+        System.setProperty("regserver.server.host", "localhost");
+        System.setProperty("regserver.server.port", "8970");
+        System.setProperty("javax.net.ssl.trustStore",
+                EmailBasedMonitorTest.class.getClassLoader().getResource(ImapFixture.KEYSTORE).getPath());
+        System.setProperty("javax.net.ssl.trustStorePassword", ImapFixture.KEYSTORE_PASSWORD);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (monitor != null) {
+            monitor.stop();
+            monitorThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (fixture != null) {
+            fixture.stop();
+        }
+        SETTINGS.forEach(System::clearProperty);
+    }
+
+    @Test
+    public void testIdle() throws Exception {
+        startMonitor(true);
+        fixture.awaitIdle(10000);
+
+        // the idle timeout is a minute, so the mail can only be seen this soon through IDLE
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=1001 Name=job-idle Began, Queued time 00:00:01");
+        JobStatusResult result = monitor.awaitStatus();
+        Assert.assertEquals("1001", result.getJobId());
+        Assert.assertEquals("job-idle", result.getJobName());
+        Assert.assertEquals(JobState.ACTIVE, result.getState());
+        Assert.assertEquals("EmailBasedProducer", result.getPublisherName());
+        awaitSeen(1);
+    }
+
+    @Test
+    public void testIdleTimeout() throws Exception {
+        System.setProperty("email.based.monitor.idle.timeout.ms", "200");
+        startMonitor(true);
+        fixture.awaitIdle(10000);
+
+        // the watchdog ends IDLE after the timeout so that it is issued again before the server drops it
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (fixture.getIdleCommands() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(fixture.getIdleCommands() >= 3);
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=1004 Name=job-timeout Began, Queued time 00:00:01");
+        Assert.assertEquals("1004", monitor.awaitStatus().getJobId());
+    }
+
+    @Test
+    public void testStopEndsIdle() throws Exception {
+        startMonitor(true);
+        fixture.awaitIdle(10000);
+
+        monitor.stop();
+        monitorThread.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertFalse(monitorThread.isAlive());
+        monitor = null;
+    }
+
+    @Test
+    public void testPollingWithoutIdle() throws Exception {
+        startMonitor(false);
+        Thread.sleep(300);
+
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=1002 Name=job-poll Ended, Run time 00:01:00, COMPLETED, ExitCode 0");
+        JobStatusResult result = monitor.awaitStatus();
+        Assert.assertEquals("1002", result.getJobId());
+        Assert.assertEquals(JobState.COMPLETE, result.getState());
+        awaitSeen(1);
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        startMonitor(true);
+        fixture.awaitIdle(10000);
+        int logins = fixture.getLogins();
+
+        fixture.dropConnections();
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=1003 Name=job-reconnect Began, Queued time 00:00:01");
+        JobStatusResult result = monitor.awaitStatus();
+        Assert.assertEquals("1003", result.getJobId());
+        Assert.assertTrue(fixture.getLogins() > logins);
+
+        // the monitor is back in IDLE on the new connection
+        fixture.awaitIdle(10000);
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=1003 Name=job-reconnect Ended, Run time 00:01:00, COMPLETED, ExitCode 0");
+        Assert.assertEquals(JobState.COMPLETE, monitor.awaitStatus().getState());
+    }
+
+    @Test
+    public void testParsing() throws Exception {
+        fixture = new ImapFixture(true);
+        fixture.start();
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=2001 Name=job-a Began, Queued time 00:00:01");
+        fixture.deliver("someone@unknown.org", "Not a job status");
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=2002 Name=job-b Failed, Run time 00:00:10, FAILED, ExitCode 1");
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=2001 Name=job-a Ended, Run time 00:01:00, COMPLETED, ExitCode 0");
+        fixture.deliver(SLURM_SENDER, "SLURM Job_id=2001 Name=job-a Ended, Run time 00:01:00, CANCELLED, ExitCode 0");
+        startMonitor();
+
+        List<JobStatusResult> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(monitor.awaitStatus());
+        }
+        List<JobState> jobAStates = new ArrayList<>();
+        for (JobStatusResult result : results) {
+            if ("2001".equals(result.getJobId())) {
+                jobAStates.add(result.getState());
+            } else {
+                Assert.assertEquals("2002", result.getJobId());
+                Assert.assertEquals("job-b", result.getJobName());
+                Assert.assertEquals(JobState.FAILED, result.getState());
+            }
+        }
+        // statuses of one job are submitted in the order the mails arrived
+        Assert.assertEquals(Arrays.asList(JobState.ACTIVE, JobState.COMPLETE, JobState.CANCELED), jobAStates);
+
+        for (int messageNumber : new int[]{1, 3, 4, 5}) {
+            awaitSeen(messageNumber);
+        }
+        // mails that could not be parsed stay unread until they expire
+        Assert.assertFalse(fixture.isSeen(2));
+        for (String threadName : monitor.submittingThreads) {
+            Assert.assertTrue(threadName, threadName.matches("email-monitor-parser-\\d+"));
+        }
+    }
+
+    private void startMonitor(boolean idleSupported) throws Exception {
+        fixture = new ImapFixture(idleSupported);
+        fixture.start();
+        startMonitor();
+    }
+
+    private void startMonitor() throws Exception {
+        System.setProperty("email.based.monitor.port", String.valueOf(fixture.getPort()));
+        monitor = new RecordingMonitor();
+        monitorThread = new Thread(monitor, "email-monitor");
+        monitorThread.setDaemon(true);
+        monitorThread.start();
+    }
+
+    private void awaitSeen(int messageNumber) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!fixture.isSeen(messageNumber) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue("Message " + messageNumber + " was not marked as seen", fixture.isSeen(messageNumber));
+    }
+
+    /**
+     * Records the parsed statuses instead of validating them against the registry and publishing them
+     */
+    private static class RecordingMonitor extends EmailBasedMonitor {
+
+        private final BlockingQueue<JobStatusResult> statuses = new LinkedBlockingQueue<>();
+        private final List<String> submittingThreads = new ArrayList<>();
+
+        private RecordingMonitor() throws Exception {
+        }
+
+        @Override
+        public void submitJobStatus(JobStatusResult jobStatusResult) {
+            synchronized (submittingThreads) {
+                submittingThreads.add(Thread.currentThread().getName());
+            }
+            statuses.add(jobStatusResult);
+        }
+
+        private JobStatusResult awaitStatus() throws InterruptedException {
+            JobStatusResult result = statuses.poll(10, TimeUnit.SECONDS);
+            Assert.assertNotNull("No job status was submitted", result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.monitor.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal IMAPS server with a single INBOX, implementing the commands the email monitor issues. Messages only
+ * carry a sender and a subject, which is all the job status email parsers look at.
+ */
+class ImapFixture {
+
+    private static final Logger log = LoggerFactory.getLogger(ImapFixture.class);
+
+    static final String KEYSTORE = "imap-fixture.jks";
+    static final String KEYSTORE_PASSWORD = "airavata";
+
+    private final boolean idleSupported;
+    private final List<FixtureMessage> messages = new ArrayList<>();
+    private final List<ClientSession> sessions = new CopyOnWriteArrayList<>();
+    private ServerSocket serverSocket;
+    private int logins;
+    private int idleCommands;
+
+    ImapFixture(boolean idleSupported) {
+        this.idleSupported = idleSupported;
+    }
+
+    void start() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream keyStoreStream = ImapFixture.class.getClassLoader().getResourceAsStream(KEYSTORE)) {
+            keyStore.load(keyStoreStream, KEYSTORE_PASSWORD.toCharArray());
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD.toCharArray());
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        serverSocket = sslContext.getServerSocketFactory().createServerSocket(0, 10, InetAddress.getLoopbackAddress());
+        ((SSLServerSocket) serverSocket).setNeedClientAuth(false);
+        Thread acceptor = new Thread(this::accept, "imap-fixture-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    void stop() throws IOException {
+        serverSocket.close();
+        dropConnections();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    synchronized void deliver(String from, String subject) {
+        messages.add(new FixtureMessage(from, subject));
+        for (ClientSession session : sessions) {
+            if (session.idling) {
+                try {
+                    session.reportExists();
+                } catch (IOException e) {
+                    log.debug("Failed to notify an idling client", e);
+                }
+            }
+        }
+    }
+
+    synchronized boolean isSeen(int messageNumber) {
+        return messages.get(messageNumber - 1).seen;
+    }
+
+    synchronized int getLogins() {
+        return logins;
+    }
+
+    synchronized int getIdleCommands() {
+        return idleCommands;
+    }
+
+    /**
+     * Closes the connections of all clients the way a server restart or a network failure would
+     */
+    synchronized void dropConnections() throws IOException {
+        for (ClientSession session : sessions) {
+            session.idling = false;
+            session.socket.close();
+        }
+        sessions.clear();
+    }
+
+    /**
+     * Waits until a client is waiting for new messages in IDLE
+     */
+    void awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            for (ClientSession session : sessions) {
+                if (session.idling) {
+                    return;
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        throw new AssertionError("No client started to idle within " + timeoutMillis + " ms");
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                ClientSession session = new ClientSession(serverSocket.accept());
+                sessions.add(session);
+                Thread thread = new Thread(session::serve, "imap-fixture-session");
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                log.debug("Stopped accepting IMAP connections", e);
+            }
+        }
+    }
+
+    private static class FixtureMessage {
+
+        private final String from;
+        private final String subject;
+        private final Date received = new Date();
+        private boolean seen;
+
+        private FixtureMessage(String from, String subject) {
+            this.from = from;
+            this.subject = subject;
+        }
+    }
+
+    private class ClientSession {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private volatile boolean idling;
+        private int reportedCount;
+
+        private ClientSession(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+        }
+
+        private void serve() {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                write("* OK IMAP fixture ready");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String[] parts = line.split(" ", 3);
+                    String tag = parts[0];
+                    String command = parts.length > 1 ? parts[1].toUpperCase(Locale.ROOT) : "";
+                    String arguments = parts.length > 2 ? parts[2] : "";
+
+                    if ("IDLE".equals(command)) {
+                        synchronized (ImapFixture.this) {
+                            idleCommands++;
+                            write("+ idling");
+                            idling = true;
+                            reportExists();
+                        }
+                        String done = in.readLine();
+                        idling = false;
+                        if (done == null) {
+                            return;
+                        }
+                        write(tag + " OK IDLE terminated");
+                    } else if (handle(tag, command, arguments)) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("IMAP connection closed", e);
+            } finally {
+                sessions.remove(this);
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close IMAP connection", e);
+                }
+            }
+        }
+
+        /**
+         * Handles a command and returns true if the client logged out
+         */
+        private boolean handle(String tag, String command, String arguments) throws IOException {
+            synchronized (ImapFixture.this) {
+                switch (command) {
+                    case "CAPABILITY":
+                        write("* CAPABILITY IMAP4rev1" + (idleSupported ? " IDLE" : ""));
+                        break;
+                    case "LOGIN":
+                        logins++;
+                        break;
+                    case "LIST":
+                        write("* LIST () \"/\" INBOX");
+                        break;
+                    case "SELECT":
+                    case "EXAMINE":
+                        write("* FLAGS (\\Seen)");
+                        write("* OK [PERMANENTFLAGS (\\Seen)] Limited");
+                        write("* OK [UIDVALIDITY 1] UIDs valid");
+                        reportedCount = -1;
+                        reportExists();
+                        write("* 0 RECENT");
+                        write(tag + " OK [READ-WRITE] " + command + " completed");
+                        return false;
+                    case "SEARCH":
+                        reportExists();
+                        StringBuilder found = new StringBuilder("* SEARCH");
+                        for (int i = 0; i < messages.size(); i++) {
+                            if (!messages.get(i).seen) {
+                                found.append(' ').append(i + 1);
+                            }
+                        }
+                        write(found.toString());
+                        break;
+                    case "FETCH":
+                        reportExists();
+                        for (int messageNumber : parseSequence(arguments.split(" ", 2)[0])) {
+                            write("* " + messageNumber + " FETCH (" + fetchItems(messages.get(messageNumber - 1)) + ")");
+                        }
+                        break;
+                    case "STORE":
+                        String[] storeArguments = arguments.split(" ", 3);
+                        boolean seen = !storeArguments[1].startsWith("-");
+                        for (int messageNumber : parseSequence(storeArguments[0])) {
+                            FixtureMessage message = messages.get(messageNumber - 1);
+                            message.seen = seen;
+                            write("* " + messageNumber + " FETCH (FLAGS (" + (seen ? "\\Seen" : "") + "))");
+                        }
+                        break;
+                    case "LOGOUT":
+                        write("* BYE IMAP fixture closing");
+                        write(tag + " OK LOGOUT completed");
+                        return true;
+                    case "NOOP":
+                    case "CHECK":
+                    case "CLOSE":
+                        break;
+                    default:
+                        write(tag + " BAD unsupported command " + command);
+                        return false;
+                }
+                reportExists();
+                write(tag + " OK " + command + " completed");
+                return false;
+            }
+        }
+
+        private void reportExists() throws IOException {
+            if (reportedCount != messages.size()) {
+                reportedCount = messages.size();
+                write("* " + reportedCount + " EXISTS");
+            }
+        }
+
+        private List<Integer> parseSequence(String sequence) {
+            List<Integer> messageNumbers = new ArrayList<>();
+            for (String range : sequence.split(",")) {
+                String[] bounds = range.split(":");
+                int first = parseMessageNumber(bounds[0]);
+                int last = bounds.length > 1 ? parseMessageNumber(bounds[1]) : first;
+                for (int i = Math.min(first, last); i <= Math.max(first, last); i++) {
+                    messageNumbers.add(i);
+                }
+            }
+            return messageNumbers;
+        }
+
+        private int parseMessageNumber(String messageNumber) {
+            return "*".equals(messageNumber) ? messages.size() : Integer.parseInt(messageNumber);
+        }
+
+        private String fetchItems(FixtureMessage message) {
+            String[] address = message.from.split("@", 2);
+            String addressList = "((NIL NIL \"" + address[0] + "\" \"" + address[1] + "\"))";
+            String received = new SimpleDateFormat("dd-MMM-yyyy HH:mm:ss Z", Locale.US).format(message.received);
+            return "FLAGS (" + (message.seen ? "\\Seen" : "") + ") INTERNALDATE \"" + received + "\" RFC822.SIZE 0 " +
+                    "ENVELOPE (NIL \"" + message.subject + "\" " + addressList + " " + addressList + " " + addressList +
+                    " ((NIL NIL \"monitor\" \"localhost\")) NIL NIL NIL NIL)";
+        }
+
+        private void write(String line) throws IOException {
+            synchronized (out) {
+                out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            }
+        }
+    }
+}
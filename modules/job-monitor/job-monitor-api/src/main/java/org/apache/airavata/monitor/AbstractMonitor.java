@@ -14,7 +14,10 @@ import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class AbstractMonitor {
@@ -25,7 +28,17 @@ public class AbstractMonitor {
     private CuratorFramework curatorClient;
     private ThriftClientPool<RegistryService.Client> registryClientPool;
 
+    // Bounded LRU of jobId + job name -> owners, so repeated statuses of a job are validated without the registry
+    private final Map<String, JobOwner> jobOwners;
+
     public AbstractMonitor() throws ApplicationSettingsException {
+        int jobOwnerCacheSize = Integer.parseInt(ServerSettings.getSetting("job.monitor.owner.cache.size", "10000"));
+        this.jobOwners = Collections.synchronizedMap(new LinkedHashMap<String, JobOwner>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JobOwner> eldest) {
+                return size() > jobOwnerCacheSize;
+            }
+        });
         RetryPolicy retryPolicy = new ExponentialBackoffRetry(1000, 3);
         this.curatorClient = CuratorFrameworkFactory.newClient(ServerSettings.getZookeeperConnection(), retryPolicy);
         this.curatorClient.start();
@@ -49,7 +62,33 @@ public class AbstractMonitor {
                 Integer.parseInt(ServerSettings.getRegistryServerPort()));
     }
 
+    private static String jobOwnerKey(String jobId, String jobName) {
+        return jobId + "|" + jobName;
+    }
+
+    /**
+     * Returns the cached owners of the job or null if the job was not resolved recently
+     */
+    private JobOwner getJobOwner(String jobId, String jobName) {
+        return jobOwners.get(jobOwnerKey(jobId, jobName));
+    }
+
+    /**
+     * Remembers the owners of a job which were resolved from the registry so that the statuses of that job are not
+     * validated against the registry again. Only owners of a job id and name pair which matched exactly one job in
+     * the registry may be cached.
+     */
+    private void cacheJobOwner(JobOwner jobOwner) {
+        if (jobOwner.getProcessId() != null && jobOwner.getExperimentId() != null) {
+            jobOwners.put(jobOwnerKey(jobOwner.getJobId(), jobOwner.getJobName()), jobOwner);
+        }
+    }
+
     private boolean validateJobStatus(JobStatusResult jobStatusResult) {
+        if (getJobOwner(jobStatusResult.getJobId(), jobStatusResult.getJobName()) != null) {
+            return true;
+        }
+
         RegistryService.Client registryClient = getRegistryClientPool().getResource();
         boolean validated = true;
         try {
@@ -73,6 +112,8 @@ public class AbstractMonitor {
 
                 if (experimentId != null && processId != null) {
                     log.info("Job id " + jobStatusResult.getJobId() + " is owned by process " + processId + " of experiment " + experimentId);
+                    cacheJobOwner(new JobOwner(jobModel.getJobId(), jobModel.getJobName(), jobModel.getTaskId(),
+                            processId, experimentId));
                     validated = true;
                 } else {
                     log.error("Experiment or process is null for job " + jobStatusResult.getJobId());
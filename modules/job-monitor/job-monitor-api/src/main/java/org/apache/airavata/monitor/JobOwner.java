@@ -0,0 +1,61 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.monitor;
+
+/**
+ * Registry owners of a job as resolved by a monitor. Ownership of a job never changes once the job is
+ * saved, so monitors keep these in a bounded cache instead of asking the registry for every status
+ */
+public class JobOwner {
+
+    private final String jobId;
+    private final String jobName;
+    private final String taskId;
+    private final String processId;
+    private final String experimentId;
+
+    public JobOwner(String jobId, String jobName, String taskId, String processId, String experimentId) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.taskId = taskId;
+        this.processId = processId;
+        this.experimentId = experimentId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getExperimentId() {
+        return experimentId;
+    }
+}
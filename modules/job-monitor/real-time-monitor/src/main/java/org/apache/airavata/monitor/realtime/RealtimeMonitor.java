@@ -21,31 +21,57 @@ package org.apache.airavata.monitor.realtime;
 
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.model.job.JobModel;
+import org.apache.airavata.model.status.JobState;
 import org.apache.airavata.monitor.AbstractMonitor;
 import org.apache.airavata.monitor.JobStatusResult;
 import org.apache.airavata.monitor.MonitoringException;
 import org.apache.airavata.monitor.realtime.parser.RealtimeJobStatusParser;
+import org.apache.airavata.monitor.realtime.parser.RealtimeJobStatusParser.RealtimeJobStatus;
 import org.apache.airavata.registry.api.RegistryService;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public class RealtimeMonitor extends AbstractMonitor {
 
     private static final Logger logger = LoggerFactory.getLogger(RealtimeMonitor.class);
 
+    private static final int JOB_ID_LOOKUP_ATTEMPTS = 3;
+
     private RealtimeJobStatusParser parser;
 
+    private final boolean batchMode;
+
+    // Bounded LRU of taskId + job name -> job id as the messages only carry the job name
+    private final Map<String, String> jobIdsByTaskAndName;
 
     public RealtimeMonitor() throws ApplicationSettingsException {
         parser = new RealtimeJobStatusParser();
+        batchMode = Boolean.parseBoolean(ServerSettings.getSetting("realtime.monitor.batch.enabled", "true"));
+        int cacheSize = Integer.parseInt(ServerSettings.getSetting("job.monitor.owner.cache.size", "10000"));
+        jobIdsByTaskAndName = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
     }
 
     private Consumer<String, String> createConsumer() throws ApplicationSettingsException {
@@ -54,6 +80,10 @@ public class RealtimeMonitor extends AbstractMonitor {
         props.put(ConsumerConfig.GROUP_ID_CONFIG, ServerSettings.getSetting("realtime.monitor.broker.consumer.group"));
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        if (batchMode) {
+            // Offsets are committed once the whole batch is published
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
         // Create the consumer using props.
         final Consumer<String, String> consumer = new KafkaConsumer<>(props);
         // Subscribe to the topic.
@@ -64,6 +94,17 @@ public class RealtimeMonitor extends AbstractMonitor {
     private void runConsumer() throws ApplicationSettingsException {
         final Consumer<String, String> consumer = createConsumer();
 
+        if (batchMode) {
+            logger.info("Processing job status messages in batches");
+            while (true) {
+                final ConsumerRecords<String, String> consumerRecords = consumer.poll(1000);
+                if (!consumerRecords.isEmpty()) {
+                    processBatch(consumerRecords);
+                    consumer.commitSync();
+                }
+            }
+        }
+
         while (true) {
             final ConsumerRecords<String, String> consumerRecords = consumer.poll(1000);
             consumerRecords.forEach(record -> {
@@ -94,6 +135,139 @@ public class RealtimeMonitor extends AbstractMonitor {
 
     }
 
+    private static String taskAndNameKey(String taskId, String jobName) {
+        return taskId + "|" + jobName;
+    }
+
+    /**
+     * Publishes all the statuses of a poll batch. Job ids of the whole batch are resolved together with one registry
+     * lookup per unknown task and the consecutive repeats of the same state of a job are dropped
+     */
+    private void processBatch(ConsumerRecords<String, String> consumerRecords) {
+        List<RealtimeJobStatus> statuses = new ArrayList<>(consumerRecords.count());
+        for (ConsumerRecord<String, String> record : consumerRecords) {
+            logger.info("Received data " + record.value());
+            RealtimeJobStatus status = parser.parseStatus(record.value());
+            if (status != null) {
+                statuses.add(status);
+            } else {
+                logger.warn("Ignoring message as it is invalid");
+            }
+        }
+
+        if (statuses.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> jobIds = resolveJobIds(statuses);
+        Map<String, JobState> lastStates = new HashMap<>();
+        int published = 0;
+
+        for (RealtimeJobStatus status : statuses) {
+            String jobId = jobIds.get(taskAndNameKey(status.getTaskId(), status.getJobName()));
+            if (jobId == null) {
+                logger.error("No job id for job name " + status.getJobName() + " of task " + status.getTaskId());
+                continue;
+            }
+
+            if (lastStates.put(jobId, status.getState()) == status.getState()) {
+                logger.debug("Dropping repeated state " + status.getState() + " of job " + jobId);
+                continue;
+            }
+
+            try {
+                JobStatusResult statusResult = parser.toJobStatusResult(status, jobId);
+                logger.info("Submitting message to job monitor queue");
+                submitJobStatus(statusResult);
+                published++;
+            } catch (Exception e) {
+                logger.error("Error while publishing state " + status.getState() + " of job " + jobId, e);
+                // ignore this error
+            }
+        }
+
+        logger.info("Published " + published + " job statuses out of " + consumerRecords.count() + " messages");
+    }
+
+    private Map<String, String> resolveJobIds(List<RealtimeJobStatus> statuses) {
+        Map<String, String> resolved = new HashMap<>();
+        // Job ids of names which more than one job of a task has. They are used for this batch only, never cached
+        Map<String, String> ambiguousJobIds = new HashMap<>();
+        Set<String> pendingTasks = collectUnresolved(statuses, resolved, ambiguousJobIds);
+        if (pendingTasks.isEmpty()) {
+            return resolved;
+        }
+
+        RegistryService.Client registryClient = getRegistryClientPool().getResource();
+        try {
+            for (int i = 0; i < JOB_ID_LOOKUP_ATTEMPTS && !pendingTasks.isEmpty(); i++) {
+                if (i > 0) {
+                    // Jobs could be saved to the registry after the first status arrives. Retry after 2s
+                    logger.warn("No jobs yet for tasks " + pendingTasks + ". Retrying in 2 seconds");
+                    Thread.sleep(2000);
+                }
+
+                for (String taskId : pendingTasks) {
+                    List<JobModel> jobsOfTask = registryClient.getJobs("taskId", taskId);
+                    if (jobsOfTask == null) {
+                        continue;
+                    }
+
+                    Map<String, String> jobIdsOfTask = new HashMap<>();
+                    Set<String> ambiguousNames = new HashSet<>();
+                    for (JobModel job : jobsOfTask) {
+                        String jobId = jobIdsOfTask.putIfAbsent(job.getJobName(), job.getJobId());
+                        if (jobId != null && !jobId.equals(job.getJobId())) {
+                            ambiguousNames.add(job.getJobName());
+                        }
+                    }
+
+                    jobIdsOfTask.forEach((jobName, jobId) -> {
+                        if (ambiguousNames.contains(jobName)) {
+                            logger.warn("Task " + taskId + " has more than one job named " + jobName + ". Using job " + jobId);
+                            ambiguousJobIds.put(taskAndNameKey(taskId, jobName), jobId);
+                        } else {
+                            jobIdsByTaskAndName.put(taskAndNameKey(taskId, jobName), jobId);
+                        }
+                    });
+                }
+
+                pendingTasks = collectUnresolved(statuses, resolved, ambiguousJobIds);
+            }
+            getRegistryClientPool().returnResource(registryClient);
+
+        } catch (Exception e) {
+            logger.error("Failed to fetch job ids for tasks " + pendingTasks, e);
+            getRegistryClientPool().returnBrokenResource(registryClient);
+        }
+        return resolved;
+    }
+
+    /**
+     * Fills the job ids known from the cache or from this batch into <code>resolved</code> and returns the tasks of
+     * the rest
+     */
+    private Set<String> collectUnresolved(List<RealtimeJobStatus> statuses, Map<String, String> resolved,
+                                          Map<String, String> ambiguousJobIds) {
+        Set<String> pendingTasks = new LinkedHashSet<>();
+        for (RealtimeJobStatus status : statuses) {
+            String key = taskAndNameKey(status.getTaskId(), status.getJobName());
+            if (resolved.containsKey(key)) {
+                continue;
+            }
+            String jobId = jobIdsByTaskAndName.get(key);
+            if (jobId == null) {
+                jobId = ambiguousJobIds.get(key);
+            }
+            if (jobId != null) {
+                resolved.put(key, jobId);
+            } else {
+                pendingTasks.add(status.getTaskId());
+            }
+        }
+        return pendingTasks;
+    }
+
     public static void main(String args[]) throws ApplicationSettingsException {
         new RealtimeMonitor().runConsumer();
     }
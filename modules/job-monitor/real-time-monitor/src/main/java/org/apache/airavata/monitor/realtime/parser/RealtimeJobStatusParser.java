@@ -21,6 +21,7 @@ package org.apache.airavata.monitor.realtime.parser;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
+import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.model.job.JobModel;
 import org.apache.airavata.model.status.JobState;
@@ -37,6 +38,8 @@ public class RealtimeJobStatusParser {
 
     private static final Logger logger = LoggerFactory.getLogger(RealtimeJobStatusParser.class);
 
+    private static final Gson GSON = new Gson();
+
     private String getJobIdIdByJobNameWithRetry(String jobName, String taskId, RegistryService.Client registryClient) throws Exception {
         for (int  i = 0; i < 3; i++) {
 
@@ -58,71 +61,78 @@ public class RealtimeJobStatusParser {
         return null;
     }
 
-    public JobStatusResult parse(String rawMessage, RegistryService.Client registryClient) {
+    /**
+     * Job status message as published by the job, before the job id is resolved from the registry
+     */
+    public static class RealtimeJobStatus {
+
+        private final String jobName;
+        private final String taskId;
+        private final JobState state;
+
+        RealtimeJobStatus(String jobName, String taskId, JobState state) {
+            this.jobName = jobName;
+            this.taskId = taskId;
+            this.state = state;
+        }
+
+        public String getJobName() {
+            return jobName;
+        }
+
+        public String getTaskId() {
+            return taskId;
+        }
+
+        public JobState getState() {
+            return state;
+        }
+    }
+
+    private static JobState toJobState(String status) {
+        switch (status) {
+            case "RUNNING":
+                return JobState.ACTIVE;
+            case "COMPLETED":
+                return JobState.COMPLETE;
+            case "FAILED":
+                return JobState.FAILED;
+            case "SUBMITTED":
+                return JobState.SUBMITTED;
+            case "QUEUED":
+                return JobState.QUEUED;
+            case "CANCELED":
+                return JobState.CANCELED;
+            case "SUSPENDED":
+                return JobState.SUSPENDED;
+            case "UNKNOWN":
+                return JobState.UNKNOWN;
+            case "NON_CRITICAL_FAIL":
+                return JobState.NON_CRITICAL_FAIL;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Parses the message without talking to the registry. Returns null if the message is not a valid job status
+     */
+    public RealtimeJobStatus parseStatus(String rawMessage) {
 
         try {
-            Map asMap = new Gson().fromJson(rawMessage, Map.class);
-            if (asMap.containsKey("jobName") && asMap.containsKey("status")) {
+            Map asMap = GSON.fromJson(rawMessage, Map.class);
+            if (asMap != null && asMap.containsKey("jobName") && asMap.containsKey("status")) {
                 String jobName = (String) asMap.get("jobName");
                 String status = (String) asMap.get("status");
                 String taskId = (String) asMap.get("task");
 
                 if (jobName != null && status != null && taskId != null) {
-
-                    try {
-                        String jobId = getJobIdIdByJobNameWithRetry(jobName, taskId, registryClient);
-                        if (jobId == null) {
-                            logger.error("No job id for job name " + jobName);
-                            return null;
-                        }
-
-                        JobState jobState = null;
-
-                        switch (status) {
-                            case "RUNNING":
-                                jobState = JobState.ACTIVE;
-                                break;
-                            case "COMPLETED":
-                                jobState = JobState.COMPLETE;
-                                break;
-                            case "FAILED":
-                                jobState = JobState.FAILED;
-                                break;
-                            case "SUBMITTED":
-                                jobState = JobState.SUBMITTED;
-                                break;
-                            case "QUEUED":
-                                jobState = JobState.QUEUED;
-                                break;
-                            case "CANCELED":
-                                jobState = JobState.CANCELED;
-                                break;
-                            case "SUSPENDED":
-                                jobState = JobState.SUSPENDED;
-                                break;
-                            case "UNKNOWN":
-                                jobState = JobState.UNKNOWN;
-                                break;
-                            case "NON_CRITICAL_FAIL":
-                                jobState = JobState.NON_CRITICAL_FAIL;
-                                break;
-                        }
-
-                        if (jobState == null) {
-                            logger.error("Invalid job state " + status);
-                            return null;
-                        }
-
-                        JobStatusResult jobStatusResult = new JobStatusResult();
-                        jobStatusResult.setJobId(jobId);
-                        jobStatusResult.setJobName(jobName);
-                        jobStatusResult.setState(jobState);
-                        jobStatusResult.setPublisherName(ServerSettings.getSetting("job.monitor.broker.publisher.id"));
-                        return jobStatusResult;
-                    } catch (Exception e) {
-                        logger.error("Failed to fetch job id for job name " + jobName);
+                    JobState jobState = toJobState(status);
+                    if (jobState == null) {
+                        logger.error("Invalid job state " + status);
                         return null;
                     }
+                    return new RealtimeJobStatus(jobName, taskId, jobState);
                 } else {
                     logger.error("Job name, taskId or status is null in message " + rawMessage);
                     return null;
@@ -136,4 +146,36 @@ public class RealtimeJobStatusParser {
             return null;
         }
     }
+
+    /**
+     * Builds the status to be published for a job of which the id is already known
+     */
+    public JobStatusResult toJobStatusResult(RealtimeJobStatus status, String jobId) throws ApplicationSettingsException {
+        JobStatusResult jobStatusResult = new JobStatusResult();
+        jobStatusResult.setJobId(jobId);
+        jobStatusResult.setJobName(status.getJobName());
+        jobStatusResult.setState(status.getState());
+        jobStatusResult.setPublisherName(ServerSettings.getSetting("job.monitor.broker.publisher.id"));
+        return jobStatusResult;
+    }
+
+    public JobStatusResult parse(String rawMessage, RegistryService.Client registryClient) {
+
+        RealtimeJobStatus status = parseStatus(rawMessage);
+        if (status == null) {
+            return null;
+        }
+
+        try {
+            String jobId = getJobIdIdByJobNameWithRetry(status.getJobName(), status.getTaskId(), registryClient);
+            if (jobId == null) {
+                logger.error("No job id for job name " + status.getJobName());
+                return null;
+            }
+            return toJobStatusResult(status, jobId);
+        } catch (Exception e) {
+            logger.error("Failed to fetch job id for job name " + status.getJobName());
+            return null;
+        }
+    }
 }
@@ -71,8 +71,12 @@ public class RabbitMQSubscriber implements Subscriber {
         }
     }
 
+    /**
+     * The channel is shared by the listeners and by the threads acknowledging their messages, so every use of it and
+     * its recreation when it was closed are synchronized on this subscriber.
+     */
     @Override
-    public String listen(BiFunction<Connection, Channel, Consumer> supplier,
+    public synchronized String listen(BiFunction<Connection, Channel, Consumer> supplier,
                          String queueName,
                          List<String> routingKeys) throws AiravataException {
 
@@ -116,7 +120,7 @@ public class RabbitMQSubscriber implements Subscriber {
     }
 
     @Override
-    public void stopListen(String id) throws AiravataException {
+    public synchronized void stopListen(String id) throws AiravataException {
         QueueDetail details = queueDetailMap.get(id);
         if (details != null) {
             try {
@@ -132,7 +136,7 @@ public class RabbitMQSubscriber implements Subscriber {
     }
 
     @Override
-    public void sendAck(long deliveryTag) {
+    public synchronized void sendAck(long deliveryTag) {
         try {
             if (channel.isOpen()){
                 channel.basicAck(deliveryTag,false);
@@ -0,0 +1,202 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import org.apache.airavata.common.exception.ApplicationSettingsException;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.model.status.QueueStatusModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Scores each candidate queue and picks the lowest score. The score adds up
+ * <ul>
+ *     <li>the pressure of the queue, queued jobs per running job as last reported by the cluster status monitor plus
+ *     the experiments this scheduler placed on the queue after that report</li>
+ *     <li>the average wait of recent jobs of the queue in minutes</li>
+ *     <li>the experiments of the same user still in flight on the compute resource</li>
+ * </ul>
+ * each multiplied by its weight. Queues reported down are skipped. Queues without a recent status only get the
+ * pressure of the experiments this scheduler placed on them. Placed experiments are forgotten once released or
+ * after the assignment expiry.
+ */
+public class QueueAwareScheduler implements QueueScheduler {
+
+    private final static Logger logger = LoggerFactory.getLogger(QueueAwareScheduler.class);
+
+    private static class Assignment {
+
+        private final String userName;
+        private final String resourceId;
+        private final String queueName;
+        private final long time;
+
+        private Assignment(String userName, String resourceId, String queueName, long time) {
+            this.userName = userName;
+            this.resourceId = resourceId;
+            this.queueName = queueName;
+            this.time = time;
+        }
+    }
+
+    private final QueueStatusSource queueStatusSource;
+    private final QueueWaitHistory waitHistory;
+    private final LongSupplier clock;
+    private final double loadWeight;
+    private final double waitWeight;
+    private final double userWeight;
+    private final long maxStatusAge;
+    private final long assignmentExpiry;
+
+    // Experiments placed by this scheduler which are not released yet
+    private final Map<String, Assignment> assignments = new HashMap<>();
+
+    public QueueAwareScheduler() throws ApplicationSettingsException {
+        this(new RegistryQueueStatusSource(Long.parseLong(ServerSettings.getSetting("queue.scheduler.status.cache.ms", "30000"))),
+                new QueueWaitHistory(Double.parseDouble(ServerSettings.getSetting("queue.scheduler.wait.alpha", "0.2"))),
+                System::currentTimeMillis,
+                Double.parseDouble(ServerSettings.getSetting("queue.scheduler.weight.load", "1.0")),
+                Double.parseDouble(ServerSettings.getSetting("queue.scheduler.weight.wait", "1.0")),
+                Double.parseDouble(ServerSettings.getSetting("queue.scheduler.weight.user", "2.0")),
+                Long.parseLong(ServerSettings.getSetting("queue.scheduler.status.max.age.ms", "900000")),
+                Long.parseLong(ServerSettings.getSetting("queue.scheduler.assignment.expiry.ms", "86400000")));
+    }
+
+    public QueueAwareScheduler(QueueStatusSource queueStatusSource, QueueWaitHistory waitHistory, LongSupplier clock,
+                               double loadWeight, double waitWeight, double userWeight, long maxStatusAge,
+                               long assignmentExpiry) {
+        this.queueStatusSource = queueStatusSource;
+        this.waitHistory = waitHistory;
+        this.clock = clock;
+        this.loadWeight = loadWeight;
+        this.waitWeight = waitWeight;
+        this.userWeight = userWeight;
+        this.maxStatusAge = maxStatusAge;
+        this.assignmentExpiry = assignmentExpiry;
+    }
+
+    private static String statusKey(String hostName, String queueName) {
+        return hostName + "/" + queueName;
+    }
+
+    private Map<String, QueueStatusModel> latestStatuses(long now) {
+        Map<String, QueueStatusModel> statuses = new HashMap<>();
+        try {
+            List<QueueStatusModel> latest = queueStatusSource.getLatestQueueStatuses();
+            if (latest != null) {
+                for (QueueStatusModel status : latest) {
+                    if (now - status.getTime() <= maxStatusAge) {
+                        statuses.put(statusKey(status.getHostName(), status.getQueueName()), status);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to read queue statuses. Scheduling only on the placed experiments and wait history", e);
+        }
+        return statuses;
+    }
+
+    @Override
+    public QueueCandidate schedule(String experimentId, String userName, List<QueueCandidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        Map<String, QueueStatusModel> statuses = latestStatuses(now);
+
+        synchronized (this) {
+            // Experiments which were never released, for example the ones failed before launch
+            assignments.values().removeIf(assignment -> now - assignment.time > assignmentExpiry);
+
+            QueueCandidate selected = null;
+            double selectedScore = Double.MAX_VALUE;
+            for (QueueCandidate candidate : candidates) {
+                QueueStatusModel status = statuses.get(statusKey(candidate.getHostName(), candidate.getQueueName()));
+                if (status != null && !status.isQueueUp()) {
+                    logger.debug("Skipping queue " + candidate + " as it is down");
+                    continue;
+                }
+                double score = score(candidate, status, userName);
+                logger.debug("Score of queue " + candidate + " for experiment " + experimentId + " is " + score);
+                if (score < selectedScore) {
+                    selected = candidate;
+                    selectedScore = score;
+                }
+            }
+
+            if (selected != null) {
+                assignments.put(experimentId, new Assignment(userName, selected.getResourceId(), selected.getQueueName(), now));
+                logger.info("Scheduled experiment " + experimentId + " of user " + userName + " to queue " + selected +
+                        " with score " + selectedScore);
+            }
+            return selected;
+        }
+    }
+
+    private double score(QueueCandidate candidate, QueueStatusModel status, String userName) {
+        int placed = 0;
+        int userInFlight = 0;
+        for (Assignment assignment : assignments.values()) {
+            if (assignment.resourceId.equals(candidate.getResourceId())) {
+                if (assignment.queueName.equals(candidate.getQueueName())
+                        && (status == null || assignment.time >= status.getTime())) {
+                    placed++;
+                }
+                if (assignment.userName.equals(userName)) {
+                    userInFlight++;
+                }
+            }
+        }
+
+        double pressure = status == null ? placed
+                : (double) (status.getQueuedJobs() + placed) / Math.max(1, status.getRunningJobs());
+        long expectedWait = waitHistory.getExpectedWait(candidate.getResourceId(), candidate.getQueueName());
+        double waitMinutes = expectedWait < 0 ? 0 : expectedWait / 60000.0;
+
+        return loadWeight * pressure + waitWeight * waitMinutes + userWeight * userInFlight;
+    }
+
+    @Override
+    public synchronized void release(String experimentId) {
+        assignments.remove(experimentId);
+    }
+
+    @Override
+    public void jobQueued(String jobId, long time) {
+        waitHistory.jobQueued(jobId, time);
+    }
+
+    @Override
+    public void jobStarted(String jobId, String resourceId, String queueName, long time) {
+        long wait = waitHistory.jobStarted(jobId, resourceId, queueName, time);
+        if (wait >= 0) {
+            logger.debug("Job " + jobId + " waited " + wait + " ms in queue " + queueName + " of " + resourceId);
+        }
+    }
+
+    public synchronized int getInFlight(String resourceId) {
+        return (int) assignments.values().stream().filter(a -> a.resourceId.equals(resourceId)).count();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import org.apache.airavata.model.appcatalog.computeresource.BatchQueue;
+
+/**
+ * A batch queue of a compute resource which can run the job of an experiment
+ */
+public class QueueCandidate {
+
+    private final String resourceId;
+    private final String hostName;
+    private final BatchQueue batchQueue;
+
+    public QueueCandidate(String resourceId, String hostName, BatchQueue batchQueue) {
+        this.resourceId = resourceId;
+        this.hostName = hostName;
+        this.batchQueue = batchQueue;
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public String getQueueName() {
+        return batchQueue.getQueueName();
+    }
+
+    public BatchQueue getBatchQueue() {
+        return batchQueue;
+    }
+
+    @Override
+    public String toString() {
+        return getQueueName() + "@" + resourceId;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import java.util.List;
+
+/**
+ * Picks the compute resource and batch queue for experiments which are auto scheduled. Implementations are
+ * configured with the <code>queue.scheduler</code> property and live as long as the orchestrator.
+ */
+public interface QueueScheduler {
+
+    /**
+     * Picks one of the candidates for the experiment, or null if none of them can take it now
+     */
+    QueueCandidate schedule(String experimentId, String userName, List<QueueCandidate> candidates);
+
+    /**
+     * Called once the experiment scheduled by this scheduler no longer occupies the queue
+     */
+    void release(String experimentId);
+
+    void jobQueued(String jobId, long time);
+
+    void jobStarted(String jobId, String resourceId, String queueName, long time);
+}
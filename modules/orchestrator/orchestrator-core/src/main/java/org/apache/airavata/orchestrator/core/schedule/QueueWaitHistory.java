@@ -0,0 +1,85 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exponentially weighted moving average of the time jobs waited in each queue, from the time a job was reported
+ * queued to the time it was reported active
+ */
+public class QueueWaitHistory {
+
+    private static final int MAX_PENDING_JOBS = 10000;
+
+    private final double alpha;
+
+    private final Map<String, Double> averageWaits = new LinkedHashMap<>();
+
+    // Time each job was reported queued, until it is reported active
+    private final Map<String, Long> queuedTimes = new LinkedHashMap<String, Long>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_PENDING_JOBS;
+        }
+    };
+
+    /**
+     * @param alpha weight of the latest observation, between 0 and 1
+     */
+    public QueueWaitHistory(double alpha) {
+        this.alpha = alpha;
+    }
+
+    private static String key(String resourceId, String queueName) {
+        return resourceId + "/" + queueName;
+    }
+
+    public synchronized void jobQueued(String jobId, long time) {
+        queuedTimes.putIfAbsent(jobId, time);
+    }
+
+    /**
+     * Records the wait of the job if it was seen queued before. Returns the wait or -1 if the job was not seen queued
+     */
+    public synchronized long jobStarted(String jobId, String resourceId, String queueName, long time) {
+        Long queuedTime = queuedTimes.remove(jobId);
+        if (queuedTime == null) {
+            return -1;
+        }
+        long wait = Math.max(0, time - queuedTime);
+        record(resourceId, queueName, wait);
+        return wait;
+    }
+
+    public synchronized void record(String resourceId, String queueName, long waitMillis) {
+        averageWaits.merge(key(resourceId, queueName), (double) waitMillis,
+                (average, wait) -> alpha * wait + (1 - alpha) * average);
+    }
+
+    /**
+     * Returns the average wait in milliseconds or -1 if nothing was recorded for the queue
+     */
+    public synchronized long getExpectedWait(String resourceId, String queueName) {
+        Double average = averageWaits.get(key(resourceId, queueName));
+        return average == null ? -1 : Math.round(average);
+    }
+}
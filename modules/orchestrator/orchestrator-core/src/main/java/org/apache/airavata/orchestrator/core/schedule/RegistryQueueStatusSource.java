@@ -0,0 +1,60 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import org.apache.airavata.common.utils.ServerSettings;
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.model.status.QueueStatusModel;
+import org.apache.airavata.registry.api.RegistryService;
+import org.apache.airavata.registry.api.client.RegistryServiceClientFactory;
+
+import java.util.List;
+
+/**
+ * Reads the latest queue statuses from the registry and keeps them for a short time as the cluster status monitor
+ * only refreshes them every few minutes
+ */
+public class RegistryQueueStatusSource implements QueueStatusSource {
+
+    private final long cacheMillis;
+
+    private List<QueueStatusModel> cached;
+    private long fetchedTime;
+
+    public RegistryQueueStatusSource(long cacheMillis) {
+        this.cacheMillis = cacheMillis;
+    }
+
+    @Override
+    public synchronized List<QueueStatusModel> getLatestQueueStatuses() throws Exception {
+        long now = System.currentTimeMillis();
+        if (cached == null || now - fetchedTime > cacheMillis) {
+            RegistryService.Client registryClient = RegistryServiceClientFactory.createRegistryClient(
+                    ServerSettings.getRegistryServerHost(), Integer.parseInt(ServerSettings.getRegistryServerPort()));
+            try {
+                cached = registryClient.getLatestQueueStatuses();
+                fetchedTime = now;
+            } finally {
+                ThriftUtils.close(registryClient);
+            }
+        }
+        return cached;
+    }
+}
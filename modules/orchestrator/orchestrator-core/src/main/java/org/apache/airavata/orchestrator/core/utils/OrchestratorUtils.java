@@ -466,12 +466,7 @@ public class OrchestratorUtils {
             throws ApplicationSettingsException, IllegalAccessException,
             InstantiationException {
         try {
-            String jdbcUrl = ServerSettings.getCredentialStoreDBURL();
-            String jdbcUsr = ServerSettings.getCredentialStoreDBUser();
-            String jdbcPass = ServerSettings.getCredentialStoreDBPassword();
-            String driver = ServerSettings.getCredentialStoreDBDriver();
-            return new CredentialReaderImpl(new DBUtil(jdbcUrl, jdbcUsr, jdbcPass,
-                    driver));
+            return new CredentialReaderImpl(DBUtil.getCredentialStoreDBUtil());
         } catch (ClassNotFoundException e) {
             logger.error("Not able to find driver: " + e.getLocalizedMessage());
             return null;
@@ -24,6 +24,7 @@ import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.model.appcatalog.appdeployment.ApplicationDeploymentDescription;
 import org.apache.airavata.model.appcatalog.appinterface.ApplicationInterfaceDescription;
 import org.apache.airavata.model.appcatalog.computeresource.*;
 import org.apache.airavata.model.appcatalog.gatewayprofile.ComputeResourcePreference;
@@ -46,6 +47,8 @@ import org.apache.airavata.orchestrator.core.context.OrchestratorContext;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
 import org.apache.airavata.orchestrator.core.impl.GFACPassiveJobSubmitter;
 import org.apache.airavata.orchestrator.core.job.JobSubmitter;
+import org.apache.airavata.orchestrator.core.schedule.QueueCandidate;
+import org.apache.airavata.orchestrator.core.schedule.QueueScheduler;
 import org.apache.airavata.orchestrator.core.utils.OrchestratorConstants;
 import org.apache.airavata.orchestrator.core.utils.OrchestratorUtils;
 import org.apache.airavata.orchestrator.core.validator.JobMetadataValidator;
@@ -69,6 +72,9 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
     // this is going to be null unless the thread count is 0
     private JobSubmitter jobSubmitter = null;
 
+    // picks the compute resource and queue of auto scheduled experiments
+    private QueueScheduler queueScheduler;
+
 
     public SimpleOrchestratorImpl() throws OrchestratorException, TException {
         try {
@@ -82,12 +88,84 @@ public class SimpleOrchestratorImpl extends AbstractOrchestrator{
                 logger.error(error);
                 throw new OrchestratorException(error, e);
             }
+            try {
+                queueScheduler = Class.forName(ServerSettings.getSetting("queue.scheduler",
+                        "org.apache.airavata.orchestrator.core.schedule.QueueAwareScheduler"))
+                        .asSubclass(QueueScheduler.class).newInstance();
+            } catch (Exception e) {
+                String error = "Error creating the queue scheduler";
+                logger.error(error);
+                throw new OrchestratorException(error, e);
+            }
         } catch (OrchestratorException e) {
             logger.error("Error Constructing the Orchestrator");
             throw e;
         }
     }
 
+    public QueueScheduler getQueueScheduler() {
+        return queueScheduler;
+    }
+
+    /**
+     * Picks the compute resource and queue of an auto scheduled experiment among the resources of the gateway which
+     * have a deployment of the application, and saves them as the resource scheduling of the experiment. Keeps the
+     * user given scheduling if no queue can take the experiment.
+     *
+     * @return the selected queue or null if the user given scheduling was kept
+     */
+    public QueueCandidate scheduleExperiment(ExperimentModel experiment, String gatewayId) throws OrchestratorException {
+        final RegistryService.Client registryClient = getRegistryServiceClient();
+        try {
+            ComputationalResourceSchedulingModel scheduling = experiment.getUserConfigurationData().getComputationalResourceScheduling();
+
+            Set<String> deployedHosts = new HashSet<>();
+            ApplicationInterfaceDescription applicationInterface = registryClient.getApplicationInterface(experiment.getExecutionId());
+            for (String moduleId : applicationInterface.getApplicationModules()) {
+                for (ApplicationDeploymentDescription deployment : registryClient.getApplicationDeployments(moduleId)) {
+                    deployedHosts.add(deployment.getComputeHostId());
+                }
+            }
+
+            List<QueueCandidate> candidates = new ArrayList<>();
+            for (ComputeResourcePreference preference : registryClient.getAllGatewayComputeResourcePreferences(gatewayId)) {
+                if (!deployedHosts.contains(preference.getComputeResourceId())) {
+                    continue;
+                }
+                ComputeResourceDescription computeResource = registryClient.getComputeResource(preference.getComputeResourceId());
+                if (computeResource.getBatchQueues() == null) {
+                    continue;
+                }
+                for (BatchQueue batchQueue : computeResource.getBatchQueues()) {
+                    // Wall time is not checked as longer jobs are split into several submissions of auto scheduled experiments
+                    if ((batchQueue.getMaxNodes() == 0 || scheduling.getNodeCount() <= batchQueue.getMaxNodes()) &&
+                            (batchQueue.getMaxProcessors() == 0 || scheduling.getTotalCPUCount() <= batchQueue.getMaxProcessors())) {
+                        candidates.add(new QueueCandidate(computeResource.getComputeResourceId(),
+                                computeResource.getHostName(), batchQueue));
+                    }
+                }
+            }
+
+            QueueCandidate selected = queueScheduler.schedule(experiment.getExperimentId(), experiment.getUserName(), candidates);
+            if (selected == null) {
+                logger.warn("No queue among " + candidates.size() + " candidates could take experiment " +
+                        experiment.getExperimentId() + ". Keeping the user given scheduling");
+                return null;
+            }
+            scheduling.setResourceHostId(selected.getResourceId());
+            scheduling.setQueueName(selected.getQueueName());
+            registryClient.updateResourceScheduleing(experiment.getExperimentId(), scheduling);
+            return selected;
+
+        } catch (Exception e) {
+            throw new OrchestratorException("Error while scheduling experiment " + experiment.getExperimentId(), e);
+        } finally {
+            if (registryClient != null) {
+                ThriftUtils.close(registryClient);
+            }
+        }
+    }
+
     public boolean launchProcess(ProcessModel processModel, String tokenId) throws OrchestratorException {
         try {
 	        return jobSubmitter.submit(processModel.getExperimentId(), processModel.getProcessId(), tokenId);
@@ -0,0 +1,144 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import org.apache.airavata.model.appcatalog.computeresource.BatchQueue;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class QueueAwareSchedulerTest {
+
+    private static final QueueCandidate COMET_COMPUTE = new QueueCandidate("comet", "comet.sdsc.edu", new BatchQueue("compute"));
+    private static final QueueCandidate COMET_SHARED = new QueueCandidate("comet", "comet.sdsc.edu", new BatchQueue("shared"));
+    private static final QueueCandidate STAMPEDE_NORMAL = new QueueCandidate("stampede", "stampede2.tacc.utexas.edu", new BatchQueue("normal"));
+    private static final List<QueueCandidate> CANDIDATES = Arrays.asList(COMET_COMPUTE, COMET_SHARED, STAMPEDE_NORMAL);
+
+    private QueueStatusTraceSimulator simulator;
+
+    @Before
+    public void setUp() throws Exception {
+        simulator = new QueueStatusTraceSimulator("queue-status-trace.csv");
+    }
+
+    private QueueAwareScheduler newScheduler(QueueStatusSource source, QueueWaitHistory history, long maxStatusAgeMinutes) {
+        return new QueueAwareScheduler(source, history, simulator::now, 1.0, 1.0, 2.0,
+                TimeUnit.MINUTES.toMillis(maxStatusAgeMinutes), TimeUnit.DAYS.toMillis(1));
+    }
+
+    @Test
+    public void testReplayAvoidsSaturatedAndDownQueues() {
+        QueueAwareScheduler scheduler = newScheduler(simulator, new QueueWaitHistory(0.2), 15);
+        int experiment = 0;
+        for (long minute : simulator.getTraceMinutes()) {
+            simulator.advanceToMinute(minute);
+            Map<String, Integer> placements = new HashMap<>();
+            for (int i = 0; i < 10; i++) {
+                String experimentId = "exp-" + experiment++;
+                QueueCandidate selected = scheduler.schedule(experimentId, "user-" + (i % 5), CANDIDATES);
+                Assert.assertNotNull(selected);
+                placements.merge(selected.toString(), 1, Integer::sum);
+                // The experiment starts before the next report of the cluster status monitor
+                scheduler.release(experimentId);
+            }
+
+            if (minute == 10 || minute == 15) {
+                Assert.assertEquals("Comet is saturated at minute " + minute, Integer.valueOf(10),
+                        placements.get(STAMPEDE_NORMAL.toString()));
+            }
+            if (minute >= 20) {
+                Assert.assertNull("Stampede queue is down at minute " + minute, placements.get(STAMPEDE_NORMAL.toString()));
+            }
+        }
+    }
+
+    @Test
+    public void testSpreadsLoadBetweenReports() {
+        simulator.advanceToMinute(0);
+        QueueAwareScheduler scheduler = newScheduler(simulator, new QueueWaitHistory(0.2), 15);
+        Map<QueueCandidate, Integer> placements = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            placements.merge(scheduler.schedule("exp-" + i, "user-" + i, CANDIDATES), 1, Integer::sum);
+        }
+
+        // Queued jobs per running job of the reported status at minute 0 plus the placed experiments
+        double computePressure = (10 + placements.get(COMET_COMPUTE)) / 120.0;
+        double sharedPressure = (2 + placements.get(COMET_SHARED)) / 40.0;
+        double stampedePressure = (12 + placements.get(STAMPEDE_NORMAL)) / 100.0;
+        double max = Collections.max(Arrays.asList(computePressure, sharedPressure, stampedePressure));
+        double min = Collections.min(Arrays.asList(computePressure, sharedPressure, stampedePressure));
+        Assert.assertTrue("Pressures should be balanced but were " + placements, max - min < 0.05);
+        Assert.assertEquals(300, scheduler.getInFlight("comet") + scheduler.getInFlight("stampede"));
+    }
+
+    @Test
+    public void testPrefersQueuesWithShorterWaits() {
+        QueueWaitHistory history = new QueueWaitHistory(0.5);
+        QueueAwareScheduler scheduler = newScheduler(Collections::emptyList, history, 15);
+
+        scheduler.jobQueued("job-1", 0);
+        scheduler.jobStarted("job-1", "comet", "compute", TimeUnit.MINUTES.toMillis(30));
+        scheduler.jobQueued("job-2", 0);
+        scheduler.jobStarted("job-2", "stampede", "normal", TimeUnit.MINUTES.toMillis(2));
+        scheduler.jobQueued("job-3", 0);
+        scheduler.jobStarted("job-3", "comet", "shared", TimeUnit.MINUTES.toMillis(10));
+        // Never seen queued, so not recorded
+        scheduler.jobStarted("job-4", "stampede", "normal", TimeUnit.MINUTES.toMillis(60));
+
+        Assert.assertEquals(TimeUnit.MINUTES.toMillis(2), history.getExpectedWait("stampede", "normal"));
+        Assert.assertEquals(STAMPEDE_NORMAL, scheduler.schedule("exp-1", "user-1", CANDIDATES));
+    }
+
+    @Test
+    public void testSpreadsExperimentsOfAUser() {
+        QueueAwareScheduler scheduler = newScheduler(Collections::emptyList, new QueueWaitHistory(0.2), 15);
+
+        Assert.assertEquals(COMET_COMPUTE, scheduler.schedule("exp-1", "alice", CANDIDATES));
+        // Comet already runs an experiment of alice
+        Assert.assertEquals(STAMPEDE_NORMAL, scheduler.schedule("exp-2", "alice", CANDIDATES));
+        // bob has nothing in flight, so only the placed experiments count
+        Assert.assertEquals(COMET_SHARED, scheduler.schedule("exp-3", "bob", CANDIDATES));
+
+        Assert.assertEquals(2, scheduler.getInFlight("comet"));
+        scheduler.release("exp-1");
+        scheduler.release("exp-3");
+        Assert.assertEquals(0, scheduler.getInFlight("comet"));
+    }
+
+    @Test
+    public void testIgnoresStaleStatuses() {
+        QueueAwareScheduler scheduler = newScheduler(simulator, new QueueWaitHistory(0.2), 10);
+        List<QueueCandidate> stampedeOnly = Collections.singletonList(STAMPEDE_NORMAL);
+
+        simulator.advanceToMinute(25);
+        Assert.assertNull(scheduler.schedule("exp-1", "user-1", stampedeOnly));
+
+        // The down report of minute 25 is too old to trust at minute 40
+        simulator.advanceToMinute(40);
+        Assert.assertEquals(STAMPEDE_NORMAL, scheduler.schedule("exp-2", "user-1", stampedeOnly));
+    }
+}
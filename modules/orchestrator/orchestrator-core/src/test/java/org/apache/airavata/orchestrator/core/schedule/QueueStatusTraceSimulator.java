@@ -0,0 +1,93 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.core.schedule;
+
+import org.apache.airavata.model.status.QueueStatusModel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a recorded trace of queue statuses against a simulated clock. Each line of the trace is
+ * <code>time in minutes, host name, queue name, queue up, running jobs, queued jobs</code>
+ */
+public class QueueStatusTraceSimulator implements QueueStatusSource {
+
+    private final List<QueueStatusModel> trace = new ArrayList<>();
+    private long now;
+
+    public QueueStatusTraceSimulator(String traceResource) throws IOException {
+        try (InputStream in = QueueStatusTraceSimulator.class.getClassLoader().getResourceAsStream(traceResource);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                trace.add(new QueueStatusModel(parts[1].trim(), parts[2].trim(), Boolean.parseBoolean(parts[3].trim()),
+                        Integer.parseInt(parts[4].trim()), Integer.parseInt(parts[5].trim()),
+                        TimeUnit.MINUTES.toMillis(Long.parseLong(parts[0].trim()))));
+            }
+        }
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public void advanceToMinute(long minute) {
+        now = TimeUnit.MINUTES.toMillis(minute);
+    }
+
+    public List<Long> getTraceMinutes() {
+        List<Long> minutes = new ArrayList<>();
+        for (QueueStatusModel status : trace) {
+            long minute = TimeUnit.MILLISECONDS.toMinutes(status.getTime());
+            if (!minutes.contains(minute)) {
+                minutes.add(minute);
+            }
+        }
+        return minutes;
+    }
+
+    /**
+     * Latest status of each queue reported at or before the simulated time
+     */
+    @Override
+    public List<QueueStatusModel> getLatestQueueStatuses() {
+        Map<String, QueueStatusModel> latest = new LinkedHashMap<>();
+        for (QueueStatusModel status : trace) {
+            if (status.getTime() <= now) {
+                latest.put(status.getHostName() + "/" + status.getQueueName(), status);
+            }
+        }
+        return new ArrayList<>(latest.values());
+    }
+}
@@ -22,7 +22,6 @@ package org.apache.airavata.orchestrator.server;
 import org.apache.airavata.common.exception.AiravataException;
 import org.apache.airavata.common.exception.ApplicationSettingsException;
 import org.apache.airavata.common.logging.MDCConstants;
-import org.apache.airavata.common.logging.MDCUtil;
 import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.common.utils.ServerSettings;
 import org.apache.airavata.common.utils.ThriftUtils;
@@ -45,6 +44,7 @@ import org.apache.airavata.model.messaging.event.*;
 import org.apache.airavata.model.process.ProcessModel;
 import org.apache.airavata.model.status.ExperimentState;
 import org.apache.airavata.model.status.ExperimentStatus;
+import org.apache.airavata.model.status.JobState;
 import org.apache.airavata.model.status.ProcessState;
 import org.apache.airavata.model.status.ProcessStatus;
 import org.apache.airavata.orchestrator.core.exception.OrchestratorException;
@@ -53,7 +53,8 @@ import org.apache.airavata.orchestrator.core.utils.OrchestratorConstants;
 import org.apache.airavata.orchestrator.cpi.OrchestratorService;
 import org.apache.airavata.orchestrator.cpi.impl.SimpleOrchestratorImpl;
 import org.apache.airavata.orchestrator.cpi.orchestrator_cpiConstants;
-import org.apache.airavata.orchestrator.util.OrchestratorServerThreadPoolExecutor;
+import org.apache.airavata.orchestrator.util.ExperimentLaunchScheduler;
+import org.apache.airavata.orchestrator.util.ZkLaunchStore;
 import org.apache.airavata.orchestrator.util.OrchestratorUtils;
 import org.apache.airavata.registry.api.RegistryService;
 import org.apache.airavata.registry.api.client.RegistryServiceClientFactory;
@@ -83,6 +84,7 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 	private final Subscriber experimentSubscriber;
 
 	private CuratorFramework curatorClient;
+	private ExperimentLaunchScheduler launchScheduler;
 
 	/**
 	 * Query orchestrator server to fetch the CPI version
@@ -106,6 +108,7 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 			statusSubscribe = getStatusSubscriber();
 			experimentSubscriber  = getExperimentSubscriber();
 			startCurator();
+			startLaunchScheduler();
 		} catch (OrchestratorException | AiravataException e) {
 			log.error(e.getMessage(), e);
 			throw new OrchestratorException("Error while initializing orchestrator service", e);
@@ -117,6 +120,7 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 //			routingKeys.add("*"); // listen for gateway level messages
 //			routingKeys.add("*.*"); // listen for gateway/experiment level messages
 		routingKeys.add("*.*.*"); // listen for gateway/experiment/process level messages
+		routingKeys.add("*.*.*.*.*"); // listen for job level messages to learn the queue waits
 		return MessagingFactory.getSubscriber(new ProcessStatusHandler(),routingKeys, Type.STATUS);
 	}
 
@@ -148,6 +152,17 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
                 log.error("Error retrieving the Experiment by the given experimentID: {} ", experimentId);
                 return false;
             }
+            ExperimentState currentState = experiment.getExperimentStatus().get(0).getState();
+            if (currentState != ExperimentState.CREATED && currentState != ExperimentState.VALIDATED) {
+                log.warn("expId: {}, Not launching the experiment again, it is already {}", experimentId, currentState);
+                return false;
+            }
+
+            if (experiment.getUserConfigurationData().isAiravataAutoSchedule() &&
+					registryClient.getProcessIds(experimentId).isEmpty()) {
+				// Updates the resource scheduling of the experiment in place
+				orchestrator.scheduleExperiment(experiment, gatewayId);
+			}
 
             ComputeResourcePreference computeResourcePreference = registryClient.getGatewayComputeResourcePreference
 							(gatewayId,
@@ -228,13 +243,31 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 					return false;
 				}
 
-				log.debug(experimentId, "Launching single application experiment {}.", experimentId);
-                ExperimentStatus status = new ExperimentStatus(ExperimentState.LAUNCHED);
-                status.setReason("submitted all processes");
-                status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
-                OrchestratorUtils.updateAndPublishExperimentStatus(experimentId, status, publisher, gatewayId);
-                log.info("expId: {}, Launched experiment ", experimentId);
-                OrchestratorServerThreadPoolExecutor.getCachedThreadPool().execute(MDCUtil.wrapWithMDC(new SingleAppExperimentRunner(experimentId, token, gatewayId)));
+				log.debug(experimentId, "Queueing single application experiment {} for launch.", experimentId);
+                ExperimentLaunchScheduler.LaunchRequest launchRequest = new ExperimentLaunchScheduler.LaunchRequest(
+                        experimentId, gatewayId,
+						experiment.getUserConfigurationData().getComputationalResourceScheduling().getResourceHostId(),
+						token, System.currentTimeMillis());
+                int ahead;
+                try {
+                    // SCHEDULED is published once the launch is accepted and before a worker can publish LAUNCHED
+                    ahead = launchScheduler.submit(launchRequest, request -> {
+                        ExperimentStatus status = new ExperimentStatus(ExperimentState.SCHEDULED);
+                        status.setReason("queued for launch");
+                        status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
+                        OrchestratorUtils.updateAndPublishExperimentStatus(experimentId, status, publisher, gatewayId);
+                    });
+                } catch (IllegalStateException e) {
+                    log.warn("expId: {}, Not launching the experiment again, {}", experimentId, e.getMessage());
+                    return false;
+                } catch (Exception e) {
+                    ExperimentStatus status = new ExperimentStatus(ExperimentState.FAILED);
+                    status.setReason("Failed to queue the experiment for launch: " + e.getMessage());
+                    status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
+                    OrchestratorUtils.updateAndPublishExperimentStatus(experimentId, status, publisher, gatewayId);
+                    throw e;
+                }
+                log.info("expId: {}, Queued experiment for launch behind {} other launches", experimentId, ahead);
             } else if (executionType == ExperimentType.WORKFLOW) {
                 //its a workflow execution experiment
                 log.debug(experimentId, "Launching workflow experiment {}.", experimentId);
@@ -447,6 +480,16 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 				log.warn("Experiment termination is only allowed for launched experiments.");
 				return false;
 			default:
+				if (launchScheduler.remove(experimentId)) {
+					orchestrator.getQueueScheduler().release(experimentId);
+					// Nothing has been submitted for the experiment yet
+					ExperimentStatus status = new ExperimentStatus(ExperimentState.CANCELED);
+					status.setReason("Experiment cancelled before launch");
+					status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
+					OrchestratorUtils.updateAndPublishExperimentStatus(experimentId, status, publisher, gatewayId);
+					log.info("expId : " + experimentId + " :- Removed queued experiment launch");
+					return true;
+				}
 				ExperimentModel experimentModel = registryClient.getExperiment(experimentId);
 
                 ComputeResourcePreference computeResourcePreference = registryClient.getGatewayComputeResourcePreference
@@ -506,6 +549,11 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
         @Override
         public void run() {
             try {
+                ExperimentStatus status = new ExperimentStatus(ExperimentState.LAUNCHED);
+                status.setReason("submitted all processes");
+                status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
+                OrchestratorUtils.updateAndPublishExperimentStatus(experimentId, status, publisher, gatewayId);
+                log.info("expId: {}, Launched experiment ", experimentId);
                 launchSingleAppExperiment();
             } catch (TException e) {
                 log.error("Unable to launch experiment..", e);
@@ -636,6 +684,10 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 							// ignore other status changes, thoes will not affect for experiment status changes
 							return;
 					}
+					if (status.getState() == ExperimentState.COMPLETED || status.getState() == ExperimentState.FAILED ||
+							status.getState() == ExperimentState.CANCELED) {
+						orchestrator.getQueueScheduler().release(processIdentity.getExperimentId());
+					}
 					if (status.getState() != null) {
 						status.setTimeOfStateChange(AiravataUtils.getCurrentTimestamp().getTime());
 						OrchestratorUtils.updateAndPublishExperimentStatus(processIdentity.getExperimentId(), status, publisher,  processIdentity.getGatewayId());
@@ -647,6 +699,8 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 							"Error" + " while prcessing process status change event");
 					throw new RuntimeException("Error while updating experiment status", e);
 				}
+			} else if (message.getType().equals(MessageType.JOB)) {
+				recordQueueWait(message);
 			} else {
 				System.out.println("Message Recieved with message id " + message.getMessageId() + " and with message " +
 						"type " + message.getType().name());
@@ -655,6 +709,32 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 	}
 
 
+	/**
+	 * Feeds the queue wait history of the queue scheduler with the time jobs spent between QUEUED and ACTIVE
+	 */
+	private void recordQueueWait(MessageContext message) {
+		try {
+			JobStatusChangeEvent jobStatusChangeEvent = new JobStatusChangeEvent();
+			ThriftUtils.createThriftFromBytes(ThriftUtils.serializeThriftObject(message.getEvent()), jobStatusChangeEvent);
+			JobIdentifier jobIdentity = jobStatusChangeEvent.getJobIdentity();
+			if (jobStatusChangeEvent.getState() == JobState.QUEUED) {
+				orchestrator.getQueueScheduler().jobQueued(jobIdentity.getJobId(), System.currentTimeMillis());
+			} else if (jobStatusChangeEvent.getState() == JobState.ACTIVE) {
+				long now = System.currentTimeMillis();
+				final RegistryService.Client registryClient = getRegistryServiceClient();
+				try {
+					ProcessModel processModel = registryClient.getProcess(jobIdentity.getProcessId());
+					orchestrator.getQueueScheduler().jobStarted(jobIdentity.getJobId(), processModel.getComputeResourceId(),
+							processModel.getProcessResourceSchedule().getQueueName(), now);
+				} finally {
+					ThriftUtils.close(registryClient);
+				}
+			}
+		} catch (TException e) {
+			log.warn("Failed to record the queue wait of job status message " + message.getMessageId(), e);
+		}
+	}
+
 	private class ExperimentHandler implements MessageHandler {
 
 		@Override
@@ -744,6 +824,32 @@ public class OrchestratorServerHandler implements OrchestratorService.Iface {
 		curatorClient.start();
 	}
 
+	private void startLaunchScheduler() throws OrchestratorException {
+		try {
+			launchScheduler = new ExperimentLaunchScheduler(
+					Integer.parseInt(ServerSettings.getSetting("orchestrator.launch.workers", "20")),
+					Integer.parseInt(ServerSettings.getSetting("orchestrator.launch.resource.max.inflight", "10")),
+					Integer.parseInt(ServerSettings.getSetting("orchestrator.launch.resource.rate.per.minute", "0")),
+					new ZkLaunchStore(curatorClient, ServerSettings.getSetting("orchestrator.server.name", "orchestrator-node0")),
+					request -> {
+						MDC.put(MDCConstants.GATEWAY_ID, request.getGatewayId());
+						MDC.put(MDCConstants.EXPERIMENT_ID, request.getExperimentId());
+						try {
+							new SingleAppExperimentRunner(request.getExperimentId(), request.getToken(), request.getGatewayId()).run();
+						} finally {
+							MDC.clear();
+						}
+					});
+			launchScheduler.start();
+		} catch (Exception e) {
+			throw new OrchestratorException("Failed to start the experiment launch scheduler", e);
+		}
+	}
+
+	public ExperimentLaunchScheduler getLaunchScheduler() {
+		return launchScheduler;
+	}
+
 	public String getExperimentNodePath(String experimentId) {
 		return ZKPaths.makePath(ZkConstants.ZOOKEEPER_EXPERIMENT_NODE, experimentId);
 	}
@@ -0,0 +1,546 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Launches experiments on a bounded pool of workers. Submitted launches are persisted through a {@link LaunchStore}
+ * and kept in a queue per gateway. The dispatcher serves the gateways in round robin order and only hands a launch
+ * to a worker when its compute resource is below the in flight cap and the launch rate of the resource allows it.
+ * Submission returns as soon as the launch is queued.
+ * <p>
+ * A launch is removed from the store when it is handed to a worker, so a restart never launches an experiment a
+ * second time. A launch which was running when the orchestrator stopped has to be launched again by the user.
+ */
+public class ExperimentLaunchScheduler {
+
+    private final static Logger logger = LoggerFactory.getLogger(ExperimentLaunchScheduler.class);
+
+    private static final long METRICS_LOG_INTERVAL_MS = 60000;
+
+    public static class LaunchRequest {
+
+        private final String experimentId;
+        private final String gatewayId;
+        private final String resourceId;
+        private final String token;
+        private final long queuedTime;
+
+        public LaunchRequest(String experimentId, String gatewayId, String resourceId, String token, long queuedTime) {
+            this.experimentId = experimentId;
+            this.gatewayId = gatewayId;
+            this.resourceId = resourceId;
+            this.token = token;
+            this.queuedTime = queuedTime;
+        }
+
+        public String getExperimentId() {
+            return experimentId;
+        }
+
+        public String getGatewayId() {
+            return gatewayId;
+        }
+
+        public String getResourceId() {
+            return resourceId;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public long getQueuedTime() {
+            return queuedTime;
+        }
+    }
+
+    /**
+     * Keeps the queued launches across restarts of the orchestrator
+     */
+    public interface LaunchStore {
+
+        void save(LaunchRequest request) throws Exception;
+
+        void remove(String experimentId) throws Exception;
+
+        List<LaunchRequest> loadAll() throws Exception;
+    }
+
+    public interface Launcher {
+
+        void launch(LaunchRequest request) throws Exception;
+    }
+
+    /**
+     * Called by {@link #submit(LaunchRequest, AcceptListener)} once the launch is saved and before it can be handed to a
+     * worker
+     */
+    public interface AcceptListener {
+
+        void accepted(LaunchRequest request) throws Exception;
+    }
+
+    /**
+     * A launch in the queue of its gateway. The sequence keeps the submission order across compute resources
+     */
+    private static class QueuedLaunch {
+
+        private final LaunchRequest request;
+        private final long sequence;
+
+        private QueuedLaunch(LaunchRequest request, long sequence) {
+            this.request = request;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Queued launches of a gateway, kept in a queue per compute resource so that the dispatcher only looks at the
+     * oldest launch of each resource
+     */
+    private static class GatewayQueue {
+
+        private final LinkedHashMap<String, ArrayDeque<QueuedLaunch>> resourceQueues = new LinkedHashMap<>();
+        private int size;
+    }
+
+    /**
+     * In flight count and token bucket of a compute resource. Guarded by the scheduler lock
+     */
+    private static class ResourceGate {
+
+        private int inFlight;
+        private double tokens;
+        private long lastRefill;
+
+        private ResourceGate(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+    }
+
+    private final int workers;
+    private final int resourceInFlightCap;
+    private final int resourceLaunchesPerMinute;
+    private final LaunchStore launchStore;
+    private final Launcher launcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // Queued launches of each gateway. The iteration order of the map is the round robin order
+    private final LinkedHashMap<String, GatewayQueue> gatewayQueues = new LinkedHashMap<>();
+    private final Map<String, QueuedLaunch> queuedExperiments = new HashMap<>();
+    // Experiments being saved to the store by submit and experiments handed to a worker
+    private final Set<String> submittingExperiments = new HashSet<>();
+    private final Set<String> launchingExperiments = new HashSet<>();
+    private final Map<String, ResourceGate> resourceGates = new HashMap<>();
+    private long nextSequence;
+    private int running;
+
+    private long launchedCount;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+    private long lastMetricsLog;
+
+    private ExecutorService workerPool;
+    private Thread dispatcher;
+    private volatile boolean stopped;
+
+    /**
+     * @param workers maximum number of launches running at once
+     * @param resourceInFlightCap maximum number of launches running at once for a compute resource. 0 for no limit
+     * @param resourceLaunchesPerMinute maximum launches started per minute for a compute resource. 0 for no limit
+     */
+    public ExperimentLaunchScheduler(int workers, int resourceInFlightCap, int resourceLaunchesPerMinute,
+                                     LaunchStore launchStore, Launcher launcher) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of launch workers should be positive but was " + workers);
+        }
+        this.workers = workers;
+        this.resourceInFlightCap = resourceInFlightCap;
+        this.resourceLaunchesPerMinute = resourceLaunchesPerMinute;
+        this.launchStore = launchStore;
+        this.launcher = launcher;
+    }
+
+    /**
+     * Re-queues the launches left in the store by a previous run and starts dispatching
+     */
+    public void start() throws Exception {
+        List<LaunchRequest> pending = new ArrayList<>(launchStore.loadAll());
+        pending.sort((r1, r2) -> Long.compare(r1.getQueuedTime(), r2.getQueuedTime()));
+        int recovered = 0;
+        lock.lock();
+        try {
+            for (LaunchRequest request : pending) {
+                recovered += enqueue(request) ? 1 : 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (recovered > 0) {
+            logger.info("Recovered " + recovered + " queued experiment launches");
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workerPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                r -> new Thread(r, "experiment-launcher-" + threadCount.incrementAndGet()));
+        dispatcher = new Thread(this::dispatch, "experiment-launch-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    public void stop() {
+        stopped = true;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (workerPool != null) {
+            workerPool.shutdown();
+        }
+    }
+
+    /**
+     * Persists and queues the launch. Returns the number of launches queued before this one
+     *
+     * @throws IllegalStateException if a launch of the experiment is already queued or running
+     */
+    public int submit(LaunchRequest request) throws Exception {
+        return submit(request, null);
+    }
+
+    /**
+     * Same as {@link #submit(LaunchRequest)}, calling the listener before the launch is queued so that whatever the
+     * listener records can not overtake the launch. The launch is dropped if the listener fails.
+     */
+    public int submit(LaunchRequest request, AcceptListener listener) throws Exception {
+        String experimentId = request.getExperimentId();
+        lock.lock();
+        try {
+            if (isKnown(experimentId)) {
+                throw new IllegalStateException("Launch of experiment " + experimentId + " is already queued or running");
+            }
+            submittingExperiments.add(experimentId);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            launchStore.save(request);
+        } catch (Exception e) {
+            release(experimentId);
+            throw e;
+        }
+        if (listener != null) {
+            try {
+                listener.accepted(request);
+            } catch (Exception e) {
+                try {
+                    launchStore.remove(experimentId);
+                } catch (Exception re) {
+                    logger.warn("Failed to remove the rejected launch of experiment " + experimentId + " from the store", re);
+                }
+                release(experimentId);
+                throw e;
+            }
+        }
+
+        lock.lock();
+        try {
+            submittingExperiments.remove(experimentId);
+            int ahead = queuedExperiments.size();
+            enqueue(request);
+            changed.signalAll();
+            return ahead;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the launch if it has not been handed to a worker yet
+     *
+     * @return true if the launch was still in the queue
+     */
+    public boolean remove(String experimentId) throws Exception {
+        lock.lock();
+        try {
+            QueuedLaunch launch = queuedExperiments.remove(experimentId);
+            if (launch == null) {
+                return false;
+            }
+            GatewayQueue queue = gatewayQueues.get(launch.request.getGatewayId());
+            ArrayDeque<QueuedLaunch> resourceQueue = queue.resourceQueues.get(launch.request.getResourceId());
+            resourceQueue.remove(launch);
+            if (resourceQueue.isEmpty()) {
+                queue.resourceQueues.remove(launch.request.getResourceId());
+            }
+            if (--queue.size == 0) {
+                gatewayQueues.remove(launch.request.getGatewayId());
+            }
+        } finally {
+            lock.unlock();
+        }
+        launchStore.remove(experimentId);
+        return true;
+    }
+
+    private void release(String experimentId) {
+        lock.lock();
+        try {
+            submittingExperiments.remove(experimentId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isKnown(String experimentId) {
+        return queuedExperiments.containsKey(experimentId) || submittingExperiments.contains(experimentId) ||
+                launchingExperiments.contains(experimentId);
+    }
+
+    private boolean enqueue(LaunchRequest request) {
+        if (isKnown(request.getExperimentId())) {
+            return false;
+        }
+        QueuedLaunch launch = new QueuedLaunch(request, nextSequence++);
+        queuedExperiments.put(request.getExperimentId(), launch);
+        GatewayQueue queue = gatewayQueues.computeIfAbsent(request.getGatewayId(), id -> new GatewayQueue());
+        queue.resourceQueues.computeIfAbsent(request.getResourceId(), id -> new ArrayDeque<>()).add(launch);
+        queue.size++;
+        return true;
+    }
+
+    private void dispatch() {
+        while (!stopped) {
+            LaunchRequest next;
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                logMetrics(now);
+                next = running < workers ? pollAdmissible(now) : null;
+                if (next == null) {
+                    // Rate limited resources get a token back within a second for any sensible rate
+                    changed.await(!queuedExperiments.isEmpty() ? 1000 : METRICS_LOG_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                running++;
+                resourceGates.get(next.getResourceId()).inFlight++;
+                launchingExperiments.add(next.getExperimentId());
+                long waited = now - next.getQueuedTime();
+                launchedCount++;
+                totalWaitMillis += waited;
+                maxWaitMillis = Math.max(maxWaitMillis, waited);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            final LaunchRequest request = next;
+            workerPool.execute(() -> runLaunch(request));
+        }
+        logger.info("Experiment launch dispatcher stopped");
+    }
+
+    /**
+     * Takes the oldest admissible launch of the first gateway which has one, starting from the gateway after the one
+     * served last. The served gateway is moved to the end of the round robin order. Only the oldest launch of each
+     * compute resource is looked at, and a resource found blocked is skipped for the rest of the pass
+     */
+    private LaunchRequest pollAdmissible(long now) {
+        Set<String> blockedResources = new HashSet<>();
+        for (Iterator<Map.Entry<String, GatewayQueue>> it = gatewayQueues.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, GatewayQueue> entry = it.next();
+            GatewayQueue queue = entry.getValue();
+            ArrayDeque<QueuedLaunch> oldest = null;
+            for (Map.Entry<String, ArrayDeque<QueuedLaunch>> resourceQueue : queue.resourceQueues.entrySet()) {
+                String resourceId = resourceQueue.getKey();
+                if (oldest != null && resourceQueue.getValue().peek().sequence > oldest.peek().sequence) {
+                    continue;
+                }
+                if (blockedResources.contains(resourceId)) {
+                    continue;
+                }
+                if (!isAdmissible(resourceId, now)) {
+                    blockedResources.add(resourceId);
+                    continue;
+                }
+                oldest = resourceQueue.getValue();
+            }
+            if (oldest != null) {
+                LaunchRequest request = oldest.poll().request;
+                if (oldest.isEmpty()) {
+                    queue.resourceQueues.remove(request.getResourceId());
+                }
+                queue.size--;
+                queuedExperiments.remove(request.getExperimentId());
+                takeToken(request.getResourceId());
+                it.remove();
+                if (queue.size > 0) {
+                    gatewayQueues.put(entry.getKey(), queue);
+                }
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAdmissible(String resourceId, long now) {
+        ResourceGate gate = resourceGates.computeIfAbsent(resourceId, id -> new ResourceGate(resourceLaunchesPerMinute, now));
+        if (resourceInFlightCap > 0 && gate.inFlight >= resourceInFlightCap) {
+            return false;
+        }
+        if (resourceLaunchesPerMinute > 0) {
+            gate.tokens = Math.min(resourceLaunchesPerMinute,
+                    gate.tokens + (now - gate.lastRefill) * resourceLaunchesPerMinute / 60000.0);
+            gate.lastRefill = now;
+            return gate.tokens >= 1;
+        }
+        return true;
+    }
+
+    private void takeToken(String resourceId) {
+        if (resourceLaunchesPerMinute > 0) {
+            resourceGates.get(resourceId).tokens--;
+        }
+    }
+
+    private void runLaunch(LaunchRequest request) {
+        try {
+            launchStore.remove(request.getExperimentId());
+        } catch (Exception e) {
+            logger.warn("Failed to remove experiment " + request.getExperimentId() + " from the launch store", e);
+        }
+        try {
+            launcher.launch(request);
+        } catch (Throwable e) {
+            logger.error("Failed to launch experiment " + request.getExperimentId(), e);
+        } finally {
+            lock.lock();
+            try {
+                launchingExperiments.remove(request.getExperimentId());
+                running--;
+                ResourceGate gate = resourceGates.get(request.getResourceId());
+                gate.inFlight--;
+                if (gate.inFlight == 0 && resourceLaunchesPerMinute <= 0) {
+                    resourceGates.remove(request.getResourceId());
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void logMetrics(long now) {
+        if (now - lastMetricsLog >= METRICS_LOG_INTERVAL_MS && (!queuedExperiments.isEmpty() || running > 0)) {
+            lastMetricsLog = now;
+            logger.info("Experiment launch queue depth " + queuedExperiments.size() + ", running " + running + ", launched " +
+                    launchedCount + ", average wait " + getAverageWaitMillisLocked() + " ms, max wait " + maxWaitMillis + " ms");
+        }
+    }
+
+    private long getAverageWaitMillisLocked() {
+        return launchedCount == 0 ? 0 : totalWaitMillis / launchedCount;
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queuedExperiments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Integer> getQueueDepthPerGateway() {
+        lock.lock();
+        try {
+            Map<String, Integer> depths = new HashMap<>();
+            gatewayQueues.forEach((gatewayId, queue) -> depths.put(gatewayId, queue.size));
+            return Collections.unmodifiableMap(depths);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight(String resourceId) {
+        lock.lock();
+        try {
+            ResourceGate gate = resourceGates.get(resourceId);
+            return gate == null ? 0 : gate.inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Average time in queue of the launches handed to workers so far
+     */
+    public long getAverageWaitMillis() {
+        lock.lock();
+        try {
+            return getAverageWaitMillisLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxWaitMillis() {
+        lock.lock();
+        try {
+            return maxWaitMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
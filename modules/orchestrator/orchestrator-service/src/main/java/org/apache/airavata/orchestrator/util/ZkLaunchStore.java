@@ -0,0 +1,90 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.util;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.utils.ZKPaths;
+import org.apache.zookeeper.KeeperException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps each queued launch as a child node of <code>/airavata/orchestrator/&lt;server name&gt;/launch-queue</code>
+ */
+public class ZkLaunchStore implements ExperimentLaunchScheduler.LaunchStore {
+
+    private final static Logger logger = LoggerFactory.getLogger(ZkLaunchStore.class);
+
+    private final CuratorFramework curatorClient;
+    private final String queuePath;
+
+    public ZkLaunchStore(CuratorFramework curatorClient, String serverName) {
+        this.curatorClient = curatorClient;
+        this.queuePath = ZKPaths.makePath("/airavata/orchestrator", serverName, "launch-queue");
+    }
+
+    @Override
+    public void save(ExperimentLaunchScheduler.LaunchRequest request) throws Exception {
+        String data = request.getGatewayId() + "\n" + request.getResourceId() + "\n" + request.getToken() + "\n" +
+                request.getQueuedTime();
+        String path = ZKPaths.makePath(queuePath, request.getExperimentId());
+        try {
+            curatorClient.create().creatingParentsIfNeeded().forPath(path, data.getBytes(StandardCharsets.UTF_8));
+        } catch (KeeperException.NodeExistsException e) {
+            curatorClient.setData().forPath(path, data.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void remove(String experimentId) throws Exception {
+        try {
+            curatorClient.delete().forPath(ZKPaths.makePath(queuePath, experimentId));
+        } catch (KeeperException.NoNodeException e) {
+            // already removed
+        }
+    }
+
+    @Override
+    public List<ExperimentLaunchScheduler.LaunchRequest> loadAll() throws Exception {
+        List<ExperimentLaunchScheduler.LaunchRequest> requests = new ArrayList<>();
+        if (curatorClient.checkExists().forPath(queuePath) == null) {
+            return requests;
+        }
+        for (String experimentId : curatorClient.getChildren().forPath(queuePath)) {
+            try {
+                byte[] data = curatorClient.getData().forPath(ZKPaths.makePath(queuePath, experimentId));
+                String[] parts = new String(data, StandardCharsets.UTF_8).split("\n");
+                if (parts.length != 4) {
+                    logger.warn("Ignoring malformed queued launch of experiment " + experimentId);
+                    continue;
+                }
+                requests.add(new ExperimentLaunchScheduler.LaunchRequest(experimentId, parts[0], parts[1], parts[2],
+                        Long.parseLong(parts[3])));
+            } catch (KeeperException.NoNodeException e) {
+                // launched or removed while reading
+            }
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.orchestrator.util;
+
+import org.apache.airavata.orchestrator.util.ExperimentLaunchScheduler.LaunchRequest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ExperimentLaunchSchedulerTest {
+
+    private final MemoryLaunchStore launchStore = new MemoryLaunchStore();
+    private final BlockingLauncher launcher = new BlockingLauncher();
+    private ExperimentLaunchScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        launcher.releaseAll();
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    @Test
+    public void testRoundRobinAcrossGateways() throws Exception {
+        scheduler = new ExperimentLaunchScheduler(1, 0, 0, launchStore, launcher);
+        submit("a1", "gatewayA", "resource1");
+        submit("a2", "gatewayA", "resource2");
+        submit("a3", "gatewayA", "resource1");
+        submit("b1", "gatewayB", "resource1");
+        submit("b2", "gatewayB", "resource2");
+        Assert.assertEquals(3, (int) scheduler.getQueueDepthPerGateway().get("gatewayA"));
+        Assert.assertEquals(2, (int) scheduler.getQueueDepthPerGateway().get("gatewayB"));
+
+        scheduler.start();
+        launcher.awaitLaunches(5);
+
+        Assert.assertEquals(Arrays.asList("a1", "b1", "a2", "b2", "a3"), launcher.getLaunched());
+        Assert.assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    @Test
+    public void testResourceInFlightCap() throws Exception {
+        launcher.block = true;
+        scheduler = new ExperimentLaunchScheduler(4, 1, 0, launchStore, launcher);
+        scheduler.start();
+        submit("e1", "gatewayA", "resource1");
+        submit("e2", "gatewayA", "resource1");
+        submit("e3", "gatewayA", "resource2");
+
+        // e2 waits for e1, but does not hold back e3 of another resource
+        launcher.awaitLaunches(2);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("e1", "e3")), new HashSet<>(launcher.getLaunched()));
+        Assert.assertEquals(1, scheduler.getInFlight("resource1"));
+        Assert.assertEquals(1, scheduler.getQueueDepth());
+
+        launcher.release("e1");
+        launcher.awaitLaunches(3);
+        Assert.assertEquals("e2", launcher.getLaunched().get(2));
+        Assert.assertEquals(1, scheduler.getInFlight("resource1"));
+        Assert.assertEquals(2, scheduler.getRunning());
+    }
+
+    @Test
+    public void testResourceRateLimit() throws Exception {
+        // the bucket starts full with two launches and gets the next token after 30 seconds
+        scheduler = new ExperimentLaunchScheduler(4, 0, 2, launchStore, launcher);
+        submit("e1", "gatewayA", "resource1");
+        submit("e2", "gatewayB", "resource1");
+        submit("e3", "gatewayA", "resource1");
+        submit("e4", "gatewayA", "resource2");
+        scheduler.start();
+
+        launcher.awaitLaunches(3);
+        Thread.sleep(300);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("e1", "e2", "e4")), new HashSet<>(launcher.getLaunched()));
+        Assert.assertEquals(1, scheduler.getQueueDepth());
+        Assert.assertEquals(0, scheduler.getRunning());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        launcher.block = true;
+        scheduler = new ExperimentLaunchScheduler(1, 0, 0, launchStore, launcher);
+        scheduler.start();
+        submit("e1", "gatewayA", "resource1");
+        submit("e2", "gatewayA", "resource1");
+        launcher.awaitLaunches(1);
+
+        Assert.assertTrue(scheduler.remove("e2"));
+        Assert.assertFalse(launchStore.requests.containsKey("e2"));
+        Assert.assertEquals(0, scheduler.getQueueDepth());
+        Assert.assertNull(scheduler.getQueueDepthPerGateway().get("gatewayA"));
+        // launches handed to a worker can not be removed any more
+        Assert.assertFalse(scheduler.remove("e1"));
+        Assert.assertFalse(scheduler.remove("unknown"));
+
+        launcher.release("e1");
+        Thread.sleep(300);
+        Assert.assertEquals(Collections.singletonList("e1"), launcher.getLaunched());
+    }
+
+    @Test
+    public void testRecoveryFromStore() throws Exception {
+        launchStore.save(new LaunchRequest("e2", "gatewayA", "resource1", "token", 2000));
+        launchStore.save(new LaunchRequest("e1", "gatewayA", "resource1", "token", 1000));
+        launchStore.save(new LaunchRequest("e3", "gatewayA", "resource1", "token", 3000));
+        scheduler = new ExperimentLaunchScheduler(1, 0, 0, launchStore, launcher);
+
+        scheduler.start();
+        launcher.awaitLaunches(3);
+
+        Assert.assertEquals(Arrays.asList("e1", "e2", "e3"), launcher.getLaunched());
+        Assert.assertTrue(launchStore.requests.isEmpty());
+    }
+
+    @Test
+    public void testRejectsDuplicateLaunches() throws Exception {
+        launcher.block = true;
+        scheduler = new ExperimentLaunchScheduler(1, 0, 0, launchStore, launcher);
+        scheduler.start();
+        submit("e1", "gatewayA", "resource1");
+        submit("e2", "gatewayA", "resource1");
+        launcher.awaitLaunches(1);
+
+        // the running launch is not in the store any more, so a restart does not launch it again
+        Assert.assertEquals(Collections.singleton("e2"), launchStore.requests.keySet());
+        for (String experimentId : new String[]{"e1", "e2"}) {
+            try {
+                submit(experimentId, "gatewayA", "resource1");
+                Assert.fail("The launch of " + experimentId + " should be rejected");
+            } catch (IllegalStateException expected) {
+            }
+        }
+        Assert.assertEquals(1, scheduler.getQueueDepth());
+
+        launcher.release("e1");
+        launcher.awaitLaunches(2);
+        launcher.release("e2");
+        waitUntilIdle();
+        submit("e1", "gatewayA", "resource1");
+        launcher.awaitLaunches(3);
+        Assert.assertEquals(Arrays.asList("e1", "e2", "e1"), launcher.getLaunched());
+    }
+
+    @Test
+    public void testListenerRunsBeforeLaunch() throws Exception {
+        scheduler = new ExperimentLaunchScheduler(1, 0, 0, launchStore, launcher);
+        scheduler.start();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        scheduler.submit(new LaunchRequest("e1", "gatewayA", "resource1", "token", System.currentTimeMillis()), request -> {
+            Thread.sleep(200);
+            events.add("accepted " + request.getExperimentId() + " launched " + launcher.getLaunched().size());
+        });
+        launcher.awaitLaunches(1);
+        Assert.assertEquals(Collections.singletonList("accepted e1 launched 0"), events);
+
+        try {
+            scheduler.submit(new LaunchRequest("e2", "gatewayA", "resource1", "token", System.currentTimeMillis()), request -> {
+                throw new IllegalArgumentException("status update failed");
+            });
+            Assert.fail("The failure of the listener should be thrown");
+        } catch (IllegalArgumentException expected) {
+        }
+        Thread.sleep(200);
+        Assert.assertEquals(Collections.singletonList("e1"), launcher.getLaunched());
+        Assert.assertTrue(launchStore.requests.isEmpty());
+        // the rejected launch can be submitted again
+        submit("e2", "gatewayA", "resource1");
+        launcher.awaitLaunches(2);
+    }
+
+    private void submit(String experimentId, String gatewayId, String resourceId) throws Exception {
+        scheduler.submit(new LaunchRequest(experimentId, gatewayId, resourceId, "token", System.currentTimeMillis()));
+    }
+
+    private void waitUntilIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scheduler.getRunning() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, scheduler.getRunning());
+    }
+
+    private static class MemoryLaunchStore implements ExperimentLaunchScheduler.LaunchStore {
+
+        private final Map<String, LaunchRequest> requests = new ConcurrentHashMap<>();
+
+        @Override
+        public void save(LaunchRequest request) {
+            requests.put(request.getExperimentId(), request);
+        }
+
+        @Override
+        public void remove(String experimentId) {
+            requests.remove(experimentId);
+        }
+
+        @Override
+        public List<LaunchRequest> loadAll() {
+            return new ArrayList<>(requests.values());
+        }
+    }
+
+    /**
+     * Records the launches. When blocking, a launch runs until the test releases it
+     */
+    private static class BlockingLauncher implements ExperimentLaunchScheduler.Launcher {
+
+        private final List<String> launched = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, CountDownLatch> releases = new ConcurrentHashMap<>();
+        private volatile boolean block;
+
+        @Override
+        public void launch(LaunchRequest request) throws Exception {
+            launched.add(request.getExperimentId());
+            if (block) {
+                releases.computeIfAbsent(request.getExperimentId(), id -> new CountDownLatch(1)).await();
+                releases.remove(request.getExperimentId());
+            }
+        }
+
+        private void release(String experimentId) {
+            releases.computeIfAbsent(experimentId, id -> new CountDownLatch(1)).countDown();
+        }
+
+        private void releaseAll() {
+            block = false;
+            releases.values().forEach(CountDownLatch::countDown);
+        }
+
+        private List<String> getLaunched() {
+            synchronized (launched) {
+                return new ArrayList<>(launched);
+            }
+        }
+
+        private void awaitLaunches(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            while (launched.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(count, launched.size());
+        }
+    }
+}
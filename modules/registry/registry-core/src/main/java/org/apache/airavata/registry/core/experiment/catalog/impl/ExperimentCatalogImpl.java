@@ -44,6 +44,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -625,6 +626,45 @@ public class ExperimentCatalogImpl implements ExperimentCatalog {
 
     }
 
+    /**
+     * This method is to retrieve the latest status of a set of data models in bulk, without loading their status
+     * history.
+     *
+     * @param dataType  EXPERIMENT_STATUS, PROCESS_STATUS, TASK_STATUS or JOB_STATUS
+     * @param fieldName field the data models are selected by. The id field of the experiment, process or task, or for
+     *                  jobs the experiment id to get the statuses of all the jobs of the experiments
+     * @param values    values for the field
+     * @return latest status thrift models keyed by the experiment, process, task or job id
+     * @throws RegistryException
+     */
+    @Override
+    public Map<String, Object> getLatestStatuses(ExperimentCatalogModelType dataType, String fieldName,
+                                                 List<String> values) throws RegistryException {
+        try {
+            Map<String, Object> result = new HashMap<String, Object>();
+            switch (dataType) {
+                case EXPERIMENT_STATUS:
+                    result.putAll(experimentRegistry.getLatestExperimentStatuses(fieldName, values));
+                    return result;
+                case PROCESS_STATUS:
+                    result.putAll(experimentRegistry.getLatestProcessStatuses(fieldName, values));
+                    return result;
+                case TASK_STATUS:
+                    result.putAll(experimentRegistry.getLatestTaskStatuses(fieldName, values));
+                    return result;
+                case JOB_STATUS:
+                    result.putAll(experimentRegistry.getLatestJobStatuses(fieldName, values));
+                    return result;
+                default:
+                    logger.error("Unsupported data type...", new UnsupportedOperationException());
+                    throw new UnsupportedOperationException();
+            }
+        } catch (Exception e) {
+            logger.error("Error while retrieving the latest statuses of " + dataType.toString(), new RegistryException(e));
+            throw new RegistryException("Error while retrieving the latest statuses of " + dataType.toString(), e);
+        }
+    }
+
     /**
      * This method is to retrieve all the identifiers according to given filtering criteria. For an example, if you want
      * to get all the experiment ids for a given gateway, your field name will be "gateway" and the value will be the
@@ -1220,6 +1220,74 @@ public class ExperimentRegistry {
         return getJob(cis, Constants.FieldConstants.JobConstants.JOB_STATUS);
     }
 
+    public Map<String, ExperimentStatus> getLatestExperimentStatuses(String fieldName, List<String> experimentIds) throws RegistryException {
+        Map<String, ExperimentStatus> latestStatuses = new HashMap<>();
+        if (!fieldName.equals(Constants.FieldConstants.ExperimentConstants.EXPERIMENT_ID)) {
+            logger.error("Unsupported field name to retrieve latest experiment statuses...");
+            return latestStatuses;
+        }
+        try {
+            for (Map.Entry<String, ExperimentStatusResource> entry : ExperimentResource.getLatestExperimentStatuses(experimentIds).entrySet()) {
+                latestStatuses.put(entry.getKey(), ThriftDataModelConversion.getExperimentStatus(entry.getValue()));
+            }
+        } catch (Exception e) {
+            logger.error("Error while getting latest experiment statuses..", e);
+            throw new RegistryException(e);
+        }
+        return latestStatuses;
+    }
+
+    public Map<String, ProcessStatus> getLatestProcessStatuses(String fieldName, List<String> processIds) throws RegistryException {
+        Map<String, ProcessStatus> latestStatuses = new HashMap<>();
+        if (!fieldName.equals(Constants.FieldConstants.ProcessConstants.PROCESS_ID)) {
+            logger.error("Unsupported field name to retrieve latest process statuses...");
+            return latestStatuses;
+        }
+        try {
+            for (Map.Entry<String, ProcessStatusResource> entry : ProcessResource.getLatestProcessStatuses(processIds).entrySet()) {
+                latestStatuses.put(entry.getKey(), ThriftDataModelConversion.getProcessStatus(entry.getValue()));
+            }
+        } catch (Exception e) {
+            logger.error("Error while getting latest process statuses..", e);
+            throw new RegistryException(e);
+        }
+        return latestStatuses;
+    }
+
+    public Map<String, TaskStatus> getLatestTaskStatuses(String fieldName, List<String> taskIds) throws RegistryException {
+        Map<String, TaskStatus> latestStatuses = new HashMap<>();
+        if (!fieldName.equals(Constants.FieldConstants.TaskConstants.TASK_ID)) {
+            logger.error("Unsupported field name to retrieve latest task statuses...");
+            return latestStatuses;
+        }
+        try {
+            for (Map.Entry<String, TaskStatusResource> entry : TaskResource.getLatestTaskStatuses(taskIds).entrySet()) {
+                latestStatuses.put(entry.getKey(), ThriftDataModelConversion.getTaskStatus(entry.getValue()));
+            }
+        } catch (Exception e) {
+            logger.error("Error while getting latest task statuses..", e);
+            throw new RegistryException(e);
+        }
+        return latestStatuses;
+    }
+
+    public Map<String, JobStatus> getLatestJobStatuses(String fieldName, List<String> experimentIds) throws RegistryException {
+        Map<String, JobStatus> latestStatuses = new HashMap<>();
+        if (!fieldName.equals(Constants.FieldConstants.JobConstants.EXPERIMENT_ID)) {
+            logger.error("Unsupported field name to retrieve latest job statuses...");
+            return latestStatuses;
+        }
+        try {
+            for (JobStatusResource statusResource : JobResource.getLatestJobStatusesOfExperiments(experimentIds)) {
+                latestStatuses.put(statusResource.getJobId(), ThriftDataModelConversion.getJobStatus(statusResource));
+            }
+        } catch (Exception e) {
+            logger.error("Error while getting latest job statuses..", e);
+            throw new RegistryException(e);
+        }
+        return latestStatuses;
+    }
+
 
     public List<ExperimentModel> getExperimentList(String fieldName, Object value) throws RegistryException {
         List<ExperimentModel> experiments = new ArrayList<ExperimentModel>();
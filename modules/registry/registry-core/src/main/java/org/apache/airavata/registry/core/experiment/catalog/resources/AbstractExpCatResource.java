@@ -39,6 +39,7 @@ public abstract class AbstractExpCatResource implements ExperimentCatResource {
 	public static final String EXPERIMENT_OUTPUT = "ExperimentOutput";
     public static final String EXPERIMENT_ERROR = "ExperimentError";
     public static final String EXPERIMENT_STATUS = "ExperimentStatus";
+    public static final String EXPERIMENT_LATEST_STATUS = "ExperimentLatestStatus";
     public static final String USER_CONFIGURATION_DATA = "UserConfigurationData";
     public static final String PROCESS = "Process";
     public static final String PROCESS_ERROR = "ProcessError";
@@ -46,11 +47,14 @@ public abstract class AbstractExpCatResource implements ExperimentCatResource {
     public static final String PROCESS_INPUT = "ProcessInput";
     public static final String PROCESS_OUTPUT = "ProcessOutput";
     public static final String PROCESS_STATUS = "ProcessStatus";
+    public static final String PROCESS_LATEST_STATUS = "ProcessLatestStatus";
     public static final String TASK = "Task";
     public static final String TASK_ERROR = "TaskError";
     public static final String TASK_STATUS = "TaskStatus";
+    public static final String TASK_LATEST_STATUS = "TaskLatestStatus";
     public static final String JOB = "Job";
     public static final String JOB_STATUS = "JobStatus";
+    public static final String JOB_LATEST_STATUS = "JobLatestStatus";
     public static final String PROCESS_WORKFLOW = "ProcessWorkflow";
 
 
@@ -25,6 +25,7 @@ import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResourc
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
 import org.apache.airavata.registry.core.experiment.catalog.model.*;
 import org.apache.airavata.registry.core.experiment.catalog.model.Process;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.core.experiment.catalog.utils.QueryGenerator;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
@@ -34,8 +35,11 @@ import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ExperimentResource extends AbstractExpCatResource {
     private static final Logger logger = LoggerFactory.getLogger(ExperimentResource.class);
@@ -210,6 +214,12 @@ public class ExperimentResource extends AbstractExpCatResource {
                     generator.setParameter(ExperimentStatusConstants.STATUS_ID, name);
                     q = generator.deleteQuery(em);
                     q.executeUpdate();
+                    // the latest status is picked out of the history again on the next status update
+                    generator = new QueryGenerator(EXPERIMENT_LATEST_STATUS);
+                    generator.setParameter(ExperimentStatusConstants.EXPERIMENT_ID, experimentId);
+                    generator.setParameter(ExperimentStatusConstants.STATUS_ID, name);
+                    q = generator.deleteQuery(em);
+                    q.executeUpdate();
                     break;
                 case EXPERIMENT_INPUT:
                     generator = new QueryGenerator(EXPERIMENT_INPUT);
@@ -586,10 +596,75 @@ public class ExperimentResource extends AbstractExpCatResource {
     }
 
     public ExperimentStatusResource getLastExperimentStatus() throws RegistryException{
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            ExperimentLatestStatus latestStatus = em.find(ExperimentLatestStatus.class, experimentId);
+            if (latestStatus != null) {
+                return Utils.createExperimentStatusResource(latestStatus);
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        return getLastExperimentStatusFromHistory();
+    }
+
+    private ExperimentStatusResource getLastExperimentStatusFromHistory() throws RegistryException{
         List<ExperimentStatusResource> experimentStatusResources = getExperimentStatuses();
         return experimentStatusResources.size() > 0 ? experimentStatusResources.get(0) : null;
     }
 
+    /**
+     * Returns the latest status of each of the given experiments, keyed by experiment id. Experiments without a status are left
+     * out of the returned map.
+     */
+    public static Map<String, ExperimentStatusResource> getLatestExperimentStatuses(Collection<String> experimentIds) throws RegistryException {
+        Map<String, ExperimentStatusResource> latestStatuses = new HashMap<>();
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            for (List<String> chunk : LatestStatusRule.partition(experimentIds)) {
+                Query q = em.createQuery("SELECT s FROM ExperimentLatestStatus s WHERE s.experimentId IN :experimentIds");
+                q.setParameter("experimentIds", chunk);
+                for (Object result : q.getResultList()) {
+                    ExperimentLatestStatus latestStatus = (ExperimentLatestStatus) result;
+                    latestStatuses.put(latestStatus.getExperimentId(), Utils.createExperimentStatusResource(latestStatus));
+                }
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        for (String experimentId : experimentIds) {
+            if (!latestStatuses.containsKey(experimentId)) {
+                ExperimentResource resource = new ExperimentResource();
+                resource.setExperimentId(experimentId);
+                ExperimentStatusResource status = resource.getLastExperimentStatusFromHistory();
+                if (status != null) {
+                    latestStatuses.put(experimentId, status);
+                }
+            }
+        }
+        return latestStatuses;
+    }
+
     public List<ExperimentErrorResource> getExperimentErrors() throws RegistryException{
         List<ExperimentErrorResource> experimentErrorResources = new ArrayList<>();
         List<ExperimentCatResource> resources = get(ResourceType.EXPERIMENT_ERROR);
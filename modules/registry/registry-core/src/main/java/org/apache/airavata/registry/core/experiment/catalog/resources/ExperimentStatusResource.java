@@ -22,14 +22,19 @@ package org.apache.airavata.registry.core.experiment.catalog.resources;
 import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResource;
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
+import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentLatestStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentStatusPK;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ExperimentStatusResource extends AbstractExpCatResource {
@@ -140,6 +145,7 @@ public class ExperimentStatusResource extends AbstractExpCatResource {
             }else {
                 em.merge(experimentStatus);
             }
+            updateLatestStatus(em, experimentStatus);
             em.getTransaction().commit();
             if (em.isOpen()) {
                 if (em.getTransaction().isActive()){
@@ -159,4 +165,41 @@ public class ExperimentStatusResource extends AbstractExpCatResource {
             }
         }
     }
+
+    /**
+     * Keeps EXPERIMENT_LATEST_STATUS in line with the status being saved, in the same transaction
+     */
+    private void updateLatestStatus(EntityManager em, ExperimentStatus savedStatus) {
+        ExperimentLatestStatus latestStatus = em.find(ExperimentLatestStatus.class, experimentId, LockModeType.PESSIMISTIC_WRITE);
+        ExperimentStatus latest = savedStatus;
+        if (latestStatus != null && !statusId.equals(latestStatus.getStatusId())) {
+            if (!LatestStatusRule.EXPERIMENT.supersedes(savedStatus.getState(), savedStatus.getTimeOfStateChange(),
+                    latestStatus.getState(), latestStatus.getTimeOfStateChange())) {
+                return;
+            }
+        } else {
+            // first status of the experiment, an experiment saved before the latest status was maintained or a change to the
+            // latest status itself, so the latest status is picked out of the whole history
+            Query q = em.createQuery("SELECT s FROM ExperimentStatus s WHERE s.experimentId = :experimentId");
+            q.setParameter("experimentId", experimentId);
+            List<ExperimentStatus> statuses = new ArrayList<>();
+            for (Object result : q.getResultList()) {
+                ExperimentStatus status = (ExperimentStatus) result;
+                if (!statusId.equals(status.getStatusId())) {
+                    statuses.add(status);
+                }
+            }
+            statuses.add(savedStatus);
+            latest = LatestStatusRule.EXPERIMENT.selectLatest(statuses, ExperimentStatus::getState, ExperimentStatus::getTimeOfStateChange);
+        }
+        if (latestStatus == null) {
+            latestStatus = new ExperimentLatestStatus();
+            latestStatus.setExperimentId(experimentId);
+            em.persist(latestStatus);
+        }
+        latestStatus.setStatusId(latest.getStatusId());
+        latestStatus.setState(latest.getState());
+        latestStatus.setTimeOfStateChange(latest.getTimeOfStateChange());
+        latestStatus.setReason(latest.getReason());
+    }
 }
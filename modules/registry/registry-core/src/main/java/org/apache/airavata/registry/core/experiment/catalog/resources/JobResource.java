@@ -24,8 +24,11 @@ import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResource;
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
 import org.apache.airavata.registry.core.experiment.catalog.model.Job;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobLatestStatusPK;
 import org.apache.airavata.registry.core.experiment.catalog.model.JobPK;
 import org.apache.airavata.registry.core.experiment.catalog.model.JobStatus;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.core.experiment.catalog.utils.QueryGenerator;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
@@ -35,8 +38,11 @@ import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class JobResource extends AbstractExpCatResource {
@@ -175,6 +181,11 @@ public class JobResource extends AbstractExpCatResource {
                     generator.setParameter(JobStatusConstants.STATUS_ID, name);
                     q = generator.deleteQuery(em);
                     q.executeUpdate();
+                    // the latest status is picked out of the history again on the next status update
+                    generator = new QueryGenerator(JOB_LATEST_STATUS);
+                    generator.setParameter(JobStatusConstants.STATUS_ID, name);
+                    q = generator.deleteQuery(em);
+                    q.executeUpdate();
                     break;
                 default:
                     logger.error("Unsupported resource type for job details resource.", new IllegalArgumentException());
@@ -402,7 +413,85 @@ public class JobResource extends AbstractExpCatResource {
     }
 
     public JobStatusResource getLastJobStatus() throws RegistryException{
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            JobLatestStatus latestStatus = em.find(JobLatestStatus.class, new JobLatestStatusPK(jobId, taskId));
+            if (latestStatus != null) {
+                return Utils.createJobStatusResource(latestStatus);
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        return getLastJobStatusFromHistory();
+    }
+
+    private JobStatusResource getLastJobStatusFromHistory() throws RegistryException{
         List<JobStatusResource> jobStatuses = getJobStatuses();
         return jobStatuses.size() > 0 ? jobStatuses.get(0): null;
     }
+
+    /**
+     * Returns the latest status of every job of the given experiments. Jobs without a status are left out.
+     */
+    public static List<JobStatusResource> getLatestJobStatusesOfExperiments(Collection<String> experimentIds) throws RegistryException {
+        List<JobStatusResource> latestStatuses = new ArrayList<>();
+        List<JobLatestStatusPK> jobsWithoutLatestStatus = new ArrayList<>();
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            for (List<String> chunk : LatestStatusRule.partition(experimentIds)) {
+                Query q = em.createQuery("SELECT s FROM JobLatestStatus s, Task t, Process p WHERE s.taskId = t.taskId " +
+                        "AND t.parentProcessId = p.processId AND p.experimentId IN :experimentIds");
+                q.setParameter("experimentIds", chunk);
+                Set<JobLatestStatusPK> jobsWithLatestStatus = new HashSet<>();
+                for (Object result : q.getResultList()) {
+                    JobLatestStatus latestStatus = (JobLatestStatus) result;
+                    latestStatuses.add(Utils.createJobStatusResource(latestStatus));
+                    jobsWithLatestStatus.add(new JobLatestStatusPK(latestStatus.getJobId(), latestStatus.getTaskId()));
+                }
+
+                q = em.createQuery("SELECT j.jobId, j.taskId FROM Job j, Task t, Process p WHERE j.taskId = t.taskId " +
+                        "AND t.parentProcessId = p.processId AND p.experimentId IN :experimentIds");
+                q.setParameter("experimentIds", chunk);
+                for (Object result : q.getResultList()) {
+                    Object[] jobKey = (Object[]) result;
+                    JobLatestStatusPK job = new JobLatestStatusPK((String) jobKey[0], (String) jobKey[1]);
+                    if (!jobsWithLatestStatus.contains(job)) {
+                        jobsWithoutLatestStatus.add(job);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        for (JobLatestStatusPK job : jobsWithoutLatestStatus) {
+            JobResource resource = new JobResource();
+            resource.setJobId(job.getJobId());
+            resource.setTaskId(job.getTaskId());
+            JobStatusResource status = resource.getLastJobStatusFromHistory();
+            if (status != null) {
+                latestStatuses.add(status);
+            }
+        }
+        return latestStatuses;
+    }
 }
\ No newline at end of file
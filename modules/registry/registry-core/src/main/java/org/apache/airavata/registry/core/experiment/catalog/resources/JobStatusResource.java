@@ -23,14 +23,20 @@ import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResource;
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobLatestStatusPK;
 import org.apache.airavata.registry.core.experiment.catalog.model.JobStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.JobStatusPK;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 public class JobStatusResource extends AbstractExpCatResource {
@@ -155,6 +161,7 @@ public class JobStatusResource extends AbstractExpCatResource {
             }else {
                 em.merge(jobStatus);
             }
+            updateLatestStatus(em, jobStatus);
             em.getTransaction().commit();
             if (em.isOpen()) {
                 if (em.getTransaction().isActive()){
@@ -174,4 +181,43 @@ public class JobStatusResource extends AbstractExpCatResource {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Keeps JOB_LATEST_STATUS in line with the status being saved, in the same transaction
+     */
+    private void updateLatestStatus(EntityManager em, JobStatus savedStatus) {
+        JobLatestStatus latestStatus = em.find(JobLatestStatus.class, new JobLatestStatusPK(jobId, taskId), LockModeType.PESSIMISTIC_WRITE);
+        JobStatus latest = savedStatus;
+        if (latestStatus != null && !statusId.equals(latestStatus.getStatusId())) {
+            if (!LatestStatusRule.JOB.supersedes(savedStatus.getState(), savedStatus.getTimeOfStateChange(),
+                    latestStatus.getState(), latestStatus.getTimeOfStateChange())) {
+                return;
+            }
+        } else {
+            // first status of the job, a job saved before the latest status was maintained or a change to the
+            // latest status itself, so the latest status is picked out of the whole history
+            Query q = em.createQuery("SELECT s FROM JobStatus s WHERE s.jobId = :jobId AND s.taskId = :taskId");
+            q.setParameter("jobId", jobId);
+            q.setParameter("taskId", taskId);
+            List<JobStatus> statuses = new ArrayList<>();
+            for (Object result : q.getResultList()) {
+                JobStatus status = (JobStatus) result;
+                if (!statusId.equals(status.getStatusId())) {
+                    statuses.add(status);
+                }
+            }
+            statuses.add(savedStatus);
+            latest = LatestStatusRule.JOB.selectLatest(statuses, JobStatus::getState, JobStatus::getTimeOfStateChange);
+        }
+        if (latestStatus == null) {
+            latestStatus = new JobLatestStatus();
+            latestStatus.setJobId(jobId);
+            latestStatus.setTaskId(taskId);
+            em.persist(latestStatus);
+        }
+        latestStatus.setStatusId(latest.getStatusId());
+        latestStatus.setState(latest.getState());
+        latestStatus.setTimeOfStateChange(latest.getTimeOfStateChange());
+        latestStatus.setReason(latest.getReason());
+    }
+}
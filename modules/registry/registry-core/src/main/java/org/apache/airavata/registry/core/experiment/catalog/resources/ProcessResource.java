@@ -25,6 +25,7 @@ import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResourc
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
 import org.apache.airavata.registry.core.experiment.catalog.model.Process;
 import org.apache.airavata.registry.core.experiment.catalog.model.*;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.core.experiment.catalog.utils.QueryGenerator;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
@@ -34,7 +35,10 @@ import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ProcessResource extends AbstractExpCatResource {
     private static final Logger logger = LoggerFactory.getLogger(ProcessResource.class);
@@ -257,6 +261,11 @@ public class ProcessResource extends AbstractExpCatResource {
                     generator.setParameter(ProcessStatusConstants.STATUS_ID, name);
                     q = generator.deleteQuery(em);
                     q.executeUpdate();
+                    // the latest status is picked out of the history again on the next status update
+                    generator = new QueryGenerator(PROCESS_LATEST_STATUS);
+                    generator.setParameter(ProcessStatusConstants.STATUS_ID, name);
+                    q = generator.deleteQuery(em);
+                    q.executeUpdate();
                     break;
                 case PROCESS_INPUT:
                     generator = new QueryGenerator(PROCESS_INPUT);
@@ -689,6 +698,71 @@ public class ProcessResource extends AbstractExpCatResource {
     }
 
     public ProcessStatusResource getProcessStatus() throws RegistryException{
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            ProcessLatestStatus latestStatus = em.find(ProcessLatestStatus.class, processId);
+            if (latestStatus != null) {
+                return Utils.createProcessStatusResource(latestStatus);
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        return getProcessStatusFromHistory();
+    }
+
+    /**
+     * Returns the latest status of each of the given processes, keyed by process id. Processes without a status are left
+     * out of the returned map.
+     */
+    public static Map<String, ProcessStatusResource> getLatestProcessStatuses(Collection<String> processIds) throws RegistryException {
+        Map<String, ProcessStatusResource> latestStatuses = new HashMap<>();
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            for (List<String> chunk : LatestStatusRule.partition(processIds)) {
+                Query q = em.createQuery("SELECT s FROM ProcessLatestStatus s WHERE s.processId IN :processIds");
+                q.setParameter("processIds", chunk);
+                for (Object result : q.getResultList()) {
+                    ProcessLatestStatus latestStatus = (ProcessLatestStatus) result;
+                    latestStatuses.put(latestStatus.getProcessId(), Utils.createProcessStatusResource(latestStatus));
+                }
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        for (String processId : processIds) {
+            if (!latestStatuses.containsKey(processId)) {
+                ProcessResource resource = new ProcessResource();
+                resource.setProcessId(processId);
+                ProcessStatusResource status = resource.getProcessStatusFromHistory();
+                if (status != null) {
+                    latestStatuses.put(processId, status);
+                }
+            }
+        }
+        return latestStatuses;
+    }
+
+    private ProcessStatusResource getProcessStatusFromHistory() throws RegistryException{
         List<ProcessStatusResource> processStatusResources = getProcessStatuses();
         if(processStatusResources.size() == 0){
             return null;
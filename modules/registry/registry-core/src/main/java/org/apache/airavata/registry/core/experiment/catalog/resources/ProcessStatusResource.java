@@ -23,14 +23,19 @@ import org.apache.airavata.common.utils.AiravataUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResource;
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
+import org.apache.airavata.registry.core.experiment.catalog.model.ProcessLatestStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.ProcessStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.ProcessStatusPK;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ProcessStatusResource extends AbstractExpCatResource {
@@ -144,6 +149,7 @@ public class ProcessStatusResource extends AbstractExpCatResource {
             }else {
                 em.merge(processStatus);
             }
+            updateLatestStatus(em, processStatus);
             em.getTransaction().commit();
             if (em.isOpen()) {
                 if (em.getTransaction().isActive()){
@@ -163,4 +169,41 @@ public class ProcessStatusResource extends AbstractExpCatResource {
             }
         }
     }
+
+    /**
+     * Keeps PROCESS_LATEST_STATUS in line with the status being saved, in the same transaction
+     */
+    private void updateLatestStatus(EntityManager em, ProcessStatus savedStatus) {
+        ProcessLatestStatus latestStatus = em.find(ProcessLatestStatus.class, processId, LockModeType.PESSIMISTIC_WRITE);
+        ProcessStatus latest = savedStatus;
+        if (latestStatus != null && !statusId.equals(latestStatus.getStatusId())) {
+            if (!LatestStatusRule.PROCESS.supersedes(savedStatus.getState(), savedStatus.getTimeOfStateChange(),
+                    latestStatus.getState(), latestStatus.getTimeOfStateChange())) {
+                return;
+            }
+        } else {
+            // first status of the process, a process saved before the latest status was maintained or a change to the
+            // latest status itself, so the latest status is picked out of the whole history
+            Query q = em.createQuery("SELECT s FROM ProcessStatus s WHERE s.processId = :processId");
+            q.setParameter("processId", processId);
+            List<ProcessStatus> statuses = new ArrayList<>();
+            for (Object result : q.getResultList()) {
+                ProcessStatus status = (ProcessStatus) result;
+                if (!statusId.equals(status.getStatusId())) {
+                    statuses.add(status);
+                }
+            }
+            statuses.add(savedStatus);
+            latest = LatestStatusRule.PROCESS.selectLatest(statuses, ProcessStatus::getState, ProcessStatus::getTimeOfStateChange);
+        }
+        if (latestStatus == null) {
+            latestStatus = new ProcessLatestStatus();
+            latestStatus.setProcessId(processId);
+            em.persist(latestStatus);
+        }
+        latestStatus.setStatusId(latest.getStatusId());
+        latestStatus.setState(latest.getState());
+        latestStatus.setTimeOfStateChange(latest.getTimeOfStateChange());
+        latestStatus.setReason(latest.getReason());
+    }
 }
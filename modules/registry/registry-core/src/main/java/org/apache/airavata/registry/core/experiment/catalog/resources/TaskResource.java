@@ -26,7 +26,9 @@ import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
 import org.apache.airavata.registry.core.experiment.catalog.model.Job;
 import org.apache.airavata.registry.core.experiment.catalog.model.Task;
 import org.apache.airavata.registry.core.experiment.catalog.model.TaskError;
+import org.apache.airavata.registry.core.experiment.catalog.model.TaskLatestStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.TaskStatus;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.core.experiment.catalog.utils.QueryGenerator;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
@@ -36,7 +38,10 @@ import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TaskResource extends AbstractExpCatResource {
     private static final Logger logger = LoggerFactory.getLogger(TaskResource.class);
@@ -156,6 +161,11 @@ public class TaskResource extends AbstractExpCatResource {
                     generator.setParameter(TaskStatusConstants.STATUS_ID, name);
                     q = generator.deleteQuery(em);
                     q.executeUpdate();
+                    // the latest status is picked out of the history again on the next status update
+                    generator = new QueryGenerator(TASK_LATEST_STATUS);
+                    generator.setParameter(TaskStatusConstants.STATUS_ID, name);
+                    q = generator.deleteQuery(em);
+                    q.executeUpdate();
                     break;
                 case TASK_ERROR:
                     generator = new QueryGenerator(TASK_ERROR);
@@ -416,6 +426,71 @@ public class TaskResource extends AbstractExpCatResource {
     }
 
     public TaskStatusResource getTaskStatus() throws RegistryException{
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            TaskLatestStatus latestStatus = em.find(TaskLatestStatus.class, taskId);
+            if (latestStatus != null) {
+                return Utils.createTaskStatusResource(latestStatus);
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        return getTaskStatusFromHistory();
+    }
+
+    /**
+     * Returns the latest status of each of the given tasks, keyed by task id. Tasks without a status are left
+     * out of the returned map.
+     */
+    public static Map<String, TaskStatusResource> getLatestTaskStatuses(Collection<String> taskIds) throws RegistryException {
+        Map<String, TaskStatusResource> latestStatuses = new HashMap<>();
+        EntityManager em = null;
+        try {
+            em = ExpCatResourceUtils.getEntityManager();
+            for (List<String> chunk : LatestStatusRule.partition(taskIds)) {
+                Query q = em.createQuery("SELECT s FROM TaskLatestStatus s WHERE s.taskId IN :taskIds");
+                q.setParameter("taskIds", chunk);
+                for (Object result : q.getResultList()) {
+                    TaskLatestStatus latestStatus = (TaskLatestStatus) result;
+                    latestStatuses.put(latestStatus.getTaskId(), Utils.createTaskStatusResource(latestStatus));
+                }
+            }
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw new RegistryException(e);
+        } finally {
+            if (em != null && em.isOpen()) {
+                if (em.getTransaction().isActive()){
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+        // statuses saved before the latest status was maintained
+        for (String taskId : taskIds) {
+            if (!latestStatuses.containsKey(taskId)) {
+                TaskResource resource = new TaskResource();
+                resource.setTaskId(taskId);
+                TaskStatusResource status = resource.getTaskStatusFromHistory();
+                if (status != null) {
+                    latestStatuses.put(taskId, status);
+                }
+            }
+        }
+        return latestStatuses;
+    }
+
+    private TaskStatusResource getTaskStatusFromHistory() throws RegistryException{
         List<TaskStatusResource> taskStatusResources = getTaskStatuses();
         if(taskStatusResources.size() == 0){
             return null;
@@ -22,14 +22,19 @@ package org.apache.airavata.registry.core.experiment.catalog.resources;
 import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
 import org.apache.airavata.registry.core.experiment.catalog.ExperimentCatResource;
 import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
+import org.apache.airavata.registry.core.experiment.catalog.model.TaskLatestStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.TaskStatus;
 import org.apache.airavata.registry.core.experiment.catalog.model.TaskStatusPK;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusRule;
 import org.apache.airavata.registry.cpi.RegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 public class TaskStatusResource extends AbstractExpCatResource {
@@ -140,6 +145,7 @@ public class TaskStatusResource extends AbstractExpCatResource {
             }else {
                 em.merge(taskStatus);
             }
+            updateLatestStatus(em, taskStatus);
             em.getTransaction().commit();
             if (em.isOpen()) {
                 if (em.getTransaction().isActive()){
@@ -159,4 +165,41 @@ public class TaskStatusResource extends AbstractExpCatResource {
             }
         }
     }
+
+    /**
+     * Keeps TASK_LATEST_STATUS in line with the status being saved, in the same transaction
+     */
+    private void updateLatestStatus(EntityManager em, TaskStatus savedStatus) {
+        TaskLatestStatus latestStatus = em.find(TaskLatestStatus.class, taskId, LockModeType.PESSIMISTIC_WRITE);
+        TaskStatus latest = savedStatus;
+        if (latestStatus != null && !statusId.equals(latestStatus.getStatusId())) {
+            if (!LatestStatusRule.TASK.supersedes(savedStatus.getState(), savedStatus.getTimeOfStateChange(),
+                    latestStatus.getState(), latestStatus.getTimeOfStateChange())) {
+                return;
+            }
+        } else {
+            // first status of the task, a task saved before the latest status was maintained or a change to the
+            // latest status itself, so the latest status is picked out of the whole history
+            Query q = em.createQuery("SELECT s FROM TaskStatus s WHERE s.taskId = :taskId");
+            q.setParameter("taskId", taskId);
+            List<TaskStatus> statuses = new ArrayList<>();
+            for (Object result : q.getResultList()) {
+                TaskStatus status = (TaskStatus) result;
+                if (!statusId.equals(status.getStatusId())) {
+                    statuses.add(status);
+                }
+            }
+            statuses.add(savedStatus);
+            latest = LatestStatusRule.TASK.selectLatest(statuses, TaskStatus::getState, TaskStatus::getTimeOfStateChange);
+        }
+        if (latestStatus == null) {
+            latestStatus = new TaskLatestStatus();
+            latestStatus.setTaskId(taskId);
+            em.persist(latestStatus);
+        }
+        latestStatus.setStatusId(latest.getStatusId());
+        latestStatus.setState(latest.getState());
+        latestStatus.setTimeOfStateChange(latest.getTimeOfStateChange());
+        latestStatus.setReason(latest.getReason());
+    }
 }
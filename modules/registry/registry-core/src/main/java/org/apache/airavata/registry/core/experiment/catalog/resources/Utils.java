@@ -700,6 +700,47 @@ public class Utils {
         return experimentStatusResource;
     }
 
+    static ExperimentStatusResource createExperimentStatusResource (ExperimentLatestStatus o){
+        ExperimentStatusResource experimentStatusResource = new ExperimentStatusResource();
+        experimentStatusResource.setExperimentId(o.getExperimentId());
+        experimentStatusResource.setStatusId(o.getStatusId());
+        experimentStatusResource.setState(o.getState());
+        experimentStatusResource.setTimeOfStateChange(o.getTimeOfStateChange());
+        experimentStatusResource.setReason(o.getReason());
+        return experimentStatusResource;
+    }
+
+    static ProcessStatusResource createProcessStatusResource (ProcessLatestStatus o){
+        ProcessStatusResource processStatusResource = new ProcessStatusResource();
+        processStatusResource.setProcessId(o.getProcessId());
+        processStatusResource.setStatusId(o.getStatusId());
+        processStatusResource.setState(o.getState());
+        processStatusResource.setTimeOfStateChange(o.getTimeOfStateChange());
+        processStatusResource.setReason(o.getReason());
+        return processStatusResource;
+    }
+
+    static TaskStatusResource createTaskStatusResource (TaskLatestStatus o){
+        TaskStatusResource taskStatusResource = new TaskStatusResource();
+        taskStatusResource.setTaskId(o.getTaskId());
+        taskStatusResource.setStatusId(o.getStatusId());
+        taskStatusResource.setState(o.getState());
+        taskStatusResource.setTimeOfStateChange(o.getTimeOfStateChange());
+        taskStatusResource.setReason(o.getReason());
+        return taskStatusResource;
+    }
+
+    static JobStatusResource createJobStatusResource (JobLatestStatus o){
+        JobStatusResource jobStatusResource = new JobStatusResource();
+        jobStatusResource.setJobId(o.getJobId());
+        jobStatusResource.setTaskId(o.getTaskId());
+        jobStatusResource.setStatusId(o.getStatusId());
+        jobStatusResource.setState(o.getState());
+        jobStatusResource.setTimeOfStateChange(o.getTimeOfStateChange());
+        jobStatusResource.setReason(o.getReason());
+        return jobStatusResource;
+    }
+
     public static ExperimentCatResource createProcessResourceSchedule(ProcessResourceSchedule o){
         ProcessResourceScheduleResource resourceScheduleResource = new ProcessResourceScheduleResource();
         if(o != null){
@@ -0,0 +1,173 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.registry.core.experiment.catalog.utils;
+
+import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
+import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.JobStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.ProcessLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.ProcessStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.TaskLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.model.TaskStatus;
+import org.apache.airavata.registry.cpi.RegistryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Fills the latest status tables for experiments, processes, tasks and jobs whose statuses were saved before the
+ * latest statuses were maintained. Only the entities which have statuses but no latest status are visited, so running
+ * it on an already migrated database costs one query per entity type.
+ */
+public final class LatestStatusBackfill {
+    private final static Logger logger = LoggerFactory.getLogger(LatestStatusBackfill.class);
+
+    private LatestStatusBackfill() {
+    }
+
+    /**
+     * @return number of latest status rows created
+     */
+    public static int backfill() throws RegistryException {
+        int created = backfill("SELECT DISTINCT s.experimentId FROM ExperimentStatus s WHERE NOT EXISTS " +
+                        "(SELECT l.experimentId FROM ExperimentLatestStatus l WHERE l.experimentId = s.experimentId)",
+                "SELECT s FROM ExperimentStatus s WHERE s.experimentId IN :ids",
+                LatestStatusRule.EXPERIMENT, ExperimentStatus::getExperimentId, ExperimentStatus::getState,
+                ExperimentStatus::getTimeOfStateChange, LatestStatusBackfill::toLatestStatus);
+        created += backfill("SELECT DISTINCT s.processId FROM ProcessStatus s WHERE NOT EXISTS " +
+                        "(SELECT l.processId FROM ProcessLatestStatus l WHERE l.processId = s.processId)",
+                "SELECT s FROM ProcessStatus s WHERE s.processId IN :ids",
+                LatestStatusRule.PROCESS, ProcessStatus::getProcessId, ProcessStatus::getState,
+                ProcessStatus::getTimeOfStateChange, LatestStatusBackfill::toLatestStatus);
+        created += backfill("SELECT DISTINCT s.taskId FROM TaskStatus s WHERE NOT EXISTS " +
+                        "(SELECT l.taskId FROM TaskLatestStatus l WHERE l.taskId = s.taskId)",
+                "SELECT s FROM TaskStatus s WHERE s.taskId IN :ids",
+                LatestStatusRule.TASK, TaskStatus::getTaskId, TaskStatus::getState,
+                TaskStatus::getTimeOfStateChange, LatestStatusBackfill::toLatestStatus);
+        // jobs are keyed by job id and task id, so the batches are made of the tasks having jobs to backfill
+        String missingJobLatestStatus = "NOT EXISTS (SELECT l.jobId FROM JobLatestStatus l " +
+                "WHERE l.jobId = s.jobId AND l.taskId = s.taskId)";
+        created += backfill("SELECT DISTINCT s.taskId FROM JobStatus s WHERE " + missingJobLatestStatus,
+                "SELECT s FROM JobStatus s WHERE s.taskId IN :ids AND " + missingJobLatestStatus,
+                LatestStatusRule.JOB, (JobStatus s) -> Arrays.asList(s.getJobId(), s.getTaskId()), JobStatus::getState,
+                JobStatus::getTimeOfStateChange, LatestStatusBackfill::toLatestStatus);
+        if (created > 0) {
+            logger.info("Backfilled " + created + " latest statuses of experiments, processes, tasks and jobs");
+        }
+        return created;
+    }
+
+    private static <T> int backfill(String pendingQuery, String historyQuery, LatestStatusRule rule,
+                                    Function<T, Object> key, Function<T, String> state,
+                                    Function<T, Timestamp> timeOfStateChange, Function<T, Object> toLatestStatus)
+            throws RegistryException {
+        int created = 0;
+        while (true) {
+            EntityManager em = null;
+            try {
+                em = ExpCatResourceUtils.getEntityManager();
+                Query q = em.createQuery(pendingQuery);
+                q.setMaxResults(LatestStatusRule.MAX_IN_CLAUSE_SIZE);
+                List<?> pending = q.getResultList();
+                if (pending.isEmpty()) {
+                    return created;
+                }
+
+                q = em.createQuery(historyQuery);
+                q.setParameter("ids", pending);
+                Map<Object, List<T>> history = new LinkedHashMap<>();
+                for (Object result : q.getResultList()) {
+                    T status = (T) result;
+                    history.computeIfAbsent(key.apply(status), k -> new ArrayList<>()).add(status);
+                }
+
+                em.getTransaction().begin();
+                for (List<T> statuses : history.values()) {
+                    em.persist(toLatestStatus.apply(rule.selectLatest(statuses, state, timeOfStateChange)));
+                }
+                em.getTransaction().commit();
+                em.close();
+                created += history.size();
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+                throw new RegistryException(e);
+            } finally {
+                if (em != null && em.isOpen()) {
+                    if (em.getTransaction().isActive()) {
+                        em.getTransaction().rollback();
+                    }
+                    em.close();
+                }
+            }
+        }
+    }
+
+    private static Object toLatestStatus(ExperimentStatus status) {
+        ExperimentLatestStatus latestStatus = new ExperimentLatestStatus();
+        latestStatus.setExperimentId(status.getExperimentId());
+        latestStatus.setStatusId(status.getStatusId());
+        latestStatus.setState(status.getState());
+        latestStatus.setTimeOfStateChange(status.getTimeOfStateChange());
+        latestStatus.setReason(status.getReason());
+        return latestStatus;
+    }
+
+    private static Object toLatestStatus(ProcessStatus status) {
+        ProcessLatestStatus latestStatus = new ProcessLatestStatus();
+        latestStatus.setProcessId(status.getProcessId());
+        latestStatus.setStatusId(status.getStatusId());
+        latestStatus.setState(status.getState());
+        latestStatus.setTimeOfStateChange(status.getTimeOfStateChange());
+        latestStatus.setReason(status.getReason());
+        return latestStatus;
+    }
+
+    private static Object toLatestStatus(TaskStatus status) {
+        TaskLatestStatus latestStatus = new TaskLatestStatus();
+        latestStatus.setTaskId(status.getTaskId());
+        latestStatus.setStatusId(status.getStatusId());
+        latestStatus.setState(status.getState());
+        latestStatus.setTimeOfStateChange(status.getTimeOfStateChange());
+        latestStatus.setReason(status.getReason());
+        return latestStatus;
+    }
+
+    private static Object toLatestStatus(JobStatus status) {
+        JobLatestStatus latestStatus = new JobLatestStatus();
+        latestStatus.setJobId(status.getJobId());
+        latestStatus.setTaskId(status.getTaskId());
+        latestStatus.setStatusId(status.getStatusId());
+        latestStatus.setState(status.getState());
+        latestStatus.setTimeOfStateChange(status.getTimeOfStateChange());
+        latestStatus.setReason(status.getReason());
+        return latestStatus;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.registry.core.experiment.catalog.utils;
+
+import org.apache.airavata.model.status.ExperimentState;
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.model.status.ProcessState;
+import org.apache.airavata.model.status.TaskState;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Decides which status of an experiment, process, task or job is the latest one. The same rule is used to pick the
+ * latest status out of the status history and to decide whether a newly saved status replaces the one in the
+ * latest status tables.
+ */
+public final class LatestStatusRule {
+
+    /**
+     * Upper bound of the number of values bound to a single IN clause by the bulk latest status lookups
+     */
+    public static final int MAX_IN_CLAUSE_SIZE = 500;
+
+    // a terminal status is the latest one even if another status has a later time of state change
+    public static final LatestStatusRule EXPERIMENT = new LatestStatusRule(true,
+            ExperimentState.COMPLETED, ExperimentState.FAILED, ExperimentState.CANCELED);
+    public static final LatestStatusRule JOB = new LatestStatusRule(true,
+            JobState.COMPLETE, JobState.FAILED, JobState.CANCELED);
+    // the status with the latest time of state change is the latest one, a terminal status wins a tie
+    public static final LatestStatusRule PROCESS = new LatestStatusRule(false,
+            ProcessState.COMPLETED, ProcessState.FAILED, ProcessState.CANCELED);
+    public static final LatestStatusRule TASK = new LatestStatusRule(false,
+            TaskState.COMPLETED, TaskState.FAILED, TaskState.CANCELED);
+
+    private final boolean terminalFirst;
+    private final Set<String> terminalStates = new HashSet<>();
+
+    private LatestStatusRule(boolean terminalFirst, Enum<?>... terminalStates) {
+        this.terminalFirst = terminalFirst;
+        for (Enum<?> terminalState : terminalStates) {
+            this.terminalStates.add(terminalState.toString());
+        }
+    }
+
+    public boolean isTerminal(String state) {
+        return state != null && terminalStates.contains(state);
+    }
+
+    /**
+     * Whether a status with the given state and time of state change replaces the current latest status. A status
+     * saved after the current one wins a complete tie.
+     */
+    public boolean supersedes(String state, Timestamp timeOfStateChange, String currentState,
+                              Timestamp currentTimeOfStateChange) {
+        boolean terminal = isTerminal(state);
+        if (terminalFirst && terminal != isTerminal(currentState)) {
+            return terminal;
+        }
+        int order = compare(timeOfStateChange, currentTimeOfStateChange);
+        if (order != 0) {
+            return order > 0;
+        }
+        return terminalFirst || terminal;
+    }
+
+    /**
+     * Returns the latest of the given statuses, treating statuses later in the collection as saved later
+     */
+    public <T> T selectLatest(Collection<T> statuses, Function<T, String> state, Function<T, Timestamp> timeOfStateChange) {
+        T latest = null;
+        for (T status : statuses) {
+            if (latest == null || supersedes(state.apply(status), timeOfStateChange.apply(status),
+                    state.apply(latest), timeOfStateChange.apply(latest))) {
+                latest = status;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Splits the given values into chunks of at most {@link #MAX_IN_CLAUSE_SIZE} values
+     */
+    public static <T> List<List<T>> partition(Collection<T> values) {
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += MAX_IN_CLAUSE_SIZE) {
+            chunks.add(distinct.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    // statuses without a time of state change are older than any other status
+    private static int compare(Timestamp time, Timestamp otherTime) {
+        if (time == null || otherTime == null) {
+            return time == null ? (otherTime == null ? 0 : -1) : 1;
+        }
+        return time.compareTo(otherTime);
+    }
+}
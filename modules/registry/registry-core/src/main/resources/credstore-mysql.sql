@@ -14,9 +14,14 @@ CREATE TABLE CREDENTIALS (
   TIME_PERSISTED TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   DESCRIPTION VARCHAR(500),
   CREDENTIAL_OWNER_TYPE VARCHAR(10) DEFAULT 'GATEWAY' NOT NULL,
+  CREDENTIAL_TYPE VARCHAR(10),
+  PUBLIC_KEY VARCHAR(8192),
   PRIMARY KEY (GATEWAY_ID, TOKEN_ID)
 );
 
+CREATE INDEX CREDENTIALS_GATEWAY_TYPE_IDX ON CREDENTIALS (GATEWAY_ID, CREDENTIAL_TYPE);
+CREATE INDEX CREDENTIALS_PORTAL_USER_IDX ON CREDENTIALS (PORTAL_USER_ID, GATEWAY_ID);
+
 CREATE TABLE CONFIGURATION (
   CONFIG_KEY VARCHAR(255),
   CONFIG_VAL VARCHAR(255),
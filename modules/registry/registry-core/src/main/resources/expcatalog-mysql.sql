@@ -162,6 +162,16 @@ CREATE TABLE EXPERIMENT_STATUS (
   FOREIGN KEY (EXPERIMENT_ID) REFERENCES EXPERIMENT(EXPERIMENT_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE EXPERIMENT_LATEST_STATUS (
+  EXPERIMENT_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP(6) NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (EXPERIMENT_ID),
+  FOREIGN KEY (EXPERIMENT_ID) REFERENCES EXPERIMENT(EXPERIMENT_ID) ON DELETE CASCADE
+);
+
 
 CREATE TABLE EXPERIMENT_ERROR (
   ERROR_ID varchar(255),
@@ -288,6 +298,16 @@ CREATE TABLE PROCESS_STATUS (
   FOREIGN KEY (PROCESS_ID) REFERENCES PROCESS(PROCESS_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE PROCESS_LATEST_STATUS (
+  PROCESS_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (PROCESS_ID),
+  FOREIGN KEY (PROCESS_ID) REFERENCES PROCESS(PROCESS_ID) ON DELETE CASCADE
+);
+
 
 CREATE TABLE PROCESS_ERROR (
   ERROR_ID varchar(255),
@@ -338,6 +358,16 @@ CREATE TABLE TASK_STATUS (
   FOREIGN KEY (TASK_ID) REFERENCES TASK(TASK_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE TASK_LATEST_STATUS (
+  TASK_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (TASK_ID),
+  FOREIGN KEY (TASK_ID) REFERENCES TASK(TASK_ID) ON DELETE CASCADE
+);
+
 
 CREATE TABLE TASK_ERROR (
   ERROR_ID varchar(255),
@@ -378,6 +408,17 @@ CREATE TABLE JOB_STATUS (
   FOREIGN KEY (JOB_ID, TASK_ID) REFERENCES JOB(JOB_ID, TASK_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE JOB_LATEST_STATUS (
+  JOB_ID varchar(255),
+  TASK_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (JOB_ID, TASK_ID),
+  FOREIGN KEY (JOB_ID, TASK_ID) REFERENCES JOB(JOB_ID, TASK_ID) ON DELETE CASCADE
+);
+
 CREATE TABLE QUEUE_STATUS(
   HOST_NAME VARCHAR(255),
   QUEUE_NAME VARCHAR(255),
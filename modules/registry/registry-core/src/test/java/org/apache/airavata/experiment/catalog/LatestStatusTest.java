@@ -0,0 +1,174 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.experiment.catalog;
+
+import org.apache.airavata.model.status.ExperimentState;
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.model.status.TaskState;
+import org.apache.airavata.model.task.DataStageType;
+import org.apache.airavata.model.task.DataStagingTaskModel;
+import org.apache.airavata.model.task.TaskTypes;
+import org.apache.airavata.registry.core.experiment.catalog.ExpCatResourceUtils;
+import org.apache.airavata.registry.core.experiment.catalog.ResourceType;
+import org.apache.airavata.registry.core.experiment.catalog.model.ExperimentLatestStatus;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentStatusResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.JobResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.JobStatusResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ProcessResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.TaskResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.TaskStatusResource;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusBackfill;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class LatestStatusTest extends AbstractResourceTest {
+
+    private ExperimentResource experimentResource;
+    private TaskResource taskResource;
+    private JobResource jobResource;
+    private String experimentId = "latestStatusExpID";
+    private String processId = "latestStatusProcessID";
+    private String taskId = "latestStatusTaskID";
+    private String jobId = "latestStatusJobID";
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        Timestamp creationTime = getCurrentTimestamp();
+
+        experimentResource = (ExperimentResource) getGatewayResource().create(ResourceType.EXPERIMENT);
+        experimentResource.setExperimentId(experimentId);
+        experimentResource.setExperimentName(experimentId);
+        experimentResource.setUserName(getWorkerResource().getUser());
+        experimentResource.setProjectId(getProjectResource().getId());
+        experimentResource.setCreationTime(creationTime);
+        experimentResource.save();
+
+        ProcessResource processResource = (ProcessResource) experimentResource.create(ResourceType.PROCESS);
+        processResource.setProcessId(processId);
+        processResource.setExperimentId(experimentId);
+        processResource.setCreationTime(creationTime);
+        processResource.save();
+
+        taskResource = (TaskResource) processResource.create(ResourceType.TASK);
+        taskResource.setTaskId(taskId);
+        taskResource.setParentProcessId(processId);
+        taskResource.setTaskType(TaskTypes.DATA_STAGING.toString());
+        taskResource.setTaskDetail("task detail");
+        taskResource.setSubTaskModel(new DataStagingTaskModel("source", "destination", DataStageType.INPUT).toString().getBytes());
+        taskResource.save();
+
+        jobResource = (JobResource) processResource.create(ResourceType.JOB);
+        jobResource.setJobId(jobId);
+        jobResource.setProcessId(processId);
+        jobResource.setTaskId(taskId);
+        jobResource.setJobDescription("Job Description");
+        jobResource.save();
+    }
+
+    @Test
+    public void testTerminalExperimentStatusStaysLatest() throws Exception {
+        saveExperimentStatus("expStatus1", ExperimentState.CREATED, 1000);
+        saveExperimentStatus("expStatus2", ExperimentState.CANCELED, 2000);
+        // a late non terminal status does not replace a terminal one
+        saveExperimentStatus("expStatus3", ExperimentState.EXECUTING, 3000);
+
+        assertEquals(ExperimentState.CANCELED.toString(), experimentResource.getLastExperimentStatus().getState());
+        Map<String, ExperimentStatusResource> latestStatuses =
+                ExperimentResource.getLatestExperimentStatuses(Arrays.asList(experimentId, "unknownExpID"));
+        assertEquals(1, latestStatuses.size());
+        assertEquals("expStatus2", latestStatuses.get(experimentId).getStatusId());
+    }
+
+    @Test
+    public void testLatestTaskStatusFollowsTimeOfStateChange() throws Exception {
+        saveTaskStatus("taskStatus1", TaskState.EXECUTING, 2000);
+        saveTaskStatus("taskStatus2", TaskState.CREATED, 1000);
+        assertEquals(TaskState.EXECUTING.toString(), taskResource.getTaskStatus().getState());
+
+        saveTaskStatus("taskStatus3", TaskState.COMPLETED, 3000);
+        assertEquals("taskStatus3", TaskResource.getLatestTaskStatuses(Arrays.asList(taskId)).get(taskId).getStatusId());
+    }
+
+    @Test
+    public void testLatestJobStatusesOfExperiment() throws Exception {
+        saveJobStatus("jobStatus1", JobState.QUEUED, 1000);
+        saveJobStatus("jobStatus2", JobState.ACTIVE, 2000);
+
+        assertEquals(JobState.ACTIVE.toString(), jobResource.getLastJobStatus().getState());
+        List<JobStatusResource> latestStatuses = JobResource.getLatestJobStatusesOfExperiments(Arrays.asList(experimentId));
+        assertEquals(1, latestStatuses.size());
+        assertEquals("jobStatus2", latestStatuses.get(0).getStatusId());
+    }
+
+    @Test
+    public void testBackfill() throws Exception {
+        saveExperimentStatus("expStatus4", ExperimentState.LAUNCHED, 1000);
+        saveExperimentStatus("expStatus5", ExperimentState.EXECUTING, 2000);
+        String latestStatusId = experimentResource.getLastExperimentStatus().getStatusId();
+
+        EntityManager em = ExpCatResourceUtils.getEntityManager();
+        em.getTransaction().begin();
+        em.remove(em.find(ExperimentLatestStatus.class, experimentId));
+        em.getTransaction().commit();
+        em.close();
+
+        assertTrue(LatestStatusBackfill.backfill() >= 1);
+        em = ExpCatResourceUtils.getEntityManager();
+        assertEquals(latestStatusId, em.find(ExperimentLatestStatus.class, experimentId).getStatusId());
+        em.close();
+        assertEquals(0, LatestStatusBackfill.backfill());
+    }
+
+    private void saveExperimentStatus(String statusId, ExperimentState state, long time) throws Exception {
+        ExperimentStatusResource statusResource = (ExperimentStatusResource) experimentResource.create(ResourceType.EXPERIMENT_STATUS);
+        statusResource.setStatusId(statusId);
+        statusResource.setState(state.toString());
+        statusResource.setTimeOfStateChange(new Timestamp(time));
+        statusResource.save();
+    }
+
+    private void saveTaskStatus(String statusId, TaskState state, long time) throws Exception {
+        TaskStatusResource statusResource = (TaskStatusResource) taskResource.create(ResourceType.TASK_STATUS);
+        statusResource.setStatusId(statusId);
+        statusResource.setState(state.toString());
+        statusResource.setTimeOfStateChange(new Timestamp(time));
+        statusResource.save();
+    }
+
+    private void saveJobStatus(String statusId, JobState state, long time) throws Exception {
+        JobStatusResource statusResource = new JobStatusResource();
+        statusResource.setStatusId(statusId);
+        statusResource.setJobId(jobId);
+        statusResource.setTaskId(taskId);
+        statusResource.setState(state.toString());
+        statusResource.setTimeOfStateChange(new Timestamp(time));
+        statusResource.save();
+    }
+}
@@ -173,6 +173,19 @@ public interface ExperimentCatalog {
      */
     public Object getValue (ExperimentCatalogModelType dataType, Object identifier, String field) throws RegistryException;
 
+    /**
+     * This method is to retrieve the latest status of a set of data models in bulk, without loading their status
+     * history.
+     * @param dataType EXPERIMENT_STATUS, PROCESS_STATUS, TASK_STATUS or JOB_STATUS
+     * @param fieldName field the data models are selected by. The id field of the experiment, process or task, or for
+     *                  jobs the experiment id to get the statuses of all the jobs of the experiments
+     * @param values values for the field
+     * @return latest status thrift models keyed by the experiment, process, task or job id. Data models without a
+     *         status are left out.
+     */
+    public Map<String, Object> getLatestStatuses(ExperimentCatalogModelType dataType, String fieldName,
+                                                 List<String> values) throws RegistryException;
+
     /**
      * This method is to retrieve all the identifiers according to given filtering criteria. For an example, if you want
      * to get all the experiment ids for a given gateway, your field name will be "gateway" and the value will be the
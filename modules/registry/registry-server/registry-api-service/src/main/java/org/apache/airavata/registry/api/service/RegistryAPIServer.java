@@ -26,6 +26,7 @@ import org.apache.airavata.registry.api.RegistryService;
 import org.apache.airavata.registry.api.service.handler.RegistryServerHandler;
 import org.apache.airavata.registry.api.service.messaging.RegistryServiceDBEventMessagingFactory;
 import org.apache.airavata.registry.api.service.util.*;
+import org.apache.airavata.registry.core.experiment.catalog.utils.LatestStatusBackfill;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TServerSocket;
@@ -55,6 +56,12 @@ public class RegistryAPIServer implements IServer {
         // creating experiment catalog db
         logger.info("Initializing ExperimentCatalog DB");
         ExperimentCatalogInitUtil.initializeDB();
+        try {
+            // statuses saved by earlier versions have no latest status yet
+            LatestStatusBackfill.backfill();
+        } catch (Exception e) {
+            logger.error("Error while backfilling the latest statuses of experiments, processes, tasks and jobs", e);
+        }
 
         // creating app catalog db
         logger.info("Initializing AppCatalog DB");
@@ -721,29 +721,11 @@ public class RegistryServerHandler implements RegistryService.Iface {
                 logger.error(airavataExperimentId, "Error while retrieving job details, experiment {} doesn't exist.", airavataExperimentId);
                 throw new ExperimentNotFoundException("Requested experiment id " + airavataExperimentId + " does not exist in the system..");
             }
-            List<Object> processModels = experimentCatalog.get(ExperimentCatalogModelType.PROCESS, Constants.FieldConstants.ProcessConstants.EXPERIMENT_ID, airavataExperimentId);
+            Map<String, Object> latestStatuses = experimentCatalog.getLatestStatuses(ExperimentCatalogModelType.JOB_STATUS,
+                    Constants.FieldConstants.JobConstants.EXPERIMENT_ID, Collections.singletonList(airavataExperimentId));
             Map<String, JobStatus> jobStatus = new HashMap<String, JobStatus>();
-            if (processModels != null && !processModels.isEmpty()){
-                for (Object process : processModels) {
-                    ProcessModel processModel = (ProcessModel) process;
-                    List<TaskModel> tasks = processModel.getTasks();
-                    if (tasks != null && !tasks.isEmpty()){
-                        for (TaskModel task : tasks){
-                            String taskId =  task.getTaskId();
-                            List<Object> jobs = experimentCatalog.get(ExperimentCatalogModelType.JOB, Constants.FieldConstants.JobConstants.TASK_ID, taskId);
-                            if (jobs != null && !jobs.isEmpty()){
-                                for (Object jobObject : jobs) {
-                                    JobModel jobModel = (JobModel) jobObject;
-                                    String jobID = jobModel.getJobId();
-                                    List<JobStatus> status = jobModel.getJobStatuses();
-                                    if (status != null && status.size()>0){
-                                        jobStatus.put(jobID, status.get(0));
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+            for (Map.Entry<String, Object> latestStatus : latestStatuses.entrySet()) {
+                jobStatus.put(latestStatus.getKey(), (JobStatus) latestStatus.getValue());
             }
             logger.debug("Airavata retrieved job statuses for experiment with experiment id : " + airavataExperimentId);
             return jobStatus;
@@ -0,0 +1,27 @@
+--
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+
+use credential_store;
+
+-- Plaintext, non-secret credential metadata so that listings do not decrypt credentials. Existing rows are
+-- filled in by the credential store server on its next startup.
+ALTER TABLE `CREDENTIALS` ADD `CREDENTIAL_TYPE` varchar(10) DEFAULT NULL;
+ALTER TABLE `CREDENTIALS` ADD `PUBLIC_KEY` varchar(8192) DEFAULT NULL;
+CREATE INDEX `CREDENTIALS_GATEWAY_TYPE_IDX` ON `CREDENTIALS` (`GATEWAY_ID`, `CREDENTIAL_TYPE`);
+CREATE INDEX `CREDENTIALS_PORTAL_USER_IDX` ON `CREDENTIALS` (`PORTAL_USER_ID`, `GATEWAY_ID`);
@@ -0,0 +1,63 @@
+--
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+
+use experiment_catalog;
+
+-- Latest status of each experiment, process, task and job, maintained alongside the status history. Existing rows
+-- are filled in by the registry server on its next startup.
+CREATE TABLE EXPERIMENT_LATEST_STATUS (
+  EXPERIMENT_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP(6) NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (EXPERIMENT_ID),
+  FOREIGN KEY (EXPERIMENT_ID) REFERENCES EXPERIMENT(EXPERIMENT_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE PROCESS_LATEST_STATUS (
+  PROCESS_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (PROCESS_ID),
+  FOREIGN KEY (PROCESS_ID) REFERENCES PROCESS(PROCESS_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE TASK_LATEST_STATUS (
+  TASK_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (TASK_ID),
+  FOREIGN KEY (TASK_ID) REFERENCES TASK(TASK_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE JOB_LATEST_STATUS (
+  JOB_ID varchar(255),
+  TASK_ID varchar(255),
+  STATUS_ID varchar(255),
+  STATE varchar(255),
+  TIME_OF_STATE_CHANGE TIMESTAMP NULL,
+  REASON LONGTEXT,
+  PRIMARY KEY (JOB_ID, TASK_ID),
+  FOREIGN KEY (JOB_ID, TASK_ID) REFERENCES JOB(JOB_ID, TASK_ID) ON DELETE CASCADE
+);
@@ -39,7 +39,9 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ServerMain {
 	private static List<IServer> servers;
@@ -65,6 +67,21 @@ public class ServerMain {
 	private static final String PROFILE_SERVICE = "profile_service";
 	private static final String DB_EVENT_MANAGER = "db_event_manager";
 
+	// servers each server needs to be started before it, servers which are not started are ignored
+	private static final Map<String, String[]> SERVER_DEPENDENCIES = new HashMap<>();
+	static {
+		SERVER_DEPENDENCIES.put(DB_EVENT_MANAGER, new String[]{});
+		SERVER_DEPENDENCIES.put(REGISTRY_SERVER, new String[]{DB_EVENT_MANAGER});
+		SERVER_DEPENDENCIES.put(CREDENTIAL_STORE, new String[]{});
+		SERVER_DEPENDENCIES.put(SHARING_SERVER, new String[]{DB_EVENT_MANAGER});
+		SERVER_DEPENDENCIES.put(API_SERVER, new String[]{REGISTRY_SERVER, CREDENTIAL_STORE, SHARING_SERVER});
+		SERVER_DEPENDENCIES.put(ORCHESTRATOR, new String[]{REGISTRY_SERVER});
+		SERVER_DEPENDENCIES.put(GFAC_SERVER, new String[]{REGISTRY_SERVER});
+		SERVER_DEPENDENCIES.put(PROFILE_SERVICE, new String[]{REGISTRY_SERVER, CREDENTIAL_STORE, SHARING_SERVER});
+	}
+	private static final String SERVER_STATUS_CHECK_INTERVAL_KEY = "server.startup.status.check.interval.ms";
+	private static ServerStartupCoordinator startupCoordinator;
+
     private static ServerCnxnFactory cnxnFactory;
 //	private static boolean shutdownHookCalledBefore=false;
     static{
@@ -73,17 +90,25 @@ public class ServerMain {
     
 	private static void loadServers(String serverNames) {
 		try {
+			startupCoordinator = new ServerStartupCoordinator(
+					Long.parseLong(ServerSettings.getSetting(SERVER_STATUS_CHECK_INTERVAL_KEY, "100")));
 			if (serverNames != null) {
 				List<String> serversList = handleServerDependencies(serverNames);
 				for (String serverString : serversList) {
 					serverString = serverString.trim();
+					if (startupCoordinator.getServer(serverString) != null) {
+						logger.warn("Server \"" + serverString + "\" is listed more than once, starting it once");
+						continue;
+					}
 					String serverClassName = ServerSettings.getSetting(serverString);
 					Class<?> classInstance;
 					try {
 						classInstance = ServerMain.class
 								.getClassLoader().loadClass(
 										serverClassName);
-						servers.add((IServer) classInstance.newInstance());
+						String[] dependencies = SERVER_DEPENDENCIES.get(serverString);
+						startupCoordinator.addServer(serverString, (IServer) classInstance.newInstance(),
+								dependencies == null ? new String[]{} : dependencies);
 					} catch (ClassNotFoundException e) {
 						logger.error("Error while locating server implementation \"" + serverString + "\"!!!", e);
 					} catch (InstantiationException e) {
@@ -94,6 +119,10 @@ public class ServerMain {
 						logger.error("Invalid server \"" + serverString + "\"!!!", e);
 					}
 				}
+				// servers are kept in start order, so that they can be stopped in the reverse order
+				for (String serverString : startupCoordinator.getStartOrder()) {
+					servers.add(startupCoordinator.getServer(serverString));
+				}
 			} else {
 				logger.warn("No server name specify to start, use -h command line option to view help menu ...");
 			}
@@ -133,24 +162,8 @@ public class ServerMain {
 		} else if (serverList.indexOf(EXECUTION) > -1) {
 			serverList.clear();
 			serverList.add(GFAC_SERVER);
-		} else {
-			// registry server should start before everything
-			int regPos = serverList.indexOf(REGISTRY_SERVER);
-			if (regPos > 0) {
-				String temp = serverList.get(0);
-				serverList.set(0, serverList.get(regPos));
-				serverList.set(regPos, temp);
-			}
-
-			// credential store should start before api server
-			int credPos = serverList.indexOf(CREDENTIAL_STORE);
-			int apiPos = serverList.indexOf(API_SERVER);
-			if (credPos >= 0 && apiPos >= 0 && (credPos > apiPos)) {
-				String temp = serverList.get(apiPos);
-				serverList.set(apiPos, serverList.get(credPos));
-				serverList.set(credPos, temp);
-			}
 		}
+		// start order of individually listed servers is decided by SERVER_DEPENDENCIES
 		return serverList;
 	}
 
@@ -366,31 +379,19 @@ public class ServerMain {
 		if (!serversLoaded){
 			loadServers(serversNames);
 		}
-		for (IServer server : servers) {
-			try {
-				server.configure();
-				server.start();
-				waitForServerToStart(server,null);
-			} catch (Exception e) {
-				logger.error("Server Start Error:",e);
-			}
-		}
-	}
-	private static final int SERVER_STATUS_CHANGE_WAIT_INTERVAL=500;
-
-	private static void waitForServerToStart(IServer server,Integer maxWait) throws Exception {
-		int count=0;
-//		if (server.getStatus()==ServerStatus.STARTING) {
-//			logger.info("Waiting for " + server.getName() + " to start...");
-//		}
-		while(server.getStatus()==ServerStatus.STARTING && (maxWait==null || count<maxWait)){
-			Thread.sleep(SERVER_STATUS_CHANGE_WAIT_INTERVAL);
-			count+=SERVER_STATUS_CHANGE_WAIT_INTERVAL;
+		if (startupCoordinator == null) {
+			return;
 		}
-		if (server.getStatus()!= ServerStatus.STARTED){
-			logger.error("The "+server.getName()+" did not start!!!");
+		try {
+			startupCoordinator.startAll();
+		} catch (InterruptedException e) {
+			logger.error("Interrupted while starting servers", e);
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			logger.error("Server Start Error:",e);
 		}
 	}
+	private static final int SERVER_STATUS_CHANGE_WAIT_INTERVAL=500;
 
 	private static void waitForServerToStop(IServer server,Integer maxWait) throws Exception {
 		int count=0;
@@ -0,0 +1,303 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.server;
+
+import org.apache.airavata.common.utils.IServer;
+import org.apache.airavata.common.utils.IServer.ServerStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts a set of {@link IServer}s according to the dependencies between them. A server is configured and started
+ * as soon as all the servers it depends on have settled, so servers without a dependency between them come up in
+ * parallel. Dependencies on servers which were not added are ignored, which allows any subset of the servers to be
+ * started with the same dependency declarations.
+ *
+ * {@link IServer} has no readiness notification, so readiness of a started server is observed by re-scheduling a
+ * non blocking status check, and the dependent servers are started from the completion callback of that check.
+ *
+ * A server that fails to start does not block the servers that depend on it, they are still started (and are
+ * expected to fail or retry by themselves) which is the same behaviour as the sequential startup.
+ */
+public class ServerStartupCoordinator {
+    private final static Logger logger = LoggerFactory.getLogger(ServerStartupCoordinator.class);
+
+    private final Map<String, IServer> servers = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    private final long statusCheckIntervalMillis;
+
+    public ServerStartupCoordinator(long statusCheckIntervalMillis) {
+        if (statusCheckIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Status check interval should be positive, but was " + statusCheckIntervalMillis);
+        }
+        this.statusCheckIntervalMillis = statusCheckIntervalMillis;
+    }
+
+    public void addServer(String name, IServer server, String... dependsOn) {
+        if (servers.containsKey(name)) {
+            throw new IllegalArgumentException("Server " + name + " is already added");
+        }
+        servers.put(name, server);
+        dependencies.put(name, new LinkedHashSet<>(Arrays.asList(dependsOn)));
+    }
+
+    public IServer getServer(String name) {
+        return servers.get(name);
+    }
+
+    /**
+     * Returns the added server names ordered so that every server comes after the servers it depends on. Servers
+     * without an ordering constraint between them keep the order they were added in.
+     *
+     * @throws IllegalStateException if the dependencies have a cycle
+     */
+    public List<String> getStartOrder() {
+        List<String> order = new ArrayList<>(servers.size());
+        Set<String> visiting = new LinkedHashSet<>();
+        for (String name : servers.keySet()) {
+            visit(name, visiting, order);
+        }
+        return order;
+    }
+
+    private void visit(String name, Set<String> visiting, List<String> order) {
+        if (order.contains(name)) {
+            return;
+        }
+        if (!visiting.add(name)) {
+            throw new IllegalStateException("Cyclic server dependency " + visiting + " -> " + name);
+        }
+        for (String dependency : getActiveDependencies(name)) {
+            visit(dependency, visiting, order);
+        }
+        visiting.remove(name);
+        order.add(name);
+    }
+
+    private List<String> getActiveDependencies(String name) {
+        List<String> active = new ArrayList<>();
+        for (String dependency : dependencies.get(name)) {
+            if (servers.containsKey(dependency)) {
+                active.add(dependency);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Configures and starts all the added servers and waits until each of them has left the
+     * {@link ServerStatus#STARTING} state.
+     *
+     * @return startup timings of the servers in start order
+     */
+    public List<ServerStartupTiming> startAll() throws InterruptedException {
+        List<String> order = getStartOrder();
+        if (order.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long startTime = System.nanoTime();
+        ExecutorService startExecutor = Executors.newFixedThreadPool(order.size(), new StartupThreadFactory("server-startup-"));
+        ScheduledExecutorService statusChecker = Executors.newSingleThreadScheduledExecutor(
+                new StartupThreadFactory("server-status-check-"));
+        try {
+            Map<String, CompletableFuture<ServerStartupTiming>> startups = new LinkedHashMap<>();
+            for (String name : order) {
+                List<String> serverDependencies = getActiveDependencies(name);
+                CompletableFuture<?>[] dependencyStartups = new CompletableFuture<?>[serverDependencies.size()];
+                for (int i = 0; i < dependencyStartups.length; i++) {
+                    dependencyStartups[i] = startups.get(serverDependencies.get(i));
+                }
+                startups.put(name, CompletableFuture.allOf(dependencyStartups).thenComposeAsync(
+                        v -> startServer(name, serverDependencies, startups, startTime, statusChecker), startExecutor));
+            }
+
+            CompletableFuture.allOf(startups.values().toArray(new CompletableFuture<?>[startups.size()])).get();
+
+            List<ServerStartupTiming> timings = new ArrayList<>(order.size());
+            for (CompletableFuture<ServerStartupTiming> startup : startups.values()) {
+                timings.add(startup.get());
+            }
+            logger.info(formatReport(timings, elapsedMillis(startTime)));
+            return timings;
+        } catch (ExecutionException e) {
+            // startServer reports failures through the timing, so this only happens on a coordinator bug
+            throw new IllegalStateException("Error while coordinating server startup", e.getCause());
+        } finally {
+            startExecutor.shutdownNow();
+            statusChecker.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<ServerStartupTiming> startServer(String name, List<String> serverDependencies,
+                                                               Map<String, CompletableFuture<ServerStartupTiming>> startups,
+                                                               long startTime, ScheduledExecutorService statusChecker) {
+        for (String dependency : serverDependencies) {
+            ServerStartupTiming dependencyTiming = startups.get(dependency).join();
+            if (dependencyTiming.getStatus() != ServerStatus.STARTED) {
+                logger.warn("Starting " + name + " although " + dependency + " it depends on did not start");
+            }
+        }
+
+        IServer server = servers.get(name);
+        ServerStartupTiming timing = new ServerStartupTiming(name, elapsedMillis(startTime));
+        try {
+            server.configure();
+            server.start();
+            timing.startReturnedAt = elapsedMillis(startTime);
+        } catch (Exception e) {
+            logger.error("Server Start Error:", e);
+            timing.startReturnedAt = elapsedMillis(startTime);
+            timing.ready(ServerStatus.FAILED, timing.startReturnedAt);
+            return CompletableFuture.completedFuture(timing);
+        }
+
+        CompletableFuture<ServerStartupTiming> ready = new CompletableFuture<>();
+        new Runnable() {
+            @Override
+            public void run() {
+                ServerStatus status;
+                try {
+                    status = server.getStatus();
+                } catch (Exception e) {
+                    logger.error("Error while checking the status of " + name, e);
+                    status = ServerStatus.FAILED;
+                }
+                if (status == ServerStatus.STARTING) {
+                    statusChecker.schedule(this, statusCheckIntervalMillis, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                if (status != ServerStatus.STARTED) {
+                    logger.error("The " + name + " did not start!!!");
+                }
+                timing.ready(status, elapsedMillis(startTime));
+                ready.complete(timing);
+            }
+        }.run();
+        return ready;
+    }
+
+    static String formatReport(List<ServerStartupTiming> timings, long totalMillis) {
+        StringBuilder report = new StringBuilder("Server startup report (")
+                .append(totalMillis).append(" ms total)");
+        report.append(String.format("%n  %-20s %-9s %10s %10s %10s %10s",
+                "server", "status", "begin ms", "start ms", "ready ms", "took ms"));
+        for (ServerStartupTiming timing : timings) {
+            report.append(String.format("%n  %-20s %-9s %10d %10d %10d %10d", timing.getName(), timing.getStatus(),
+                    timing.getBeganAt(), timing.getStartReturnedAt(), timing.getReadyAt(), timing.getStartupMillis()));
+        }
+        return report.toString();
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Startup timing of a single server. All the points in time are milliseconds since the coordinator began the
+     * startup.
+     */
+    public static class ServerStartupTiming {
+        private final String name;
+        private final long beganAt;
+        private long startReturnedAt;
+        private long readyAt;
+        private ServerStatus status;
+
+        ServerStartupTiming(String name, long beganAt) {
+            this.name = name;
+            this.beganAt = beganAt;
+        }
+
+        private void ready(ServerStatus status, long readyAt) {
+            this.status = status;
+            this.readyAt = readyAt;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Status the server settled in, {@link ServerStatus#STARTED} unless the server failed to start
+         */
+        public ServerStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * When all the dependencies had settled and configure() was called
+         */
+        public long getBeganAt() {
+            return beganAt;
+        }
+
+        /**
+         * When start() returned
+         */
+        public long getStartReturnedAt() {
+            return startReturnedAt;
+        }
+
+        /**
+         * When the server was observed to leave the {@link ServerStatus#STARTING} state
+         */
+        public long getReadyAt() {
+            return readyAt;
+        }
+
+        public long getStartupMillis() {
+            return readyAt - beganAt;
+        }
+    }
+
+    private static class StartupThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        StartupThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
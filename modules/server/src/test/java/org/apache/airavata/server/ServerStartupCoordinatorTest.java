@@ -0,0 +1,202 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.server;
+
+import org.apache.airavata.common.utils.IServer;
+import org.apache.airavata.common.utils.IServer.ServerStatus;
+import org.apache.airavata.server.ServerStartupCoordinator.ServerStartupTiming;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ServerStartupCoordinatorTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testServersStartAfterTheirDependencies() throws Exception {
+        ServerStartupCoordinator coordinator = new ServerStartupCoordinator(10);
+        coordinator.addServer("api", new StubServer("api", 50, null), "registry", "credential");
+        coordinator.addServer("registry", new StubServer("registry", 100, null), "dbevent");
+        coordinator.addServer("credential", new StubServer("credential", 50, null));
+        coordinator.addServer("dbevent", new StubServer("dbevent", 50, null));
+
+        List<ServerStartupTiming> timings = coordinator.startAll();
+
+        Assert.assertEquals(4, timings.size());
+        for (ServerStartupTiming timing : timings) {
+            Assert.assertEquals(ServerStatus.STARTED, timing.getStatus());
+        }
+        assertBefore("dbevent:started", "registry:start");
+        assertBefore("registry:started", "api:start");
+        assertBefore("credential:started", "api:start");
+        List<String> startOrder = coordinator.getStartOrder();
+        Assert.assertTrue(startOrder.indexOf("dbevent") < startOrder.indexOf("registry"));
+        Assert.assertEquals("api", startOrder.get(3));
+    }
+
+    @Test
+    public void testIndependentServersStartInParallel() throws Exception {
+        // each server only becomes ready once the other one has been started, which never happens if the
+        // coordinator waits for one of them before starting the other
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        ServerStartupCoordinator coordinator = new ServerStartupCoordinator(10);
+        coordinator.addServer("first", new StubServer("first", 0, secondStarted) {
+            @Override
+            public void start() throws Exception {
+                firstStarted.countDown();
+                super.start();
+            }
+        });
+        coordinator.addServer("second", new StubServer("second", 0, firstStarted) {
+            @Override
+            public void start() throws Exception {
+                secondStarted.countDown();
+                super.start();
+            }
+        });
+
+        List<ServerStartupTiming> timings = coordinator.startAll();
+
+        Assert.assertEquals(ServerStatus.STARTED, timings.get(0).getStatus());
+        Assert.assertEquals(ServerStatus.STARTED, timings.get(1).getStatus());
+    }
+
+    @Test
+    public void testDependenciesOnServersNotAddedAreIgnored() throws Exception {
+        ServerStartupCoordinator coordinator = new ServerStartupCoordinator(10);
+        coordinator.addServer("gfac", new StubServer("gfac", 10, null), "registry");
+
+        List<ServerStartupTiming> timings = coordinator.startAll();
+
+        Assert.assertEquals(1, timings.size());
+        Assert.assertEquals(ServerStatus.STARTED, timings.get(0).getStatus());
+    }
+
+    @Test
+    public void testFailedServerDoesNotBlockDependents() throws Exception {
+        ServerStartupCoordinator coordinator = new ServerStartupCoordinator(10);
+        coordinator.addServer("registry", new StubServer("registry", 10, null) {
+            @Override
+            public void start() throws Exception {
+                throw new Exception("Port already in use");
+            }
+        });
+        coordinator.addServer("orchestrator", new StubServer("orchestrator", 10, null), "registry");
+
+        List<ServerStartupTiming> timings = coordinator.startAll();
+
+        Assert.assertEquals("registry", timings.get(0).getName());
+        Assert.assertEquals(ServerStatus.FAILED, timings.get(0).getStatus());
+        Assert.assertEquals("orchestrator", timings.get(1).getName());
+        Assert.assertEquals(ServerStatus.STARTED, timings.get(1).getStatus());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCyclicDependenciesAreRejected() throws Exception {
+        ServerStartupCoordinator coordinator = new ServerStartupCoordinator(10);
+        coordinator.addServer("a", new StubServer("a", 0, null), "b");
+        coordinator.addServer("b", new StubServer("b", 0, null), "a");
+        coordinator.startAll();
+    }
+
+    private void assertBefore(String first, String second) {
+        int firstIndex = events.indexOf(first);
+        int secondIndex = events.indexOf(second);
+        Assert.assertTrue(first + " was not recorded in " + events, firstIndex >= 0);
+        Assert.assertTrue(second + " was not recorded in " + events, secondIndex >= 0);
+        Assert.assertTrue(first + " should happen before " + second + " in " + events, firstIndex < secondIndex);
+    }
+
+    /**
+     * Server which turns to {@link ServerStatus#STARTED} from a background thread after the given delay and, if
+     * given, after the latch has been released. It turns to {@link ServerStatus#FAILED} if the latch is not released
+     * within a second.
+     */
+    private class StubServer implements IServer {
+        private final String name;
+        private final long startupDelay;
+        private final CountDownLatch readyLatch;
+        private volatile ServerStatus status;
+
+        StubServer(String name, long startupDelay, CountDownLatch readyLatch) {
+            this.name = name;
+            this.startupDelay = startupDelay;
+            this.readyLatch = readyLatch;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getVersion() {
+            return "test";
+        }
+
+        @Override
+        public void start() throws Exception {
+            status = ServerStatus.STARTING;
+            events.add(name + ":start");
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        Thread.sleep(startupDelay);
+                        if (readyLatch != null && !readyLatch.await(1, TimeUnit.SECONDS)) {
+                            status = ServerStatus.FAILED;
+                            return;
+                        }
+                        events.add(name + ":started");
+                        status = ServerStatus.STARTED;
+                    } catch (InterruptedException e) {
+                        status = ServerStatus.FAILED;
+                    }
+                }
+            }.start();
+        }
+
+        @Override
+        public void stop() throws Exception {
+            status = ServerStatus.STOPPED;
+        }
+
+        @Override
+        public void restart() throws Exception {
+            stop();
+            start();
+        }
+
+        @Override
+        public void configure() throws Exception {
+        }
+
+        @Override
+        public ServerStatus getStatus() throws Exception {
+            return status;
+        }
+    }
+}
@@ -2,10 +2,17 @@ package org.apache.airavata.sharing.registry.db.repositories;
 
 import org.apache.airavata.sharing.registry.db.entities.GroupAdminEntity;
 import org.apache.airavata.sharing.registry.db.entities.GroupAdminPK;
+import org.apache.airavata.sharing.registry.db.utils.DBConstants;
 import org.apache.airavata.sharing.registry.models.GroupAdmin;
+import org.apache.airavata.sharing.registry.models.SharingRegistryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class GroupAdminRepository extends AbstractRepository<GroupAdmin, GroupAdminEntity, GroupAdminPK> {
 
     private final static Logger logger = LoggerFactory.getLogger(GroupAdminRepository.class);
@@ -14,4 +21,26 @@ public class GroupAdminRepository extends AbstractRepository<GroupAdmin, GroupAd
         super(GroupAdmin.class, GroupAdminEntity.class);
     }
 
+    /**
+     * Gives the admin ids of each of the given groups, keyed by group id, using a single query
+     */
+    public Map<String, List<String>> getAdminIds(String domainId, List<String> groupIds) throws SharingRegistryException {
+        Map<String, List<String>> adminIds = new HashMap<>();
+        if (groupIds.isEmpty()) {
+            return adminIds;
+        }
+        String queryString = "SELECT GA." + DBConstants.GroupAdminTable.GROUP_ID + ", GA." + DBConstants.GroupAdminTable.ADMIN_ID
+                + " FROM " + GroupAdminEntity.class.getSimpleName() + " GA WHERE " +
+                "GA." + DBConstants.GroupAdminTable.DOMAIN_ID + "=:" + DBConstants.GroupAdminTable.DOMAIN_ID + " AND " +
+                "GA." + DBConstants.GroupAdminTable.GROUP_ID + " IN :" + DBConstants.GroupAdminTable.GROUP_ID;
+        List<Object[]> rows = execute(entityManager -> entityManager.createQuery(queryString)
+                .setParameter(DBConstants.GroupAdminTable.DOMAIN_ID, domainId)
+                .setParameter(DBConstants.GroupAdminTable.GROUP_ID, groupIds)
+                .getResultList());
+        for (Object[] row : rows) {
+            adminIds.computeIfAbsent((String) row[0], groupId -> new ArrayList<>()).add((String) row[1]);
+        }
+        return adminIds;
+    }
+
 }
@@ -82,6 +82,32 @@ public class GroupMembershipRepository extends AbstractRepository<GroupMembershi
         return groups;
     }
 
+    /**
+     * Gives the ids of the direct user members of each of the given groups, keyed by group id, using a single query
+     */
+    public Map<String, List<String>> getChildUserIds(String domainId, List<String> groupIds) throws SharingRegistryException {
+        Map<String, List<String>> childUserIds = new HashMap<>();
+        if (groupIds.isEmpty()) {
+            return childUserIds;
+        }
+        String queryString = "SELECT DISTINCT GM." + DBConstants.GroupMembershipTable.PARENT_ID + ", GM." + DBConstants.GroupMembershipTable.CHILD_ID
+                + " FROM " + UserEntity.class.getSimpleName() + " U, " + GroupMembershipEntity.class.getSimpleName()
+                + " GM WHERE GM." + DBConstants.GroupMembershipTable.CHILD_ID + " = U." + DBConstants.UserTable.USER_ID + " AND " +
+                "GM." + DBConstants.GroupMembershipTable.DOMAIN_ID + " = U." + DBConstants.UserTable.DOMAIN_ID + " AND " +
+                "GM." + DBConstants.GroupMembershipTable.DOMAIN_ID + "=:" + DBConstants.GroupMembershipTable.DOMAIN_ID + " AND " +
+                "GM." + DBConstants.GroupMembershipTable.PARENT_ID + " IN :" + DBConstants.GroupMembershipTable.PARENT_ID + " AND GM." + DBConstants.GroupMembershipTable.CHILD_TYPE
+                + "=:" + DBConstants.GroupMembershipTable.CHILD_TYPE;
+        List<Object[]> rows = execute(entityManager -> entityManager.createQuery(queryString)
+                .setParameter(DBConstants.GroupMembershipTable.DOMAIN_ID, domainId)
+                .setParameter(DBConstants.GroupMembershipTable.PARENT_ID, groupIds)
+                .setParameter(DBConstants.GroupMembershipTable.CHILD_TYPE, GroupChildType.USER.toString())
+                .getResultList());
+        for (Object[] row : rows) {
+            childUserIds.computeIfAbsent((String) row[0], groupId -> new ArrayList<>()).add((String) row[1]);
+        }
+        return childUserIds;
+    }
+
     public List<GroupMembership> getAllParentMembershipsForChild(String domainId, String childId) throws SharingRegistryException {
         List<GroupMembership> finalParentGroups = new ArrayList<>();
         Map<String, String> filters = new HashMap<>();
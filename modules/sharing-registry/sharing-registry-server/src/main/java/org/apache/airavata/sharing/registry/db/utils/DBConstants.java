@@ -64,6 +64,12 @@ public class DBConstants {
         public static final String UPDATED_TIME = "updatedTime";
     }
 
+    public static class GroupAdminTable {
+        public static final String GROUP_ID = "groupId";
+        public static final String DOMAIN_ID = "domainId";
+        public static final String ADMIN_ID = "adminId";
+    }
+
     public static class EntityTypeTable {
         public static final String ENTITY_TYPE_ID = "entityTypeId";
         public static final String DOMAIN_ID = "domainId";
@@ -595,6 +595,33 @@ public class SharingRegistryServerHandler implements SharingRegistryService.Ifac
         }
     }
 
+    @Override
+    public List<UserGroupWithMembers> getAllMemberGroupsWithMembersForUser(String domainId, String userId) throws SharingRegistryException, TException {
+        try{
+            GroupMembershipRepository groupMembershipRepository = new GroupMembershipRepository();
+            List<UserGroup> userGroups = groupMembershipRepository.getAllMemberGroupsForUser(domainId, userId);
+            List<String> groupIds = new ArrayList<>();
+            userGroups.forEach(userGroup -> groupIds.add(userGroup.getGroupId()));
+
+            // One query each for the members and the admins of all the groups
+            Map<String, List<String>> memberIds = groupMembershipRepository.getChildUserIds(domainId, groupIds);
+            Map<String, List<String>> adminIds = (new GroupAdminRepository()).getAdminIds(domainId, groupIds);
+
+            List<UserGroupWithMembers> groupsWithMembers = new ArrayList<>();
+            for (UserGroup userGroup : userGroups) {
+                UserGroupWithMembers groupWithMembers = new UserGroupWithMembers();
+                groupWithMembers.setGroup(userGroup);
+                groupWithMembers.setMemberIds(memberIds.getOrDefault(userGroup.getGroupId(), new ArrayList<>()));
+                groupWithMembers.setAdminIds(adminIds.getOrDefault(userGroup.getGroupId(), new ArrayList<>()));
+                groupsWithMembers.add(groupWithMembers);
+            }
+            return groupsWithMembers;
+        }catch (Throwable ex) {
+            logger.error(ex.getMessage(), ex);
+            throw new SharingRegistryException(ex.getMessage() + " Stack trace:" + ExceptionUtils.getStackTrace(ex));
+        }
+    }
+
     /**
      * * EntityType Operations
      * *
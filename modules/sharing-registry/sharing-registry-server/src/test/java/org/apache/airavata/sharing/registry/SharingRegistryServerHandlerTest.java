@@ -33,6 +33,8 @@ import org.slf4j.LoggerFactory;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 public class SharingRegistryServerHandlerTest {
     private final static Logger logger = LoggerFactory.getLogger(SharingRegistryServerHandlerTest.class);
@@ -146,6 +148,18 @@ public class SharingRegistryServerHandlerTest {
         // user has admin access
         Assert.assertTrue(sharingRegistryServerHandler.addGroupAdmins(domainId, groupId1, Arrays.asList(userId2)));
         Assert.assertTrue(sharingRegistryServerHandler.hasAdminAccess(domainId, groupId1, userId2));
+
+        // groups of a user with their members and admins
+        List<UserGroupWithMembers> groupsWithMembers1 = sharingRegistryServerHandler.getAllMemberGroupsWithMembersForUser(domainId, userId1);
+        Assert.assertEquals(1, groupsWithMembers1.size());
+        Assert.assertEquals(groupId1, groupsWithMembers1.get(0).getGroup().getGroupId());
+        Assert.assertEquals(userId1, groupsWithMembers1.get(0).getGroup().getOwnerId());
+        Assert.assertEquals(Arrays.asList(userId1), groupsWithMembers1.get(0).getMemberIds());
+        Assert.assertEquals(Arrays.asList(userId2), groupsWithMembers1.get(0).getAdminIds());
+        List<UserGroupWithMembers> groupsWithMembers3 = sharingRegistryServerHandler.getAllMemberGroupsWithMembersForUser(domainId, userId3);
+        Assert.assertEquals(1, groupsWithMembers3.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(userId2, userId3)), new HashSet<>(groupsWithMembers3.get(0).getMemberIds()));
+        Assert.assertTrue(groupsWithMembers3.get(0).getAdminIds().isEmpty());
         Assert.assertTrue(sharingRegistryServerHandler.removeGroupAdmins(domainId, groupId1, Arrays.asList(userId2)));
         Assert.assertFalse(sharingRegistryServerHandler.hasAdminAccess(domainId, groupId1, userId2));
 
@@ -271,6 +271,14 @@ public class SharingRegistryService {
 
     public java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> getAllMemberGroupsForUser(java.lang.String domainId, java.lang.String userId) throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.thrift.TException;
 
+    /**
+     * <p>API method to get the groups a user is a direct member of, together with the members and admins of each group</p>
+     * 
+     * @param domainId
+     * @param userId
+     */
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> getAllMemberGroupsWithMembersForUser(java.lang.String domainId, java.lang.String userId) throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.thrift.TException;
+
     /**
      * <p>API method to create a new entity type</p>
      * 
@@ -548,6 +556,8 @@ public class SharingRegistryService {
 
     public void getAllMemberGroupsForUser(java.lang.String domainId, java.lang.String userId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> resultHandler) throws org.apache.thrift.TException;
 
+    public void getAllMemberGroupsWithMembersForUser(java.lang.String domainId, java.lang.String userId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> resultHandler) throws org.apache.thrift.TException;
+
     public void createEntityType(org.apache.airavata.sharing.registry.models.EntityType entityType, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void updateEntityType(org.apache.airavata.sharing.registry.models.EntityType entityType, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException;
@@ -1439,6 +1449,33 @@ public class SharingRegistryService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getAllMemberGroupsForUser failed: unknown result");
     }
 
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> getAllMemberGroupsWithMembersForUser(java.lang.String domainId, java.lang.String userId) throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.thrift.TException
+    {
+      send_getAllMemberGroupsWithMembersForUser(domainId, userId);
+      return recv_getAllMemberGroupsWithMembersForUser();
+    }
+
+    public void send_getAllMemberGroupsWithMembersForUser(java.lang.String domainId, java.lang.String userId) throws org.apache.thrift.TException
+    {
+      getAllMemberGroupsWithMembersForUser_args args = new getAllMemberGroupsWithMembersForUser_args();
+      args.setDomainId(domainId);
+      args.setUserId(userId);
+      sendBase("getAllMemberGroupsWithMembersForUser", args);
+    }
+
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> recv_getAllMemberGroupsWithMembersForUser() throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.thrift.TException
+    {
+      getAllMemberGroupsWithMembersForUser_result result = new getAllMemberGroupsWithMembersForUser_result();
+      receiveBase(result, "getAllMemberGroupsWithMembersForUser");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.sre != null) {
+        throw result.sre;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getAllMemberGroupsWithMembersForUser failed: unknown result");
+    }
+
     public java.lang.String createEntityType(org.apache.airavata.sharing.registry.models.EntityType entityType) throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.airavata.sharing.registry.models.DuplicateEntryException, org.apache.thrift.TException
     {
       send_createEntityType(entityType);
@@ -3219,6 +3256,41 @@ public class SharingRegistryService {
       }
     }
 
+    public void getAllMemberGroupsWithMembersForUser(java.lang.String domainId, java.lang.String userId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getAllMemberGroupsWithMembersForUser_call method_call = new getAllMemberGroupsWithMembersForUser_call(domainId, userId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getAllMemberGroupsWithMembersForUser_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> {
+      private java.lang.String domainId;
+      private java.lang.String userId;
+      public getAllMemberGroupsWithMembersForUser_call(java.lang.String domainId, java.lang.String userId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.domainId = domainId;
+        this.userId = userId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getAllMemberGroupsWithMembersForUser", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getAllMemberGroupsWithMembersForUser_args args = new getAllMemberGroupsWithMembersForUser_args();
+        args.setDomainId(domainId);
+        args.setUserId(userId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> getResult() throws org.apache.airavata.sharing.registry.models.SharingRegistryException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getAllMemberGroupsWithMembersForUser();
+      }
+    }
+
     public void createEntityType(org.apache.airavata.sharing.registry.models.EntityType entityType, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       createEntityType_call method_call = new createEntityType_call(entityType, resultHandler, this, ___protocolFactory, ___transport);
@@ -4176,6 +4248,7 @@ public class SharingRegistryService {
       processMap.put("addChildGroupsToParentGroup", new addChildGroupsToParentGroup());
       processMap.put("removeChildGroupFromParentGroup", new removeChildGroupFromParentGroup());
       processMap.put("getAllMemberGroupsForUser", new getAllMemberGroupsForUser());
+      processMap.put("getAllMemberGroupsWithMembersForUser", new getAllMemberGroupsWithMembersForUser());
       processMap.put("createEntityType", new createEntityType());
       processMap.put("updateEntityType", new updateEntityType());
       processMap.put("isEntityTypeExists", new isEntityTypeExists());
@@ -4942,6 +5015,30 @@ public class SharingRegistryService {
       }
     }
 
+    public static class getAllMemberGroupsWithMembersForUser<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getAllMemberGroupsWithMembersForUser_args> {
+      public getAllMemberGroupsWithMembersForUser() {
+        super("getAllMemberGroupsWithMembersForUser");
+      }
+
+      public getAllMemberGroupsWithMembersForUser_args getEmptyArgsInstance() {
+        return new getAllMemberGroupsWithMembersForUser_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getAllMemberGroupsWithMembersForUser_result getResult(I iface, getAllMemberGroupsWithMembersForUser_args args) throws org.apache.thrift.TException {
+        getAllMemberGroupsWithMembersForUser_result result = new getAllMemberGroupsWithMembersForUser_result();
+        try {
+          result.success = iface.getAllMemberGroupsWithMembersForUser(args.domainId, args.userId);
+        } catch (org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
+          result.sre = sre;
+        }
+        return result;
+      }
+    }
+
     public static class createEntityType<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createEntityType_args> {
       public createEntityType() {
         super("createEntityType");
@@ -5603,6 +5700,7 @@ public class SharingRegistryService {
       processMap.put("addChildGroupsToParentGroup", new addChildGroupsToParentGroup());
       processMap.put("removeChildGroupFromParentGroup", new removeChildGroupFromParentGroup());
       processMap.put("getAllMemberGroupsForUser", new getAllMemberGroupsForUser());
+      processMap.put("getAllMemberGroupsWithMembersForUser", new getAllMemberGroupsWithMembersForUser());
       processMap.put("createEntityType", new createEntityType());
       processMap.put("updateEntityType", new updateEntityType());
       processMap.put("isEntityTypeExists", new isEntityTypeExists());
@@ -7603,20 +7701,20 @@ public class SharingRegistryService {
       }
     }
 
-    public static class createEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createEntityType_args, java.lang.String> {
-      public createEntityType() {
-        super("createEntityType");
+    public static class getAllMemberGroupsWithMembersForUser<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getAllMemberGroupsWithMembersForUser_args, java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> {
+      public getAllMemberGroupsWithMembersForUser() {
+        super("getAllMemberGroupsWithMembersForUser");
       }
 
-      public createEntityType_args getEmptyArgsInstance() {
-        return new createEntityType_args();
+      public getAllMemberGroupsWithMembersForUser_args getEmptyArgsInstance() {
+        return new getAllMemberGroupsWithMembersForUser_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            createEntityType_result result = new createEntityType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>>() { 
+          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> o) {
+            getAllMemberGroupsWithMembersForUser_result result = new getAllMemberGroupsWithMembersForUser_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -7631,15 +7729,11 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            createEntityType_result result = new createEntityType_result();
+            getAllMemberGroupsWithMembersForUser_result result = new getAllMemberGroupsWithMembersForUser_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
               msg = result;
-            } else if (e instanceof org.apache.airavata.sharing.registry.models.DuplicateEntryException) {
-              result.dee = (org.apache.airavata.sharing.registry.models.DuplicateEntryException) e;
-              result.setDeeIsSet(true);
-              msg = result;
             } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -7667,27 +7761,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, createEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.createEntityType(args.entityType,resultHandler);
+      public void start(I iface, getAllMemberGroupsWithMembersForUser_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>> resultHandler) throws org.apache.thrift.TException {
+        iface.getAllMemberGroupsWithMembersForUser(args.domainId, args.userId,resultHandler);
       }
     }
 
-    public static class updateEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateEntityType_args, java.lang.Boolean> {
-      public updateEntityType() {
-        super("updateEntityType");
+    public static class createEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createEntityType_args, java.lang.String> {
+      public createEntityType() {
+        super("createEntityType");
       }
 
-      public updateEntityType_args getEmptyArgsInstance() {
-        return new updateEntityType_args();
+      public createEntityType_args getEmptyArgsInstance() {
+        return new createEntityType_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            updateEntityType_result result = new updateEntityType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            createEntityType_result result = new createEntityType_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -7701,11 +7794,15 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            updateEntityType_result result = new updateEntityType_result();
+            createEntityType_result result = new createEntityType_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
               msg = result;
+            } else if (e instanceof org.apache.airavata.sharing.registry.models.DuplicateEntryException) {
+              result.dee = (org.apache.airavata.sharing.registry.models.DuplicateEntryException) e;
+              result.setDeeIsSet(true);
+              msg = result;
             } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -7733,25 +7830,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, updateEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.updateEntityType(args.entityType,resultHandler);
+      public void start(I iface, createEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.createEntityType(args.entityType,resultHandler);
       }
     }
 
-    public static class isEntityTypeExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isEntityTypeExists_args, java.lang.Boolean> {
-      public isEntityTypeExists() {
-        super("isEntityTypeExists");
+    public static class updateEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateEntityType_args, java.lang.Boolean> {
+      public updateEntityType() {
+        super("updateEntityType");
       }
 
-      public isEntityTypeExists_args getEmptyArgsInstance() {
-        return new isEntityTypeExists_args();
+      public updateEntityType_args getEmptyArgsInstance() {
+        return new updateEntityType_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
           public void onComplete(java.lang.Boolean o) {
-            isEntityTypeExists_result result = new isEntityTypeExists_result();
+            updateEntityType_result result = new updateEntityType_result();
             result.success = o;
             result.setSuccessIsSet(true);
             try {
@@ -7767,7 +7864,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            isEntityTypeExists_result result = new isEntityTypeExists_result();
+            updateEntityType_result result = new updateEntityType_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -7799,25 +7896,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, isEntityTypeExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.isEntityTypeExists(args.domainId, args.entityTypeId,resultHandler);
+      public void start(I iface, updateEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.updateEntityType(args.entityType,resultHandler);
       }
     }
 
-    public static class deleteEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteEntityType_args, java.lang.Boolean> {
-      public deleteEntityType() {
-        super("deleteEntityType");
+    public static class isEntityTypeExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isEntityTypeExists_args, java.lang.Boolean> {
+      public isEntityTypeExists() {
+        super("isEntityTypeExists");
       }
 
-      public deleteEntityType_args getEmptyArgsInstance() {
-        return new deleteEntityType_args();
+      public isEntityTypeExists_args getEmptyArgsInstance() {
+        return new isEntityTypeExists_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
           public void onComplete(java.lang.Boolean o) {
-            deleteEntityType_result result = new deleteEntityType_result();
+            isEntityTypeExists_result result = new isEntityTypeExists_result();
             result.success = o;
             result.setSuccessIsSet(true);
             try {
@@ -7833,202 +7930,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            deleteEntityType_result result = new deleteEntityType_result();
-            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
-              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
-              result.setSreIsSet(true);
-              msg = result;
-            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
-      }
-
-      public void start(I iface, deleteEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.deleteEntityType(args.domainId, args.entityTypeId,resultHandler);
-      }
-    }
-
-    public static class getEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntityType_args, org.apache.airavata.sharing.registry.models.EntityType> {
-      public getEntityType() {
-        super("getEntityType");
-      }
-
-      public getEntityType_args getEmptyArgsInstance() {
-        return new getEntityType_args();
-      }
-
-      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType>() { 
-          public void onComplete(org.apache.airavata.sharing.registry.models.EntityType o) {
-            getEntityType_result result = new getEntityType_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getEntityType_result result = new getEntityType_result();
-            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
-              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
-              result.setSreIsSet(true);
-              msg = result;
-            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
-      }
-
-      public void start(I iface, getEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType> resultHandler) throws org.apache.thrift.TException {
-        iface.getEntityType(args.domainId, args.entityTypeId,resultHandler);
-      }
-    }
-
-    public static class getEntityTypes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntityTypes_args, java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> {
-      public getEntityTypes() {
-        super("getEntityTypes");
-      }
-
-      public getEntityTypes_args getEmptyArgsInstance() {
-        return new getEntityTypes_args();
-      }
-
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>>() { 
-          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.EntityType> o) {
-            getEntityTypes_result result = new getEntityTypes_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getEntityTypes_result result = new getEntityTypes_result();
-            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
-              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
-              result.setSreIsSet(true);
-              msg = result;
-            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
-      }
-
-      public void start(I iface, getEntityTypes_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> resultHandler) throws org.apache.thrift.TException {
-        iface.getEntityTypes(args.domainId, args.offset, args.limit,resultHandler);
-      }
-    }
-
-    public static class createEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createEntity_args, java.lang.String> {
-      public createEntity() {
-        super("createEntity");
-      }
-
-      public createEntity_args getEmptyArgsInstance() {
-        return new createEntity_args();
-      }
-
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            createEntity_result result = new createEntity_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            createEntity_result result = new createEntity_result();
+            isEntityTypeExists_result result = new isEntityTypeExists_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8060,25 +7962,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, createEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.createEntity(args.entity,resultHandler);
+      public void start(I iface, isEntityTypeExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.isEntityTypeExists(args.domainId, args.entityTypeId,resultHandler);
       }
     }
 
-    public static class updateEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateEntity_args, java.lang.Boolean> {
-      public updateEntity() {
-        super("updateEntity");
+    public static class deleteEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteEntityType_args, java.lang.Boolean> {
+      public deleteEntityType() {
+        super("deleteEntityType");
       }
 
-      public updateEntity_args getEmptyArgsInstance() {
-        return new updateEntity_args();
+      public deleteEntityType_args getEmptyArgsInstance() {
+        return new deleteEntityType_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
           public void onComplete(java.lang.Boolean o) {
-            updateEntity_result result = new updateEntity_result();
+            deleteEntityType_result result = new deleteEntityType_result();
             result.success = o;
             result.setSuccessIsSet(true);
             try {
@@ -8094,7 +7996,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            updateEntity_result result = new updateEntity_result();
+            deleteEntityType_result result = new deleteEntityType_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8126,27 +8028,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, updateEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.updateEntity(args.entity,resultHandler);
+      public void start(I iface, deleteEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.deleteEntityType(args.domainId, args.entityTypeId,resultHandler);
       }
     }
 
-    public static class isEntityExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isEntityExists_args, java.lang.Boolean> {
-      public isEntityExists() {
-        super("isEntityExists");
+    public static class getEntityType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntityType_args, org.apache.airavata.sharing.registry.models.EntityType> {
+      public getEntityType() {
+        super("getEntityType");
       }
 
-      public isEntityExists_args getEmptyArgsInstance() {
-        return new isEntityExists_args();
+      public getEntityType_args getEmptyArgsInstance() {
+        return new getEntityType_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            isEntityExists_result result = new isEntityExists_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType>() { 
+          public void onComplete(org.apache.airavata.sharing.registry.models.EntityType o) {
+            getEntityType_result result = new getEntityType_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8160,7 +8061,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            isEntityExists_result result = new isEntityExists_result();
+            getEntityType_result result = new getEntityType_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8192,27 +8093,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, isEntityExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.isEntityExists(args.domainId, args.entityId,resultHandler);
+      public void start(I iface, getEntityType_args args, org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.EntityType> resultHandler) throws org.apache.thrift.TException {
+        iface.getEntityType(args.domainId, args.entityTypeId,resultHandler);
       }
     }
 
-    public static class deleteEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteEntity_args, java.lang.Boolean> {
-      public deleteEntity() {
-        super("deleteEntity");
+    public static class getEntityTypes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntityTypes_args, java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> {
+      public getEntityTypes() {
+        super("getEntityTypes");
       }
 
-      public deleteEntity_args getEmptyArgsInstance() {
-        return new deleteEntity_args();
+      public getEntityTypes_args getEmptyArgsInstance() {
+        return new getEntityTypes_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            deleteEntity_result result = new deleteEntity_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>>() { 
+          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.EntityType> o) {
+            getEntityTypes_result result = new getEntityTypes_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8226,7 +8126,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            deleteEntity_result result = new deleteEntity_result();
+            getEntityTypes_result result = new getEntityTypes_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8258,25 +8158,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, deleteEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.deleteEntity(args.domainId, args.entityId,resultHandler);
+      public void start(I iface, getEntityTypes_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.EntityType>> resultHandler) throws org.apache.thrift.TException {
+        iface.getEntityTypes(args.domainId, args.offset, args.limit,resultHandler);
       }
     }
 
-    public static class getEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntity_args, org.apache.airavata.sharing.registry.models.Entity> {
-      public getEntity() {
-        super("getEntity");
+    public static class createEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createEntity_args, java.lang.String> {
+      public createEntity() {
+        super("createEntity");
       }
 
-      public getEntity_args getEmptyArgsInstance() {
-        return new getEntity_args();
+      public createEntity_args getEmptyArgsInstance() {
+        return new createEntity_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity>() { 
-          public void onComplete(org.apache.airavata.sharing.registry.models.Entity o) {
-            getEntity_result result = new getEntity_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            createEntity_result result = new createEntity_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -8291,7 +8191,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getEntity_result result = new getEntity_result();
+            createEntity_result result = new createEntity_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8323,26 +8223,27 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, getEntity_args args, org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity> resultHandler) throws org.apache.thrift.TException {
-        iface.getEntity(args.domainId, args.entityId,resultHandler);
+      public void start(I iface, createEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.createEntity(args.entity,resultHandler);
       }
     }
 
-    public static class searchEntities<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, searchEntities_args, java.util.List<org.apache.airavata.sharing.registry.models.Entity>> {
-      public searchEntities() {
-        super("searchEntities");
+    public static class updateEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateEntity_args, java.lang.Boolean> {
+      public updateEntity() {
+        super("updateEntity");
       }
 
-      public searchEntities_args getEmptyArgsInstance() {
-        return new searchEntities_args();
+      public updateEntity_args getEmptyArgsInstance() {
+        return new updateEntity_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>>() { 
-          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.Entity> o) {
-            searchEntities_result result = new searchEntities_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            updateEntity_result result = new updateEntity_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8356,7 +8257,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            searchEntities_result result = new searchEntities_result();
+            updateEntity_result result = new updateEntity_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8388,26 +8289,27 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, searchEntities_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>> resultHandler) throws org.apache.thrift.TException {
-        iface.searchEntities(args.domainId, args.userId, args.filters, args.offset, args.limit,resultHandler);
+      public void start(I iface, updateEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.updateEntity(args.entity,resultHandler);
       }
     }
 
-    public static class getListOfSharedUsers<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getListOfSharedUsers_args, java.util.List<org.apache.airavata.sharing.registry.models.User>> {
-      public getListOfSharedUsers() {
-        super("getListOfSharedUsers");
+    public static class isEntityExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isEntityExists_args, java.lang.Boolean> {
+      public isEntityExists() {
+        super("isEntityExists");
       }
 
-      public getListOfSharedUsers_args getEmptyArgsInstance() {
-        return new getListOfSharedUsers_args();
+      public isEntityExists_args getEmptyArgsInstance() {
+        return new isEntityExists_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>>() { 
-          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.User> o) {
-            getListOfSharedUsers_result result = new getListOfSharedUsers_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            isEntityExists_result result = new isEntityExists_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8421,7 +8323,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getListOfSharedUsers_result result = new getListOfSharedUsers_result();
+            isEntityExists_result result = new isEntityExists_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8453,26 +8355,27 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, getListOfSharedUsers_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>> resultHandler) throws org.apache.thrift.TException {
-        iface.getListOfSharedUsers(args.domainId, args.entityId, args.permissionTypeId,resultHandler);
+      public void start(I iface, isEntityExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.isEntityExists(args.domainId, args.entityId,resultHandler);
       }
     }
 
-    public static class getListOfSharedGroups<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getListOfSharedGroups_args, java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> {
-      public getListOfSharedGroups() {
-        super("getListOfSharedGroups");
+    public static class deleteEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteEntity_args, java.lang.Boolean> {
+      public deleteEntity() {
+        super("deleteEntity");
       }
 
-      public getListOfSharedGroups_args getEmptyArgsInstance() {
-        return new getListOfSharedGroups_args();
+      public deleteEntity_args getEmptyArgsInstance() {
+        return new deleteEntity_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>>() { 
-          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> o) {
-            getListOfSharedGroups_result result = new getListOfSharedGroups_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            deleteEntity_result result = new deleteEntity_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8486,7 +8389,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getListOfSharedGroups_result result = new getListOfSharedGroups_result();
+            deleteEntity_result result = new deleteEntity_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8518,25 +8421,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, getListOfSharedGroups_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> resultHandler) throws org.apache.thrift.TException {
-        iface.getListOfSharedGroups(args.domainId, args.entityId, args.permissionTypeId,resultHandler);
+      public void start(I iface, deleteEntity_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.deleteEntity(args.domainId, args.entityId,resultHandler);
       }
     }
 
-    public static class createPermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createPermissionType_args, java.lang.String> {
-      public createPermissionType() {
-        super("createPermissionType");
+    public static class getEntity<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEntity_args, org.apache.airavata.sharing.registry.models.Entity> {
+      public getEntity() {
+        super("getEntity");
       }
 
-      public createPermissionType_args getEmptyArgsInstance() {
-        return new createPermissionType_args();
+      public getEntity_args getEmptyArgsInstance() {
+        return new getEntity_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            createPermissionType_result result = new createPermissionType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity>() { 
+          public void onComplete(org.apache.airavata.sharing.registry.models.Entity o) {
+            getEntity_result result = new getEntity_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -8551,15 +8454,11 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            createPermissionType_result result = new createPermissionType_result();
+            getEntity_result result = new getEntity_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
               msg = result;
-            } else if (e instanceof org.apache.airavata.sharing.registry.models.DuplicateEntryException) {
-              result.dee = (org.apache.airavata.sharing.registry.models.DuplicateEntryException) e;
-              result.setDeeIsSet(true);
-              msg = result;
             } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -8587,27 +8486,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, createPermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.createPermissionType(args.permissionType,resultHandler);
+      public void start(I iface, getEntity_args args, org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.Entity> resultHandler) throws org.apache.thrift.TException {
+        iface.getEntity(args.domainId, args.entityId,resultHandler);
       }
     }
 
-    public static class updatePermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updatePermissionType_args, java.lang.Boolean> {
-      public updatePermissionType() {
-        super("updatePermissionType");
+    public static class searchEntities<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, searchEntities_args, java.util.List<org.apache.airavata.sharing.registry.models.Entity>> {
+      public searchEntities() {
+        super("searchEntities");
       }
 
-      public updatePermissionType_args getEmptyArgsInstance() {
-        return new updatePermissionType_args();
+      public searchEntities_args getEmptyArgsInstance() {
+        return new searchEntities_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            updatePermissionType_result result = new updatePermissionType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>>() { 
+          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.Entity> o) {
+            searchEntities_result result = new searchEntities_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8621,7 +8519,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            updatePermissionType_result result = new updatePermissionType_result();
+            searchEntities_result result = new searchEntities_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8653,27 +8551,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, updatePermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.updatePermissionType(args.permissionType,resultHandler);
+      public void start(I iface, searchEntities_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.Entity>> resultHandler) throws org.apache.thrift.TException {
+        iface.searchEntities(args.domainId, args.userId, args.filters, args.offset, args.limit,resultHandler);
       }
     }
 
-    public static class isPermissionExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isPermissionExists_args, java.lang.Boolean> {
-      public isPermissionExists() {
-        super("isPermissionExists");
+    public static class getListOfSharedUsers<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getListOfSharedUsers_args, java.util.List<org.apache.airavata.sharing.registry.models.User>> {
+      public getListOfSharedUsers() {
+        super("getListOfSharedUsers");
       }
 
-      public isPermissionExists_args getEmptyArgsInstance() {
-        return new isPermissionExists_args();
+      public getListOfSharedUsers_args getEmptyArgsInstance() {
+        return new getListOfSharedUsers_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            isPermissionExists_result result = new isPermissionExists_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>>() { 
+          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.User> o) {
+            getListOfSharedUsers_result result = new getListOfSharedUsers_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8687,7 +8584,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            isPermissionExists_result result = new isPermissionExists_result();
+            getListOfSharedUsers_result result = new getListOfSharedUsers_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8719,27 +8616,26 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, isPermissionExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.isPermissionExists(args.dimainId, args.permissionId,resultHandler);
+      public void start(I iface, getListOfSharedUsers_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.User>> resultHandler) throws org.apache.thrift.TException {
+        iface.getListOfSharedUsers(args.domainId, args.entityId, args.permissionTypeId,resultHandler);
       }
     }
 
-    public static class deletePermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deletePermissionType_args, java.lang.Boolean> {
-      public deletePermissionType() {
-        super("deletePermissionType");
+    public static class getListOfSharedGroups<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getListOfSharedGroups_args, java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> {
+      public getListOfSharedGroups() {
+        super("getListOfSharedGroups");
       }
 
-      public deletePermissionType_args getEmptyArgsInstance() {
-        return new deletePermissionType_args();
+      public getListOfSharedGroups_args getEmptyArgsInstance() {
+        return new getListOfSharedGroups_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
-          public void onComplete(java.lang.Boolean o) {
-            deletePermissionType_result result = new deletePermissionType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>>() { 
+          public void onComplete(java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> o) {
+            getListOfSharedGroups_result result = new getListOfSharedGroups_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -8753,7 +8649,7 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            deletePermissionType_result result = new deletePermissionType_result();
+            getListOfSharedGroups_result result = new getListOfSharedGroups_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -8785,25 +8681,25 @@ public class SharingRegistryService {
         return false;
       }
 
-      public void start(I iface, deletePermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
-        iface.deletePermissionType(args.domainId, args.permissionTypeId,resultHandler);
+      public void start(I iface, getListOfSharedGroups_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>> resultHandler) throws org.apache.thrift.TException {
+        iface.getListOfSharedGroups(args.domainId, args.entityId, args.permissionTypeId,resultHandler);
       }
     }
 
-    public static class getPermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getPermissionType_args, org.apache.airavata.sharing.registry.models.PermissionType> {
-      public getPermissionType() {
-        super("getPermissionType");
+    public static class createPermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createPermissionType_args, java.lang.String> {
+      public createPermissionType() {
+        super("createPermissionType");
       }
 
-      public getPermissionType_args getEmptyArgsInstance() {
-        return new getPermissionType_args();
+      public createPermissionType_args getEmptyArgsInstance() {
+        return new createPermissionType_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.PermissionType> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.PermissionType>() { 
-          public void onComplete(org.apache.airavata.sharing.registry.models.PermissionType o) {
-            getPermissionType_result result = new getPermissionType_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            createPermissionType_result result = new createPermissionType_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -8818,7 +8714,274 @@ public class SharingRegistryService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getPermissionType_result result = new getPermissionType_result();
+            createPermissionType_result result = new createPermissionType_result();
+            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
+              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
+              result.setSreIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.airavata.sharing.registry.models.DuplicateEntryException) {
+              result.dee = (org.apache.airavata.sharing.registry.models.DuplicateEntryException) e;
+              result.setDeeIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, createPermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.createPermissionType(args.permissionType,resultHandler);
+      }
+    }
+
+    public static class updatePermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updatePermissionType_args, java.lang.Boolean> {
+      public updatePermissionType() {
+        super("updatePermissionType");
+      }
+
+      public updatePermissionType_args getEmptyArgsInstance() {
+        return new updatePermissionType_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            updatePermissionType_result result = new updatePermissionType_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            updatePermissionType_result result = new updatePermissionType_result();
+            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
+              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
+              result.setSreIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, updatePermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.updatePermissionType(args.permissionType,resultHandler);
+      }
+    }
+
+    public static class isPermissionExists<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isPermissionExists_args, java.lang.Boolean> {
+      public isPermissionExists() {
+        super("isPermissionExists");
+      }
+
+      public isPermissionExists_args getEmptyArgsInstance() {
+        return new isPermissionExists_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            isPermissionExists_result result = new isPermissionExists_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            isPermissionExists_result result = new isPermissionExists_result();
+            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
+              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
+              result.setSreIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, isPermissionExists_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.isPermissionExists(args.dimainId, args.permissionId,resultHandler);
+      }
+    }
+
+    public static class deletePermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deletePermissionType_args, java.lang.Boolean> {
+      public deletePermissionType() {
+        super("deletePermissionType");
+      }
+
+      public deletePermissionType_args getEmptyArgsInstance() {
+        return new deletePermissionType_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean>() { 
+          public void onComplete(java.lang.Boolean o) {
+            deletePermissionType_result result = new deletePermissionType_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            deletePermissionType_result result = new deletePermissionType_result();
+            if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
+              result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
+              result.setSreIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, deletePermissionType_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Boolean> resultHandler) throws org.apache.thrift.TException {
+        iface.deletePermissionType(args.domainId, args.permissionTypeId,resultHandler);
+      }
+    }
+
+    public static class getPermissionType<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getPermissionType_args, org.apache.airavata.sharing.registry.models.PermissionType> {
+      public getPermissionType() {
+        super("getPermissionType");
+      }
+
+      public getPermissionType_args getEmptyArgsInstance() {
+        return new getPermissionType_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.PermissionType> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.airavata.sharing.registry.models.PermissionType>() { 
+          public void onComplete(org.apache.airavata.sharing.registry.models.PermissionType o) {
+            getPermissionType_result result = new getPermissionType_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getPermissionType_result result = new getPermissionType_result();
             if (e instanceof org.apache.airavata.sharing.registry.models.SharingRegistryException) {
               result.sre = (org.apache.airavata.sharing.registry.models.SharingRegistryException) e;
               result.setSreIsSet(true);
@@ -34832,23 +34995,1131 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getGroupMembersOfTypeGroup_result)
-        return this.equals((getGroupMembersOfTypeGroup_result)that);
+      if (that instanceof getGroupMembersOfTypeGroup_result)
+        return this.equals((getGroupMembersOfTypeGroup_result)that);
+      return false;
+    }
+
+    public boolean equals(getGroupMembersOfTypeGroup_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_sre = true && this.isSetSre();
+      boolean that_present_sre = true && that.isSetSre();
+      if (this_present_sre || that_present_sre) {
+        if (!(this_present_sre && that_present_sre))
+          return false;
+        if (!this.sre.equals(that.sre))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetSre()) ? 131071 : 524287);
+      if (isSetSre())
+        hashCode = hashCode * 8191 + sre.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getGroupMembersOfTypeGroup_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetSre()).compareTo(other.isSetSre());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSre()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sre, other.sre);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getGroupMembersOfTypeGroup_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("sre:");
+      if (this.sre == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sre);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getGroupMembersOfTypeGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroupMembersOfTypeGroup_resultStandardScheme getScheme() {
+        return new getGroupMembersOfTypeGroup_resultStandardScheme();
+      }
+    }
+
+    private static class getGroupMembersOfTypeGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getGroupMembersOfTypeGroup_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list64.size);
+                  org.apache.airavata.sharing.registry.models.UserGroup _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
+                  {
+                    _elem65 = new org.apache.airavata.sharing.registry.models.UserGroup();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SRE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.sre = new org.apache.airavata.sharing.registry.models.SharingRegistryException();
+                struct.sre.read(iprot);
+                struct.setSreIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (org.apache.airavata.sharing.registry.models.UserGroup _iter67 : struct.success)
+            {
+              _iter67.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.sre != null) {
+          oprot.writeFieldBegin(SRE_FIELD_DESC);
+          struct.sre.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getGroupMembersOfTypeGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroupMembersOfTypeGroup_resultTupleScheme getScheme() {
+        return new getGroupMembersOfTypeGroup_resultTupleScheme();
+      }
+    }
+
+    private static class getGroupMembersOfTypeGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getGroupMembersOfTypeGroup_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSre()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (org.apache.airavata.sharing.registry.models.UserGroup _iter68 : struct.success)
+            {
+              _iter68.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetSre()) {
+          struct.sre.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list69.size);
+            org.apache.airavata.sharing.registry.models.UserGroup _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
+            {
+              _elem70 = new org.apache.airavata.sharing.registry.models.UserGroup();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.sre = new org.apache.airavata.sharing.registry.models.SharingRegistryException();
+          struct.sre.read(iprot);
+          struct.setSreIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addChildGroupsToParentGroup_args implements org.apache.thrift.TBase<addChildGroupsToParentGroup_args, addChildGroupsToParentGroup_args._Fields>, java.io.Serializable, Cloneable, Comparable<addChildGroupsToParentGroup_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChildGroupsToParentGroup_args");
+
+    private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domainId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CHILD_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("childIds", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("groupId", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChildGroupsToParentGroup_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChildGroupsToParentGroup_argsTupleSchemeFactory();
+
+    public java.lang.String domainId; // required
+    public java.util.List<java.lang.String> childIds; // required
+    public java.lang.String groupId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DOMAIN_ID((short)1, "domainId"),
+      CHILD_IDS((short)2, "childIds"),
+      GROUP_ID((short)3, "groupId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DOMAIN_ID
+            return DOMAIN_ID;
+          case 2: // CHILD_IDS
+            return CHILD_IDS;
+          case 3: // GROUP_ID
+            return GROUP_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domainId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CHILD_IDS, new org.apache.thrift.meta_data.FieldMetaData("childIds", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("groupId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChildGroupsToParentGroup_args.class, metaDataMap);
+    }
+
+    public addChildGroupsToParentGroup_args() {
+    }
+
+    public addChildGroupsToParentGroup_args(
+      java.lang.String domainId,
+      java.util.List<java.lang.String> childIds,
+      java.lang.String groupId)
+    {
+      this();
+      this.domainId = domainId;
+      this.childIds = childIds;
+      this.groupId = groupId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addChildGroupsToParentGroup_args(addChildGroupsToParentGroup_args other) {
+      if (other.isSetDomainId()) {
+        this.domainId = other.domainId;
+      }
+      if (other.isSetChildIds()) {
+        java.util.List<java.lang.String> __this__childIds = new java.util.ArrayList<java.lang.String>(other.childIds);
+        this.childIds = __this__childIds;
+      }
+      if (other.isSetGroupId()) {
+        this.groupId = other.groupId;
+      }
+    }
+
+    public addChildGroupsToParentGroup_args deepCopy() {
+      return new addChildGroupsToParentGroup_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.domainId = null;
+      this.childIds = null;
+      this.groupId = null;
+    }
+
+    public java.lang.String getDomainId() {
+      return this.domainId;
+    }
+
+    public addChildGroupsToParentGroup_args setDomainId(java.lang.String domainId) {
+      this.domainId = domainId;
+      return this;
+    }
+
+    public void unsetDomainId() {
+      this.domainId = null;
+    }
+
+    /** Returns true if field domainId is set (has been assigned a value) and false otherwise */
+    public boolean isSetDomainId() {
+      return this.domainId != null;
+    }
+
+    public void setDomainIdIsSet(boolean value) {
+      if (!value) {
+        this.domainId = null;
+      }
+    }
+
+    public int getChildIdsSize() {
+      return (this.childIds == null) ? 0 : this.childIds.size();
+    }
+
+    public java.util.Iterator<java.lang.String> getChildIdsIterator() {
+      return (this.childIds == null) ? null : this.childIds.iterator();
+    }
+
+    public void addToChildIds(java.lang.String elem) {
+      if (this.childIds == null) {
+        this.childIds = new java.util.ArrayList<java.lang.String>();
+      }
+      this.childIds.add(elem);
+    }
+
+    public java.util.List<java.lang.String> getChildIds() {
+      return this.childIds;
+    }
+
+    public addChildGroupsToParentGroup_args setChildIds(java.util.List<java.lang.String> childIds) {
+      this.childIds = childIds;
+      return this;
+    }
+
+    public void unsetChildIds() {
+      this.childIds = null;
+    }
+
+    /** Returns true if field childIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetChildIds() {
+      return this.childIds != null;
+    }
+
+    public void setChildIdsIsSet(boolean value) {
+      if (!value) {
+        this.childIds = null;
+      }
+    }
+
+    public java.lang.String getGroupId() {
+      return this.groupId;
+    }
+
+    public addChildGroupsToParentGroup_args setGroupId(java.lang.String groupId) {
+      this.groupId = groupId;
+      return this;
+    }
+
+    public void unsetGroupId() {
+      this.groupId = null;
+    }
+
+    /** Returns true if field groupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetGroupId() {
+      return this.groupId != null;
+    }
+
+    public void setGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.groupId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case DOMAIN_ID:
+        if (value == null) {
+          unsetDomainId();
+        } else {
+          setDomainId((java.lang.String)value);
+        }
+        break;
+
+      case CHILD_IDS:
+        if (value == null) {
+          unsetChildIds();
+        } else {
+          setChildIds((java.util.List<java.lang.String>)value);
+        }
+        break;
+
+      case GROUP_ID:
+        if (value == null) {
+          unsetGroupId();
+        } else {
+          setGroupId((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DOMAIN_ID:
+        return getDomainId();
+
+      case CHILD_IDS:
+        return getChildIds();
+
+      case GROUP_ID:
+        return getGroupId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DOMAIN_ID:
+        return isSetDomainId();
+      case CHILD_IDS:
+        return isSetChildIds();
+      case GROUP_ID:
+        return isSetGroupId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addChildGroupsToParentGroup_args)
+        return this.equals((addChildGroupsToParentGroup_args)that);
+      return false;
+    }
+
+    public boolean equals(addChildGroupsToParentGroup_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_domainId = true && this.isSetDomainId();
+      boolean that_present_domainId = true && that.isSetDomainId();
+      if (this_present_domainId || that_present_domainId) {
+        if (!(this_present_domainId && that_present_domainId))
+          return false;
+        if (!this.domainId.equals(that.domainId))
+          return false;
+      }
+
+      boolean this_present_childIds = true && this.isSetChildIds();
+      boolean that_present_childIds = true && that.isSetChildIds();
+      if (this_present_childIds || that_present_childIds) {
+        if (!(this_present_childIds && that_present_childIds))
+          return false;
+        if (!this.childIds.equals(that.childIds))
+          return false;
+      }
+
+      boolean this_present_groupId = true && this.isSetGroupId();
+      boolean that_present_groupId = true && that.isSetGroupId();
+      if (this_present_groupId || that_present_groupId) {
+        if (!(this_present_groupId && that_present_groupId))
+          return false;
+        if (!this.groupId.equals(that.groupId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetDomainId()) ? 131071 : 524287);
+      if (isSetDomainId())
+        hashCode = hashCode * 8191 + domainId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetChildIds()) ? 131071 : 524287);
+      if (isSetChildIds())
+        hashCode = hashCode * 8191 + childIds.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetGroupId()) ? 131071 : 524287);
+      if (isSetGroupId())
+        hashCode = hashCode * 8191 + groupId.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(addChildGroupsToParentGroup_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetDomainId()).compareTo(other.isSetDomainId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDomainId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.domainId, other.domainId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChildIds()).compareTo(other.isSetChildIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChildIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childIds, other.childIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetGroupId()).compareTo(other.isSetGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.groupId, other.groupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChildGroupsToParentGroup_args(");
+      boolean first = true;
+
+      sb.append("domainId:");
+      if (this.domainId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.domainId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("childIds:");
+      if (this.childIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.childIds);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("groupId:");
+      if (this.groupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.groupId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      if (domainId == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'domainId' was not present! Struct: " + toString());
+      }
+      if (childIds == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'childIds' was not present! Struct: " + toString());
+      }
+      if (groupId == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'groupId' was not present! Struct: " + toString());
+      }
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addChildGroupsToParentGroup_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChildGroupsToParentGroup_argsStandardScheme getScheme() {
+        return new addChildGroupsToParentGroup_argsStandardScheme();
+      }
+    }
+
+    private static class addChildGroupsToParentGroup_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChildGroupsToParentGroup_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DOMAIN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.domainId = iprot.readString();
+                struct.setDomainIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHILD_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.childIds = new java.util.ArrayList<java.lang.String>(_list72.size);
+                  java.lang.String _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
+                  {
+                    _elem73 = iprot.readString();
+                    struct.childIds.add(_elem73);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setChildIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.groupId = iprot.readString();
+                struct.setGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.domainId != null) {
+          oprot.writeFieldBegin(DOMAIN_ID_FIELD_DESC);
+          oprot.writeString(struct.domainId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.childIds != null) {
+          oprot.writeFieldBegin(CHILD_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.childIds.size()));
+            for (java.lang.String _iter75 : struct.childIds)
+            {
+              oprot.writeString(_iter75);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.groupId != null) {
+          oprot.writeFieldBegin(GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.groupId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addChildGroupsToParentGroup_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChildGroupsToParentGroup_argsTupleScheme getScheme() {
+        return new addChildGroupsToParentGroup_argsTupleScheme();
+      }
+    }
+
+    private static class addChildGroupsToParentGroup_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChildGroupsToParentGroup_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        oprot.writeString(struct.domainId);
+        {
+          oprot.writeI32(struct.childIds.size());
+          for (java.lang.String _iter76 : struct.childIds)
+          {
+            oprot.writeString(_iter76);
+          }
+        }
+        oprot.writeString(struct.groupId);
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        struct.domainId = iprot.readString();
+        struct.setDomainIdIsSet(true);
+        {
+          org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.childIds = new java.util.ArrayList<java.lang.String>(_list77.size);
+          java.lang.String _elem78;
+          for (int _i79 = 0; _i79 < _list77.size; ++_i79)
+          {
+            _elem78 = iprot.readString();
+            struct.childIds.add(_elem78);
+          }
+        }
+        struct.setChildIdsIsSet(true);
+        struct.groupId = iprot.readString();
+        struct.setGroupIdIsSet(true);
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class addChildGroupsToParentGroup_result implements org.apache.thrift.TBase<addChildGroupsToParentGroup_result, addChildGroupsToParentGroup_result._Fields>, java.io.Serializable, Cloneable, Comparable<addChildGroupsToParentGroup_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChildGroupsToParentGroup_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SRE_FIELD_DESC = new org.apache.thrift.protocol.TField("sre", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChildGroupsToParentGroup_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChildGroupsToParentGroup_resultTupleSchemeFactory();
+
+    public boolean success; // required
+    public org.apache.airavata.sharing.registry.models.SharingRegistryException sre; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SRE((short)1, "sre");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SRE
+            return SRE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.SRE, new org.apache.thrift.meta_data.FieldMetaData("sre", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.SharingRegistryException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChildGroupsToParentGroup_result.class, metaDataMap);
+    }
+
+    public addChildGroupsToParentGroup_result() {
+    }
+
+    public addChildGroupsToParentGroup_result(
+      boolean success,
+      org.apache.airavata.sharing.registry.models.SharingRegistryException sre)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.sre = sre;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addChildGroupsToParentGroup_result(addChildGroupsToParentGroup_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetSre()) {
+        this.sre = new org.apache.airavata.sharing.registry.models.SharingRegistryException(other.sre);
+      }
+    }
+
+    public addChildGroupsToParentGroup_result deepCopy() {
+      return new addChildGroupsToParentGroup_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+      this.sre = null;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public addChildGroupsToParentGroup_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public org.apache.airavata.sharing.registry.models.SharingRegistryException getSre() {
+      return this.sre;
+    }
+
+    public addChildGroupsToParentGroup_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
+      this.sre = sre;
+      return this;
+    }
+
+    public void unsetSre() {
+      this.sre = null;
+    }
+
+    /** Returns true if field sre is set (has been assigned a value) and false otherwise */
+    public boolean isSetSre() {
+      return this.sre != null;
+    }
+
+    public void setSreIsSet(boolean value) {
+      if (!value) {
+        this.sre = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Boolean)value);
+        }
+        break;
+
+      case SRE:
+        if (value == null) {
+          unsetSre();
+        } else {
+          setSre((org.apache.airavata.sharing.registry.models.SharingRegistryException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return isSuccess();
+
+      case SRE:
+        return getSre();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SRE:
+        return isSetSre();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addChildGroupsToParentGroup_result)
+        return this.equals((addChildGroupsToParentGroup_result)that);
       return false;
     }
 
-    public boolean equals(getGroupMembersOfTypeGroup_result that) {
+    public boolean equals(addChildGroupsToParentGroup_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -34868,9 +36139,7 @@ public class SharingRegistryService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
 
       hashCode = hashCode * 8191 + ((isSetSre()) ? 131071 : 524287);
       if (isSetSre())
@@ -34880,7 +36149,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(getGroupMembersOfTypeGroup_result other) {
+    public int compareTo(addChildGroupsToParentGroup_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -34924,15 +36193,11 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getGroupMembersOfTypeGroup_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChildGroupsToParentGroup_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("sre:");
@@ -34961,21 +36226,23 @@ public class SharingRegistryService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getGroupMembersOfTypeGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getGroupMembersOfTypeGroup_resultStandardScheme getScheme() {
-        return new getGroupMembersOfTypeGroup_resultStandardScheme();
+    private static class addChildGroupsToParentGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChildGroupsToParentGroup_resultStandardScheme getScheme() {
+        return new addChildGroupsToParentGroup_resultStandardScheme();
       }
     }
 
-    private static class getGroupMembersOfTypeGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getGroupMembersOfTypeGroup_result> {
+    private static class addChildGroupsToParentGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChildGroupsToParentGroup_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -34986,19 +36253,8 @@ public class SharingRegistryService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list64.size);
-                  org.apache.airavata.sharing.registry.models.UserGroup _elem65;
-                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
-                  {
-                    _elem65 = new org.apache.airavata.sharing.registry.models.UserGroup();
-                    _elem65.read(iprot);
-                    struct.success.add(_elem65);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -35024,20 +36280,13 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (org.apache.airavata.sharing.registry.models.UserGroup _iter67 : struct.success)
-            {
-              _iter67.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.sre != null) {
@@ -35051,16 +36300,16 @@ public class SharingRegistryService {
 
     }
 
-    private static class getGroupMembersOfTypeGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getGroupMembersOfTypeGroup_resultTupleScheme getScheme() {
-        return new getGroupMembersOfTypeGroup_resultTupleScheme();
+    private static class addChildGroupsToParentGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addChildGroupsToParentGroup_resultTupleScheme getScheme() {
+        return new addChildGroupsToParentGroup_resultTupleScheme();
       }
     }
 
-    private static class getGroupMembersOfTypeGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getGroupMembersOfTypeGroup_result> {
+    private static class addChildGroupsToParentGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChildGroupsToParentGroup_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -35071,13 +36320,7 @@ public class SharingRegistryService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (org.apache.airavata.sharing.registry.models.UserGroup _iter68 : struct.success)
-            {
-              _iter68.write(oprot);
-            }
-          }
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetSre()) {
           struct.sre.write(oprot);
@@ -35085,21 +36328,11 @@ public class SharingRegistryService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getGroupMembersOfTypeGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list69.size);
-            org.apache.airavata.sharing.registry.models.UserGroup _elem70;
-            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
-            {
-              _elem70 = new org.apache.airavata.sharing.registry.models.UserGroup();
-              _elem70.read(iprot);
-              struct.success.add(_elem70);
-            }
-          }
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -35115,24 +36348,24 @@ public class SharingRegistryService {
     }
   }
 
-  public static class addChildGroupsToParentGroup_args implements org.apache.thrift.TBase<addChildGroupsToParentGroup_args, addChildGroupsToParentGroup_args._Fields>, java.io.Serializable, Cloneable, Comparable<addChildGroupsToParentGroup_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChildGroupsToParentGroup_args");
+  public static class removeChildGroupFromParentGroup_args implements org.apache.thrift.TBase<removeChildGroupFromParentGroup_args, removeChildGroupFromParentGroup_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeChildGroupFromParentGroup_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChildGroupFromParentGroup_args");
 
     private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domainId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CHILD_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("childIds", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField CHILD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("childId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("groupId", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChildGroupsToParentGroup_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChildGroupsToParentGroup_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChildGroupFromParentGroup_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChildGroupFromParentGroup_argsTupleSchemeFactory();
 
     public java.lang.String domainId; // required
-    public java.util.List<java.lang.String> childIds; // required
+    public java.lang.String childId; // required
     public java.lang.String groupId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       DOMAIN_ID((short)1, "domainId"),
-      CHILD_IDS((short)2, "childIds"),
+      CHILD_ID((short)2, "childId"),
       GROUP_ID((short)3, "groupId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -35150,8 +36383,8 @@ public class SharingRegistryService {
         switch(fieldId) {
           case 1: // DOMAIN_ID
             return DOMAIN_ID;
-          case 2: // CHILD_IDS
-            return CHILD_IDS;
+          case 2: // CHILD_ID
+            return CHILD_ID;
           case 3: // GROUP_ID
             return GROUP_ID;
           default:
@@ -35199,53 +36432,51 @@ public class SharingRegistryService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domainId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHILD_IDS, new org.apache.thrift.meta_data.FieldMetaData("childIds", org.apache.thrift.TFieldRequirementType.REQUIRED, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.CHILD_ID, new org.apache.thrift.meta_data.FieldMetaData("childId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("groupId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChildGroupsToParentGroup_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChildGroupFromParentGroup_args.class, metaDataMap);
     }
 
-    public addChildGroupsToParentGroup_args() {
+    public removeChildGroupFromParentGroup_args() {
     }
 
-    public addChildGroupsToParentGroup_args(
+    public removeChildGroupFromParentGroup_args(
       java.lang.String domainId,
-      java.util.List<java.lang.String> childIds,
+      java.lang.String childId,
       java.lang.String groupId)
     {
       this();
       this.domainId = domainId;
-      this.childIds = childIds;
+      this.childId = childId;
       this.groupId = groupId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addChildGroupsToParentGroup_args(addChildGroupsToParentGroup_args other) {
+    public removeChildGroupFromParentGroup_args(removeChildGroupFromParentGroup_args other) {
       if (other.isSetDomainId()) {
         this.domainId = other.domainId;
       }
-      if (other.isSetChildIds()) {
-        java.util.List<java.lang.String> __this__childIds = new java.util.ArrayList<java.lang.String>(other.childIds);
-        this.childIds = __this__childIds;
+      if (other.isSetChildId()) {
+        this.childId = other.childId;
       }
       if (other.isSetGroupId()) {
         this.groupId = other.groupId;
       }
     }
 
-    public addChildGroupsToParentGroup_args deepCopy() {
-      return new addChildGroupsToParentGroup_args(this);
+    public removeChildGroupFromParentGroup_args deepCopy() {
+      return new removeChildGroupFromParentGroup_args(this);
     }
 
     @Override
     public void clear() {
       this.domainId = null;
-      this.childIds = null;
+      this.childId = null;
       this.groupId = null;
     }
 
@@ -35253,7 +36484,7 @@ public class SharingRegistryService {
       return this.domainId;
     }
 
-    public addChildGroupsToParentGroup_args setDomainId(java.lang.String domainId) {
+    public removeChildGroupFromParentGroup_args setDomainId(java.lang.String domainId) {
       this.domainId = domainId;
       return this;
     }
@@ -35273,42 +36504,27 @@ public class SharingRegistryService {
       }
     }
 
-    public int getChildIdsSize() {
-      return (this.childIds == null) ? 0 : this.childIds.size();
-    }
-
-    public java.util.Iterator<java.lang.String> getChildIdsIterator() {
-      return (this.childIds == null) ? null : this.childIds.iterator();
-    }
-
-    public void addToChildIds(java.lang.String elem) {
-      if (this.childIds == null) {
-        this.childIds = new java.util.ArrayList<java.lang.String>();
-      }
-      this.childIds.add(elem);
-    }
-
-    public java.util.List<java.lang.String> getChildIds() {
-      return this.childIds;
+    public java.lang.String getChildId() {
+      return this.childId;
     }
 
-    public addChildGroupsToParentGroup_args setChildIds(java.util.List<java.lang.String> childIds) {
-      this.childIds = childIds;
+    public removeChildGroupFromParentGroup_args setChildId(java.lang.String childId) {
+      this.childId = childId;
       return this;
     }
 
-    public void unsetChildIds() {
-      this.childIds = null;
+    public void unsetChildId() {
+      this.childId = null;
     }
 
-    /** Returns true if field childIds is set (has been assigned a value) and false otherwise */
-    public boolean isSetChildIds() {
-      return this.childIds != null;
+    /** Returns true if field childId is set (has been assigned a value) and false otherwise */
+    public boolean isSetChildId() {
+      return this.childId != null;
     }
 
-    public void setChildIdsIsSet(boolean value) {
+    public void setChildIdIsSet(boolean value) {
       if (!value) {
-        this.childIds = null;
+        this.childId = null;
       }
     }
 
@@ -35316,7 +36532,7 @@ public class SharingRegistryService {
       return this.groupId;
     }
 
-    public addChildGroupsToParentGroup_args setGroupId(java.lang.String groupId) {
+    public removeChildGroupFromParentGroup_args setGroupId(java.lang.String groupId) {
       this.groupId = groupId;
       return this;
     }
@@ -35346,11 +36562,11 @@ public class SharingRegistryService {
         }
         break;
 
-      case CHILD_IDS:
+      case CHILD_ID:
         if (value == null) {
-          unsetChildIds();
+          unsetChildId();
         } else {
-          setChildIds((java.util.List<java.lang.String>)value);
+          setChildId((java.lang.String)value);
         }
         break;
 
@@ -35370,8 +36586,8 @@ public class SharingRegistryService {
       case DOMAIN_ID:
         return getDomainId();
 
-      case CHILD_IDS:
-        return getChildIds();
+      case CHILD_ID:
+        return getChildId();
 
       case GROUP_ID:
         return getGroupId();
@@ -35389,8 +36605,8 @@ public class SharingRegistryService {
       switch (field) {
       case DOMAIN_ID:
         return isSetDomainId();
-      case CHILD_IDS:
-        return isSetChildIds();
+      case CHILD_ID:
+        return isSetChildId();
       case GROUP_ID:
         return isSetGroupId();
       }
@@ -35401,12 +36617,12 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addChildGroupsToParentGroup_args)
-        return this.equals((addChildGroupsToParentGroup_args)that);
+      if (that instanceof removeChildGroupFromParentGroup_args)
+        return this.equals((removeChildGroupFromParentGroup_args)that);
       return false;
     }
 
-    public boolean equals(addChildGroupsToParentGroup_args that) {
+    public boolean equals(removeChildGroupFromParentGroup_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -35421,12 +36637,12 @@ public class SharingRegistryService {
           return false;
       }
 
-      boolean this_present_childIds = true && this.isSetChildIds();
-      boolean that_present_childIds = true && that.isSetChildIds();
-      if (this_present_childIds || that_present_childIds) {
-        if (!(this_present_childIds && that_present_childIds))
+      boolean this_present_childId = true && this.isSetChildId();
+      boolean that_present_childId = true && that.isSetChildId();
+      if (this_present_childId || that_present_childId) {
+        if (!(this_present_childId && that_present_childId))
           return false;
-        if (!this.childIds.equals(that.childIds))
+        if (!this.childId.equals(that.childId))
           return false;
       }
 
@@ -35450,9 +36666,9 @@ public class SharingRegistryService {
       if (isSetDomainId())
         hashCode = hashCode * 8191 + domainId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetChildIds()) ? 131071 : 524287);
-      if (isSetChildIds())
-        hashCode = hashCode * 8191 + childIds.hashCode();
+      hashCode = hashCode * 8191 + ((isSetChildId()) ? 131071 : 524287);
+      if (isSetChildId())
+        hashCode = hashCode * 8191 + childId.hashCode();
 
       hashCode = hashCode * 8191 + ((isSetGroupId()) ? 131071 : 524287);
       if (isSetGroupId())
@@ -35462,7 +36678,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(addChildGroupsToParentGroup_args other) {
+    public int compareTo(removeChildGroupFromParentGroup_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -35479,12 +36695,12 @@ public class SharingRegistryService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetChildIds()).compareTo(other.isSetChildIds());
+      lastComparison = java.lang.Boolean.valueOf(isSetChildId()).compareTo(other.isSetChildId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetChildIds()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childIds, other.childIds);
+      if (isSetChildId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childId, other.childId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -35516,7 +36732,7 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChildGroupsToParentGroup_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChildGroupFromParentGroup_args(");
       boolean first = true;
 
       sb.append("domainId:");
@@ -35527,11 +36743,11 @@ public class SharingRegistryService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("childIds:");
-      if (this.childIds == null) {
+      sb.append("childId:");
+      if (this.childId == null) {
         sb.append("null");
       } else {
-        sb.append(this.childIds);
+        sb.append(this.childId);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -35551,8 +36767,8 @@ public class SharingRegistryService {
       if (domainId == null) {
         throw new org.apache.thrift.protocol.TProtocolException("Required field 'domainId' was not present! Struct: " + toString());
       }
-      if (childIds == null) {
-        throw new org.apache.thrift.protocol.TProtocolException("Required field 'childIds' was not present! Struct: " + toString());
+      if (childId == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'childId' was not present! Struct: " + toString());
       }
       if (groupId == null) {
         throw new org.apache.thrift.protocol.TProtocolException("Required field 'groupId' was not present! Struct: " + toString());
@@ -35576,15 +36792,15 @@ public class SharingRegistryService {
       }
     }
 
-    private static class addChildGroupsToParentGroup_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChildGroupsToParentGroup_argsStandardScheme getScheme() {
-        return new addChildGroupsToParentGroup_argsStandardScheme();
+    private static class removeChildGroupFromParentGroup_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChildGroupFromParentGroup_argsStandardScheme getScheme() {
+        return new removeChildGroupFromParentGroup_argsStandardScheme();
       }
     }
 
-    private static class addChildGroupsToParentGroup_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChildGroupsToParentGroup_args> {
+    private static class removeChildGroupFromParentGroup_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChildGroupFromParentGroup_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -35602,20 +36818,10 @@ public class SharingRegistryService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CHILD_IDS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
-                  struct.childIds = new java.util.ArrayList<java.lang.String>(_list72.size);
-                  java.lang.String _elem73;
-                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
-                  {
-                    _elem73 = iprot.readString();
-                    struct.childIds.add(_elem73);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setChildIdsIsSet(true);
+            case 2: // CHILD_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.childId = iprot.readString();
+                struct.setChildIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -35639,7 +36845,7 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -35648,16 +36854,9 @@ public class SharingRegistryService {
           oprot.writeString(struct.domainId);
           oprot.writeFieldEnd();
         }
-        if (struct.childIds != null) {
-          oprot.writeFieldBegin(CHILD_IDS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.childIds.size()));
-            for (java.lang.String _iter75 : struct.childIds)
-            {
-              oprot.writeString(_iter75);
-            }
-            oprot.writeListEnd();
-          }
+        if (struct.childId != null) {
+          oprot.writeFieldBegin(CHILD_ID_FIELD_DESC);
+          oprot.writeString(struct.childId);
           oprot.writeFieldEnd();
         }
         if (struct.groupId != null) {
@@ -35671,44 +36870,29 @@ public class SharingRegistryService {
 
     }
 
-    private static class addChildGroupsToParentGroup_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChildGroupsToParentGroup_argsTupleScheme getScheme() {
-        return new addChildGroupsToParentGroup_argsTupleScheme();
+    private static class removeChildGroupFromParentGroup_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChildGroupFromParentGroup_argsTupleScheme getScheme() {
+        return new removeChildGroupFromParentGroup_argsTupleScheme();
       }
     }
 
-    private static class addChildGroupsToParentGroup_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChildGroupsToParentGroup_args> {
+    private static class removeChildGroupFromParentGroup_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChildGroupFromParentGroup_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         oprot.writeString(struct.domainId);
-        {
-          oprot.writeI32(struct.childIds.size());
-          for (java.lang.String _iter76 : struct.childIds)
-          {
-            oprot.writeString(_iter76);
-          }
-        }
+        oprot.writeString(struct.childId);
         oprot.writeString(struct.groupId);
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         struct.domainId = iprot.readString();
         struct.setDomainIdIsSet(true);
-        {
-          org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.childIds = new java.util.ArrayList<java.lang.String>(_list77.size);
-          java.lang.String _elem78;
-          for (int _i79 = 0; _i79 < _list77.size; ++_i79)
-          {
-            _elem78 = iprot.readString();
-            struct.childIds.add(_elem78);
-          }
-        }
-        struct.setChildIdsIsSet(true);
+        struct.childId = iprot.readString();
+        struct.setChildIdIsSet(true);
         struct.groupId = iprot.readString();
         struct.setGroupIdIsSet(true);
       }
@@ -35719,14 +36903,14 @@ public class SharingRegistryService {
     }
   }
 
-  public static class addChildGroupsToParentGroup_result implements org.apache.thrift.TBase<addChildGroupsToParentGroup_result, addChildGroupsToParentGroup_result._Fields>, java.io.Serializable, Cloneable, Comparable<addChildGroupsToParentGroup_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addChildGroupsToParentGroup_result");
+  public static class removeChildGroupFromParentGroup_result implements org.apache.thrift.TBase<removeChildGroupFromParentGroup_result, removeChildGroupFromParentGroup_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeChildGroupFromParentGroup_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChildGroupFromParentGroup_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField SRE_FIELD_DESC = new org.apache.thrift.protocol.TField("sre", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addChildGroupsToParentGroup_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addChildGroupsToParentGroup_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChildGroupFromParentGroup_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChildGroupFromParentGroup_resultTupleSchemeFactory();
 
     public boolean success; // required
     public org.apache.airavata.sharing.registry.models.SharingRegistryException sre; // required
@@ -35803,13 +36987,13 @@ public class SharingRegistryService {
       tmpMap.put(_Fields.SRE, new org.apache.thrift.meta_data.FieldMetaData("sre", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.SharingRegistryException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addChildGroupsToParentGroup_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChildGroupFromParentGroup_result.class, metaDataMap);
     }
 
-    public addChildGroupsToParentGroup_result() {
+    public removeChildGroupFromParentGroup_result() {
     }
 
-    public addChildGroupsToParentGroup_result(
+    public removeChildGroupFromParentGroup_result(
       boolean success,
       org.apache.airavata.sharing.registry.models.SharingRegistryException sre)
     {
@@ -35822,7 +37006,7 @@ public class SharingRegistryService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addChildGroupsToParentGroup_result(addChildGroupsToParentGroup_result other) {
+    public removeChildGroupFromParentGroup_result(removeChildGroupFromParentGroup_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetSre()) {
@@ -35830,8 +37014,8 @@ public class SharingRegistryService {
       }
     }
 
-    public addChildGroupsToParentGroup_result deepCopy() {
-      return new addChildGroupsToParentGroup_result(this);
+    public removeChildGroupFromParentGroup_result deepCopy() {
+      return new removeChildGroupFromParentGroup_result(this);
     }
 
     @Override
@@ -35845,7 +37029,7 @@ public class SharingRegistryService {
       return this.success;
     }
 
-    public addChildGroupsToParentGroup_result setSuccess(boolean success) {
+    public removeChildGroupFromParentGroup_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -35868,7 +37052,7 @@ public class SharingRegistryService {
       return this.sre;
     }
 
-    public addChildGroupsToParentGroup_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
+    public removeChildGroupFromParentGroup_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
       this.sre = sre;
       return this;
     }
@@ -35940,12 +37124,12 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addChildGroupsToParentGroup_result)
-        return this.equals((addChildGroupsToParentGroup_result)that);
+      if (that instanceof removeChildGroupFromParentGroup_result)
+        return this.equals((removeChildGroupFromParentGroup_result)that);
       return false;
     }
 
-    public boolean equals(addChildGroupsToParentGroup_result that) {
+    public boolean equals(removeChildGroupFromParentGroup_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -35986,7 +37170,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(addChildGroupsToParentGroup_result other) {
+    public int compareTo(removeChildGroupFromParentGroup_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -36030,7 +37214,7 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addChildGroupsToParentGroup_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChildGroupFromParentGroup_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -36071,15 +37255,15 @@ public class SharingRegistryService {
       }
     }
 
-    private static class addChildGroupsToParentGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChildGroupsToParentGroup_resultStandardScheme getScheme() {
-        return new addChildGroupsToParentGroup_resultStandardScheme();
+    private static class removeChildGroupFromParentGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChildGroupFromParentGroup_resultStandardScheme getScheme() {
+        return new removeChildGroupFromParentGroup_resultStandardScheme();
       }
     }
 
-    private static class addChildGroupsToParentGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addChildGroupsToParentGroup_result> {
+    private static class removeChildGroupFromParentGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChildGroupFromParentGroup_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -36117,7 +37301,7 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -36137,16 +37321,16 @@ public class SharingRegistryService {
 
     }
 
-    private static class addChildGroupsToParentGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addChildGroupsToParentGroup_resultTupleScheme getScheme() {
-        return new addChildGroupsToParentGroup_resultTupleScheme();
+    private static class removeChildGroupFromParentGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeChildGroupFromParentGroup_resultTupleScheme getScheme() {
+        return new removeChildGroupFromParentGroup_resultTupleScheme();
       }
     }
 
-    private static class addChildGroupsToParentGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addChildGroupsToParentGroup_result> {
+    private static class removeChildGroupFromParentGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChildGroupFromParentGroup_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -36165,7 +37349,7 @@ public class SharingRegistryService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addChildGroupsToParentGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -36185,25 +37369,22 @@ public class SharingRegistryService {
     }
   }
 
-  public static class removeChildGroupFromParentGroup_args implements org.apache.thrift.TBase<removeChildGroupFromParentGroup_args, removeChildGroupFromParentGroup_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeChildGroupFromParentGroup_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChildGroupFromParentGroup_args");
+  public static class getAllMemberGroupsForUser_args implements org.apache.thrift.TBase<getAllMemberGroupsForUser_args, getAllMemberGroupsForUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsForUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsForUser_args");
 
     private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domainId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CHILD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("childId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("groupId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChildGroupFromParentGroup_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChildGroupFromParentGroup_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsForUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsForUser_argsTupleSchemeFactory();
 
     public java.lang.String domainId; // required
-    public java.lang.String childId; // required
-    public java.lang.String groupId; // required
+    public java.lang.String userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       DOMAIN_ID((short)1, "domainId"),
-      CHILD_ID((short)2, "childId"),
-      GROUP_ID((short)3, "groupId");
+      USER_ID((short)2, "userId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -36220,10 +37401,8 @@ public class SharingRegistryService {
         switch(fieldId) {
           case 1: // DOMAIN_ID
             return DOMAIN_ID;
-          case 2: // CHILD_ID
-            return CHILD_ID;
-          case 3: // GROUP_ID
-            return GROUP_ID;
+          case 2: // USER_ID
+            return USER_ID;
           default:
             return null;
         }
@@ -36269,59 +37448,51 @@ public class SharingRegistryService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.DOMAIN_ID, new org.apache.thrift.meta_data.FieldMetaData("domainId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CHILD_ID, new org.apache.thrift.meta_data.FieldMetaData("childId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("groupId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChildGroupFromParentGroup_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsForUser_args.class, metaDataMap);
     }
 
-    public removeChildGroupFromParentGroup_args() {
+    public getAllMemberGroupsForUser_args() {
     }
 
-    public removeChildGroupFromParentGroup_args(
+    public getAllMemberGroupsForUser_args(
       java.lang.String domainId,
-      java.lang.String childId,
-      java.lang.String groupId)
+      java.lang.String userId)
     {
       this();
       this.domainId = domainId;
-      this.childId = childId;
-      this.groupId = groupId;
+      this.userId = userId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeChildGroupFromParentGroup_args(removeChildGroupFromParentGroup_args other) {
+    public getAllMemberGroupsForUser_args(getAllMemberGroupsForUser_args other) {
       if (other.isSetDomainId()) {
         this.domainId = other.domainId;
       }
-      if (other.isSetChildId()) {
-        this.childId = other.childId;
-      }
-      if (other.isSetGroupId()) {
-        this.groupId = other.groupId;
+      if (other.isSetUserId()) {
+        this.userId = other.userId;
       }
     }
 
-    public removeChildGroupFromParentGroup_args deepCopy() {
-      return new removeChildGroupFromParentGroup_args(this);
+    public getAllMemberGroupsForUser_args deepCopy() {
+      return new getAllMemberGroupsForUser_args(this);
     }
 
     @Override
     public void clear() {
       this.domainId = null;
-      this.childId = null;
-      this.groupId = null;
+      this.userId = null;
     }
 
     public java.lang.String getDomainId() {
       return this.domainId;
     }
 
-    public removeChildGroupFromParentGroup_args setDomainId(java.lang.String domainId) {
+    public getAllMemberGroupsForUser_args setDomainId(java.lang.String domainId) {
       this.domainId = domainId;
       return this;
     }
@@ -36341,51 +37512,27 @@ public class SharingRegistryService {
       }
     }
 
-    public java.lang.String getChildId() {
-      return this.childId;
-    }
-
-    public removeChildGroupFromParentGroup_args setChildId(java.lang.String childId) {
-      this.childId = childId;
-      return this;
-    }
-
-    public void unsetChildId() {
-      this.childId = null;
-    }
-
-    /** Returns true if field childId is set (has been assigned a value) and false otherwise */
-    public boolean isSetChildId() {
-      return this.childId != null;
-    }
-
-    public void setChildIdIsSet(boolean value) {
-      if (!value) {
-        this.childId = null;
-      }
-    }
-
-    public java.lang.String getGroupId() {
-      return this.groupId;
+    public java.lang.String getUserId() {
+      return this.userId;
     }
 
-    public removeChildGroupFromParentGroup_args setGroupId(java.lang.String groupId) {
-      this.groupId = groupId;
+    public getAllMemberGroupsForUser_args setUserId(java.lang.String userId) {
+      this.userId = userId;
       return this;
     }
 
-    public void unsetGroupId() {
-      this.groupId = null;
+    public void unsetUserId() {
+      this.userId = null;
     }
 
-    /** Returns true if field groupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetGroupId() {
-      return this.groupId != null;
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return this.userId != null;
     }
 
-    public void setGroupIdIsSet(boolean value) {
+    public void setUserIdIsSet(boolean value) {
       if (!value) {
-        this.groupId = null;
+        this.userId = null;
       }
     }
 
@@ -36399,19 +37546,11 @@ public class SharingRegistryService {
         }
         break;
 
-      case CHILD_ID:
-        if (value == null) {
-          unsetChildId();
-        } else {
-          setChildId((java.lang.String)value);
-        }
-        break;
-
-      case GROUP_ID:
+      case USER_ID:
         if (value == null) {
-          unsetGroupId();
+          unsetUserId();
         } else {
-          setGroupId((java.lang.String)value);
+          setUserId((java.lang.String)value);
         }
         break;
 
@@ -36423,11 +37562,8 @@ public class SharingRegistryService {
       case DOMAIN_ID:
         return getDomainId();
 
-      case CHILD_ID:
-        return getChildId();
-
-      case GROUP_ID:
-        return getGroupId();
+      case USER_ID:
+        return getUserId();
 
       }
       throw new java.lang.IllegalStateException();
@@ -36442,10 +37578,8 @@ public class SharingRegistryService {
       switch (field) {
       case DOMAIN_ID:
         return isSetDomainId();
-      case CHILD_ID:
-        return isSetChildId();
-      case GROUP_ID:
-        return isSetGroupId();
+      case USER_ID:
+        return isSetUserId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -36454,12 +37588,12 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeChildGroupFromParentGroup_args)
-        return this.equals((removeChildGroupFromParentGroup_args)that);
+      if (that instanceof getAllMemberGroupsForUser_args)
+        return this.equals((getAllMemberGroupsForUser_args)that);
       return false;
     }
 
-    public boolean equals(removeChildGroupFromParentGroup_args that) {
+    public boolean equals(getAllMemberGroupsForUser_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -36474,21 +37608,12 @@ public class SharingRegistryService {
           return false;
       }
 
-      boolean this_present_childId = true && this.isSetChildId();
-      boolean that_present_childId = true && that.isSetChildId();
-      if (this_present_childId || that_present_childId) {
-        if (!(this_present_childId && that_present_childId))
-          return false;
-        if (!this.childId.equals(that.childId))
-          return false;
-      }
-
-      boolean this_present_groupId = true && this.isSetGroupId();
-      boolean that_present_groupId = true && that.isSetGroupId();
-      if (this_present_groupId || that_present_groupId) {
-        if (!(this_present_groupId && that_present_groupId))
+      boolean this_present_userId = true && this.isSetUserId();
+      boolean that_present_userId = true && that.isSetUserId();
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (!this.groupId.equals(that.groupId))
+        if (!this.userId.equals(that.userId))
           return false;
       }
 
@@ -36503,19 +37628,15 @@ public class SharingRegistryService {
       if (isSetDomainId())
         hashCode = hashCode * 8191 + domainId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetChildId()) ? 131071 : 524287);
-      if (isSetChildId())
-        hashCode = hashCode * 8191 + childId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetGroupId()) ? 131071 : 524287);
-      if (isSetGroupId())
-        hashCode = hashCode * 8191 + groupId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetUserId()) ? 131071 : 524287);
+      if (isSetUserId())
+        hashCode = hashCode * 8191 + userId.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeChildGroupFromParentGroup_args other) {
+    public int compareTo(getAllMemberGroupsForUser_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -36532,22 +37653,12 @@ public class SharingRegistryService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetChildId()).compareTo(other.isSetChildId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetChildId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childId, other.childId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetGroupId()).compareTo(other.isSetGroupId());
+      lastComparison = java.lang.Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.groupId, other.groupId);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -36569,7 +37680,7 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChildGroupFromParentGroup_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsForUser_args(");
       boolean first = true;
 
       sb.append("domainId:");
@@ -36580,19 +37691,11 @@ public class SharingRegistryService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("childId:");
-      if (this.childId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.childId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("groupId:");
-      if (this.groupId == null) {
+      sb.append("userId:");
+      if (this.userId == null) {
         sb.append("null");
       } else {
-        sb.append(this.groupId);
+        sb.append(this.userId);
       }
       first = false;
       sb.append(")");
@@ -36604,11 +37707,8 @@ public class SharingRegistryService {
       if (domainId == null) {
         throw new org.apache.thrift.protocol.TProtocolException("Required field 'domainId' was not present! Struct: " + toString());
       }
-      if (childId == null) {
-        throw new org.apache.thrift.protocol.TProtocolException("Required field 'childId' was not present! Struct: " + toString());
-      }
-      if (groupId == null) {
-        throw new org.apache.thrift.protocol.TProtocolException("Required field 'groupId' was not present! Struct: " + toString());
+      if (userId == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'userId' was not present! Struct: " + toString());
       }
       // check for sub-struct validity
     }
@@ -36629,15 +37729,15 @@ public class SharingRegistryService {
       }
     }
 
-    private static class removeChildGroupFromParentGroup_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChildGroupFromParentGroup_argsStandardScheme getScheme() {
-        return new removeChildGroupFromParentGroup_argsStandardScheme();
+    private static class getAllMemberGroupsForUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsForUser_argsStandardScheme getScheme() {
+        return new getAllMemberGroupsForUser_argsStandardScheme();
       }
     }
 
-    private static class removeChildGroupFromParentGroup_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChildGroupFromParentGroup_args> {
+    private static class getAllMemberGroupsForUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsForUser_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -36655,18 +37755,10 @@ public class SharingRegistryService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // CHILD_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.childId = iprot.readString();
-                struct.setChildIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // GROUP_ID
+            case 2: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.groupId = iprot.readString();
-                struct.setGroupIdIsSet(true);
+                struct.userId = iprot.readString();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -36682,7 +37774,7 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -36691,14 +37783,9 @@ public class SharingRegistryService {
           oprot.writeString(struct.domainId);
           oprot.writeFieldEnd();
         }
-        if (struct.childId != null) {
-          oprot.writeFieldBegin(CHILD_ID_FIELD_DESC);
-          oprot.writeString(struct.childId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.groupId != null) {
-          oprot.writeFieldBegin(GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.groupId);
+        if (struct.userId != null) {
+          oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+          oprot.writeString(struct.userId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -36707,31 +37794,28 @@ public class SharingRegistryService {
 
     }
 
-    private static class removeChildGroupFromParentGroup_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChildGroupFromParentGroup_argsTupleScheme getScheme() {
-        return new removeChildGroupFromParentGroup_argsTupleScheme();
+    private static class getAllMemberGroupsForUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsForUser_argsTupleScheme getScheme() {
+        return new getAllMemberGroupsForUser_argsTupleScheme();
       }
     }
 
-    private static class removeChildGroupFromParentGroup_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChildGroupFromParentGroup_args> {
+    private static class getAllMemberGroupsForUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsForUser_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         oprot.writeString(struct.domainId);
-        oprot.writeString(struct.childId);
-        oprot.writeString(struct.groupId);
+        oprot.writeString(struct.userId);
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         struct.domainId = iprot.readString();
         struct.setDomainIdIsSet(true);
-        struct.childId = iprot.readString();
-        struct.setChildIdIsSet(true);
-        struct.groupId = iprot.readString();
-        struct.setGroupIdIsSet(true);
+        struct.userId = iprot.readString();
+        struct.setUserIdIsSet(true);
       }
     }
 
@@ -36740,16 +37824,16 @@ public class SharingRegistryService {
     }
   }
 
-  public static class removeChildGroupFromParentGroup_result implements org.apache.thrift.TBase<removeChildGroupFromParentGroup_result, removeChildGroupFromParentGroup_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeChildGroupFromParentGroup_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeChildGroupFromParentGroup_result");
+  public static class getAllMemberGroupsForUser_result implements org.apache.thrift.TBase<getAllMemberGroupsForUser_result, getAllMemberGroupsForUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsForUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsForUser_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField SRE_FIELD_DESC = new org.apache.thrift.protocol.TField("sre", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeChildGroupFromParentGroup_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeChildGroupFromParentGroup_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsForUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsForUser_resultTupleSchemeFactory();
 
-    public boolean success; // required
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success; // required
     public org.apache.airavata.sharing.registry.models.SharingRegistryException sre; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -36814,82 +37898,100 @@ public class SharingRegistryService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.UserGroup.class))));
       tmpMap.put(_Fields.SRE, new org.apache.thrift.meta_data.FieldMetaData("sre", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.SharingRegistryException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeChildGroupFromParentGroup_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsForUser_result.class, metaDataMap);
     }
 
-    public removeChildGroupFromParentGroup_result() {
+    public getAllMemberGroupsForUser_result() {
     }
 
-    public removeChildGroupFromParentGroup_result(
-      boolean success,
+    public getAllMemberGroupsForUser_result(
+      java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success,
       org.apache.airavata.sharing.registry.models.SharingRegistryException sre)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.sre = sre;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeChildGroupFromParentGroup_result(removeChildGroupFromParentGroup_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getAllMemberGroupsForUser_result(getAllMemberGroupsForUser_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> __this__success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(other.success.size());
+        for (org.apache.airavata.sharing.registry.models.UserGroup other_element : other.success) {
+          __this__success.add(new org.apache.airavata.sharing.registry.models.UserGroup(other_element));
+        }
+        this.success = __this__success;
+      }
       if (other.isSetSre()) {
         this.sre = new org.apache.airavata.sharing.registry.models.SharingRegistryException(other.sre);
       }
     }
 
-    public removeChildGroupFromParentGroup_result deepCopy() {
-      return new removeChildGroupFromParentGroup_result(this);
+    public getAllMemberGroupsForUser_result deepCopy() {
+      return new getAllMemberGroupsForUser_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
       this.sre = null;
     }
 
-    public boolean isSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<org.apache.airavata.sharing.registry.models.UserGroup> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(org.apache.airavata.sharing.registry.models.UserGroup elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>();
+      }
+      this.success.add(elem);
+    }
+
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> getSuccess() {
       return this.success;
     }
 
-    public removeChildGroupFromParentGroup_result setSuccess(boolean success) {
+    public getAllMemberGroupsForUser_result setSuccess(java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public org.apache.airavata.sharing.registry.models.SharingRegistryException getSre() {
       return this.sre;
     }
 
-    public removeChildGroupFromParentGroup_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
+    public getAllMemberGroupsForUser_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
       this.sre = sre;
       return this;
     }
@@ -36915,7 +38017,7 @@ public class SharingRegistryService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Boolean)value);
+          setSuccess((java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>)value);
         }
         break;
 
@@ -36933,7 +38035,7 @@ public class SharingRegistryService {
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return isSuccess();
+        return getSuccess();
 
       case SRE:
         return getSre();
@@ -36961,23 +38063,23 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeChildGroupFromParentGroup_result)
-        return this.equals((removeChildGroupFromParentGroup_result)that);
+      if (that instanceof getAllMemberGroupsForUser_result)
+        return this.equals((getAllMemberGroupsForUser_result)that);
       return false;
     }
 
-    public boolean equals(removeChildGroupFromParentGroup_result that) {
+    public boolean equals(getAllMemberGroupsForUser_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -36997,7 +38099,9 @@ public class SharingRegistryService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       hashCode = hashCode * 8191 + ((isSetSre()) ? 131071 : 524287);
       if (isSetSre())
@@ -37007,7 +38111,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(removeChildGroupFromParentGroup_result other) {
+    public int compareTo(getAllMemberGroupsForUser_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -37051,11 +38155,15 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeChildGroupFromParentGroup_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsForUser_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("sre:");
@@ -37084,23 +38192,21 @@ public class SharingRegistryService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class removeChildGroupFromParentGroup_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChildGroupFromParentGroup_resultStandardScheme getScheme() {
-        return new removeChildGroupFromParentGroup_resultStandardScheme();
+    private static class getAllMemberGroupsForUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsForUser_resultStandardScheme getScheme() {
+        return new getAllMemberGroupsForUser_resultStandardScheme();
       }
     }
 
-    private static class removeChildGroupFromParentGroup_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeChildGroupFromParentGroup_result> {
+    private static class getAllMemberGroupsForUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsForUser_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -37111,8 +38217,19 @@ public class SharingRegistryService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list80.size);
+                  org.apache.airavata.sharing.registry.models.UserGroup _elem81;
+                  for (int _i82 = 0; _i82 < _list80.size; ++_i82)
+                  {
+                    _elem81 = new org.apache.airavata.sharing.registry.models.UserGroup();
+                    _elem81.read(iprot);
+                    struct.success.add(_elem81);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -37138,13 +38255,20 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (org.apache.airavata.sharing.registry.models.UserGroup _iter83 : struct.success)
+            {
+              _iter83.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.sre != null) {
@@ -37158,16 +38282,16 @@ public class SharingRegistryService {
 
     }
 
-    private static class removeChildGroupFromParentGroup_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeChildGroupFromParentGroup_resultTupleScheme getScheme() {
-        return new removeChildGroupFromParentGroup_resultTupleScheme();
+    private static class getAllMemberGroupsForUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsForUser_resultTupleScheme getScheme() {
+        return new getAllMemberGroupsForUser_resultTupleScheme();
       }
     }
 
-    private static class removeChildGroupFromParentGroup_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeChildGroupFromParentGroup_result> {
+    private static class getAllMemberGroupsForUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsForUser_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -37178,7 +38302,13 @@ public class SharingRegistryService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (org.apache.airavata.sharing.registry.models.UserGroup _iter84 : struct.success)
+            {
+              _iter84.write(oprot);
+            }
+          }
         }
         if (struct.isSetSre()) {
           struct.sre.write(oprot);
@@ -37186,11 +38316,21 @@ public class SharingRegistryService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeChildGroupFromParentGroup_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          {
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list85.size);
+            org.apache.airavata.sharing.registry.models.UserGroup _elem86;
+            for (int _i87 = 0; _i87 < _list85.size; ++_i87)
+            {
+              _elem86 = new org.apache.airavata.sharing.registry.models.UserGroup();
+              _elem86.read(iprot);
+              struct.success.add(_elem86);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -37206,14 +38346,14 @@ public class SharingRegistryService {
     }
   }
 
-  public static class getAllMemberGroupsForUser_args implements org.apache.thrift.TBase<getAllMemberGroupsForUser_args, getAllMemberGroupsForUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsForUser_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsForUser_args");
+  public static class getAllMemberGroupsWithMembersForUser_args implements org.apache.thrift.TBase<getAllMemberGroupsWithMembersForUser_args, getAllMemberGroupsWithMembersForUser_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsWithMembersForUser_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsWithMembersForUser_args");
 
     private static final org.apache.thrift.protocol.TField DOMAIN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("domainId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsForUser_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsForUser_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsWithMembersForUser_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsWithMembersForUser_argsTupleSchemeFactory();
 
     public java.lang.String domainId; // required
     public java.lang.String userId; // required
@@ -37288,13 +38428,13 @@ public class SharingRegistryService {
       tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.REQUIRED, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsForUser_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsWithMembersForUser_args.class, metaDataMap);
     }
 
-    public getAllMemberGroupsForUser_args() {
+    public getAllMemberGroupsWithMembersForUser_args() {
     }
 
-    public getAllMemberGroupsForUser_args(
+    public getAllMemberGroupsWithMembersForUser_args(
       java.lang.String domainId,
       java.lang.String userId)
     {
@@ -37306,7 +38446,7 @@ public class SharingRegistryService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllMemberGroupsForUser_args(getAllMemberGroupsForUser_args other) {
+    public getAllMemberGroupsWithMembersForUser_args(getAllMemberGroupsWithMembersForUser_args other) {
       if (other.isSetDomainId()) {
         this.domainId = other.domainId;
       }
@@ -37315,8 +38455,8 @@ public class SharingRegistryService {
       }
     }
 
-    public getAllMemberGroupsForUser_args deepCopy() {
-      return new getAllMemberGroupsForUser_args(this);
+    public getAllMemberGroupsWithMembersForUser_args deepCopy() {
+      return new getAllMemberGroupsWithMembersForUser_args(this);
     }
 
     @Override
@@ -37329,7 +38469,7 @@ public class SharingRegistryService {
       return this.domainId;
     }
 
-    public getAllMemberGroupsForUser_args setDomainId(java.lang.String domainId) {
+    public getAllMemberGroupsWithMembersForUser_args setDomainId(java.lang.String domainId) {
       this.domainId = domainId;
       return this;
     }
@@ -37353,7 +38493,7 @@ public class SharingRegistryService {
       return this.userId;
     }
 
-    public getAllMemberGroupsForUser_args setUserId(java.lang.String userId) {
+    public getAllMemberGroupsWithMembersForUser_args setUserId(java.lang.String userId) {
       this.userId = userId;
       return this;
     }
@@ -37425,12 +38565,12 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllMemberGroupsForUser_args)
-        return this.equals((getAllMemberGroupsForUser_args)that);
+      if (that instanceof getAllMemberGroupsWithMembersForUser_args)
+        return this.equals((getAllMemberGroupsWithMembersForUser_args)that);
       return false;
     }
 
-    public boolean equals(getAllMemberGroupsForUser_args that) {
+    public boolean equals(getAllMemberGroupsWithMembersForUser_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -37473,7 +38613,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(getAllMemberGroupsForUser_args other) {
+    public int compareTo(getAllMemberGroupsWithMembersForUser_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -37517,7 +38657,7 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsForUser_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsWithMembersForUser_args(");
       boolean first = true;
 
       sb.append("domainId:");
@@ -37566,15 +38706,15 @@ public class SharingRegistryService {
       }
     }
 
-    private static class getAllMemberGroupsForUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllMemberGroupsForUser_argsStandardScheme getScheme() {
-        return new getAllMemberGroupsForUser_argsStandardScheme();
+    private static class getAllMemberGroupsWithMembersForUser_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsWithMembersForUser_argsStandardScheme getScheme() {
+        return new getAllMemberGroupsWithMembersForUser_argsStandardScheme();
       }
     }
 
-    private static class getAllMemberGroupsForUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsForUser_args> {
+    private static class getAllMemberGroupsWithMembersForUser_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsWithMembersForUser_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsWithMembersForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -37611,7 +38751,7 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsWithMembersForUser_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -37631,23 +38771,23 @@ public class SharingRegistryService {
 
     }
 
-    private static class getAllMemberGroupsForUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllMemberGroupsForUser_argsTupleScheme getScheme() {
-        return new getAllMemberGroupsForUser_argsTupleScheme();
+    private static class getAllMemberGroupsWithMembersForUser_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsWithMembersForUser_argsTupleScheme getScheme() {
+        return new getAllMemberGroupsWithMembersForUser_argsTupleScheme();
       }
     }
 
-    private static class getAllMemberGroupsForUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsForUser_args> {
+    private static class getAllMemberGroupsWithMembersForUser_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsWithMembersForUser_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsWithMembersForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         oprot.writeString(struct.domainId);
         oprot.writeString(struct.userId);
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsWithMembersForUser_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         struct.domainId = iprot.readString();
         struct.setDomainIdIsSet(true);
@@ -37661,16 +38801,16 @@ public class SharingRegistryService {
     }
   }
 
-  public static class getAllMemberGroupsForUser_result implements org.apache.thrift.TBase<getAllMemberGroupsForUser_result, getAllMemberGroupsForUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsForUser_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsForUser_result");
+  public static class getAllMemberGroupsWithMembersForUser_result implements org.apache.thrift.TBase<getAllMemberGroupsWithMembersForUser_result, getAllMemberGroupsWithMembersForUser_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllMemberGroupsWithMembersForUser_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllMemberGroupsWithMembersForUser_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField SRE_FIELD_DESC = new org.apache.thrift.protocol.TField("sre", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsForUser_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsForUser_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllMemberGroupsWithMembersForUser_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllMemberGroupsWithMembersForUser_resultTupleSchemeFactory();
 
-    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success; // required
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> success; // required
     public org.apache.airavata.sharing.registry.models.SharingRegistryException sre; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -37740,18 +38880,18 @@ public class SharingRegistryService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.UserGroup.class))));
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.UserGroupWithMembers.class))));
       tmpMap.put(_Fields.SRE, new org.apache.thrift.meta_data.FieldMetaData("sre", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.airavata.sharing.registry.models.SharingRegistryException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsForUser_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllMemberGroupsWithMembersForUser_result.class, metaDataMap);
     }
 
-    public getAllMemberGroupsForUser_result() {
+    public getAllMemberGroupsWithMembersForUser_result() {
     }
 
-    public getAllMemberGroupsForUser_result(
-      java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success,
+    public getAllMemberGroupsWithMembersForUser_result(
+      java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> success,
       org.apache.airavata.sharing.registry.models.SharingRegistryException sre)
     {
       this();
@@ -37762,11 +38902,11 @@ public class SharingRegistryService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllMemberGroupsForUser_result(getAllMemberGroupsForUser_result other) {
+    public getAllMemberGroupsWithMembersForUser_result(getAllMemberGroupsWithMembersForUser_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> __this__success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(other.success.size());
-        for (org.apache.airavata.sharing.registry.models.UserGroup other_element : other.success) {
-          __this__success.add(new org.apache.airavata.sharing.registry.models.UserGroup(other_element));
+        java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> __this__success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>(other.success.size());
+        for (org.apache.airavata.sharing.registry.models.UserGroupWithMembers other_element : other.success) {
+          __this__success.add(new org.apache.airavata.sharing.registry.models.UserGroupWithMembers(other_element));
         }
         this.success = __this__success;
       }
@@ -37775,8 +38915,8 @@ public class SharingRegistryService {
       }
     }
 
-    public getAllMemberGroupsForUser_result deepCopy() {
-      return new getAllMemberGroupsForUser_result(this);
+    public getAllMemberGroupsWithMembersForUser_result deepCopy() {
+      return new getAllMemberGroupsWithMembersForUser_result(this);
     }
 
     @Override
@@ -37789,22 +38929,22 @@ public class SharingRegistryService {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<org.apache.airavata.sharing.registry.models.UserGroup> getSuccessIterator() {
+    public java.util.Iterator<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(org.apache.airavata.sharing.registry.models.UserGroup elem) {
+    public void addToSuccess(org.apache.airavata.sharing.registry.models.UserGroupWithMembers elem) {
       if (this.success == null) {
-        this.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>();
+        this.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>();
       }
       this.success.add(elem);
     }
 
-    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> getSuccess() {
+    public java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> getSuccess() {
       return this.success;
     }
 
-    public getAllMemberGroupsForUser_result setSuccess(java.util.List<org.apache.airavata.sharing.registry.models.UserGroup> success) {
+    public getAllMemberGroupsWithMembersForUser_result setSuccess(java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers> success) {
       this.success = success;
       return this;
     }
@@ -37828,7 +38968,7 @@ public class SharingRegistryService {
       return this.sre;
     }
 
-    public getAllMemberGroupsForUser_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
+    public getAllMemberGroupsWithMembersForUser_result setSre(org.apache.airavata.sharing.registry.models.SharingRegistryException sre) {
       this.sre = sre;
       return this;
     }
@@ -37854,7 +38994,7 @@ public class SharingRegistryService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<org.apache.airavata.sharing.registry.models.UserGroup>)value);
+          setSuccess((java.util.List<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>)value);
         }
         break;
 
@@ -37900,12 +39040,12 @@ public class SharingRegistryService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllMemberGroupsForUser_result)
-        return this.equals((getAllMemberGroupsForUser_result)that);
+      if (that instanceof getAllMemberGroupsWithMembersForUser_result)
+        return this.equals((getAllMemberGroupsWithMembersForUser_result)that);
       return false;
     }
 
-    public boolean equals(getAllMemberGroupsForUser_result that) {
+    public boolean equals(getAllMemberGroupsWithMembersForUser_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -37948,7 +39088,7 @@ public class SharingRegistryService {
     }
 
     @Override
-    public int compareTo(getAllMemberGroupsForUser_result other) {
+    public int compareTo(getAllMemberGroupsWithMembersForUser_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -37992,7 +39132,7 @@ public class SharingRegistryService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsForUser_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllMemberGroupsWithMembersForUser_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -38035,15 +39175,15 @@ public class SharingRegistryService {
       }
     }
 
-    private static class getAllMemberGroupsForUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllMemberGroupsForUser_resultStandardScheme getScheme() {
-        return new getAllMemberGroupsForUser_resultStandardScheme();
+    private static class getAllMemberGroupsWithMembersForUser_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsWithMembersForUser_resultStandardScheme getScheme() {
+        return new getAllMemberGroupsWithMembersForUser_resultStandardScheme();
       }
     }
 
-    private static class getAllMemberGroupsForUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsForUser_result> {
+    private static class getAllMemberGroupsWithMembersForUser_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllMemberGroupsWithMembersForUser_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllMemberGroupsWithMembersForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -38057,11 +39197,11 @@ public class SharingRegistryService {
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
                   org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list80.size);
-                  org.apache.airavata.sharing.registry.models.UserGroup _elem81;
+                  struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>(_list80.size);
+                  org.apache.airavata.sharing.registry.models.UserGroupWithMembers _elem81;
                   for (int _i82 = 0; _i82 < _list80.size; ++_i82)
                   {
-                    _elem81 = new org.apache.airavata.sharing.registry.models.UserGroup();
+                    _elem81 = new org.apache.airavata.sharing.registry.models.UserGroupWithMembers();
                     _elem81.read(iprot);
                     struct.success.add(_elem81);
                   }
@@ -38092,7 +39232,7 @@ public class SharingRegistryService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllMemberGroupsWithMembersForUser_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -38100,7 +39240,7 @@ public class SharingRegistryService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (org.apache.airavata.sharing.registry.models.UserGroup _iter83 : struct.success)
+            for (org.apache.airavata.sharing.registry.models.UserGroupWithMembers _iter83 : struct.success)
             {
               _iter83.write(oprot);
             }
@@ -38119,16 +39259,16 @@ public class SharingRegistryService {
 
     }
 
-    private static class getAllMemberGroupsForUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllMemberGroupsForUser_resultTupleScheme getScheme() {
-        return new getAllMemberGroupsForUser_resultTupleScheme();
+    private static class getAllMemberGroupsWithMembersForUser_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllMemberGroupsWithMembersForUser_resultTupleScheme getScheme() {
+        return new getAllMemberGroupsWithMembersForUser_resultTupleScheme();
       }
     }
 
-    private static class getAllMemberGroupsForUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsForUser_result> {
+    private static class getAllMemberGroupsWithMembersForUser_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllMemberGroupsWithMembersForUser_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsWithMembersForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -38141,7 +39281,7 @@ public class SharingRegistryService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (org.apache.airavata.sharing.registry.models.UserGroup _iter84 : struct.success)
+            for (org.apache.airavata.sharing.registry.models.UserGroupWithMembers _iter84 : struct.success)
             {
               _iter84.write(oprot);
             }
@@ -38153,17 +39293,17 @@ public class SharingRegistryService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsForUser_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllMemberGroupsWithMembersForUser_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
             org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroup>(_list85.size);
-            org.apache.airavata.sharing.registry.models.UserGroup _elem86;
+            struct.success = new java.util.ArrayList<org.apache.airavata.sharing.registry.models.UserGroupWithMembers>(_list85.size);
+            org.apache.airavata.sharing.registry.models.UserGroupWithMembers _elem86;
             for (int _i87 = 0; _i87 < _list85.size; ++_i87)
             {
-              _elem86 = new org.apache.airavata.sharing.registry.models.UserGroup();
+              _elem86 = new org.apache.airavata.sharing.registry.models.UserGroupWithMembers();
               _elem86.read(iprot);
               struct.success.add(_elem86);
             }
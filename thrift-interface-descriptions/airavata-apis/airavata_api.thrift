@@ -26,6 +26,7 @@
 
 include "airavata_errors.thrift"
 include "security_model.thrift"
+include "messaging_events.thrift"
 include "../data-models/airavata_data_models.thrift"
 include "../data-models/credential-store-models/credential_store_data_models.thrift"
 include "../data-models/experiment-catalog-models/status_models.thrift"
@@ -1137,6 +1138,111 @@ service Airavata extends base_api.BaseAPI {
                         4: airavata_errors.AiravataSystemException ase,
                         5: airavata_errors.AuthorizationException ae)
 
+  /**
+  *
+  * Get the Id of the Latest Status Change of a Gateway
+  * Status changes of the experiments, processes, tasks and jobs of a gateway are retained by the API server for a while
+  * so that a client can follow them with getGatewayStatusChanges instead of polling each experiment. Call this
+  * method before loading the current statuses and read the changes made after the returned id.
+  *
+  * @param authzToken
+  *
+  * @param gatewayId
+  *     The identifier of the gateway.
+  *
+  * @return statusChangeId
+  *     Id of the latest status change retained for the gateway.
+  *
+  **/
+  string getLatestGatewayStatusChangeId(1: required security_model.AuthzToken authzToken,
+                                        2: required string gatewayId)
+                throws (1: airavata_errors.InvalidRequestException ire,
+                        2: airavata_errors.AiravataClientException ace,
+                        3: airavata_errors.AiravataSystemException ase,
+                        4: airavata_errors.AuthorizationException ae)
+
+  /**
+  *
+  * Get the Status Changes of a Gateway
+  * Returns the status changes of the experiments, processes, tasks and jobs of a gateway made after the given status
+  * change, waiting for a while if there is none yet. The messageId of each returned message is the id of the status
+  * change, to be used as afterStatusChangeId of the next call. The event is the serialized ExperimentStatusChangeEvent,
+  * ProcessStatusChangeEvent, TaskStatusChangeEvent or JobStatusChangeEvent given by the messageType.
+  *
+  * @param authzToken
+  *
+  * @param gatewayId
+  *     The identifier of the gateway.
+  *
+  * @param afterStatusChangeId
+  *     Id of the last status change seen by the client.
+  *
+  * @param maxChanges
+  *     Maximum number of status changes to return. The API server may return fewer.
+  *
+  * @param waitTimeMillis
+  *     How long to wait for a status change if there is none after afterStatusChangeId. The API server may wait less.
+  *
+  * @return list<Message>
+  *     Status changes made after afterStatusChangeId, oldest first.
+  *
+  * @throws org.apache.airavata.model.error.InvalidRequestException
+  *    The status changes after afterStatusChangeId are no longer retained, for example because the API server was
+  *    restarted. Load the current statuses again and continue from getLatestGatewayStatusChangeId.
+  *
+  * @throws org.apache.airavata.model.error.AiravataSystemException
+  *    Too many clients are waiting for status changes and there is none after afterStatusChangeId. The message tells
+  *    how many milliseconds to wait before calling again with the same afterStatusChangeId.
+  *
+  **/
+  list<messaging_events.Message> getGatewayStatusChanges(1: required security_model.AuthzToken authzToken,
+                                                         2: required string gatewayId,
+                                                         3: required string afterStatusChangeId,
+                                                         4: required i32 maxChanges,
+                                                         5: required i32 waitTimeMillis)
+                throws (1: airavata_errors.InvalidRequestException ire,
+                        2: airavata_errors.AiravataClientException ace,
+                        3: airavata_errors.AiravataSystemException ase,
+                        4: airavata_errors.AuthorizationException ae)
+
+  /**
+  *
+  * Get the Id of the Latest Status Change of the Experiments of the Calling User
+  * Same as getLatestGatewayStatusChangeId, limited to the experiments owned by the user of the authzToken.
+  *
+  * @param authzToken
+  *
+  * @param gatewayId
+  *     The identifier of the gateway.
+  *
+  * @return statusChangeId
+  *     Id of the latest status change retained for the user.
+  *
+  **/
+  string getLatestUserStatusChangeId(1: required security_model.AuthzToken authzToken,
+                                     2: required string gatewayId)
+                throws (1: airavata_errors.InvalidRequestException ire,
+                        2: airavata_errors.AiravataClientException ace,
+                        3: airavata_errors.AiravataSystemException ase,
+                        4: airavata_errors.AuthorizationException ae)
+
+  /**
+  *
+  * Get the Status Changes of the Experiments of the Calling User
+  * Same as getGatewayStatusChanges, limited to the experiments owned by the user of the authzToken. Status change ids
+  * of the user and of the gateway can not be used interchangeably.
+  *
+  **/
+  list<messaging_events.Message> getUserStatusChanges(1: required security_model.AuthzToken authzToken,
+                                                      2: required string gatewayId,
+                                                      3: required string afterStatusChangeId,
+                                                      4: required i32 maxChanges,
+                                                      5: required i32 waitTimeMillis)
+                throws (1: airavata_errors.InvalidRequestException ire,
+                        2: airavata_errors.AiravataClientException ace,
+                        3: airavata_errors.AiravataSystemException ase,
+                        4: airavata_errors.AuthorizationException ae)
+
   /**
    *
    * Clone an Existing Experiment
@@ -153,6 +153,10 @@ service SharingRegistryService extends base_api.BaseAPI {
     bool removeChildGroupFromParentGroup(1: required string domainId, 2: required string childId, 3: required string groupId) throws (1: sharing_models.SharingRegistryException sre);
 
     list<sharing_models.UserGroup> getAllMemberGroupsForUser(1: required string domainId, 2: required string userId) throws (1: sharing_models.SharingRegistryException sre);
+    /**
+     <p>API method to get the groups a user is a direct member of, together with the members and admins of each group</p>
+    */
+    list<sharing_models.UserGroupWithMembers> getAllMemberGroupsWithMembersForUser(1: required string domainId, 2: required string userId) throws (1: sharing_models.SharingRegistryException sre);
 
     /**
      <p>API method to create a new entity type</p>
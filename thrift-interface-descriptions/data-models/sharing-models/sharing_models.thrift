@@ -138,6 +138,18 @@ struct GroupMembership {
     6: optional i64 updatedTime
 }
 
+/**
+* <p>A user group together with its direct members and admins.</p>
+* <li><b>group</b> : The user group. The owner is the ownerId of the group</li>
+* <li>memberIds : User ids of the direct members of type user</li>
+* <li>adminIds : User ids of the group admins</li>
+**/
+struct UserGroupWithMembers {
+    1: optional UserGroup group,
+    2: optional list<string> memberIds,
+    3: optional list<string> adminIds
+}
+
 
 /**
 * <p>client defined entity types</p>
@@ -0,0 +1,161 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import com.google.gson.Gson;
+import org.apache.airavata.helix.impl.task.parsing.CatalogEntry;
+import org.apache.airavata.helix.impl.task.parsing.CatalogGraph;
+import org.apache.airavata.helix.impl.task.parsing.CatalogUtil;
+import org.apache.airavata.helix.impl.task.parsing.ParserRequest;
+import org.apache.airavata.helix.impl.task.parsing.shortestpath.DijkstraShortestPath;
+import org.apache.airavata.helix.impl.task.parsing.shortestpath.DirectedGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parser chain lookups of the data parsing task over a generated catalog. The precomputed chains of the catalog index
+ * behind {@link CatalogGraph} are compared with the graph walk done before the index, which read the catalog, built
+ * the graph and ran {@link DijkstraShortestPath} for every request, and with a walk over a graph built only once.
+ * Every invocation answers the same {@value #LOOKUPS} lookups between random file types, and scores are per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogIndexBenchmark {
+
+    private static final int LOOKUPS = 10000;
+
+    @Param({"500"})
+    private int parsers;
+
+    @Param({"120"})
+    private int fileTypes;
+
+    private File catalogFile;
+    private DirectedGraph graph;
+    private ParserRequest[] requests;
+    private String[] outputFileTypes;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(42);
+
+        // a chain over all file types, so that every type can be converted to the ones after it, and random parsers
+        List<Map<String, Object>> catalog = new ArrayList<>();
+        for (int i = 0; i < parsers; i++) {
+            int input = i < fileTypes - 1 ? i : random.nextInt(fileTypes);
+            int output = i < fileTypes - 1 ? i + 1 : random.nextInt(fileTypes);
+            if (input == output) {
+                output = (output + 1) % fileTypes;
+            }
+            catalog.add(catalogEntry(i, fileType(input), fileType(output)));
+        }
+        catalogFile = File.createTempFile("parser-catalog", ".json");
+        catalogFile.deleteOnExit();
+        try (Writer writer = new FileWriter(catalogFile)) {
+            new Gson().toJson(catalog, writer);
+        }
+
+        graph = new DirectedGraph();
+        for (CatalogEntry e : CatalogUtil.catalogLookup(catalogFile.getPath())) {
+            graph.addEdge(e.getInputFileExtension(), e.getOutputFileExtension(), e);
+        }
+
+        requests = new ParserRequest[LOOKUPS];
+        outputFileTypes = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int input = random.nextInt(fileTypes - 1);
+            int output = input + 1 + random.nextInt(fileTypes - 1 - input);
+            requests[i] = new ParserRequest();
+            requests[i].setInputFileName("input" + fileType(input));
+            requests[i].setOutputFileName("output" + fileType(output));
+            outputFileTypes[i] = fileType(output);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int catalogIndex() throws Exception {
+        int entries = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            entries += new CatalogGraph(requests[i], catalogFile.getPath()).getSPCatalogEntries(outputFileTypes[i]).size();
+        }
+        return entries;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int graphWalkPerRequest() throws Exception {
+        int entries = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            DirectedGraph requestGraph = new DirectedGraph();
+            for (CatalogEntry e : CatalogUtil.catalogLookup(catalogFile.getPath())) {
+                requestGraph.addEdge(e.getInputFileExtension(), e.getOutputFileExtension(), e);
+            }
+            entries += new DijkstraShortestPath(requestGraph, requests[i]).getEdgeList(outputFileTypes[i]).size();
+        }
+        return entries;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int graphWalkSharedGraph() throws Exception {
+        int entries = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            entries += new DijkstraShortestPath(graph, requests[i]).getEdgeList(outputFileTypes[i]).size();
+        }
+        return entries;
+    }
+
+    private static String fileType(int index) {
+        return ".type" + index;
+    }
+
+    private static Map<String, Object> catalogEntry(int index, String inputFileType, String outputFileType) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("dockerImageName", "airavata/parser-" + index);
+        entry.put("dockerWorkingDirPath", "/opt/parser");
+        entry.put("executableBinary", "python");
+        entry.put("executingFile", "parse.py");
+        entry.put("inputFileExtension", inputFileType);
+        entry.put("outputFileName", "output" + outputFileType);
+        entry.put("applicationType", "");
+        entry.put("operation", "");
+        entry.put("runInDetachedMode", "");
+        entry.put("automaticallyRmContainer", "--rm=true");
+        entry.put("securityOpt", "");
+        entry.put("envVariables", new String[0]);
+        entry.put("cpus", "");
+        entry.put("label", "");
+        return entry;
+    }
+}
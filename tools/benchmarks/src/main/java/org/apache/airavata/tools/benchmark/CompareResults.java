@@ -0,0 +1,123 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JSON result files of {@link BenchmarkRunner}, e.g. the results of the same benchmarks before and after
+ * a change. Prints the score and the normalized allocation rate of each benchmark found in both files and exits with 1
+ * when a score got worse by more than the threshold.
+ * <p>
+ * Usage: CompareResults &lt;baseline results&gt; &lt;current results&gt; [threshold percentage, default 10]
+ */
+public class CompareResults {
+
+    private static final String ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline results> <current results> [threshold percentage]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> current = read(args[1]);
+
+        int regressions = 0;
+        System.out.println(String.format("%-80s %8s %14s %14s %9s %14s %14s", "Benchmark", "Unit", "Baseline", "Current",
+                "Change", "Alloc B/op", "Alloc B/op"));
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.println(String.format("%-80s %8s %14s %14.3f %9s %14s %14.0f", entry.getKey(), after.unit, "-",
+                        after.score, "new", "-", after.allocation));
+                continue;
+            }
+            double change = (after.score - before.score) / before.score * 100;
+            // throughput gets worse when it goes down, the other modes report time which gets worse when it goes up
+            boolean regression = after.higherIsBetter() ? change < -threshold : change > threshold;
+            regressions += regression ? 1 : 0;
+            System.out.println(String.format("%-80s %8s %14.3f %14.3f %+8.1f%% %14.0f %14.0f%s", entry.getKey(), after.unit,
+                    before.score, after.score, change, before.allocation, after.allocation, regression ? "  REGRESSION" : ""));
+        }
+        System.out.println(regressions + " regression(s) beyond " + threshold + "%");
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static Map<String, Result> read(String fileName) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            JsonArray benchmarks = new JsonParser().parse(reader).getAsJsonArray();
+            for (JsonElement element : benchmarks) {
+                JsonObject benchmark = element.getAsJsonObject();
+                StringBuilder name = new StringBuilder(benchmark.get("benchmark").getAsString()
+                        .replace("org.apache.airavata.tools.benchmark.", ""));
+                if (benchmark.has("params")) {
+                    Map<String, String> params = new TreeMap<>();
+                    for (Map.Entry<String, JsonElement> param : benchmark.getAsJsonObject("params").entrySet()) {
+                        params.put(param.getKey(), param.getValue().getAsString());
+                    }
+                    name.append(params);
+                }
+
+                JsonObject primaryMetric = benchmark.getAsJsonObject("primaryMetric");
+                Result result = new Result(benchmark.get("mode").getAsString(), primaryMetric.get("score").getAsDouble(),
+                        primaryMetric.get("scoreUnit").getAsString());
+                JsonObject secondaryMetrics = benchmark.getAsJsonObject("secondaryMetrics");
+                if (secondaryMetrics != null && secondaryMetrics.has(ALLOCATION_METRIC)) {
+                    result.allocation = secondaryMetrics.getAsJsonObject(ALLOCATION_METRIC).get("score").getAsDouble();
+                }
+                results.put(name.toString(), result);
+            }
+        }
+        return results;
+    }
+
+    private static class Result {
+        private final String mode;
+        private final double score;
+        private final String unit;
+        private double allocation = Double.NaN;
+
+        private Result(String mode, double score, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        private boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
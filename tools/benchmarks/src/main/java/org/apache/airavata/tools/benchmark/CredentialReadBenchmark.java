@@ -0,0 +1,119 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.common.utils.DBUtil;
+import org.apache.airavata.credential.store.credential.impl.ssh.SSHCredential;
+import org.apache.airavata.credential.store.store.impl.db.CredentialsDAO;
+import org.apache.commons.dbcp.BasicDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credential reads of the credential store against an embedded Derby database, opening a connection per read as
+ * before and borrowing the connection from the DBCP pool of {@link DBUtil#enableConnectionPool()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class CredentialReadBenchmark {
+
+    private static final String JDBC_URL = "jdbc:derby:memory:credential_benchmark;create=true";
+    private static final String DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+    private static final String GATEWAY_ID = "benchmark-gateway";
+
+    @Param({"false", "true"})
+    private boolean pooled;
+
+    @Param({"100"})
+    private int credentials;
+
+    private DBUtil dbUtil;
+    private List<String> tokens;
+    private final CredentialsDAO credentialsDAO = new CredentialsDAO();
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        dbUtil = new DBUtil(JDBC_URL, "airavata", "airavata", DRIVER);
+        dbUtil.executeSQL("CREATE TABLE CREDENTIALS (GATEWAY_ID VARCHAR(256) NOT NULL, " +
+                "TOKEN_ID VARCHAR(256) NOT NULL, CREDENTIAL BLOB NOT NULL, PORTAL_USER_ID VARCHAR(256) NOT NULL, " +
+                "TIME_PERSISTED TIMESTAMP DEFAULT CURRENT_TIMESTAMP, DESCRIPTION VARCHAR(500), " +
+                "CREDENTIAL_OWNER_TYPE VARCHAR(10) DEFAULT 'GATEWAY' NOT NULL, CREDENTIAL_TYPE VARCHAR(10), " +
+                "PUBLIC_KEY VARCHAR(8192), PRIMARY KEY (GATEWAY_ID, TOKEN_ID))");
+
+        tokens = new ArrayList<>();
+        Connection connection = dbUtil.getConnection();
+        try {
+            for (int i = 0; i < credentials; i++) {
+                SSHCredential credential = new SSHCredential();
+                credential.setGateway(GATEWAY_ID);
+                credential.setToken("token-" + i);
+                credential.setPortalUserName("benchmark-user");
+                credential.setDescription("benchmark credential " + i);
+                credential.setPrivateKey(new byte[1675]);
+                credential.setPublicKey(new byte[400]);
+                credential.setPassphrase("passphrase");
+                credentialsDAO.addCredentials(GATEWAY_ID, credential, connection);
+                tokens.add(credential.getToken());
+            }
+            connection.commit();
+        } finally {
+            DBUtil.cleanup(connection);
+        }
+
+        if (pooled) {
+            BasicDataSource pool = dbUtil.enableConnectionPool();
+            pool.setMaxActive(8);
+            pool.setMaxIdle(8);
+            pool.setPoolPreparedStatements(true);
+            pool.setValidationQuery("VALUES 1");
+            pool.setTestOnBorrow(true);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        dbUtil.closeConnectionPool();
+    }
+
+    @Benchmark
+    public Object readCredential(Reader reader) throws Exception {
+        Connection connection = dbUtil.getConnection();
+        try {
+            String token = tokens.get((reader.next++ & Integer.MAX_VALUE) % tokens.size());
+            return credentialsDAO.getCredential(GATEWAY_ID, token, connection);
+        } finally {
+            DBUtil.cleanup(connection);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.model.application.io.InputDataObjectType;
+import org.apache.airavata.model.application.io.OutputDataObjectType;
+import org.apache.airavata.model.experiment.ExperimentModel;
+import org.apache.airavata.model.experiment.ExperimentSummaryModel;
+import org.apache.airavata.model.status.ExperimentStatus;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentInputResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentOutputResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentStatusResource;
+import org.apache.airavata.registry.core.experiment.catalog.resources.ExperimentSummaryResource;
+import org.apache.airavata.registry.core.experiment.catalog.utils.ThriftDataModelConversion;
+import org.apache.airavata.registry.cpi.RegistryException;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of experiment catalog resources to the thrift models done by the registry for every experiment read.
+ * Only the conversions which work on loaded resources are measured, the others load child resources from the
+ * database while converting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataModelConversionBenchmark {
+
+    // experiments in a page of search results
+    private static final int SEARCH_RESULT_SIZE = 50;
+
+    private List<ExperimentInputResource> inputResources;
+    private List<ExperimentOutputResource> outputResources;
+    private List<ExperimentStatusResource> statusResources;
+    private List<ExperimentSummaryResource> summaryResources;
+
+    @Setup
+    public void setup() {
+        ExperimentModel experiment = Fixtures.experiment();
+
+        inputResources = new ArrayList<>();
+        for (InputDataObjectType input : experiment.getExperimentInputs()) {
+            ExperimentInputResource resource = new ExperimentInputResource();
+            resource.setExperimentId(experiment.getExperimentId());
+            resource.setInputName(input.getName());
+            resource.setInputValue(input.getValue());
+            resource.setDataType(input.getType().toString());
+            resource.setApplicationArgument(input.getApplicationArgument());
+            resource.setStandardInput(input.isStandardInput());
+            resource.setUserFriendlyDescription(input.getUserFriendlyDescription());
+            resource.setMetadata(input.getMetaData());
+            resource.setInputOrder(input.getInputOrder());
+            resource.setIsRequired(input.isIsRequired());
+            resource.setRequiredToAddedToCmd(input.isRequiredToAddedToCommandLine());
+            resource.setDataStaged(input.isDataStaged());
+            resource.setStorageResourceId(input.getStorageResourceId());
+            resource.setIsReadOnly(input.isIsReadOnly());
+            inputResources.add(resource);
+        }
+
+        outputResources = new ArrayList<>();
+        for (OutputDataObjectType output : experiment.getExperimentOutputs()) {
+            ExperimentOutputResource resource = new ExperimentOutputResource();
+            resource.setExperimentId(experiment.getExperimentId());
+            resource.setOutputName(output.getName());
+            resource.setOutputValue(output.getValue());
+            resource.setDataType(output.getType().toString());
+            resource.setApplicationArgument(output.getApplicationArgument());
+            resource.setIsRequired(output.isIsRequired());
+            resource.setRequiredToAddedToCmd(output.isRequiredToAddedToCommandLine());
+            resource.setDataMovement(output.isDataMovement());
+            resource.setLocation(output.getLocation());
+            resource.setSearchQuery(output.getSearchQuery());
+            resource.setOutputStreaming(output.isOutputStreaming());
+            resource.setStorageResourceId(output.getStorageResourceId());
+            outputResources.add(resource);
+        }
+
+        statusResources = new ArrayList<>();
+        for (ExperimentStatus status : experiment.getExperimentStatus()) {
+            ExperimentStatusResource resource = new ExperimentStatusResource();
+            resource.setStatusId(status.getState().toString());
+            resource.setExperimentId(experiment.getExperimentId());
+            resource.setState(status.getState().toString());
+            resource.setTimeOfStateChange(new Timestamp(status.getTimeOfStateChange()));
+            resource.setReason(status.getReason());
+            statusResources.add(resource);
+        }
+
+        summaryResources = new ArrayList<>();
+        for (int i = 0; i < SEARCH_RESULT_SIZE; i++) {
+            ExperimentSummaryResource resource = new ExperimentSummaryResource();
+            resource.setExperimentId(experiment.getExperimentId() + "_" + i);
+            resource.setProjectId(experiment.getProjectId());
+            resource.setGatewayId(experiment.getGatewayId());
+            resource.setUserName(experiment.getUserName());
+            resource.setExecutionId(experiment.getExecutionId());
+            resource.setExperimentName(experiment.getExperimentName());
+            resource.setCreationTime(new Timestamp(experiment.getCreationTime()));
+            resource.setDescription(experiment.getDescription());
+            resource.setState(experiment.getExperimentStatus().get(experiment.getExperimentStatusSize() - 1).getState().toString());
+            resource.setResourceHostId(experiment.getUserConfigurationData().getComputationalResourceScheduling().getResourceHostId());
+            resource.setTimeOfStateChange(new Timestamp(experiment.getCreationTime()));
+            summaryResources.add(resource);
+        }
+    }
+
+    @Benchmark
+    public List<InputDataObjectType> experimentInputs() {
+        return ThriftDataModelConversion.getExpInputs(inputResources);
+    }
+
+    @Benchmark
+    public List<OutputDataObjectType> experimentOutputs() {
+        return ThriftDataModelConversion.getExpOutputs(outputResources);
+    }
+
+    @Benchmark
+    public List<ExperimentStatus> experimentStatuses() {
+        List<ExperimentStatus> statuses = new ArrayList<>(statusResources.size());
+        statusResources.forEach(status -> statuses.add(ThriftDataModelConversion.getExperimentStatus(status)));
+        return statuses;
+    }
+
+    @Benchmark
+    public List<ExperimentSummaryModel> experimentSummaries() throws RegistryException {
+        List<ExperimentSummaryModel> summaries = new ArrayList<>(summaryResources.size());
+        for (ExperimentSummaryResource summary : summaryResources) {
+            summaries.add(ThriftDataModelConversion.getExperimentSummary(summary));
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.helix.impl.task.submission.config.GroovyMapData;
+import org.apache.airavata.model.application.io.InputDataObjectType;
+import org.apache.airavata.model.job.JobModel;
+import org.apache.airavata.model.process.ProcessModel;
+import org.apache.airavata.model.scheduling.ComputationalResourceSchedulingModel;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of job scripts from {@link GroovyMapData} with the job script templates shipped in the server
+ * configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobScriptBenchmark {
+
+    @Param({"SLURM_Groovy.template", "PBS_Groovy.template", "LSF_Groovy.template"})
+    private String template;
+
+    private GroovyMapData mapData;
+
+    @Setup
+    public void setup() throws Exception {
+        mapData = createMapData();
+
+        // compiles the template, which is done once per template by the job script template registry
+        mapData.getAsString(template);
+    }
+
+    @Benchmark
+    public Map toImmutableMap() {
+        return mapData.toImmutableMap();
+    }
+
+    @Benchmark
+    public String renderJobScript() throws Exception {
+        return mapData.getAsString(template);
+    }
+
+    static GroovyMapData createMapData() throws Exception {
+        ProcessModel process = Fixtures.process();
+        ComputationalResourceSchedulingModel scheduling = process.getProcessResourceSchedule();
+        JobModel job = process.getTasks().stream().filter(task -> task.getJobs() != null)
+                .findFirst().get().getJobs().get(0);
+
+        List<String> inputs = new ArrayList<>();
+        for (InputDataObjectType input : process.getProcessInputs()) {
+            inputs.add(input.getApplicationArgument());
+            inputs.add(input.getValue());
+        }
+
+        GroovyMapData mapData = new GroovyMapData();
+        mapData.setShellName("/bin/bash")
+                .setQueueName(scheduling.getQueueName())
+                .setNodes(scheduling.getNodeCount())
+                .setCpuCount(scheduling.getTotalCPUCount())
+                .setProcessPerNode(scheduling.getTotalCPUCount() / scheduling.getNodeCount())
+                .setMaxWallTime("02:00:00")
+                .setAccountString(scheduling.getOverrideAllocationProjectNumber())
+                .setMailAddress(process.getEmailAddresses().get(0))
+                .setJobName(job.getJobName())
+                .setStdoutFile(job.getStdOut())
+                .setStderrFile(job.getStdErr())
+                .setWorkingDirectory(job.getWorkingDir())
+                .setInputDir(job.getWorkingDir())
+                .setOutputDir(job.getWorkingDir())
+                .setScratchLocation(job.getWorkingDir())
+                .setGatewayId(Fixtures.experiment().getGatewayId())
+                .setGatewayUserName(process.getUserName())
+                .setUserName(process.getUserName())
+                .setApplicationName("Gaussian")
+                .setExecutablePath("g09")
+                .setJobSubmitterCommand("")
+                .setExports(Arrays.asList("GAUSS_SCRDIR=/scratch/$USER/$SLURM_JOBID", "OMP_NUM_THREADS=1"))
+                .setModuleCommands(Arrays.asList("module purge", "module load gaussian/09.E.01"))
+                .setPreJobCommands(Arrays.asList("mkdir -p /scratch/$USER/$SLURM_JOBID"))
+                .setPostJobCommands(Arrays.asList("rm -rf /scratch/$USER/$SLURM_JOBID"))
+                .setInputs(inputs)
+                .setInputsAll(inputs);
+        mapData.setTaskId(job.getTaskId());
+        mapData.setExperimentDataDir(process.getExperimentDataDir());
+        return mapData;
+    }
+}
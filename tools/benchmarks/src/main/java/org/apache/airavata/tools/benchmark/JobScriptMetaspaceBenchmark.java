@@ -0,0 +1,82 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import groovy.text.GStringTemplateEngine;
+import groovy.text.TemplateEngine;
+import org.apache.airavata.common.utils.ApplicationSettings;
+import org.apache.airavata.helix.impl.task.submission.config.GroovyMapData;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metaspace growth over a run of job submissions, rendering with the compiled templates of the job script template
+ * registry and compiling the template for every submission as {@link GroovyMapData} did before the registry. Each
+ * method renders the job scripts once in its own JVM. The metaspace growth and the classes loaded during the run are
+ * reported by {@link MetaspaceProfiler}, which {@link BenchmarkRunner} enables by default.
+ * <p>
+ * Without the registry a submission takes tens of milliseconds, so the default of 2000 submissions keeps the run
+ * to about a minute. Use -p submissions=100000 for a run the length of a busy day, which takes about an hour.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+// JMH interrupts iterations after 10 minutes by default, which a long run without the registry exceeds
+@Timeout(time = 2, timeUnit = TimeUnit.HOURS)
+@Fork(1)
+public class JobScriptMetaspaceBenchmark {
+
+    @Param({"2000"})
+    private int submissions;
+
+    @Param({"SLURM_Groovy.template"})
+    private String template;
+
+    private GroovyMapData mapData;
+
+    @Setup
+    public void setup() throws Exception {
+        mapData = JobScriptBenchmark.createMapData();
+    }
+
+    @Benchmark
+    public int renderWithRegistry() throws Exception {
+        int length = 0;
+        for (int i = 0; i < submissions; i++) {
+            length += mapData.getAsString(template).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int renderWithoutRegistry() throws Exception {
+        int length = 0;
+        for (int i = 0; i < submissions; i++) {
+            URL templateUrl = ApplicationSettings.loadFile(template);
+            TemplateEngine engine = new GStringTemplateEngine();
+            length += engine.createTemplate(templateUrl).make(mapData.toImmutableMap()).toString().length();
+        }
+        return length;
+    }
+}
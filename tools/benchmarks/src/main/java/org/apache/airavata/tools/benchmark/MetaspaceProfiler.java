@@ -0,0 +1,73 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reports the growth of the metaspace and the number of classes loaded during each iteration, for code that generates
+ * classes at run time. Use with -prof org.apache.airavata.tools.benchmark.MetaspaceProfiler.
+ */
+public class MetaspaceProfiler implements InternalProfiler {
+
+    private final MemoryPoolMXBean metaspace = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> "Metaspace".equals(pool.getName())).findFirst().orElse(null);
+    private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+    private long usedBefore;
+    private long classesBefore;
+
+    @Override
+    public String getDescription() {
+        return "Metaspace growth and classes loaded per iteration";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        usedBefore = metaspace != null ? metaspace.getUsage().getUsed() : 0;
+        classesBefore = classLoading.getTotalLoadedClassCount();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+                                                       IterationResult result) {
+        List<Result> results = new ArrayList<>();
+        if (metaspace != null) {
+            results.add(new ScalarResult("·metaspace.growth", (metaspace.getUsage().getUsed() - usedBefore) / 1024.0,
+                    "KB", AggregationPolicy.AVG));
+        }
+        results.add(new ScalarResult("·classes.loaded", classLoading.getTotalLoadedClassCount() - classesBefore,
+                "classes", AggregationPolicy.AVG));
+        return results;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.helix.impl.task.submission.config.OutputParser;
+import org.apache.airavata.helix.impl.task.submission.config.app.parser.LSFOutputParser;
+import org.apache.airavata.helix.impl.task.submission.config.app.parser.PBSOutputParser;
+import org.apache.airavata.helix.impl.task.submission.config.app.parser.SlurmOutputParser;
+import org.apache.airavata.model.status.JobState;
+import org.apache.airavata.model.status.JobStatus;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the job submission output and the job status listings of the supported schedulers. The listings hold
+ * the jobs of a busy community account, as returned when polling the job manager.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputParserBenchmark {
+
+    @Param({"SLURM", "PBS", "LSF"})
+    private Fixtures.Scheduler scheduler;
+
+    private OutputParser parser;
+    private String submissionOutput;
+    private String statusListing;
+    private List<String> monitoredJobs;
+
+    @Setup
+    public void setup() {
+        statusListing = Fixtures.statusListing(scheduler);
+        monitoredJobs = Fixtures.monitoredJobs(scheduler);
+        String jobId = monitoredJobs.get(0).split(",")[0];
+        switch (scheduler) {
+            case SLURM:
+                parser = new SlurmOutputParser();
+                submissionOutput = "Submitted batch job " + jobId + "\n";
+                break;
+            case PBS:
+                parser = new PBSOutputParser();
+                submissionOutput = jobId + ".batch.example.org\n";
+                break;
+            case LSF:
+                parser = new LSFOutputParser();
+                submissionOutput = "Job <" + jobId + "> is submitted to queue <long>.\n";
+                break;
+            default:
+                throw new IllegalArgumentException("No parser for " + scheduler);
+        }
+    }
+
+    @Benchmark
+    public String parseJobSubmission() throws Exception {
+        return parser.parseJobSubmission(submissionOutput);
+    }
+
+    @Benchmark
+    public Map<String, JobStatus> parseJobStatusListing() throws Exception {
+        return parser.parseJobStatusListing(statusListing);
+    }
+
+    @Benchmark
+    public Map<String, JobStatus> parseJobStatuses() throws Exception {
+        Map<String, JobStatus> statusMap = new HashMap<>();
+        for (String job : monitoredJobs) {
+            statusMap.put(job, new JobStatus(JobState.UNKNOWN));
+        }
+        parser.parseJobStatuses("gwcomm", statusMap, statusListing);
+        return statusMap;
+    }
+}
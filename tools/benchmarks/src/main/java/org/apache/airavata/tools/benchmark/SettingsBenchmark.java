@@ -0,0 +1,59 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.common.exception.ApplicationSettingsException;
+import org.apache.airavata.common.utils.ServerSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings lookups, done on many request and task paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SettingsBenchmark {
+
+    // helix-spectator ships its own airavata-server.properties, so the key has to be defined in every copy
+    @Benchmark
+    public String getSetting() throws ApplicationSettingsException {
+        return ServerSettings.getSetting("regserver.server.port");
+    }
+
+    @Benchmark
+    public String getSettingWithDefault() {
+        return ServerSettings.getSetting("benchmark.undefined.setting", "default");
+    }
+
+    @Benchmark
+    public int getIntSetting() {
+        return ServerSettings.getRabbitmqPrefetchCount();
+    }
+
+    @Benchmark
+    public boolean getBooleanSetting() {
+        return ServerSettings.isEnabledKafkaLogging();
+    }
+}
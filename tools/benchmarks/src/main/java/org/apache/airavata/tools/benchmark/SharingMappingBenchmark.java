@@ -0,0 +1,126 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.model.experiment.ExperimentModel;
+import org.apache.airavata.model.user.UserProfile;
+import org.apache.airavata.sharing.registry.db.entities.EntityEntity;
+import org.apache.airavata.sharing.registry.db.entities.UserEntity;
+import org.apache.airavata.sharing.registry.db.utils.ObjectMapperSingleton;
+import org.apache.airavata.sharing.registry.models.Entity;
+import org.apache.airavata.sharing.registry.models.User;
+import org.apache.airavata.sharing.registry.utils.ThriftDataModelConversion;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.dozer.Mapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dozer mapping between the sharing registry models and their JPA entities, done by the sharing registry repositories
+ * for every entity read or written, and the conversion of user profiles to sharing registry users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharingMappingBenchmark {
+
+    // entities returned by a search, e.g. the experiments listed in a project
+    private static final int SEARCH_RESULT_SIZE = 50;
+
+    private final Mapper mapper = ObjectMapperSingleton.getInstance();
+
+    private Entity entity;
+    private EntityEntity entityEntity;
+    private List<EntityEntity> searchResult;
+    private UserProfile userProfile;
+    private User user;
+
+    @Setup
+    public void setup() throws Exception {
+        ExperimentModel experiment = Fixtures.experiment();
+        entity = new Entity();
+        entity.setEntityId(experiment.getExperimentId());
+        entity.setDomainId(experiment.getGatewayId());
+        entity.setEntityTypeId(experiment.getGatewayId() + ":EXPERIMENT");
+        entity.setOwnerId(experiment.getUserName() + "@" + experiment.getGatewayId());
+        entity.setParentEntityId(experiment.getProjectId());
+        entity.setName(experiment.getExperimentName());
+        entity.setDescription(experiment.getDescription());
+        entity.setFullText(experiment.getExperimentName() + " " + experiment.getDescription());
+        entity.setSharedCount(0);
+        entity.setOriginalEntityCreationTime(experiment.getCreationTime());
+        entity.setCreatedTime(experiment.getCreationTime());
+        entity.setUpdatedTime(experiment.getCreationTime());
+
+        entityEntity = mapper.map(entity, EntityEntity.class);
+        searchResult = new ArrayList<>();
+        for (int i = 0; i < SEARCH_RESULT_SIZE; i++) {
+            EntityEntity result = mapper.map(entity, EntityEntity.class);
+            result.setEntityId(entity.getEntityId() + "_" + i);
+            searchResult.add(result);
+        }
+
+        userProfile = new UserProfile();
+        userProfile.setUserId(experiment.getUserName());
+        userProfile.setGatewayId(experiment.getGatewayId());
+        userProfile.setEmails(Collections.singletonList(experiment.getEmailAddresses().get(0)));
+        userProfile.setFirstName("Gateway");
+        userProfile.setLastName("User");
+        user = ThriftDataModelConversion.getUser(userProfile);
+        user.setFirstName(userProfile.getFirstName());
+        user.setLastName(userProfile.getLastName());
+        user.setCreatedTime(experiment.getCreationTime());
+        user.setUpdatedTime(experiment.getCreationTime());
+    }
+
+    @Benchmark
+    public EntityEntity entityToEntityEntity() {
+        return mapper.map(entity, EntityEntity.class);
+    }
+
+    @Benchmark
+    public Entity entityEntityToEntity() {
+        return mapper.map(entityEntity, Entity.class);
+    }
+
+    @Benchmark
+    public List<Entity> searchResultToEntities() {
+        List<Entity> entities = new ArrayList<>(searchResult.size());
+        searchResult.forEach(result -> entities.add(mapper.map(result, Entity.class)));
+        return entities;
+    }
+
+    @Benchmark
+    public UserEntity userToUserEntity() {
+        return mapper.map(user, UserEntity.class);
+    }
+
+    @Benchmark
+    public User userProfileToUser() {
+        return ThriftDataModelConversion.getUser(userProfile);
+    }
+}
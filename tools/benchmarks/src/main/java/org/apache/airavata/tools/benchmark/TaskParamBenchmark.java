@@ -0,0 +1,92 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.helix.core.AbstractTask;
+import org.apache.airavata.helix.core.OutPort;
+import org.apache.airavata.helix.core.util.TaskUtil;
+import org.apache.airavata.helix.task.api.annotation.TaskOutPort;
+import org.apache.airavata.helix.task.api.annotation.TaskParam;
+import org.apache.airavata.model.process.ProcessModel;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of task parameters to and from the Helix task config map, done for every task when a workflow is
+ * launched and when a participant runs a task. Covers the task types registered in the global participant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskParamBenchmark {
+
+    private static final String TASK_PACKAGE = "org.apache.airavata.helix.impl.task.";
+
+    // task classes of GlobalParticipant, relative to the task package
+    @Param({"env.EnvSetupTask", "staging.InputDataStagingTask", "staging.OutputDataStagingTask",
+            "staging.JobVerificationTask", "completing.CompletingTask", "submission.ForkJobSubmissionTask",
+            "submission.DefaultJobSubmissionTask", "submission.LocalJobSubmissionTask", "staging.ArchiveTask",
+            "cancel.WorkflowCancellationTask", "cancel.RemoteJobCancellationTask", "cancel.CancelCompletingTask",
+            "parsing.DataParsingTask", "mock.MockTask"})
+    private String taskType;
+
+    private Class<? extends AbstractTask> taskClass;
+    private AbstractTask task;
+    private Map<String, String> taskParams;
+
+    @Setup
+    public void setup() throws Exception {
+        ProcessModel process = Fixtures.process();
+        taskClass = Class.forName(TASK_PACKAGE + taskType).asSubclass(AbstractTask.class);
+        task = taskClass.newInstance();
+
+        // every parameter has a value when a workflow is launched
+        for (Class<?> c = taskClass; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                field.setAccessible(true);
+                if (field.isAnnotationPresent(TaskParam.class) && field.get(task) == null) {
+                    field.set(task, process.getTasks().get(0).getTaskId());
+                } else if (field.isAnnotationPresent(TaskOutPort.class)) {
+                    field.set(task, new OutPort(process.getTasks().get(1).getTaskId(), task));
+                }
+            }
+        }
+        taskParams = TaskUtil.serializeTaskData(task);
+    }
+
+    @Benchmark
+    public Map<String, String> serializeTaskData() throws IllegalAccessException {
+        return TaskUtil.serializeTaskData(task);
+    }
+
+    @Benchmark
+    public AbstractTask deserializeTaskData() throws IllegalAccessException, InstantiationException {
+        AbstractTask instance = taskClass.newInstance();
+        TaskUtil.deserializeTaskData(instance, taskParams);
+        return instance;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.model.experiment.ExperimentModel;
+import org.apache.airavata.model.process.ProcessModel;
+import org.apache.airavata.model.task.TaskModel;
+import org.apache.airavata.tools.benchmark.fixture.Fixtures;
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrift (de)serialization of the experiment and process models through {@link ThriftUtils}, the way the models are
+ * put into messages and task parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThriftSerializationBenchmark {
+
+    private ExperimentModel experiment;
+    private ProcessModel process;
+    private byte[] serializedExperiment;
+    private byte[] serializedProcess;
+
+    @Setup
+    public void setup() throws TException {
+        experiment = Fixtures.experiment();
+        process = Fixtures.process();
+        serializedExperiment = ThriftUtils.serializeThriftObject(experiment);
+        serializedProcess = ThriftUtils.serializeThriftObject(process);
+    }
+
+    @Benchmark
+    public byte[] serializeExperiment() throws TException {
+        return ThriftUtils.serializeThriftObject(experiment);
+    }
+
+    @Benchmark
+    public ExperimentModel deserializeExperiment() throws TException {
+        ExperimentModel model = new ExperimentModel();
+        ThriftUtils.createThriftFromBytes(serializedExperiment, model);
+        return model;
+    }
+
+    @Benchmark
+    public byte[] serializeProcess() throws TException {
+        return ThriftUtils.serializeThriftObject(process);
+    }
+
+    @Benchmark
+    public ProcessModel deserializeProcess() throws TException {
+        ProcessModel model = new ProcessModel();
+        ThriftUtils.createThriftFromBytes(serializedProcess, model);
+        return model;
+    }
+
+    @Benchmark
+    public void decodeSubTaskModels(Blackhole blackhole) throws TException {
+        for (TaskModel task : process.getTasks()) {
+            blackhole.consume(ThriftUtils.getSubTaskModel(task));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark;
+
+import org.apache.airavata.helix.core.AbstractTask;
+import org.apache.airavata.helix.core.OutPort;
+import org.apache.airavata.helix.impl.task.mock.MockTask;
+import org.apache.airavata.helix.workflow.WorkflowOperator;
+import org.apache.helix.PropertyPathBuilder;
+import org.apache.helix.manager.zk.ZNRecordSerializer;
+import org.apache.helix.manager.zk.ZkClient;
+import org.apache.helix.tools.ClusterSetup;
+import org.apache.zookeeper.server.ServerCnxnFactory;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workflow launches per second of {@link WorkflowOperator#launchWorkflow} against an embedded ZooKeeper server, which
+ * covers the ZooKeeper writes of submitting a process workflow made of a chain of tasks. Use -t to launch from several
+ * threads as the pre workflow manager does. No controller is running, so the launched workflows are never scheduled.
+ * They are removed after every iteration, because the controller is also what purges expired workflows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WorkflowLaunchBenchmark {
+
+    private static final String CLUSTER_NAME = "AiravataBenchmarkCluster";
+
+    // a single task, and the environment setup, input staging, submission, output staging, archive and completing
+    // chain of a process
+    @Param({"1", "6"})
+    private int tasksPerWorkflow;
+
+    private final AtomicLong processCount = new AtomicLong();
+
+    private File dataDir;
+    private ServerCnxnFactory cnxnFactory;
+    private ZkClient zkClient;
+    private WorkflowOperator operator;
+
+    @Setup(Level.Trial)
+    public void startZooKeeper() throws Exception {
+        dataDir = Files.createTempDirectory("benchmark-zk").toFile();
+        ZooKeeperServer zkServer = new ZooKeeperServer(dataDir, dataDir, 2000);
+        cnxnFactory = ServerCnxnFactory.createFactory(new InetSocketAddress("localhost", 0), 1000);
+        cnxnFactory.startup(zkServer);
+
+        String zkAddress = "localhost:" + cnxnFactory.getLocalPort();
+        zkClient = new ZkClient(zkAddress, ZkClient.DEFAULT_SESSION_TIMEOUT, ZkClient.DEFAULT_CONNECTION_TIMEOUT,
+                new ZNRecordSerializer());
+        new ClusterSetup(zkClient).addCluster(CLUSTER_NAME, true);
+        operator = new WorkflowOperator(CLUSTER_NAME, "benchmark-launcher", zkAddress);
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeWorkflows() {
+        for (String parent : new String[]{PropertyPathBuilder.idealState(CLUSTER_NAME),
+                PropertyPathBuilder.resourceConfig(CLUSTER_NAME), PropertyPathBuilder.propertyStore(CLUSTER_NAME)}) {
+            for (String child : zkClient.getChildren(parent)) {
+                zkClient.deleteRecursive(parent + "/" + child);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopZooKeeper() {
+        operator.disconnect();
+        zkClient.close();
+        cnxnFactory.shutdown();
+        deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public String launchWorkflow() throws Exception {
+        String processId = "PROCESS_" + processCount.incrementAndGet();
+        List<AbstractTask> tasks = new ArrayList<>(tasksPerWorkflow);
+        for (int i = 0; i < tasksPerWorkflow; i++) {
+            MockTask task = new MockTask();
+            task.setTaskId(processId + "_TASK_" + i);
+            if (i > 0) {
+                tasks.get(i - 1).setNextTask(new OutPort(task.getTaskId(), tasks.get(i - 1)));
+            }
+            tasks.add(task);
+        }
+        return operator.launchWorkflow(processId, tasks, true, false);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark.fixture;
+
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.model.appcatalog.computeresource.JobSubmissionProtocol;
+import org.apache.airavata.model.appcatalog.computeresource.MonitorMode;
+import org.apache.airavata.model.application.io.DataType;
+import org.apache.airavata.model.application.io.InputDataObjectType;
+import org.apache.airavata.model.application.io.OutputDataObjectType;
+import org.apache.airavata.model.commons.ErrorModel;
+import org.apache.airavata.model.data.movement.SecurityProtocol;
+import org.apache.airavata.model.experiment.ExperimentModel;
+import org.apache.airavata.model.experiment.ExperimentType;
+import org.apache.airavata.model.experiment.UserConfigurationDataModel;
+import org.apache.airavata.model.job.JobModel;
+import org.apache.airavata.model.process.ProcessModel;
+import org.apache.airavata.model.scheduling.ComputationalResourceSchedulingModel;
+import org.apache.airavata.model.status.*;
+import org.apache.airavata.model.task.*;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TJSONProtocol;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Generates the fixture files used by the benchmarks. The data is shaped after a typical single application
+ * experiment (a dozen inputs, a handful of outputs, the complete status history of a finished run) and the status
+ * listings of a busy community account. A fixed seed is used, so running the generator again gives the same files.
+ * <p>
+ * Usage: FixtureGenerator &lt;output directory&gt; (the fixtures are read from src/main/resources/fixtures)
+ */
+public class FixtureGenerator {
+
+    private static final long SEED = 20180601L;
+    private static final long START_TIME = 1527811200000L;
+
+    private static final int INPUT_COUNT = 12;
+    private static final int OUTPUT_COUNT = 6;
+    private static final int LISTED_JOB_COUNT = 500;
+    private static final int MONITORED_JOB_COUNT = 20;
+
+    private static final String GATEWAY_ID = "default";
+    private static final String USER_NAME = "gwuser";
+    private static final String COMMUNITY_USER = "gwcomm";
+    private static final String COMPUTE_RESOURCE_ID = "comet.sdsc.edu_0b7bc2f3-d4e6-47d6-ba3c-9cd6a4b4a1d1";
+    private static final String STORAGE_RESOURCE_ID = "gateway.example.org_7b5ad5e4-3f64-4c4d-9a1b-6f2d3f1c0a5e";
+
+    private final Random random = new Random(SEED);
+    private long time = START_TIME;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: FixtureGenerator <output directory>");
+            System.exit(1);
+        }
+        File outputDir = new File(args[0]);
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create the output directory " + outputDir);
+        }
+        new FixtureGenerator().generate(outputDir);
+    }
+
+    private void generate(File outputDir) throws Exception {
+        ExperimentModel experiment = experiment();
+        write(outputDir, Fixtures.EXPERIMENT, toJson(experiment));
+        write(outputDir, Fixtures.PROCESS, toJson(experiment.getProcesses().get(0)));
+
+        for (Fixtures.Scheduler scheduler : Fixtures.Scheduler.values()) {
+            List<String[]> jobs = new ArrayList<>();
+            for (int i = 0; i < LISTED_JOB_COUNT; i++) {
+                // job id, job name (airavata names jobs A followed by digits) and a scheduler state
+                jobs.add(new String[]{String.valueOf(4211000 + i * 7 + random.nextInt(7)), "A" + (100000000 + random.nextInt(900000000)),
+                        scheduler.states[random.nextInt(scheduler.states.length)]});
+            }
+            write(outputDir, scheduler.listingFile, listing(scheduler, jobs));
+
+            StringBuilder monitored = new StringBuilder();
+            for (int i = 0; i < MONITORED_JOB_COUNT; i++) {
+                String[] job = jobs.get(random.nextInt(jobs.size()));
+                monitored.append(job[0]).append(',').append(job[1]).append('\n');
+            }
+            write(outputDir, scheduler.monitoredJobsFile, monitored.toString());
+        }
+    }
+
+    private ExperimentModel experiment() throws TException {
+        String experimentId = "Gaussian_on_Comet_" + UUID.nameUUIDFromBytes(bytes(16)).toString();
+        ExperimentModel experiment = new ExperimentModel();
+        experiment.setExperimentId(experimentId);
+        experiment.setProjectId("Default_Project_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        experiment.setGatewayId(GATEWAY_ID);
+        experiment.setExperimentType(ExperimentType.SINGLE_APPLICATION);
+        experiment.setUserName(USER_NAME);
+        experiment.setExperimentName("Gaussian on Comet " + time);
+        experiment.setCreationTime(time);
+        experiment.setDescription("Geometry optimization of a water cluster using B3LYP/6-31G(d)");
+        experiment.setExecutionId("Gaussian_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        experiment.setGatewayExecutionId(experiment.getExecutionId());
+        experiment.setGatewayInstanceId(GATEWAY_ID);
+        experiment.setEnableEmailNotification(true);
+        experiment.setEmailAddresses(Arrays.asList(USER_NAME + "@example.org", "gateway-admin@example.org"));
+
+        UserConfigurationDataModel userConfiguration = new UserConfigurationDataModel();
+        userConfiguration.setAiravataAutoSchedule(false);
+        userConfiguration.setOverrideManualScheduledParams(false);
+        userConfiguration.setShareExperimentPublicly(false);
+        userConfiguration.setComputationalResourceScheduling(scheduling());
+        userConfiguration.setStorageId(STORAGE_RESOURCE_ID);
+        userConfiguration.setExperimentDataDir("/var/www/portals/gateway-user-data/" + USER_NAME + "/Default_Project/" + experimentId);
+        userConfiguration.setUseUserCRPref(false);
+        experiment.setUserConfigurationData(userConfiguration);
+
+        experiment.setExperimentInputs(inputs());
+        experiment.setExperimentOutputs(outputs());
+        experiment.setExperimentStatus(new ArrayList<>());
+        for (ExperimentState state : new ExperimentState[]{ExperimentState.CREATED, ExperimentState.VALIDATED,
+                ExperimentState.SCHEDULED, ExperimentState.LAUNCHED, ExperimentState.EXECUTING, ExperimentState.COMPLETED}) {
+            ExperimentStatus status = new ExperimentStatus(state);
+            status.setTimeOfStateChange(tick());
+            status.setReason("Experiment moved to " + state + " state");
+            experiment.getExperimentStatus().add(status);
+        }
+        experiment.setErrors(Collections.singletonList(error("Job exited with warnings, see the job output for details")));
+        experiment.setProcesses(Collections.singletonList(process(experiment)));
+        return experiment;
+    }
+
+    private ProcessModel process(ExperimentModel experiment) throws TException {
+        ProcessModel process = new ProcessModel();
+        process.setProcessId("PROCESS_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        process.setExperimentId(experiment.getExperimentId());
+        process.setCreationTime(tick());
+        process.setApplicationInterfaceId("Gaussian_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        process.setApplicationDeploymentId(COMPUTE_RESOURCE_ID + "_Gaussian_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        process.setComputeResourceId(COMPUTE_RESOURCE_ID);
+        process.setProcessInputs(experiment.getExperimentInputs());
+        process.setProcessOutputs(experiment.getExperimentOutputs());
+        process.setProcessResourceSchedule(scheduling());
+        process.setGatewayExecutionId(experiment.getGatewayExecutionId());
+        process.setEnableEmailNotification(true);
+        process.setEmailAddresses(experiment.getEmailAddresses());
+        process.setStorageResourceId(STORAGE_RESOURCE_ID);
+        process.setUserDn(USER_NAME);
+        process.setGenerateCert(false);
+        process.setExperimentDataDir(experiment.getUserConfigurationData().getExperimentDataDir());
+        process.setUserName(USER_NAME);
+        process.setUseUserCRPref(false);
+
+        List<TaskModel> tasks = new ArrayList<>();
+        EnvironmentSetupTaskModel envSetup = new EnvironmentSetupTaskModel("/oasis/scratch/comet/" + COMMUNITY_USER
+                + "/temp_project/" + process.getProcessId(), SecurityProtocol.SSH_KEYS);
+        tasks.add(task(process, TaskTypes.ENV_SETUP, envSetup));
+        for (InputDataObjectType input : process.getProcessInputs()) {
+            if (input.getType() == DataType.URI) {
+                DataStagingTaskModel staging = new DataStagingTaskModel(input.getValue(),
+                        envSetup.getLocation() + "/" + input.getValue().substring(input.getValue().lastIndexOf('/') + 1), DataStageType.INPUT);
+                staging.setProcessInput(input);
+                tasks.add(task(process, TaskTypes.DATA_STAGING, staging));
+            }
+        }
+        JobSubmissionTaskModel jobSubmission = new JobSubmissionTaskModel(JobSubmissionProtocol.SSH, MonitorMode.JOB_EMAIL_NOTIFICATION_MONITOR);
+        jobSubmission.setWallTime(120);
+        TaskModel jobSubmissionTask = task(process, TaskTypes.JOB_SUBMISSION, jobSubmission);
+        jobSubmissionTask.setJobs(Collections.singletonList(job(process, jobSubmissionTask, envSetup.getLocation())));
+        tasks.add(jobSubmissionTask);
+        tasks.add(task(process, TaskTypes.MONITORING, new MonitorTaskModel(MonitorMode.JOB_EMAIL_NOTIFICATION_MONITOR)));
+        for (OutputDataObjectType output : process.getProcessOutputs()) {
+            DataStagingTaskModel staging = new DataStagingTaskModel(envSetup.getLocation() + "/" + output.getValue(),
+                    process.getExperimentDataDir() + "/" + output.getValue(), DataStageType.OUPUT);
+            staging.setProcessOutput(output);
+            tasks.add(task(process, TaskTypes.DATA_STAGING, staging));
+        }
+        process.setTasks(tasks);
+
+        StringBuilder taskDag = new StringBuilder();
+        for (TaskModel task : tasks) {
+            taskDag.append(taskDag.length() == 0 ? "" : ",").append(task.getTaskId());
+        }
+        process.setTaskDag(taskDag.toString());
+
+        process.setProcessStatuses(new ArrayList<>());
+        for (ProcessState state : new ProcessState[]{ProcessState.CREATED, ProcessState.VALIDATED, ProcessState.STARTED,
+                ProcessState.PRE_PROCESSING, ProcessState.CONFIGURING_WORKSPACE, ProcessState.INPUT_DATA_STAGING,
+                ProcessState.EXECUTING, ProcessState.MONITORING, ProcessState.OUTPUT_DATA_STAGING,
+                ProcessState.POST_PROCESSING, ProcessState.COMPLETED}) {
+            ProcessStatus status = new ProcessStatus(state);
+            status.setTimeOfStateChange(tick());
+            process.getProcessStatuses().add(status);
+        }
+        process.setLastUpdateTime(time);
+        return process;
+    }
+
+    private TaskModel task(ProcessModel process, TaskTypes type, TBase subTaskModel) throws TException {
+        TaskModel task = new TaskModel();
+        task.setTaskId("TASK_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        task.setTaskType(type);
+        task.setParentProcessId(process.getProcessId());
+        task.setCreationTime(tick());
+        task.setTaskDetail(type + " task of process " + process.getProcessId());
+        task.setSubTaskModel(ThriftUtils.serializeThriftObject(subTaskModel));
+        task.setMaxRetry(3);
+        task.setCurrentRetry(0);
+        task.setTaskStatuses(new ArrayList<>());
+        for (TaskState state : new TaskState[]{TaskState.CREATED, TaskState.EXECUTING, TaskState.COMPLETED}) {
+            TaskStatus status = new TaskStatus(state);
+            status.setTimeOfStateChange(tick());
+            task.getTaskStatuses().add(status);
+        }
+        task.setLastUpdateTime(time);
+        return task;
+    }
+
+    private JobModel job(ProcessModel process, TaskModel task, String workingDir) {
+        JobModel job = new JobModel();
+        job.setJobId(String.valueOf(4211000 + random.nextInt(100000)));
+        job.setTaskId(task.getTaskId());
+        job.setProcessId(process.getProcessId());
+        job.setJobName("A" + (100000000 + random.nextInt(900000000)));
+        job.setWorkingDir(workingDir);
+        job.setStdOut(workingDir + "/Gaussian.stdout");
+        job.setStdErr(workingDir + "/Gaussian.stderr");
+        job.setExitCode(0);
+        job.setComputeResourceConsumed("comet-14-07");
+        job.setCreationTime(tick());
+        job.setJobDescription(jobScript(job, workingDir));
+        job.setJobStatuses(new ArrayList<>());
+        for (JobState state : new JobState[]{JobState.SUBMITTED, JobState.QUEUED, JobState.ACTIVE, JobState.COMPLETE}) {
+            JobStatus status = new JobStatus(state);
+            status.setTimeOfStateChange(tick());
+            status.setReason("Job status changed to " + state);
+            job.getJobStatuses().add(status);
+        }
+        return job;
+    }
+
+    private String jobScript(JobModel job, String workingDir) {
+        return "#!/bin/bash\n" +
+                "#SBATCH -p compute\n" +
+                "#SBATCH -N 1\n" +
+                "#SBATCH --ntasks-per-node=24\n" +
+                "#SBATCH -t 02:00:00\n" +
+                "#SBATCH -J " + job.getJobName() + "\n" +
+                "#SBATCH -A TG-CHE000000\n" +
+                "#SBATCH --mail-user=" + USER_NAME + "@example.org\n" +
+                "#SBATCH --mail-type=ALL\n" +
+                "#SBATCH -o " + job.getStdOut() + "\n" +
+                "#SBATCH -e " + job.getStdErr() + "\n" +
+                "export GAUSS_SCRDIR=/scratch/$USER/$SLURM_JOBID\n" +
+                "module load gaussian/09.E.01\n" +
+                "cd " + workingDir + "\n" +
+                "g09 < " + workingDir + "/water_cluster.com > " + workingDir + "/water_cluster.log\n";
+    }
+
+    private ComputationalResourceSchedulingModel scheduling() {
+        ComputationalResourceSchedulingModel scheduling = new ComputationalResourceSchedulingModel();
+        scheduling.setResourceHostId(COMPUTE_RESOURCE_ID);
+        scheduling.setTotalCPUCount(24);
+        scheduling.setNodeCount(1);
+        scheduling.setNumberOfThreads(0);
+        scheduling.setQueueName("compute");
+        scheduling.setWallTimeLimit(120);
+        scheduling.setTotalPhysicalMemory(0);
+        scheduling.setOverrideAllocationProjectNumber("TG-CHE000000");
+        return scheduling;
+    }
+
+    private List<InputDataObjectType> inputs() {
+        List<InputDataObjectType> inputs = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            InputDataObjectType input = new InputDataObjectType("Input-" + (i + 1));
+            boolean file = i < 3;
+            input.setType(file ? DataType.URI : (i % 3 == 0 ? DataType.INTEGER : DataType.STRING));
+            input.setValue(file ? "airavata-dp://" + UUID.nameUUIDFromBytes(bytes(16)).toString() + "/water_cluster_" + i + ".com"
+                    : (input.getType() == DataType.INTEGER ? String.valueOf(random.nextInt(1000)) : "opt freq b3lyp/6-31g(d)"));
+            input.setApplicationArgument(file ? "-i" : "--param" + i);
+            input.setStandardInput(false);
+            input.setUserFriendlyDescription("Input " + (i + 1) + " of the Gaussian application");
+            input.setMetaData("{\"editor\": {\"ui-component-id\": \"string-input-editor\"}}");
+            input.setInputOrder(i);
+            input.setIsRequired(i < 6);
+            input.setRequiredToAddedToCommandLine(true);
+            input.setDataStaged(false);
+            input.setStorageResourceId(STORAGE_RESOURCE_ID);
+            input.setIsReadOnly(false);
+            inputs.add(input);
+        }
+        return inputs;
+    }
+
+    private List<OutputDataObjectType> outputs() {
+        List<OutputDataObjectType> outputs = new ArrayList<>();
+        String[] names = {"Gaussian-Application-Output", "Gaussian_Checkpoint_File", "Gaussian-Standard-Out",
+                "Gaussian-Standard-Error", "Gaussian_Formatted_Checkpoint", "Gaussian-Cube-File"};
+        for (int i = 0; i < OUTPUT_COUNT; i++) {
+            OutputDataObjectType output = new OutputDataObjectType(names[i % names.length]);
+            output.setType(i == 2 ? DataType.STDOUT : (i == 3 ? DataType.STDERR : DataType.URI));
+            output.setValue("water_cluster_" + i + (i == 2 ? ".stdout" : (i == 3 ? ".stderr" : ".log")));
+            output.setIsRequired(false);
+            output.setRequiredToAddedToCommandLine(false);
+            output.setDataMovement(true);
+            output.setLocation("");
+            output.setSearchQuery("");
+            output.setOutputStreaming(false);
+            output.setStorageResourceId(STORAGE_RESOURCE_ID);
+            outputs.add(output);
+        }
+        return outputs;
+    }
+
+    private ErrorModel error(String message) {
+        ErrorModel error = new ErrorModel();
+        error.setErrorId("ERROR_" + UUID.nameUUIDFromBytes(bytes(16)).toString());
+        error.setCreationTime(tick());
+        error.setActualErrorMessage(message);
+        error.setUserFriendlyMessage(message);
+        error.setTransientOrPersistent(false);
+        return error;
+    }
+
+    private String listing(Fixtures.Scheduler scheduler, List<String[]> jobs) {
+        StringBuilder listing = new StringBuilder();
+        switch (scheduler) {
+            case SLURM:
+                listing.append("             JOBID PARTITION     NAME     USER ST       TIME  NODES NODELIST(REASON)\n");
+                for (String[] job : jobs) {
+                    boolean running = job[2].equals("R") || job[2].equals("CG");
+                    listing.append(String.format("%18s %9s %8s %8s %2s %10s %6d %s%n", job[0], "compute",
+                            job[1].substring(0, 8), COMMUNITY_USER, job[2], running ? (random.nextInt(60) + ":" + String.format("%02d", random.nextInt(60))) : "0:00",
+                            1 + random.nextInt(4), running ? "comet-" + (10 + random.nextInt(20)) + "-" + String.format("%02d", random.nextInt(72)) : "(Priority)"));
+                }
+                break;
+            case PBS:
+                listing.append("\nbatch.example.org:\n" +
+                        "                                                                         Req'd    Req'd       Elap\n" +
+                        "Job ID                  Username    Queue    Jobname          SessID  NDS   TSK   Memory   Time    S   Time\n" +
+                        "----------------------- ----------- -------- ---------------- ------ ----- ------ ------ --------- - ---------\n");
+                for (String[] job : jobs) {
+                    boolean queued = job[2].equals("Q");
+                    listing.append(String.format("%-23s %-11s %-8s %-16s %6s %5d %6d %6s %9s %s %9s%n", job[0] + ".batch.example.org",
+                            COMMUNITY_USER, "normal", job[1], queued ? "--" : String.valueOf(10000 + random.nextInt(50000)),
+                            1 + random.nextInt(4), 16, "--", "02:00:00", job[2], queued ? "--" : String.format("%02d:%02d:%02d", random.nextInt(2), random.nextInt(60), random.nextInt(60))));
+                }
+                break;
+            case LSF:
+                listing.append("JOBID   USER    STAT  QUEUE      FROM_HOST   EXEC_HOST   JOB_NAME   SUBMIT_TIME\n");
+                for (String[] job : jobs) {
+                    listing.append(String.format("%-7s %-7s %-5s %-10s %-11s %-11s %-10s %s%n", job[0], COMMUNITY_USER, job[2], "long",
+                            "ghpcc06", job[2].equals("PEND") ? "" : "c" + (10 + random.nextInt(20)) + "b0" + random.nextInt(10),
+                            job[1].length() > 10 ? "*" + job[1].substring(job[1].length() - 9) : job[1], "Jun  1 00:" + String.format("%02d", random.nextInt(60))));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scheduler " + scheduler);
+        }
+        return listing.toString();
+    }
+
+    private long tick() {
+        time += 1000 + random.nextInt(60000);
+        return time;
+    }
+
+    private byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String toJson(TBase object) throws TException {
+        return new String(new TSerializer(new TJSONProtocol.Factory()).serialize(object), StandardCharsets.UTF_8);
+    }
+
+    private static void write(File outputDir, String fileName, String content) throws IOException {
+        Files.write(new File(outputDir, fileName).toPath(), content.getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + new File(outputDir, fileName));
+    }
+}
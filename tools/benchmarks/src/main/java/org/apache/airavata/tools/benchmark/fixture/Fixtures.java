@@ -0,0 +1,115 @@
+/*
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.airavata.tools.benchmark.fixture;
+
+import org.apache.airavata.model.experiment.ExperimentModel;
+import org.apache.airavata.model.process.ProcessModel;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TJSONProtocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the fixture files written by {@link FixtureGenerator} from the classpath.
+ */
+public class Fixtures {
+
+    public static final String EXPERIMENT = "experiment.json";
+    public static final String PROCESS = "process.json";
+
+    private static final String FIXTURE_DIR = "fixtures/";
+
+    public enum Scheduler {
+        SLURM("squeue.txt", "squeue-monitored-jobs.txt", "PD", "R", "R", "R", "CG"),
+        PBS("qstat.txt", "qstat-monitored-jobs.txt", "Q", "R", "R", "R", "E", "C", "H"),
+        LSF("bjobs.txt", "bjobs-monitored-jobs.txt", "PEND", "RUN", "RUN", "RUN", "DONE", "EXIT");
+
+        final String listingFile;
+        final String monitoredJobsFile;
+        final String[] states;
+
+        Scheduler(String listingFile, String monitoredJobsFile, String... states) {
+            this.listingFile = listingFile;
+            this.monitoredJobsFile = monitoredJobsFile;
+            this.states = states;
+        }
+    }
+
+    public static ExperimentModel experiment() {
+        return read(EXPERIMENT, new ExperimentModel());
+    }
+
+    public static ProcessModel process() {
+        return read(PROCESS, new ProcessModel());
+    }
+
+    /**
+     * @return the job status listing of a community account as printed by the scheduler
+     */
+    public static String statusListing(Scheduler scheduler) {
+        return read(scheduler.listingFile);
+    }
+
+    /**
+     * @return "job id,job name" of a few jobs in the status listing, the keys used when monitoring jobs by name
+     */
+    public static List<String> monitoredJobs(Scheduler scheduler) {
+        List<String> jobs = new ArrayList<>();
+        for (String line : read(scheduler.monitoredJobsFile).split("\n")) {
+            if (!line.isEmpty()) {
+                jobs.add(line);
+            }
+        }
+        return jobs;
+    }
+
+    private static <T extends TBase> T read(String fileName, T object) {
+        try {
+            new TDeserializer(new TJSONProtocol.Factory()).deserialize(object, read(fileName).getBytes(StandardCharsets.UTF_8));
+            return object;
+        } catch (TException e) {
+            throw new IllegalStateException("Invalid fixture " + fileName, e);
+        }
+    }
+
+    private static String read(String fileName) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(FIXTURE_DIR + fileName)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture " + fileName + " not found, run FixtureGenerator to create it");
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                content.write(buffer, 0, read);
+            }
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
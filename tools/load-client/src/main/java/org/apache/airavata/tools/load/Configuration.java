@@ -25,8 +25,13 @@ public class Configuration {
     private int iterationsPerUser;
     private int randomMSDelayWithinSubmissions;
 
+    // URI inputs are uploaded from the local paths given as their values unless disabled
+    private boolean uploadInputs = true;
     private List<Input> inputs = new ArrayList<>();
 
+    // runs an open loop scenario instead of the concurrent users when given
+    private Scenario scenario;
+
     public String getUserId() {
         return userId;
     }
@@ -147,6 +152,22 @@ public class Configuration {
         this.randomMSDelayWithinSubmissions = randomMSDelayWithinSubmissions;
     }
 
+    public boolean isUploadInputs() {
+        return uploadInputs;
+    }
+
+    public void setUploadInputs(boolean uploadInputs) {
+        this.uploadInputs = uploadInputs;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public void setScenario(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
     public List<Input> getInputs() {
         return inputs;
     }
@@ -0,0 +1,155 @@
+package org.apache.airavata.tools.load;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram with microsecond resolution. As in HdrHistogram, every power of two range of values is
+ * split into 64 linear buckets, so that any recorded value is reported within 1/64 (1.6%) of its actual value while
+ * the histogram stays at a fixed size of a few thousand counters. The percentile distribution is written in the
+ * HdrHistogram text format, so the output can be plotted with the HdrHistogram plotter.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE_VALUE = (1L << 42) - 1;
+    private static final int PERCENTILE_TICKS_PER_HALF_DISTANCE = 5;
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(MAX_TRACKABLE_VALUE) + 1);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    private static int bucketIndex(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public void recordNanos(long nanos) {
+        recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Records a value in microseconds
+     */
+    public void recordValue(long value) {
+        value = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * Returns the largest value that the given percent of the recorded values are less than or equal to
+     */
+    public long getValueAtPercentile(double percentile) {
+        return valueAtPercentile(snapshot(), percentile);
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    private static long total(long[] snapshot) {
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        return total;
+    }
+
+    private long valueAtPercentile(long[] snapshot, double percentile) {
+        long total = total(snapshot);
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            count += snapshot[i];
+            if (count >= countAtPercentile) {
+                return Math.min(highestEquivalentValue(i), getMaxValue());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes the percentile distribution in the format of HdrHistogram's outputPercentileDistribution
+     *
+     * @param outputValueUnitScalingRatio values are divided by this before printing, 1000.0 prints milliseconds
+     */
+    public void outputPercentileDistribution(PrintStream out, double outputValueUnitScalingRatio) {
+        long[] snapshot = snapshot();
+        long total = total(snapshot);
+
+        out.format("%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+
+        if (total > 0) {
+            double percentile = 0;
+            int index = 0;
+            long count = snapshot[0];
+            while (true) {
+                long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+                while (count < countAtPercentile) {
+                    count += snapshot[++index];
+                }
+                if (count >= total) {
+                    break;
+                }
+                out.format("%12.3f %2.12f %10d %14.2f%n", Math.min(highestEquivalentValue(index), getMaxValue()) / outputValueUnitScalingRatio,
+                        percentile / 100.0, count, 1 / (1 - percentile / 100.0));
+
+                // ticks get finer as the percentile gets closer to 100, halving the remaining distance every 5 ticks
+                long halfDistance = (long) Math.pow(2, (long) (Math.log(100.0 / (100.0 - percentile)) / Math.log(2)) + 1);
+                percentile += 100.0 / (PERCENTILE_TICKS_PER_HALF_DISTANCE * halfDistance);
+            }
+            out.format("%12.3f %2.12f %10d%n", getMaxValue() / outputValueUnitScalingRatio, 1.0, total);
+        }
+
+        double mean = 0;
+        double variance = 0;
+        if (total > 0) {
+            mean = getMean();
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] > 0) {
+                    double deviation = Math.min(highestEquivalentValue(i), getMaxValue()) - mean;
+                    variance += deviation * deviation * snapshot[i];
+                }
+            }
+            variance /= total;
+        }
+        out.format("#[Mean    = %12.3f, StdDeviation   = %12.3f]%n", mean / outputValueUnitScalingRatio,
+                Math.sqrt(variance) / outputValueUnitScalingRatio);
+        out.format("#[Max     = %12.3f, Total count    = %12d]%n", getMaxValue() / outputValueUnitScalingRatio, total);
+        out.format("#[Buckets = %12d, SubBuckets     = %12d]%n", snapshot.length / SUB_BUCKET_COUNT, SUB_BUCKET_COUNT);
+    }
+}
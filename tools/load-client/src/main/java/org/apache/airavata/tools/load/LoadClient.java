@@ -60,6 +60,13 @@ public class LoadClient {
                     securityManager.getTrustStorePath(), securityManager.getTrustStorePassword(),
                     storageResourceManagerStore.get(configuration.getStorageResourceId()), mockAuthzToken);
 
+            if (configuration.getScenario() != null) {
+                new ScenarioRunner(configurations.getApiHost(), configurations.getApiPort(),
+                        securityManager.getTrustStorePath(), securityManager.getTrustStorePassword(),
+                        configuration, unitLoad, mockAuthzToken).run();
+                continue;
+            }
+
             StatusMonitor statusMonitor = new StatusMonitor(configurations.getApiHost(), configurations.getApiPort(),
                     securityManager.getTrustStorePath(), securityManager.getTrustStorePassword(), mockAuthzToken);
 
@@ -88,7 +95,7 @@ public class LoadClient {
         for (Configuration configuration : configurations.getConfigurations()) {
             String storageResourceId = configuration.getStorageResourceId();
 
-            if (!storageResourceManagerStore.containsKey(storageResourceId)) {
+            if (configuration.isUploadInputs() && !storageResourceManagerStore.containsKey(storageResourceId)) {
                 StorageResourceDescription storageResource = airavataClient.getStorageResource(new AuthzToken(""), storageResourceId);
                 StoragePreference gatewayStoragePreference = airavataClient.getGatewayStoragePreference(new AuthzToken(""), configuration.getGatewayId(), storageResourceId);
                 StorageResourceManager storageResourceManager = new StorageResourceManager(gatewayStoragePreference, storageResource, privateKeyFile, publicKeyFile, passPhrase);
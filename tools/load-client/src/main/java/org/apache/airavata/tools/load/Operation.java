@@ -0,0 +1,15 @@
+package org.apache.airavata.tools.load;
+
+/**
+ * API operations of an open loop {@link Scenario}
+ */
+public enum Operation {
+    // searchExperiments by the experiment base name
+    SEARCH,
+    // getExperiment of one of the experiments created so far
+    GET,
+    // cloneExperiment of the template experiment
+    CLONE,
+    // cloneExperiment of the template experiment followed by launchExperiment of the clone
+    LAUNCH
+}
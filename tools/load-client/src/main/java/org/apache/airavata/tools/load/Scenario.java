@@ -0,0 +1,175 @@
+package org.apache.airavata.tools.load;
+
+/**
+ * Open loop load of a {@link Configuration}. Requests arrive at the given rate no matter how fast the earlier ones
+ * are served, and each request is one of the API operations picked at random by the weights of the mix
+ */
+public class Scenario {
+
+    public enum ArrivalProcess {
+        // exponentially distributed gaps between the requests
+        POISSON,
+        // equal gaps between the requests
+        CONSTANT
+    }
+
+    // requests per second
+    private double arrivalRate = 10;
+    private ArrivalProcess arrivalProcess = ArrivalProcess.POISSON;
+    // measured time, after the warm up
+    private int durationSeconds = 300;
+    private int warmupSeconds = 30;
+    private int workerThreads = 64;
+    // requests arriving while this many are in progress are dropped and counted, to protect the client
+    private int maxOutstandingRequests = 10000;
+    private int searchPageSize = 20;
+    private boolean trackCompletion = true;
+    private int completionTimeoutSeconds = 600;
+    private String reportDirectory = ".";
+    private Mix mix = new Mix();
+
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public void setArrivalRate(double arrivalRate) {
+        this.arrivalRate = arrivalRate;
+    }
+
+    public ArrivalProcess getArrivalProcess() {
+        return arrivalProcess;
+    }
+
+    public void setArrivalProcess(ArrivalProcess arrivalProcess) {
+        this.arrivalProcess = arrivalProcess;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public void setWarmupSeconds(int warmupSeconds) {
+        this.warmupSeconds = warmupSeconds;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        this.maxOutstandingRequests = maxOutstandingRequests;
+    }
+
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    public boolean isTrackCompletion() {
+        return trackCompletion;
+    }
+
+    public void setTrackCompletion(boolean trackCompletion) {
+        this.trackCompletion = trackCompletion;
+    }
+
+    public int getCompletionTimeoutSeconds() {
+        return completionTimeoutSeconds;
+    }
+
+    public void setCompletionTimeoutSeconds(int completionTimeoutSeconds) {
+        this.completionTimeoutSeconds = completionTimeoutSeconds;
+    }
+
+    public String getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public void setReportDirectory(String reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+
+    public Mix getMix() {
+        return mix;
+    }
+
+    public void setMix(Mix mix) {
+        this.mix = mix;
+    }
+
+    /**
+     * Relative weights of the operations
+     */
+    public static class Mix {
+        private int search = 40;
+        private int get = 40;
+        private int clone = 15;
+        private int launch = 5;
+
+        public int getSearch() {
+            return search;
+        }
+
+        public void setSearch(int search) {
+            this.search = search;
+        }
+
+        public int getGet() {
+            return get;
+        }
+
+        public void setGet(int get) {
+            this.get = get;
+        }
+
+        public int getClone() {
+            return clone;
+        }
+
+        public void setClone(int clone) {
+            this.clone = clone;
+        }
+
+        public int getLaunch() {
+            return launch;
+        }
+
+        public void setLaunch(int launch) {
+            this.launch = launch;
+        }
+
+        int weightOf(Operation operation) {
+            switch (operation) {
+                case SEARCH:
+                    return search;
+                case GET:
+                    return get;
+                case CLONE:
+                    return clone;
+                case LAUNCH:
+                    return launch;
+                default:
+                    return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package org.apache.airavata.tools.load;
+
+import org.apache.airavata.api.Airavata;
+import org.apache.airavata.api.client.AiravataClientFactory;
+import org.apache.airavata.common.utils.ThriftUtils;
+import org.apache.airavata.model.error.InvalidRequestException;
+import org.apache.airavata.model.experiment.ExperimentSearchFields;
+import org.apache.airavata.model.experiment.ExperimentSummaryModel;
+import org.apache.airavata.model.messaging.event.ExperimentStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.Message;
+import org.apache.airavata.model.messaging.event.MessageType;
+import org.apache.airavata.model.security.AuthzToken;
+import org.apache.airavata.model.status.ExperimentState;
+import org.apache.thrift.TException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the open loop {@link Scenario} of a configuration. Requests are handed to a pool of workers at their scheduled
+ * arrival times and their response times are measured from the scheduled times instead of from the time a worker
+ * picked them, so that the time requests wait behind a slow server is not left out of the percentiles (coordinated
+ * omission). The time spent in the API call alone is reported separately as the service time.
+ * <p>
+ * Launched experiments are followed through the status changes of the user and the time from the launch to the
+ * completion of each experiment is reported too.
+ */
+public class ScenarioRunner {
+
+    // recently created experiments that GET requests pick from
+    private static final int KNOWN_EXPERIMENTS = 1000;
+    private static final int REPORTED_ERRORS = 10;
+
+    private final String apiHost;
+    private final int apiPort;
+    private final String trustStorePath;
+    private final String trustStorePassword;
+    private final Configuration configuration;
+    private final Scenario scenario;
+    private final UnitLoad unitLoad;
+    private final AuthzToken authzToken;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Operation, LatencyHistogram> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, LatencyHistogram> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder droppedRequests = new LongAdder();
+    private final AtomicInteger reportedErrors = new AtomicInteger();
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+    private final LatencyHistogram completionTimes = new LatencyHistogram();
+    private final Map<ExperimentState, LongAdder> completionStates = new ConcurrentHashMap<>();
+    // measured launches that are not completed yet, by the scheduled time of the launch
+    private final ConcurrentMap<String, Long> launchedExperiments = new ConcurrentHashMap<>();
+    private volatile boolean trackingCompletion;
+
+    private final AtomicReferenceArray<String> knownExperiments = new AtomicReferenceArray<>(KNOWN_EXPERIMENTS);
+    private final AtomicLong knownExperimentCount = new AtomicLong();
+    private final AtomicLong experimentCounter = new AtomicLong();
+    private final ThreadLocal<Airavata.Client> clients = new ThreadLocal<>();
+    private String templateExperimentId;
+
+    public ScenarioRunner(String apiHost, int apiPort, String trustStorePath, String trustStorePassword,
+                          Configuration configuration, UnitLoad unitLoad, AuthzToken authzToken) {
+        this.apiHost = apiHost;
+        this.apiPort = apiPort;
+        this.trustStorePath = trustStorePath;
+        this.trustStorePassword = trustStorePassword;
+        this.configuration = configuration;
+        this.scenario = configuration.getScenario();
+        this.unitLoad = unitLoad;
+        this.authzToken = authzToken;
+
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new LatencyHistogram());
+            serviceTimes.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void run() throws Exception {
+
+        Operation[] operations = Operation.values();
+        int[] cumulativeWeights = new int[operations.length];
+        int totalWeight = 0;
+        for (int i = 0; i < operations.length; i++) {
+            totalWeight += Math.max(0, scenario.getMix().weightOf(operations[i]));
+            cumulativeWeights[i] = totalWeight;
+        }
+        if (totalWeight == 0 || scenario.getArrivalRate() <= 0) {
+            throw new Exception("Scenario of " + configuration.getExperimentBaseName() + " needs a positive arrival rate and operation weights");
+        }
+
+        // GET and CLONE need experiments to work on
+        Airavata.Client client = getClient();
+        templateExperimentId = unitLoad.createExperiment(client, configuration, "-" + runId + "-template");
+        remember(templateExperimentId);
+        for (ExperimentSummaryModel experiment : client.searchExperiments(authzToken, configuration.getGatewayId(),
+                configuration.getUserId(), searchFilters(), KNOWN_EXPERIMENTS, 0)) {
+            remember(experiment.getExperimentId());
+        }
+
+        Thread completionTracker = null;
+        if (scenario.isTrackCompletion() && scenario.getMix().getLaunch() > 0) {
+            String statusChangeId = client.getLatestUserStatusChangeId(authzToken, configuration.getGatewayId());
+            trackingCompletion = true;
+            completionTracker = new Thread(() -> trackCompletion(statusChangeId), "Completion-Tracker-" + runId);
+            completionTracker.setDaemon(true);
+            completionTracker.start();
+        }
+
+        System.out.println("Running scenario " + runId + " of " + configuration.getExperimentBaseName() + " at " +
+                scenario.getArrivalRate() + " requests/s (" + scenario.getArrivalProcess() + ") for " +
+                scenario.getWarmupSeconds() + "s warm up and " + scenario.getDurationSeconds() + "s measurement");
+
+        ExecutorService workers = Executors.newFixedThreadPool(scenario.getWorkerThreads());
+        Random random = ThreadLocalRandom.current();
+        long meanInterval = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.getArrivalRate());
+        long startTime = System.nanoTime();
+        long measurementStartTime = startTime + TimeUnit.SECONDS.toNanos(scenario.getWarmupSeconds());
+        long endTime = measurementStartTime + TimeUnit.SECONDS.toNanos(scenario.getDurationSeconds());
+
+        // the schedule does not depend on how fast the requests are served. If the loop falls behind, the late
+        // requests are started right away and still measured from their scheduled times
+        for (long scheduledTime = startTime; scheduledTime < endTime; ) {
+            long delay;
+            while ((delay = scheduledTime - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (cumulativeWeights[index] <= pick) {
+                index++;
+            }
+            Operation operation = operations[index];
+            boolean measured = scheduledTime >= measurementStartTime;
+
+            if (outstandingRequests.incrementAndGet() > scenario.getMaxOutstandingRequests()) {
+                outstandingRequests.decrementAndGet();
+                if (measured) {
+                    droppedRequests.increment();
+                }
+            } else {
+                long requestTime = scheduledTime;
+                workers.execute(() -> execute(operation, requestTime, measured));
+            }
+
+            scheduledTime += scenario.getArrivalProcess() == Scenario.ArrivalProcess.POISSON ?
+                    (long) (-Math.log(1 - random.nextDouble()) * meanInterval) : meanInterval;
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(scenario.getCompletionTimeoutSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Gave up waiting for " + outstandingRequests.get() + " outstanding requests");
+            workers.shutdownNow();
+        }
+
+        if (completionTracker != null) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(scenario.getCompletionTimeoutSeconds());
+            while (!launchedExperiments.isEmpty() && System.nanoTime() < deadline) {
+                System.out.println("Waiting for " + launchedExperiments.size() + " launched experiments to complete");
+                Thread.sleep(10000);
+            }
+            trackingCompletion = false;
+            completionTracker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        report();
+    }
+
+    private void execute(Operation operation, long scheduledTime, boolean measured) {
+        long startTime = System.nanoTime();
+        try {
+            perform(operation, scheduledTime, measured);
+            long endTime = System.nanoTime();
+            if (measured) {
+                responseTimes.get(operation).recordNanos(endTime - scheduledTime);
+                serviceTimes.get(operation).recordNanos(endTime - startTime);
+            }
+        } catch (Exception e) {
+            if (measured) {
+                errors.get(operation).increment();
+            }
+            if (reportedErrors.incrementAndGet() <= REPORTED_ERRORS) {
+                System.out.println("Error in " + operation + " request. Err " + e.getMessage());
+            }
+            // the connection of the client could be broken
+            closeClient();
+        } finally {
+            outstandingRequests.decrementAndGet();
+        }
+    }
+
+    private void perform(Operation operation, long scheduledTime, boolean measured) throws TException {
+        Airavata.Client client = getClient();
+        switch (operation) {
+            case SEARCH:
+                client.searchExperiments(authzToken, configuration.getGatewayId(), configuration.getUserId(),
+                        searchFilters(), scenario.getSearchPageSize(), 0);
+                break;
+            case GET:
+                long count = Math.min(knownExperimentCount.get(), KNOWN_EXPERIMENTS);
+                client.getExperiment(authzToken, knownExperiments.get((int) ThreadLocalRandom.current().nextLong(count)));
+                break;
+            case CLONE:
+                remember(cloneTemplate(client));
+                break;
+            case LAUNCH:
+                String experimentId = cloneTemplate(client);
+                if (measured && trackingCompletion) {
+                    launchedExperiments.put(experimentId, scheduledTime);
+                }
+                try {
+                    client.launchExperiment(authzToken, experimentId, configuration.getGatewayId());
+                } catch (TException e) {
+                    launchedExperiments.remove(experimentId);
+                    throw e;
+                }
+                remember(experimentId);
+                break;
+        }
+    }
+
+    private String cloneTemplate(Airavata.Client client) throws TException {
+        return client.cloneExperiment(authzToken, templateExperimentId, configuration.getExperimentBaseName() + "-" +
+                runId + "-" + experimentCounter.incrementAndGet(), configuration.getProjectId());
+    }
+
+    private void remember(String experimentId) {
+        knownExperiments.set((int) (knownExperimentCount.getAndIncrement() % KNOWN_EXPERIMENTS), experimentId);
+    }
+
+    private Map<ExperimentSearchFields, String> searchFilters() {
+        Map<ExperimentSearchFields, String> filters = new HashMap<>();
+        filters.put(ExperimentSearchFields.EXPERIMENT_NAME, configuration.getExperimentBaseName());
+        return filters;
+    }
+
+    private Airavata.Client getClient() throws TException {
+        Airavata.Client client = clients.get();
+        if (client == null) {
+            client = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
+            clients.set(client);
+        }
+        return client;
+    }
+
+    private void closeClient() {
+        Airavata.Client client = clients.get();
+        if (client != null) {
+            client.getInputProtocol().getTransport().close();
+            clients.remove();
+        }
+    }
+
+    private void trackCompletion(String statusChangeId) {
+        while (trackingCompletion) {
+            try {
+                Airavata.Client client = getClient();
+                try {
+                    for (Message statusChange : client.getUserStatusChanges(authzToken, configuration.getGatewayId(),
+                            statusChangeId, 1000, 5000)) {
+                        statusChangeId = statusChange.getMessageId();
+                        if (statusChange.getMessageType() == MessageType.EXPERIMENT) {
+                            ExperimentStatusChangeEvent event = new ExperimentStatusChangeEvent();
+                            ThriftUtils.createThriftFromBytes(statusChange.getEvent(), event);
+                            recordCompletion(event);
+                        }
+                    }
+                } catch (InvalidRequestException e) {
+                    System.out.println("Missed status changes, completion of some experiments will not be seen. " + e.getMessage());
+                    statusChangeId = client.getLatestUserStatusChangeId(authzToken, configuration.getGatewayId());
+                }
+            } catch (TException e) {
+                System.out.println("Error while reading status changes. Err " + e.getMessage());
+                closeClient();
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        closeClient();
+    }
+
+    private void recordCompletion(ExperimentStatusChangeEvent event) {
+        ExperimentState state = event.getState();
+        if (state == ExperimentState.COMPLETED || state == ExperimentState.FAILED || state == ExperimentState.CANCELED) {
+            Long launchTime = launchedExperiments.remove(event.getExperimentId());
+            if (launchTime != null) {
+                completionTimes.recordNanos(System.nanoTime() - launchTime);
+                completionStates.computeIfAbsent(state, s -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    private void report() throws IOException {
+        File reportDirectory = new File(scenario.getReportDirectory());
+        reportDirectory.mkdirs();
+
+        System.out.println("Response times (from the scheduled start of the requests)");
+        printTable(responseTimes);
+        System.out.println("Service times (from the time a worker picked the requests)");
+        printTable(serviceTimes);
+        System.out.println("Dropped requests over " + scenario.getMaxOutstandingRequests() + " outstanding : " + droppedRequests.sum());
+
+        for (Operation operation : Operation.values()) {
+            String prefix = configuration.getExperimentBaseName() + "-" + runId + "-" + operation.name().toLowerCase();
+            writeDistribution(responseTimes.get(operation), new File(reportDirectory, prefix + "-response.hgrm"));
+            writeDistribution(serviceTimes.get(operation), new File(reportDirectory, prefix + "-service.hgrm"));
+        }
+
+        if (completionTimes.getTotalCount() > 0 || !launchedExperiments.isEmpty()) {
+            System.out.println("Launch to completion times of experiments. Completed " + completionStates +
+                    ", not completed " + launchedExperiments.size());
+            System.out.println(String.format("%12s %12s %12s %12s %12s", "P50(s)", "P90(s)", "P99(s)", "P99.9(s)", "MAX(s)"));
+            System.out.println(String.format("%12.3f %12.3f %12.3f %12.3f %12.3f",
+                    completionTimes.getValueAtPercentile(50) / 1000000.0, completionTimes.getValueAtPercentile(90) / 1000000.0,
+                    completionTimes.getValueAtPercentile(99) / 1000000.0, completionTimes.getValueAtPercentile(99.9) / 1000000.0,
+                    completionTimes.getMaxValue() / 1000000.0));
+            writeDistribution(completionTimes, new File(reportDirectory,
+                    configuration.getExperimentBaseName() + "-" + runId + "-launch-completion.hgrm"));
+        }
+        System.out.println("Percentile distributions were written to " + reportDirectory.getAbsolutePath());
+    }
+
+    private void printTable(Map<Operation, LatencyHistogram> histograms) {
+        double scale = 1000.0;
+        System.out.println(String.format("%-8s %10s %8s %9s %12s %12s %12s %12s %12s", "OP", "COUNT", "ERRORS", "RATE/S",
+                "P50(ms)", "P90(ms)", "P99(ms)", "P99.9(ms)", "MAX(ms)"));
+        for (Map.Entry<Operation, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            System.out.println(String.format("%-8s %10d %8d %9.2f %12.3f %12.3f %12.3f %12.3f %12.3f", entry.getKey(),
+                    histogram.getTotalCount(), errors.get(entry.getKey()).sum(),
+                    (double) histogram.getTotalCount() / scenario.getDurationSeconds(),
+                    histogram.getValueAtPercentile(50) / scale, histogram.getValueAtPercentile(90) / scale,
+                    histogram.getValueAtPercentile(99) / scale, histogram.getValueAtPercentile(99.9) / scale,
+                    histogram.getMaxValue() / scale));
+        }
+    }
+
+    private static void writeDistribution(LatencyHistogram histogram, File file) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -2,18 +2,28 @@ package org.apache.airavata.tools.load;
 
 import org.apache.airavata.api.Airavata;
 import org.apache.airavata.api.client.AiravataClientFactory;
+import org.apache.airavata.common.utils.Constants;
+import org.apache.airavata.common.utils.ThriftUtils;
 import org.apache.airavata.model.error.AiravataClientException;
+import org.apache.airavata.model.error.AiravataSystemException;
+import org.apache.airavata.model.error.InvalidRequestException;
 import org.apache.airavata.model.experiment.ExperimentModel;
 import org.apache.airavata.model.job.JobModel;
+import org.apache.airavata.model.messaging.event.JobStatusChangeEvent;
+import org.apache.airavata.model.messaging.event.Message;
+import org.apache.airavata.model.messaging.event.MessageType;
 import org.apache.airavata.model.security.AuthzToken;
 import org.apache.airavata.model.status.ExperimentState;
 import org.apache.airavata.model.status.JobState;
 import org.apache.thrift.TException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class StatusMonitor {
 
@@ -36,38 +46,53 @@ public class StatusMonitor {
         Map<String, JobModel> jobModelMap = new HashMap<>();
         Map<String, ExperimentModel> experimentModelMap = new HashMap<>();
 
-        Airavata.Client airavataClient;
+        String gatewayId = authzToken.getClaimsMap().get(Constants.GATEWAY_ID);
+        Airavata.Client airavataClient = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
         long monitoringStartTime = System.currentTimeMillis();
-        while (experiments.size() > jobModelMap.size()) {
-            System.out.println("Running a monitoring round....");
-            airavataClient = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
 
-            for (String experiment : experiments) {
+        // jobs submitted before the latest status change are picked by looking at every experiment once, the jobs
+        // submitted afterwards are picked as their status changes arrive
+        String statusChangeId = airavataClient.getLatestUserStatusChangeId(authzToken, gatewayId);
+        fetchJobs(airavataClient, experiments, jobModelMap);
+        System.out.println("Jobs " + jobModelMap.size() + "/" + experiments.size() + " submitted");
 
+        while (experiments.size() > jobModelMap.size()) {
+            List<Message> statusChanges;
+            try {
+                statusChanges = airavataClient.getUserStatusChanges(authzToken, gatewayId, statusChangeId, 1000, 20 * 1000);
+            } catch (InvalidRequestException e) {
+                System.out.println("Missed status changes, looking at all the experiments again. " + e.getMessage());
+                statusChangeId = airavataClient.getLatestUserStatusChangeId(authzToken, gatewayId);
+                fetchJobs(airavataClient, experiments, jobModelMap);
+                continue;
+            } catch (AiravataSystemException e) {
+                // too many clients are waiting for status changes
+                System.out.println("Backing off. " + e.getMessage());
                 try {
-                    if (jobModelMap.containsKey(experiment)) {
-                        continue;
-                    }
-                    List<JobModel> jobDetails = airavataClient.getJobDetails(authzToken, experiment);
-                    if (jobDetails.size() > 0) {
-                        jobModelMap.put(experiment, jobDetails.get(0));
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    System.out.println("Error while monitoring experiment " + experiment);
+                    Thread.sleep(5000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new TException(ie);
                 }
+                continue;
             }
 
-            System.out.println("Jobs " + jobModelMap.size() + "/" + experiments.size() + " submitted");
-            try {
-                Thread.sleep(20*1000);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+            Set<String> experimentsWithJobChanges = new HashSet<>();
+            for (Message statusChange : statusChanges) {
+                statusChangeId = statusChange.getMessageId();
+                if (statusChange.getMessageType() == MessageType.JOB) {
+                    JobStatusChangeEvent event = new JobStatusChangeEvent();
+                    ThriftUtils.createThriftFromBytes(statusChange.getEvent(), event);
+                    experimentsWithJobChanges.add(event.getJobIdentity().getExperimentId());
+                }
+            }
+            experimentsWithJobChanges.retainAll(experiments);
+            if (!experimentsWithJobChanges.isEmpty()) {
+                fetchJobs(airavataClient, experimentsWithJobChanges, jobModelMap);
+                System.out.println("Jobs " + jobModelMap.size() + "/" + experiments.size() + " submitted");
             }
         }
 
-        airavataClient = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
-
         for (String experiment : experiments) {
             experimentModelMap.put(experiment, airavataClient.getExperiment(authzToken, experiment));
         }
@@ -121,4 +146,21 @@ public class StatusMonitor {
         System.out.println("Average time " + (totalTime *1.0/totalExperiments)/1000 + " s");
         System.out.println("Time for monitoring " + (monitoringStopTime - monitoringStartTime)/1000 + "s");
     }
+
+    private void fetchJobs(Airavata.Client airavataClient, Collection<String> experiments, Map<String, JobModel> jobModelMap) {
+        for (String experiment : experiments) {
+            try {
+                if (jobModelMap.containsKey(experiment)) {
+                    continue;
+                }
+                List<JobModel> jobDetails = airavataClient.getJobDetails(authzToken, experiment);
+                if (jobDetails.size() > 0) {
+                    jobModelMap.put(experiment, jobDetails.get(0));
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                System.out.println("Error while monitoring experiment " + experiment);
+            }
+        }
+    }
 }
@@ -89,6 +89,20 @@ public class UnitLoad {
 
     private String submitExperiment(Configuration config, String suffix) throws TException, AgentException {
 
+        Airavata.Client airavataClient = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
+
+        String experimentId = createExperiment(airavataClient, config, suffix);
+
+        airavataClient.launchExperiment(authzToken, experimentId, config.getGatewayId());
+        System.out.println(experimentId);
+
+        ExperimentModel experiment = airavataClient.getExperiment(authzToken, experimentId);
+        return experimentId;
+
+    }
+
+    public String createExperiment(Airavata.Client airavataClient, Configuration config, String suffix) throws TException, AgentException {
+
         String experimentName = config.getExperimentBaseName() + suffix;
 
         ExperimentModel experimentModel = new ExperimentModel();
@@ -119,25 +133,25 @@ public class UnitLoad {
 
         experimentModel.setUserConfigurationData(userConfigurationDataModel);
 
-        Airavata.Client airavataClient = AiravataClientFactory.createAiravataSecureClient(apiHost, apiPort, trustStorePath, trustStorePassword, 100000);
-
         List<InputDataObjectType> applicationInputs = airavataClient.getApplicationInputs(authzToken,
                 config.getApplicationInterfaceId());
         List<InputDataObjectType> experimentInputs = new ArrayList<>();
 
-        storageResourceManager.createExperimentDirectory(config.getUserId(), config.getProjectId(), experimentName);
+        if (config.isUploadInputs()) {
+            storageResourceManager.createExperimentDirectory(config.getUserId(), config.getProjectId(), experimentName);
+        }
 
         for (InputDataObjectType inputDataObjectType: applicationInputs) {
 
             Optional<Configuration.Input> input = config.getInputs().stream().filter(inp -> inp.getName().equals(inputDataObjectType.getName())).findFirst();
 
             if (input.isPresent()) {
-                if (inputDataObjectType.getType() == DataType.URI) {
+                if (inputDataObjectType.getType() == DataType.URI && config.isUploadInputs()) {
                     String localFilePath = input.get().getValue();
                     String uploadedPath = storageResourceManager.uploadInputFile(airavataClient, localFilePath, config.getUserId(), config.getProjectId(), experimentName, config.getGatewayId());
                     inputDataObjectType.setValue(uploadedPath);
 
-                } else if (inputDataObjectType.getType() == DataType.STRING) {
+                } else if (inputDataObjectType.getType() == DataType.STRING || inputDataObjectType.getType() == DataType.URI) {
                     inputDataObjectType.setValue(input.get().getValue());
                 }
             }
@@ -148,13 +162,6 @@ public class UnitLoad {
         experimentModel.setExperimentOutputs(airavataClient.getApplicationOutputs(authzToken, config.getApplicationInterfaceId()));
         experimentModel.setExperimentType(ExperimentType.SINGLE_APPLICATION);
 
-        String experimentId = airavataClient.createExperiment(authzToken, config.getGatewayId(), experimentModel);
-
-        airavataClient.launchExperiment(authzToken, experimentId, config.getGatewayId());
-        System.out.println(experimentId);
-
-        ExperimentModel experiment = airavataClient.getExperiment(authzToken, experimentId);
-        return experimentId;
-
+        return airavataClient.createExperiment(authzToken, config.getGatewayId(), experimentModel);
     }
 }